@@ -0,0 +1,26 @@
+/**
+ * Marks a test class as a benchmark.
+ *
+ * Benchmarks compare the new code against what it replaced on a realistic workload. They take seconds each, so they
+ * are left out of the unit tests: they are tagged "benchmark" and only run when the JVM is started with
+ * -Drokue.benchmarks=true. Their timings are printed through BenchmarkReport and never asserted, since they depend on
+ * the machine; what they do assert is that the compared variants end up with the same, correct result.
+ */
+package benchmark;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Tag("benchmark")
+@EnabledIfSystemProperty(named = Benchmark.PROPERTY, matches = "true")
+public @interface Benchmark {
+    // the system property that turns the benchmarks on
+    String PROPERTY = "rokue.benchmarks";
+}
@@ -0,0 +1,34 @@
+/**
+ * Prints the results of a benchmark, one line per measurement, prefixed with the name of the benchmark class so the
+ * lines of several benchmarks run together can be told apart.
+ */
+package benchmark;
+
+public final class BenchmarkReport {
+    private static final StackWalker WALKER = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+
+    private BenchmarkReport() {
+    }
+
+    /**
+     * Prints one line of results.
+     *
+     * @param format the format of the line, as for String.format, without the line separator
+     * @param args the values to format
+     */
+    public static void print(String format, Object... args) {
+        String benchmark = WALKER.getCallerClass().getSimpleName();
+        System.out.println("[" + benchmark + "] " + String.format(format, args));
+    }
+
+    /**
+     * Converts a total time to microseconds per operation.
+     *
+     * @param nanos the total time in nanoseconds
+     * @param operations the number of operations the time was spent on
+     * @return the microseconds per operation
+     */
+    public static double microsPer(long nanos, long operations) {
+        return nanos / 1_000.0 / operations;
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Compares finding the archers that can hit the player by measuring the distance to every archer and by the range
+ * masks, as the player walks among 10, 50 and 150 archers.
+ */
+package domain.behaviors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.gameObjects.*;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.*;
+
+@Benchmark
+public class ArcherRangeServiceBenchmark {
+
+    @Test
+    void whichArchersCanHitThePlayer() {
+        int moves = 20_000;
+        for (int archers : new int[]{10, 50, 150}) {
+            Player player = new Player(8, 8);
+            Hall hall = ArcherRangeServiceTest.hallWithArchers(player, archers, 3);
+            ArcherRangeService service = ArcherRangeService.forHall(hall);
+            List<Point> path = new ArrayList<>();
+            Random random = new Random(4);
+            while (path.size() < 64) {
+                Point target = new Point(random.nextInt(16), random.nextInt(16));
+                if (hall.isPositionEmpty(target)) {
+                    path.add(target);
+                }
+            }
+
+            int found = 0;
+            long start = System.nanoTime();
+            for (int i = 0; i < moves; i++) {
+                found += ArcherRangeServiceTest.archersInRangeOneByOne(hall, path.get(i % path.size()), 4).size();
+            }
+            long oneByOneNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int i = 0; i < moves; i++) {
+                // the player moving is what swaps the mask
+                service.onPlayerMoved(path.get(i % path.size()).y * 16 + path.get(i % path.size()).x);
+                found -= service.archersInRange().length;
+            }
+            long maskNanos = System.nanoTime() - start;
+
+            assertEquals(0, found);
+            BenchmarkReport.print("%3d archers: one distance per archer %6.2f us, range mask AND %5.2f us per player move",
+                    archers, BenchmarkReport.microsPer(oneByOneNanos, moves), BenchmarkReport.microsPer(maskNanos, moves));
+        }
+    }
+}
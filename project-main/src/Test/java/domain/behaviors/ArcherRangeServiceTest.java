@@ -0,0 +1,110 @@
+package domain.behaviors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import domain.gameObjects.*;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.*;
+
+public class ArcherRangeServiceTest {
+
+    static Hall hallWithArchers(Player player, int archers, long seed) {
+        Hall hall = new Hall("Hall of Air", player, 60, Constants.HallType.AIR);
+        Random random = new Random(seed);
+        while (hall.getMonsters().size() < archers) {
+            Point cell = new Point(random.nextInt(16), random.nextInt(16));
+            if (hall.isPositionEmpty(cell) && !cell.equals(player.getPosition())) {
+                ArcherMonster archer = new ArcherMonster(cell.x, cell.y);
+                hall.addObject(archer);
+                hall.addMonster(archer);
+            }
+        }
+        return hall;
+    }
+
+    // the way archers checked the player before, one distance per archer
+    static Set<Point> archersInRangeOneByOne(Hall hall, Point player, int range) {
+        Set<Point> inRange = new HashSet<>();
+        for (Monster monster : hall.getMonsters()) {
+            Point archer = monster.getPosition();
+            if (Math.abs(archer.x - player.x) + Math.abs(archer.y - player.y) <= range) {
+                inRange.add(archer);
+            }
+        }
+        return inRange;
+    }
+
+    // moves the player the way PlayerController does
+    private static void step(Hall hall, Player player, Point target) {
+        Point current = new Point(player.getPosition());
+        player.setPosition(target);
+        hall.moveObject(current, target);
+    }
+
+    @Test
+    void masksMatchTheDistanceForEveryPairOfCells() {
+        for (int range : new int[]{0, 2, 4, 20}) {
+            ArcherRangeService service = new ArcherRangeService(16, 16, range);
+            for (int player = 0; player < 256; player++) {
+                Point playerCell = new Point(player % 16, player / 16);
+                service.setPlayerPosition(playerCell);
+                for (int archer = 0; archer < 256; archer++) {
+                    Point archerCell = new Point(archer % 16, archer / 16);
+                    int distance = Math.abs(playerCell.x - archerCell.x) + Math.abs(playerCell.y - archerCell.y);
+                    assertEquals(distance <= range, service.canHit(archerCell), range + " " + playerCell + " " + archerCell);
+                }
+            }
+        }
+    }
+
+    @Test
+    void archersInRangeFollowThePlayerAndTheArchers() {
+        Player player = new Player(8, 8);
+        Hall hall = hallWithArchers(player, 30, 1);
+        ArcherRangeService service = ArcherRangeService.forHall(hall);
+        assertSame(service, ArcherRangeService.forHall(hall));
+        Random random = new Random(2);
+
+        for (int i = 0; i < 200; i++) {
+            Point target = new Point(random.nextInt(16), random.nextInt(16));
+            if (!hall.isPositionEmpty(target)) {
+                continue;
+            }
+            step(hall, player, target);
+            assertEquals(archersInRangeOneByOne(hall, target, 4), new HashSet<>(Arrays.asList(service.archersInRange())));
+        }
+
+        Point[] inRange = service.archersInRange();
+        if (inRange.length > 0) {
+            hall.removeObject(inRange[0]);
+            assertFalse(service.canHit(inRange[0]) && Arrays.asList(service.archersInRange()).contains(inRange[0]));
+        }
+        hall.clearObjects();
+        assertEquals(0, service.archersInRange().length);
+    }
+
+    @Test
+    void rangeIsReadFromTheSystemProperty() {
+        try {
+            System.setProperty(ArcherRangeService.ARCHER_RANGE_PROPERTY, "6");
+            assertEquals(6, ArcherRangeService.readArcherRange());
+            System.setProperty(ArcherRangeService.ARCHER_RANGE_PROPERTY, "far");
+            assertEquals(ArcherRangeService.DEFAULT_ARCHER_RANGE, ArcherRangeService.readArcherRange());
+            System.setProperty(ArcherRangeService.ARCHER_RANGE_PROPERTY, "-1");
+            assertEquals(ArcherRangeService.DEFAULT_ARCHER_RANGE, ArcherRangeService.readArcherRange());
+        } finally {
+            System.clearProperty(ArcherRangeService.ARCHER_RANGE_PROPERTY);
+        }
+        assertEquals(4, ArcherRangeService.readArcherRange());
+    }
+
+    @Test
+    void invalidSizeOrRangeIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new ArcherRangeService(0, 16, 4));
+        assertThrows(IllegalArgumentException.class, () -> new ArcherRangeService(16, 16, -1));
+        assertThrows(IllegalArgumentException.class, () -> ArcherRangeService.forHall(null));
+    }
+}
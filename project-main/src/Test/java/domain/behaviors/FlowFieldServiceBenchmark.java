@@ -0,0 +1,86 @@
+/**
+ * Compares fighters walking to a gem on a dense hall with the greedy step they used before and with the shared flow
+ * field: how many reach it alone, and how long a step takes when all of them walk together. Only the flow field's
+ * arrivals are asserted.
+ */
+package domain.behaviors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.gameObjects.*;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+@Benchmark
+public class FlowFieldServiceBenchmark {
+
+    @Test
+    void manyFightersOnADenseHall() {
+        int fighters = 40;
+        int rounds = 60;
+        Point gem = new Point(13, 13);
+        for (String walker : new String[]{"greedy", "flow field"}) {
+            Random random = new Random(3);
+            Hall hall = FlowFieldServiceTest.denseHall(0.3, gem, 3);
+            FlowFieldService service = FlowFieldService.forHall(hall);
+            List<Point> starts = FlowFieldServiceTest.startCells(hall, service.fieldTo(gem), fighters);
+
+            // each fighter walks alone first, so only walls and blocks can stop it
+            int arrived = 0;
+            for (Point start : starts) {
+                FighterMonster fighter = new FighterMonster(start.x, start.y);
+                hall.addObject(fighter);
+                for (int round = 0; round < rounds && !fighter.getPosition().equals(gem); round++) {
+                    Point next = step(walker, hall, service, gem, fighter, random);
+                    if (next == null) {
+                        break;
+                    }
+                    hall.moveObject(fighter, next);
+                }
+                if (fighter.getPosition().equals(gem)) {
+                    arrived++;
+                }
+                hall.removeObject(fighter.getPosition());
+            }
+
+            List<FighterMonster> walkers = new ArrayList<>();
+            for (Point start : starts) {
+                FighterMonster fighter = new FighterMonster(start.x, start.y);
+                hall.addObject(fighter);
+                walkers.add(fighter);
+            }
+            // then all of them take their steps together
+            long start = System.nanoTime();
+            for (int round = 0; round < rounds; round++) {
+                for (FighterMonster fighter : walkers) {
+                    Point next = step(walker, hall, service, gem, fighter, random);
+                    if (next != null && !next.equals(gem)) {
+                        hall.moveObject(fighter, next);
+                    }
+                }
+            }
+            long nanos = System.nanoTime() - start;
+            if (walker.equals("flow field")) {
+                // every start cell was picked with a path to the gem, and the field finds it
+                assertEquals(fighters, arrived);
+            }
+            assertEquals(fighters, hall.countObjectsOfType(Constants.GameObjectsInHall.FIGHTER));
+
+            BenchmarkReport.print("%d fighters on a dense hall, %-10s: %2d of them reach the gem alone, %5.2f us per step together",
+                    fighters, walker, arrived, BenchmarkReport.microsPer(nanos, (long) rounds * fighters));
+        }
+    }
+
+    private Point step(String walker, Hall hall, FlowFieldService service, Point gem, FighterMonster fighter, Random random) {
+        return walker.equals("greedy")
+                ? FlowFieldServiceTest.greedyStep(hall, gem, fighter.getPosition(), random)
+                : service.fieldTo(gem).nextStep(fighter.getPosition(), hall, random);
+    }
+}
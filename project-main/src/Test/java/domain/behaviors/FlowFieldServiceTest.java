@@ -0,0 +1,144 @@
+package domain.behaviors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import domain.gameObjects.*;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+public class FlowFieldServiceTest {
+
+    // an empty hall with walls around it
+    private static Hall walledHall() {
+        Hall hall = new Hall("Hall of Earth", new Player(1, 1), 60, Constants.HallType.EARTH);
+        for (int i = 0; i < 16; i++) {
+            hall.addObject(new Wall(i, 0));
+            hall.addObject(new Wall(i, 15));
+            if (i > 0 && i < 15) {
+                hall.addObject(new Wall(0, i));
+                hall.addObject(new Wall(15, i));
+            }
+        }
+        return hall;
+    }
+
+    // a hall whose inner cells are blocks with the given chance, the target cell is kept free
+    static Hall denseHall(double filled, Point target, long seed) {
+        Hall hall = walledHall();
+        Random random = new Random(seed);
+        for (int row = 1; row < 15; row++) {
+            for (int col = 1; col < 15; col++) {
+                if (random.nextDouble() < filled && !target.equals(new Point(col, row)) && !new Point(col, row).equals(new Point(1, 1))) {
+                    hall.addObject(new Block(col, row));
+                }
+            }
+        }
+        return hall;
+    }
+
+    // empty cells the target can be reached from, where the fighters start
+    static List<Point> startCells(Hall hall, FlowFieldService.FlowField field, int count) {
+        List<Point> starts = new ArrayList<>();
+        while (starts.size() < count) {
+            Point position = hall.getRandomEmptyPosition();
+            // a fighter that can never get there says nothing about the way it walks
+            if (field.distanceFrom(position) != FlowFieldService.UNREACHABLE && !position.equals(field.getTarget())
+                    && !starts.contains(position)) {
+                starts.add(position);
+            }
+        }
+        return starts;
+    }
+
+    // the way fighters walked to the gem before: any empty neighbour closer as the crow flies
+    static Point greedyStep(Hall hall, Point target, Point current, Random random) {
+        int distance = Math.abs(current.x - target.x) + Math.abs(current.y - target.y);
+        List<Point> moves = new ArrayList<>();
+        for (Point move : List.of(new Point(current.x + 1, current.y), new Point(current.x - 1, current.y),
+                new Point(current.x, current.y + 1), new Point(current.x, current.y - 1))) {
+            if (hall.isPositionEmpty(move) && Math.abs(move.x - target.x) + Math.abs(move.y - target.y) < distance) {
+                moves.add(move);
+            }
+        }
+        return moves.isEmpty() ? null : moves.get(random.nextInt(moves.size()));
+    }
+
+    @Test
+    void fighterWalksAroundAWall() {
+        Hall hall = walledHall();
+        // a wall between the fighter and the gem with a gap at its top
+        for (int row = 2; row < 15; row++) {
+            hall.addObject(new Block(7, row));
+        }
+        FighterMonster fighter = new FighterMonster(5, 12);
+        hall.addObject(fighter);
+        Point gem = new Point(10, 12);
+        Random random = new Random(1);
+        assertNull(greedyStep(hall, gem, new Point(6, 12), random));
+
+        FlowFieldService.FlowField field = FlowFieldService.forHall(hall).fieldTo(gem);
+        int steps = 0;
+        while (!fighter.getPosition().equals(gem) && steps < 100) {
+            Point next = field.nextStep(fighter.getPosition(), hall, random);
+            assertNotNull(next);
+            assertEquals(field.distanceFrom(fighter.getPosition()) - 1, field.distanceFrom(next));
+            hall.moveObject(fighter, next);
+            steps++;
+        }
+
+        // over to the gap at the top and down again
+        assertEquals(gem, fighter.getPosition());
+        assertEquals(2 + 11 + 3 + 11, steps);
+    }
+
+    @Test
+    void fieldIsSharedUntilAnObstacleChanges() {
+        Hall hall = walledHall();
+        FighterMonster fighter = new FighterMonster(3, 3);
+        hall.addObject(fighter);
+        FlowFieldService service = FlowFieldService.forHall(hall);
+        FlowFieldService.FlowField field = service.fieldTo(new Point(8, 8));
+
+        assertSame(service, FlowFieldService.forHall(hall));
+        hall.moveObject(fighter, new Point(3, 4));
+        assertSame(field, service.fieldTo(new Point(8, 8)));
+
+        hall.addObject(new Block(8, 7));
+        FlowFieldService.FlowField changed = service.fieldTo(new Point(8, 8));
+        assertNotSame(field, changed);
+        assertEquals(FlowFieldService.UNREACHABLE, changed.distanceFrom(new Point(8, 7)));
+
+        hall.removeObject(new Point(8, 7));
+        assertEquals(1, service.fieldTo(new Point(8, 8)).distanceFrom(new Point(8, 7)));
+    }
+
+    @Test
+    void walledOffAndOccupiedCellsAreNeverStepsTaken() {
+        Hall hall = walledHall();
+        hall.addObject(new Block(2, 1));
+        hall.addObject(new Block(1, 2));
+        hall.addObject(new FighterMonster(6, 5));
+        hall.addObject(new FighterMonster(5, 6));
+        FlowFieldService.FlowField field = FlowFieldService.forHall(hall).fieldTo(new Point(7, 7));
+        Random random = new Random(2);
+
+        // the corner is walled off, and both cells closer to the target hold a fighter
+        assertEquals(FlowFieldService.UNREACHABLE, field.distanceFrom(new Point(1, 1)));
+        assertNull(field.nextStep(new Point(1, 1), hall, random));
+        assertNull(field.nextStep(new Point(5, 5), hall, random));
+        assertNull(field.nextStep(new Point(7, 7), hall, random));
+    }
+
+    @Test
+    void targetOutsideTheHallIsRejected() {
+        FlowFieldService service = FlowFieldService.forHall(walledHall());
+
+        assertThrows(IllegalArgumentException.class, () -> service.fieldTo(new Point(16, 3)));
+        assertThrows(IllegalArgumentException.class, () -> service.fieldTo(null));
+    }
+}
@@ -0,0 +1,32 @@
+package domain.gameCore;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+public class GameLoopTest {
+
+    @Test
+    void clockDoesNotDriftWhenTheTickRateDoesNotDivideASecond() {
+        for (int tickRate : new int[]{20, 30, 7, 1000}) {
+            GameLoop loop = new GameLoop(tickRate);
+            for (int tick = 0; tick < tickRate * 60; tick++) {
+                loop.tick();
+            }
+            assertEquals(60_000, loop.getClock(), "tick rate " + tickRate);
+        }
+    }
+
+    @Test
+    void clockCarriesOnFromWhereItWasWhenTheTickRateChanges() {
+        GameLoop loop = new GameLoop(30);
+        for (int tick = 0; tick < 30; tick++) {
+            loop.tick();
+        }
+        loop.setTickRate(7);
+        for (int tick = 0; tick < 14; tick++) {
+            loop.tick();
+        }
+        assertEquals(3000, loop.getClock());
+    }
+}
@@ -0,0 +1,96 @@
+/**
+ * Compares fighters stepping around a crowded hall with the whole hall locked for each move, the way moves were made
+ * before, and with the target cell claimed lock-free.
+ */
+package domain.gameObjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Benchmark
+public class CellReservationsBenchmark {
+
+    /**
+     * Lets every mover step its own fighters around a crowded hall.
+     *
+     * @return the number of moves made and the time taken; every fighter is checked to be in its cell afterwards
+     */
+    private long[] wander(boolean claimed, int movers, int fighters, int attempts) throws InterruptedException {
+        Hall hall = CellReservationsTest.emptyHall();
+        List<FighterMonster> placed = CellReservationsTest.placeFighters(hall, fighters, new Random(3));
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong moved = new AtomicLong();
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < movers; i++) {
+            List<FighterMonster> own = placed.subList(i * fighters / movers, (i + 1) * fighters / movers);
+            Random random = new Random(10 + i);
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int attempt = 0; attempt < attempts; attempt++) {
+                    FighterMonster fighter = own.get(attempt % own.size());
+                    Point target = CellReservationsTest.randomNeighbour(fighter.getPosition(), random);
+                    if (claimed) {
+                        if (hall.tryMoveObject(fighter, target)) {
+                            moved.incrementAndGet();
+                        }
+                    } else {
+                        // the way moves were made before, checking and moving with the whole hall locked
+                        synchronized (hall) {
+                            if (hall.isPositionEmpty(target)) {
+                                hall.moveObject(fighter, target);
+                                moved.incrementAndGet();
+                            }
+                        }
+                    }
+                }
+            }));
+        }
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        long nanos = System.nanoTime() - begin;
+        assertEquals(fighters, hall.countObjectsOfType(Constants.GameObjectsInHall.FIGHTER));
+        for (FighterMonster fighter : placed) {
+            assertSame(fighter, hall.getObjectAt(fighter.getPosition().x, fighter.getPosition().y));
+        }
+        return new long[]{moved.get(), nanos};
+    }
+
+    @Test
+    void crowdedHallWithManyMovers() throws InterruptedException {
+        int movers = 8;
+        int fighters = 160;
+        int attempts = 200_000;
+        for (int round = 0; round < 2; round++) {
+            for (boolean claimed : new boolean[]{false, true}) {
+                long[] result = wander(claimed, movers, fighters, attempts);
+                assertTrue(result[0] > 0);
+                if (round == 1) {
+                    long total = (long) movers * attempts;
+                    BenchmarkReport.print("%d movers, %d fighters, %-26s: %7d of %d moves made, %6.1f ns per attempt",
+                            movers, fighters, claimed ? "cells claimed lock-free" : "whole hall locked per move",
+                            result[0], total, result[1] / (double) total);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package domain.gameObjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class CellReservationsTest {
+
+    static Hall emptyHall() {
+        return new Hall("Hall of Earth", new Player(0, 0), 60, Constants.HallType.EARTH);
+    }
+
+    // fills the hall with fighters on random cells, leaving the player's cell empty
+    static List<FighterMonster> placeFighters(Hall hall, int fighters, Random random) {
+        List<FighterMonster> placed = new ArrayList<>();
+        while (placed.size() < fighters) {
+            Point cell = new Point(random.nextInt(16), random.nextInt(16));
+            if (hall.isPositionEmpty(cell) && !cell.equals(hall.getPlayer().getPosition())) {
+                FighterMonster fighter = new FighterMonster(cell.x, cell.y);
+                hall.addObject(fighter);
+                placed.add(fighter);
+            }
+        }
+        return placed;
+    }
+
+    static Point randomNeighbour(Point current, Random random) {
+        return switch (random.nextInt(4)) {
+            case 0 -> new Point(current.x - 1, current.y);
+            case 1 -> new Point(current.x + 1, current.y);
+            case 2 -> new Point(current.x, current.y - 1);
+            default -> new Point(current.x, current.y + 1);
+        };
+    }
+
+    @Test
+    void claimIsExclusiveAndOnlyItsOwnerReleasesIt() {
+        CellReservations reservations = new CellReservations(256);
+        Object first = new Object();
+        Object second = new Object();
+
+        assertTrue(reservations.claim(17, first));
+        assertFalse(reservations.claim(17, second));
+        assertFalse(reservations.release(17, second));
+        assertSame(first, reservations.ownerOf(17));
+        assertTrue(reservations.release(17, first));
+        assertTrue(reservations.isFree(17));
+        assertTrue(reservations.claim(17, second));
+        assertThrows(IllegalArgumentException.class, () -> reservations.claim(18, null));
+    }
+
+    @Test
+    void claimedCellCannotBeTakenByAnyOtherMove() {
+        Hall hall = emptyHall();
+        FighterMonster fighter = new FighterMonster(4, 5);
+        hall.addObject(fighter);
+        Object stepping = new Object();
+        int cell = hall.cellIndex(5, 5);
+
+        assertTrue(hall.getCellReservations().claim(cell, stepping));
+        assertFalse(hall.tryMoveObject(fighter, new Point(5, 5)));
+        assertFalse(hall.tryMovePlayer(hall.getPlayer(), new Point(5, 5)));
+        assertThrows(IllegalArgumentException.class, () -> hall.addObject(new Block(5, 5)));
+        assertEquals(new Point(4, 5), fighter.getPosition());
+
+        hall.getCellReservations().release(cell, stepping);
+        assertTrue(hall.tryMoveObject(fighter, new Point(5, 5)));
+        assertSame(fighter, hall.getCellReservations().ownerOf(cell));
+        assertTrue(hall.getCellReservations().isFree(hall.cellIndex(4, 5)));
+        // the player holds the cell it stands in until it leaves it
+        Player player = hall.getPlayer();
+        assertSame(player, hall.getCellReservations().ownerOf(hall.cellIndex(0, 0)));
+        assertTrue(hall.tryMovePlayer(player, new Point(1, 0)));
+        assertEquals(new Point(1, 0), player.getPosition());
+        assertSame(player, hall.getCellReservations().ownerOf(hall.cellIndex(1, 0)));
+        assertTrue(hall.getCellReservations().isFree(hall.cellIndex(0, 0)));
+        assertFalse(hall.isPositionEmpty(new Point(1, 0)));
+        assertTrue(hall.isPositionEmpty(new Point(0, 0)));
+        FighterMonster chaser = new FighterMonster(2, 0);
+        hall.addObject(chaser);
+        assertFalse(hall.tryMoveObject(chaser, new Point(1, 0)));
+    }
+
+    @Test
+    void playerDoesNotStepOntoAnObjectPutWithoutTheHall() {
+        Hall hall = emptyHall();
+        Player player = hall.getPlayer();
+        Block block = new Block(1, 0);
+        hall.getGameObjects().put(new Point(1, 0), block);
+
+        assertSame(block, hall.getCellReservations().ownerOf(hall.cellIndex(1, 0)));
+        assertFalse(hall.tryMovePlayer(player, new Point(1, 0)));
+        assertEquals(new Point(0, 0), player.getPosition());
+        // and the map view cannot put an object where the player stands
+        assertThrows(IllegalArgumentException.class, () -> hall.getGameObjects().put(new Point(0, 0), new Block(0, 0)));
+        hall.getGameObjects().remove(new Point(1, 0));
+        assertTrue(hall.getCellReservations().isFree(hall.cellIndex(1, 0)));
+    }
+
+    @Test
+    void movingByPositionNoLongerOverwritesTheTarget() {
+        Hall hall = emptyHall();
+        FighterMonster fighter = new FighterMonster(2, 2);
+        Block block = new Block(3, 2);
+        hall.addObject(fighter);
+        hall.addObject(block);
+
+        hall.moveObject(new Point(2, 2), new Point(3, 2));
+
+        assertSame(fighter, hall.getObjectAt(2, 2));
+        assertSame(block, hall.getObjectAt(3, 2));
+        assertSame(block, hall.getCellReservations().ownerOf(hall.cellIndex(3, 2)));
+    }
+
+    @Test
+    void concurrentMoversNeitherLoseNorDuplicateObjects() throws InterruptedException {
+        int fighters = 120;
+        int movers = 16;
+        int attempts = 20_000;
+        Hall hall = emptyHall();
+        List<FighterMonster> placed = placeFighters(hall, fighters, new Random(7));
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicLong moved = new AtomicLong();
+
+        // every mover picks any fighter, so the same fighter is often moved by two threads at once
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < movers; i++) {
+            Random random = new Random(100 + i);
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int attempt = 0; attempt < attempts; attempt++) {
+                    FighterMonster fighter = placed.get(random.nextInt(fighters));
+                    if (hall.tryMoveObject(fighter, randomNeighbour(new Point(fighter.getPosition()), random))) {
+                        moved.incrementAndGet();
+                    }
+                }
+            }));
+        }
+        // and the player walks around among them
+        Random playerRandom = new Random(1);
+        Point[] playerCell = {new Point(0, 0)};
+        threads.add(Thread.ofPlatform().start(() -> {
+            for (int attempt = 0; attempt < attempts; attempt++) {
+                Point target = randomNeighbour(playerCell[0], playerRandom);
+                if (hall.tryMovePlayer(hall.getPlayer(), target)) {
+                    playerCell[0] = target;
+                }
+            }
+        }));
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(moved.get() > 0);
+        assertEquals(playerCell[0], hall.getPlayer().getPosition());
+        int playerIndex = hall.cellIndex(playerCell[0].x, playerCell[0].y);
+        assertNull(hall.getObjectAt(playerIndex));
+        Map<GameObject, Integer> seen = new IdentityHashMap<>();
+        CellReservations reservations = hall.getCellReservations();
+        for (int cell = 0; cell < 256; cell++) {
+            GameObject object = hall.getObjectAt(cell);
+            if (object == null) {
+                assertSame(cell == playerIndex ? hall.getPlayer() : null, reservations.ownerOf(cell));
+                continue;
+            }
+            assertNull(seen.put(object, cell), "object found in two cells");
+            assertSame(object, reservations.ownerOf(cell));
+            assertEquals(cell, hall.cellIndex(object.getPosition().x, object.getPosition().y));
+            assertFalse(hall.isPositionEmpty(object.getPosition()));
+        }
+        assertEquals(fighters, seen.size());
+        assertTrue(placed.stream().allMatch(seen::containsKey));
+        assertEquals(fighters, hall.countObjectsOfType(Constants.GameObjectsInHall.FIGHTER));
+        assertEquals(256 - fighters - 1, hall.getEmptyPositions().size());
+    }
+}
@@ -0,0 +1,100 @@
+package domain.gameObjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+public class GameObjectGridTest {
+
+    @Test
+    void mapViewReadsAndWritesTheGrid() {
+        GameObjectGrid grid = new GameObjectGrid(16, 16);
+        Map<Point, GameObject> map = grid.asMap();
+        Block block = new Block(3, 4);
+
+        assertNull(map.put(new Point(3, 4), block));
+        assertSame(block, grid.get(3, 4));
+        assertSame(block, map.get(new Point(3, 4)));
+        assertEquals(1, map.size());
+        assertSame(block, grid.getReservations().ownerOf(grid.cellIndex(3, 4)));
+
+        assertSame(block, map.remove(new Point(3, 4)));
+        assertTrue(map.isEmpty());
+        assertTrue(grid.getReservations().isFree(grid.cellIndex(3, 4)));
+    }
+
+    @Test
+    void mapViewHasNoEntriesOutsideTheGrid() {
+        GameObjectGrid grid = new GameObjectGrid(16, 16);
+        Map<Point, GameObject> map = grid.asMap();
+
+        assertFalse(map.containsKey(new Point(16, 0)));
+        assertNull(map.get(new Point(-1, 3)));
+        assertNull(map.remove(new Point(0, 16)));
+        assertThrows(IllegalArgumentException.class, () -> map.put(new Point(16, 0), new Block(16, 0)));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void puttingNullClearsTheCell() {
+        GameObjectGrid grid = new GameObjectGrid(16, 16);
+        Map<Point, GameObject> map = grid.asMap();
+        map.put(new Point(1, 1), new Block(1, 1));
+
+        map.put(new Point(1, 1), null);
+
+        assertFalse(map.containsKey(new Point(1, 1)));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    void mapViewCannotPutIntoACellClaimedBySomeoneElse() {
+        GameObjectGrid grid = new GameObjectGrid(16, 16);
+        Object mover = new Object();
+        grid.getReservations().claim(grid.cellIndex(5, 5), mover);
+
+        assertThrows(IllegalArgumentException.class, () -> grid.asMap().put(new Point(5, 5), new Block(5, 5)));
+        assertNull(grid.get(5, 5));
+
+        // the object in a cell can still be replaced, the new one takes its claim over
+        Block first = new Block(6, 6);
+        Block second = new Block(6, 6);
+        grid.asMap().put(new Point(6, 6), first);
+        assertSame(first, grid.asMap().put(new Point(6, 6), second));
+        assertSame(second, grid.getReservations().ownerOf(grid.cellIndex(6, 6)));
+    }
+
+    @Test
+    void iteratorsFailFastLikeHashMap() {
+        GameObjectGrid grid = new GameObjectGrid(16, 16);
+        Map<Point, GameObject> map = grid.asMap();
+        map.put(new Point(0, 0), new Block(0, 0));
+        map.put(new Point(1, 0), new Block(1, 0));
+
+        Iterator<Map.Entry<Point, GameObject>> iterator = map.entrySet().iterator();
+        iterator.next();
+        map.put(new Point(2, 0), new Block(2, 0));
+        assertThrows(ConcurrentModificationException.class, iterator::next);
+
+        // replacing the object of a cell is not a structural change
+        Iterator<Point> keys = map.keySet().iterator();
+        keys.next();
+        map.put(new Point(0, 0), new Block(0, 0));
+        assertEquals(new Point(1, 0), keys.next());
+
+        // removing through the iterator is allowed
+        Iterator<Map.Entry<Point, GameObject>> removing = map.entrySet().iterator();
+        removing.next();
+        removing.remove();
+        removing.next();
+        removing.next();
+        assertFalse(removing.hasNext());
+        assertEquals(List.of(new Point(1, 0), new Point(2, 0)), List.copyOf(map.keySet()));
+    }
+}
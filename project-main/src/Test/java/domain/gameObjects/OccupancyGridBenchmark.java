@@ -0,0 +1,112 @@
+/**
+ * Compares the grid against the ArrayList of empty positions Hall used before, running the same mix of
+ * occupancy checks, moves and random picks a hall full of fighters makes.
+ */
+package domain.gameObjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+@Benchmark
+public class OccupancyGridBenchmark {
+    private static final int OPERATIONS = 200_000;
+    private static final int ROUNDS = 5;
+    private static final int MONSTERS = 64;
+
+    @Test
+    void benchmarkAgainstEmptyPositionList() {
+        long listTime = Long.MAX_VALUE;
+        long gridTime = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            List<Point> listMonsters = runWithList(new Random(round));
+            listTime = Math.min(listTime, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            List<Point> gridMonsters = runWithGrid(new Random(round));
+            gridTime = Math.min(gridTime, System.nanoTime() - start);
+
+            // the same seed makes the same moves, so both end with the monsters in the same cells
+            assertEquals(listMonsters, gridMonsters);
+        }
+
+        BenchmarkReport.print("ArrayList empty positions: %.1f ns/op", (double) listTime / OPERATIONS);
+        BenchmarkReport.print("OccupancyGrid:             %.1f ns/op", (double) gridTime / OPERATIONS);
+    }
+
+    // each operation checks a neighbouring cell and moves into it if it is empty, like a fighter step
+    private List<Point> runWithList(Random random) {
+        List<Point> emptyPositions = OccupancyGridTest.allPositions();
+        List<Point> monsters = seedMonsters(emptyPositions, random);
+        for (int i = 0; i < OPERATIONS; i++) {
+            int index = random.nextInt(monsters.size());
+            Point from = monsters.get(index);
+            Point to = neighbour(from, random.nextInt(4));
+            if (emptyPositions.contains(to)) {
+                emptyPositions.add(from);
+                emptyPositions.remove(to);
+                monsters.set(index, to);
+            }
+            if (i % 64 == 0) {
+                new Random().nextInt(emptyPositions.size());
+            }
+        }
+        assertEquals(256 - MONSTERS, emptyPositions.size());
+        return monsters;
+    }
+
+    private List<Point> runWithGrid(Random random) {
+        OccupancyGrid grid = new OccupancyGrid(16, 16);
+        List<Point> monsters = seedMonsters(OccupancyGridTest.allPositions(), random);
+        for (Point monster : monsters) {
+            grid.occupy(monster);
+        }
+        Random picks = new Random();
+        for (int i = 0; i < OPERATIONS; i++) {
+            int index = random.nextInt(monsters.size());
+            Point from = monsters.get(index);
+            Point to = neighbour(from, random.nextInt(4));
+            if (grid.isEmpty(to)) {
+                grid.vacate(from);
+                grid.occupy(to);
+                monsters.set(index, to);
+            }
+            if (i % 64 == 0) {
+                Point picked = grid.getRandomEmpty(picks);
+                assertTrue(grid.isEmpty(picked));
+            }
+        }
+        assertEquals(256 - MONSTERS, grid.getEmptyCount());
+        assertEquals(MONSTERS, new HashSet<>(monsters).size());
+        for (Point monster : monsters) {
+            assertFalse(grid.isEmpty(monster));
+        }
+        return monsters;
+    }
+
+    private List<Point> seedMonsters(List<Point> emptyPositions, Random random) {
+        List<Point> monsters = new ArrayList<>();
+        for (int i = 0; i < MONSTERS; i++) {
+            monsters.add(emptyPositions.remove(random.nextInt(emptyPositions.size())));
+        }
+        return monsters;
+    }
+
+    private Point neighbour(Point point, int direction) {
+        return switch (direction) {
+            case 0 -> new Point(point.x + 1, point.y);
+            case 1 -> new Point(point.x - 1, point.y);
+            case 2 -> new Point(point.x, point.y + 1);
+            default -> new Point(point.x, point.y - 1);
+        };
+    }
+}
@@ -0,0 +1,79 @@
+package domain.gameObjects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class OccupancyGridTest {
+
+    static List<Point> allPositions() {
+        List<Point> positions = new ArrayList<>();
+        for (int r = 0; r < 16; r++) {
+            for (int c = 0; c < 16; c++) {
+                positions.add(new Point(c, r));
+            }
+        }
+        return positions;
+    }
+
+    @Test
+    void testMatchesEmptyPositionList() {
+        OccupancyGrid grid = new OccupancyGrid(16, 16);
+        List<Point> emptyPositions = allPositions();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20_000; i++) {
+            Point point = new Point(random.nextInt(16), random.nextInt(16));
+            if (random.nextBoolean()) {
+                assertEquals(emptyPositions.remove(point), grid.occupy(point));
+            } else {
+                boolean wasOccupied = !emptyPositions.contains(point);
+                if (wasOccupied) {
+                    emptyPositions.add(point);
+                }
+                assertEquals(wasOccupied, grid.vacate(point));
+            }
+            assertEquals(emptyPositions.size(), grid.getEmptyCount());
+            assertEquals(emptyPositions.contains(point), grid.isEmpty(point));
+        }
+        assertEquals(new HashSet<>(emptyPositions), new HashSet<>(grid.toPointList()));
+    }
+
+    @Test
+    void testRandomEmptyOnlyReturnsEmptyCells() {
+        OccupancyGrid grid = new OccupancyGrid(16, 16);
+        for (int c = 0; c < 16; c++) {
+            grid.occupy(c, 3);
+        }
+        Random random = new Random(7);
+        Set<Point> seen = new HashSet<>();
+        for (int i = 0; i < 10_000; i++) {
+            Point point = grid.getRandomEmpty(random);
+            assertTrue(grid.isEmpty(point));
+            seen.add(point);
+        }
+        assertEquals(240, seen.size());
+    }
+
+    @Test
+    void testOutOfBoundsAndFullGrid() {
+        OccupancyGrid grid = new OccupancyGrid(16, 16);
+        assertFalse(grid.isEmpty(16, 0));
+        assertFalse(grid.isEmpty(-1, 5));
+        assertFalse(grid.occupy(new Point(0, 16)));
+        for (Point point : allPositions()) {
+            assertTrue(grid.occupy(point));
+        }
+        assertEquals(0, grid.getEmptyCount());
+        assertNull(grid.getRandomEmpty(new Random()));
+        grid.reset();
+        assertEquals(256, grid.getEmptyCount());
+    }
+}
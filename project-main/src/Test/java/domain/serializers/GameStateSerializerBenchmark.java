@@ -0,0 +1,44 @@
+/**
+ * Measures how long loading a save takes, split into decoding it into a GameState and starting its monsters and
+ * enchantments.
+ */
+package domain.serializers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.sampleGameState;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.controllers.GameController;
+import domain.dto.GameStateDto;
+import domain.gameCore.GameState;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+
+@Benchmark
+public class GameStateSerializerBenchmark {
+
+    @Test
+    void loadLatency() {
+        GameStateSerializer serializer = new GameStateSerializer();
+        int loads = 200;
+        long decodeNanos = 0;
+        long activationNanos = 0;
+        for (int i = 0; i < loads; i++) {
+            GameStateDto dto = sampleGameState(i);
+            long start = System.nanoTime();
+            GameState gameState = serializer.deserializeGameState(dto, new GameController());
+            decodeNanos += System.nanoTime() - start;
+            start = System.nanoTime();
+            gameState.activateEntities();
+            activationNanos += System.nanoTime() - start;
+            assertEquals(dto.getHallGameObjects().size(), gameState.getHall().getGameObjects().size());
+            assertEquals(GameStateSerializerTest.countOf(dto, Constants.GameObjectsInHall.ARCHER,
+                    Constants.GameObjectsInHall.FIGHTER, Constants.GameObjectsInHall.WIZARD),
+                    gameState.getMonsterThreads().size());
+            gameState.freeze();
+        }
+        BenchmarkReport.print("load: decode %.1f us, activation %.1f us per game",
+                BenchmarkReport.microsPer(decodeNanos, loads), BenchmarkReport.microsPer(activationNanos, loads));
+    }
+}
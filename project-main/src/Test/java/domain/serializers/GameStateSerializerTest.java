@@ -0,0 +1,61 @@
+package domain.serializers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.sampleGameState;
+
+import domain.controllers.GameController;
+import domain.dto.GameObjectDto;
+import domain.dto.GameStateDto;
+import domain.gameCore.GameState;
+import domain.threads.MonsterEventBus;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class GameStateSerializerTest {
+
+    static long countOf(GameStateDto dto, Constants.GameObjectsInHall... types) {
+        return dto.getHallGameObjects().values().stream()
+                .map(GameObjectDto::getType)
+                .filter(type -> Arrays.asList(types).contains(type))
+                .count();
+    }
+
+    @Test
+    void decodingStartsNoEntity() {
+        GameStateDto dto = sampleGameState(1);
+        GameState gameState = new GameStateSerializer().deserializeGameState(dto, new GameController());
+
+        assertFalse(gameState.hasActiveMonsterThreads());
+        assertEquals(dto.getHallGameObjects().size(), gameState.getHall().getGameObjects().size());
+        // loaded monsters are known to the hall like spawned ones
+        assertEquals(countOf(dto, Constants.GameObjectsInHall.ARCHER, Constants.GameObjectsInHall.FIGHTER,
+                Constants.GameObjectsInHall.WIZARD), gameState.getHall().getMonsters().size());
+    }
+
+    @Test
+    void activationStartsEveryMonsterAndEnchantment() {
+        GameStateDto dto = sampleGameState(2);
+        GameState gameState = new GameStateSerializer().deserializeGameState(dto, new GameController());
+
+        int started = gameState.activateEntities();
+
+        long monsters = countOf(dto, Constants.GameObjectsInHall.ARCHER, Constants.GameObjectsInHall.FIGHTER,
+                Constants.GameObjectsInHall.WIZARD);
+        long enchantments = countOf(dto, Constants.GameObjectsInHall.LIFEENCHANTMENT,
+                Constants.GameObjectsInHall.REVEALENCHANTMENT);
+        assertEquals(monsters + enchantments, started);
+        assertEquals(monsters, gameState.getMonsterThreads().size());
+        // every loaded monster listens for its events, so none of them stays asleep once it goes idle
+        long archers = countOf(dto, Constants.GameObjectsInHall.ARCHER);
+        long fighters = countOf(dto, Constants.GameObjectsInHall.FIGHTER);
+        long wizards = countOf(dto, Constants.GameObjectsInHall.WIZARD);
+        MonsterEventBus events = MonsterEventBus.forHall(gameState.getHall());
+        assertEquals(archers + fighters, events.getSubscriberCount(Constants.MonsterEvent.PLAYER_MOVED));
+        assertEquals(fighters, events.getSubscriberCount(Constants.MonsterEvent.LURE_THROWN));
+        assertEquals(fighters + wizards, events.getSubscriberCount(Constants.MonsterEvent.CELL_FREED));
+        assertEquals(wizards, events.getSubscriberCount(Constants.MonsterEvent.TIMER_THRESHOLD));
+        gameState.freeze();
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Compares monsters that poll like they used to with monsters woken by the event bus, in a hall where nothing happens
+ * until the player walks into the archers' range: how many steps the idle hall costs and how soon all archers shoot.
+ * It asserts that woken monsters take no step while nothing happens and that all archers shoot.
+ */
+package domain.threads;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.gameCore.GameState;
+import domain.gameObjects.*;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Benchmark
+public class MonsterEventBusBenchmark {
+    private Constants.ExecutionMode executionMode;
+
+    // the monsters run on their own threads here, so a wake reaches them without the shared GameLoop
+    @BeforeEach
+    void useVirtualThreads() {
+        executionMode = GameThreadFactory.getInstance().getExecutionMode();
+        GameThreadFactory.getInstance().setExecutionMode(Constants.ExecutionMode.VIRTUAL_THREADS);
+    }
+
+    @AfterEach
+    void restoreExecutionMode() {
+        GameThreadFactory.getInstance().setExecutionMode(executionMode);
+    }
+
+    // an archer that polls every 5 seconds like before, or waits for the player to move
+    private static final class MeasuredArcher extends ArcherMonsterThread {
+        private final boolean polling;
+        private final AtomicInteger steps;
+
+        private MeasuredArcher(ArcherMonster monster, GameState model, boolean polling, AtomicInteger steps) {
+            super(monster, model);
+            this.polling = polling;
+            this.steps = steps;
+        }
+
+        @Override
+        protected long step() {
+            steps.incrementAndGet();
+            long cooldown = super.step();
+            return polling && cooldown == IDLE ? 5000 : cooldown;
+        }
+    }
+
+    // a fighter that tries to move every 500 ms like before, or waits for a cell to be freed
+    private static final class MeasuredFighter extends FighterMonsterThread {
+        private final boolean polling;
+        private final AtomicInteger steps;
+
+        private MeasuredFighter(FighterMonster monster, GameState model, boolean polling, AtomicInteger steps) {
+            super(monster, model);
+            this.polling = polling;
+            this.steps = steps;
+        }
+
+        @Override
+        protected long step() {
+            steps.incrementAndGet();
+            long cooldown = super.step();
+            return polling && cooldown == IDLE ? 500 : cooldown;
+        }
+    }
+
+    @Test
+    void idleHallAndReactionToThePlayer() throws InterruptedException {
+        for (boolean polling : new boolean[]{true, false}) {
+            GameState model = new GameState(new Player(2, 12), null);
+            Hall hall = model.getHall();
+            model.getPlayer().setLifeCount(1000);
+            AtomicInteger steps = new AtomicInteger();
+            List<MonsterThread> monsters = new ArrayList<>();
+
+            // fighters packed into the top rows behind a row of blocks, none of them can move
+            for (int col = 0; col < 16; col++) {
+                hall.addObject(new Block(col, 6));
+                for (int row = 0; row < 6; row++) {
+                    FighterMonster fighter = new FighterMonster(col, row);
+                    hall.addObject(fighter);
+                    monsters.add(new MeasuredFighter(fighter, model, polling, steps));
+                }
+            }
+            // archers around the cell the player walks to, out of range of where it stands
+            for (int row = 8; row < 16; row++) {
+                for (int col = 8; col < 16; col++) {
+                    int distance = Math.abs(col - 12) + Math.abs(row - 12);
+                    if (distance > 0 && distance <= 4) {
+                        ArcherMonster archer = new ArcherMonster(col, row);
+                        hall.addObject(archer);
+                        monsters.add(new MeasuredArcher(archer, model, polling, steps));
+                    }
+                }
+            }
+            int archers = monsters.size() - 96;
+
+            List<Thread> threads = new ArrayList<>();
+            for (MonsterThread monster : monsters) {
+                Thread thread = GameThreadFactory.getInstance().newThread(monster);
+                threads.add(thread);
+                thread.start();
+            }
+            Thread.sleep(100);
+            int before = steps.get();
+            Thread.sleep(2000);
+            int idleSteps = steps.get() - before;
+
+            long moved = System.nanoTime();
+            hall.movePlayer(model.getPlayer(), new Point(12, 12));
+            boolean allShot = MonsterEventBusTest.waitFor(() -> model.getPlayer().getLifeCount() <= 1000 - archers, 6000);
+            long reactionNanos = System.nanoTime() - moved;
+
+            for (MonsterThread monster : monsters) {
+                monster.kill();
+            }
+            for (Thread thread : threads) {
+                thread.join(1000);
+            }
+
+            assertTrue(allShot);
+            if (!polling) {
+                assertEquals(0, idleSteps);
+            }
+            BenchmarkReport.print("%d monsters in a hall where nothing happens, %-13s: %5.1f steps per second, "
+                            + "all %d archers shot %6.1f ms after the player walked into range",
+                    monsters.size(), polling ? "polling" : "event driven", idleSteps / 2.0, archers,
+                    reactionNanos / 1_000_000.0);
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package domain.threads;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import domain.gameCore.GameLoop;
+import domain.gameCore.GameState;
+import domain.gameCore.Tickable;
+import domain.gameObjects.*;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+public class MonsterEventBusTest {
+    private Constants.ExecutionMode executionMode;
+
+    // the monsters run on their own threads here, so a wake reaches them without the shared GameLoop
+    @BeforeEach
+    void useVirtualThreads() {
+        executionMode = GameThreadFactory.getInstance().getExecutionMode();
+        GameThreadFactory.getInstance().setExecutionMode(Constants.ExecutionMode.VIRTUAL_THREADS);
+    }
+
+    @AfterEach
+    void restoreExecutionMode() {
+        GameThreadFactory.getInstance().setExecutionMode(executionMode);
+    }
+
+    static boolean waitFor(BooleanSupplier condition, long millis) throws InterruptedException {
+        long deadline = System.nanoTime() + millis * 1_000_000;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    // a monster that only counts how often it is woken
+    private static final class CountingMonster extends MonsterThread {
+        private final Set<Constants.MonsterEvent> events;
+        private final AtomicInteger wakes = new AtomicInteger();
+
+        private CountingMonster(GameState model, Set<Constants.MonsterEvent> events) {
+            super(new FighterMonster(0, 0), model);
+            this.events = events;
+            activate();
+        }
+
+        @Override
+        public Set<Constants.MonsterEvent> wakeEvents() {
+            return events;
+        }
+
+        @Override
+        public void wake() {
+            wakes.incrementAndGet();
+            super.wake();
+        }
+
+        @Override
+        public void draw(Graphics g) {
+        }
+
+        @Override
+        protected long step() {
+            return IDLE;
+        }
+    }
+
+    private static final class CountingTickable implements Tickable {
+        private final long cooldown;
+        private final AtomicInteger ticks = new AtomicInteger();
+
+        private CountingTickable(long cooldown) {
+            this.cooldown = cooldown;
+        }
+
+        @Override
+        public long tick() {
+            ticks.incrementAndGet();
+            return cooldown;
+        }
+    }
+
+    @Test
+    void gameLoopSkipsAnIdleEntityUntilItIsWoken() throws InterruptedException {
+        GameLoop loop = new GameLoop(1000);
+        CountingTickable idle = new CountingTickable(Tickable.IDLE);
+        CountingTickable coolingDown = new CountingTickable(60_000);
+        try {
+            loop.register(idle);
+            loop.register(coolingDown);
+            assertTrue(waitFor(() -> idle.ticks.get() == 1 && coolingDown.ticks.get() == 1, 1000));
+
+            Thread.sleep(50);
+            assertEquals(1, idle.ticks.get());
+            loop.wake(idle);
+            loop.wake(coolingDown);
+            assertTrue(waitFor(() -> idle.ticks.get() == 2, 1000));
+
+            // a wake does not cut a cooldown short
+            Thread.sleep(50);
+            assertEquals(1, coolingDown.ticks.get());
+            assertEquals(2, idle.ticks.get());
+        } finally {
+            loop.stop();
+        }
+    }
+
+    @Test
+    void eventsReachOnlyTheMonstersThatReactToThem() {
+        GameState model = new GameState(new Player(0, 0), null);
+        Hall hall = model.getHall();
+        // a behaviour that is never started is never subscribed
+        new FighterMonsterThread(new FighterMonster(3, 3), model);
+        assertEquals(0, MonsterEventBus.forHall(hall).getSubscriberCount(Constants.MonsterEvent.CELL_FREED));
+        CountingMonster archer = new CountingMonster(model, EnumSet.of(Constants.MonsterEvent.PLAYER_MOVED));
+        CountingMonster fighter = new CountingMonster(model, EnumSet.of(Constants.MonsterEvent.LURE_THROWN,
+                Constants.MonsterEvent.CELL_FREED));
+        CountingMonster wizard = new CountingMonster(model, EnumSet.of(Constants.MonsterEvent.TIMER_THRESHOLD));
+
+        hall.movePlayer(model.getPlayer(), new Point(1, 0));
+        assertEquals(List.of(1, 0, 0), List.of(archer.wakes.get(), fighter.wakes.get(), wizard.wakes.get()));
+
+        hall.addObject(new Block(5, 5));
+        hall.addObject(new LuringGemEnchantment(6, 6));
+        assertEquals(List.of(1, 1, 0), List.of(archer.wakes.get(), fighter.wakes.get(), wizard.wakes.get()));
+        hall.removeObject(new Point(5, 5));
+        assertEquals(List.of(1, 2, 0), List.of(archer.wakes.get(), fighter.wakes.get(), wizard.wakes.get()));
+
+        // 30 seconds crosses above 70% and below 30% of the time once each, after the first report
+        MonsterEventBus bus = MonsterEventBus.forHall(hall);
+        for (int timeRemaining = 30; timeRemaining >= 0; timeRemaining--) {
+            bus.timeRemainingChanged(timeRemaining, 30);
+        }
+        assertEquals(List.of(1, 2, 3), List.of(archer.wakes.get(), fighter.wakes.get(), wizard.wakes.get()));
+
+        archer.kill();
+        hall.movePlayer(model.getPlayer(), new Point(2, 0));
+        assertEquals(0, bus.getSubscriberCount(Constants.MonsterEvent.PLAYER_MOVED));
+    }
+
+    @Test
+    void monsterStartedOnTheGameLoopIsSubscribed() {
+        GameState model = new GameState(new Player(15, 15), null);
+        MonsterEventBus bus = MonsterEventBus.forHall(model.getHall());
+        FighterMonster fighter = new FighterMonster(3, 3);
+        model.getHall().addObject(fighter);
+        FighterMonsterThread fighterThread = new FighterMonsterThread(fighter, model);
+
+        // the game loop only ticks the monster and never calls run(), so the factory subscribes it
+        new GameThreadFactory(Constants.ExecutionMode.GAME_LOOP).startEntity(fighterThread);
+        try {
+            assertEquals(1, bus.getSubscriberCount(Constants.MonsterEvent.CELL_FREED));
+        } finally {
+            fighterThread.kill();
+        }
+        assertEquals(0, bus.getSubscriberCount(Constants.MonsterEvent.CELL_FREED));
+    }
+
+    @Test
+    void idleArcherShootsAsSoonAsThePlayerWalksIntoRange() throws InterruptedException {
+        GameState model = new GameState(new Player(0, 0), null);
+        Hall hall = model.getHall();
+        model.getPlayer().setLifeCount(3);
+        ArcherMonster archer = new ArcherMonster(12, 12);
+        hall.addObject(archer);
+        hall.addMonster(archer);
+        ArcherMonsterThread archerThread = new ArcherMonsterThread(archer, model);
+        Thread thread = GameThreadFactory.getInstance().newThread(archerThread);
+        thread.start();
+        try {
+            Thread.sleep(50);
+            assertEquals(3, model.getPlayer().getLifeCount());
+
+            long moved = System.nanoTime();
+            hall.movePlayer(model.getPlayer(), new Point(10, 11));
+            // polling every 5 seconds, the archer would only notice at its next poll
+            assertTrue(waitFor(() -> model.getPlayer().getLifeCount() == 2, 1000));
+            assertTrue(System.nanoTime() - moved < 1_000_000_000L);
+        } finally {
+            archerThread.kill();
+            thread.join(1000);
+        }
+        assertFalse(thread.isAlive());
+    }
+
+    @Test
+    void boxedInFighterIsIdleUntilACellIsFreed() throws InterruptedException {
+        GameState model = new GameState(new Player(15, 15), null);
+        Hall hall = model.getHall();
+        FighterMonster fighter = new FighterMonster(0, 0);
+        hall.addObject(fighter);
+        hall.addObject(new Block(1, 0));
+        hall.addObject(new Block(0, 1));
+        FighterMonsterThread fighterThread = new FighterMonsterThread(fighter, model);
+
+        assertEquals(Tickable.IDLE, fighterThread.tick());
+        Thread thread = GameThreadFactory.getInstance().newThread(fighterThread);
+        thread.start();
+        try {
+            Thread.sleep(50);
+            assertEquals(new Point(0, 0), fighter.getPosition());
+            hall.removeObject(new Point(1, 0));
+            assertTrue(waitFor(() -> !fighter.getPosition().equals(new Point(0, 0)), 1000));
+        } finally {
+            fighterThread.kill();
+            thread.join(1000);
+        }
+        assertFalse(thread.isAlive());
+    }
+}
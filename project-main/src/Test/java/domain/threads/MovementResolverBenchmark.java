@@ -0,0 +1,120 @@
+/**
+ * Compares fighters moving themselves, the way they did before, with fighters submitting intents that the
+ * MovementResolver settles once per phase, when all of them wander together. It asserts that no two fighters end in
+ * the same cell and that resolved runs end the same way every time.
+ */
+package domain.threads;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.gameObjects.*;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Benchmark
+public class MovementResolverBenchmark {
+
+    /**
+     * Lets every fighter wander on its own virtual thread, all of them stepping at once in each round.
+     *
+     * @return the number of moves that failed or were blocked, and the time taken; where each fighter ended up is
+     *         added to the layout
+     */
+    private long[] wander(boolean resolved, int fighters, int rounds, List<Point> layout) throws InterruptedException {
+        Hall hall = MovementResolverTest.emptyHall();
+        Random placement = new Random(1);
+        List<FighterMonster> walkers = new ArrayList<>();
+        while (walkers.size() < fighters) {
+            Point cell = new Point(placement.nextInt(16), placement.nextInt(16));
+            if (hall.isPositionEmpty(cell)) {
+                walkers.add(MovementResolverTest.fighter(hall, cell.x, cell.y));
+            }
+        }
+        MovementResolver resolver = new MovementResolver(hall);
+        AtomicInteger failed = new AtomicInteger();
+        // the fighters choose together, then the phase runs, then the next round starts
+        CyclicBarrier chosen = new CyclicBarrier(fighters + 1);
+        CyclicBarrier moved = new CyclicBarrier(fighters + 1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < fighters; i++) {
+            FighterMonster walker = walkers.get(i);
+            Random random = new Random(100 + i);
+            threads.add(Thread.ofVirtual().start(() -> {
+                try {
+                    for (int round = 0; round < rounds; round++) {
+                        Point current = new Point(walker.getPosition());
+                        List<Point> moves = MovementResolverTest.emptyNeighbours(hall, current, random);
+                        if (resolved) {
+                            resolver.submit(walker, moves, MovementResolver.WANDERING);
+                        } else if (!moves.isEmpty()) {
+                            try {
+                                // the way fighters moved before, a lost race was an exception
+                                hall.moveObject(current, moves.get(0));
+                                walker.move(new ArrayList<>(List.of(moves.get(0))));
+                            } catch (IllegalArgumentException | IllegalStateException e) {
+                                failed.incrementAndGet();
+                            }
+                        }
+                        chosen.await();
+                        moved.await();
+                    }
+                } catch (InterruptedException | BrokenBarrierException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        long start = System.nanoTime();
+        try {
+            for (int round = 0; round < rounds; round++) {
+                chosen.await();
+                if (resolved) {
+                    resolver.resolve();
+                }
+                moved.await();
+            }
+        } catch (BrokenBarrierException e) {
+            fail(e);
+        }
+        long nanos = System.nanoTime() - start;
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (FighterMonster walker : walkers) {
+            layout.add(new Point(walker.getPosition()));
+        }
+        long failedMoves = resolved ? resolver.getBlockedCount() : failed.get();
+        return new long[]{failedMoves, nanos};
+    }
+
+    @Test
+    void fightersWanderingTogether() throws InterruptedException {
+        int fighters = 120;
+        int rounds = 200;
+        for (boolean resolved : new boolean[]{false, true}) {
+            List<Point> first = new ArrayList<>();
+            List<Point> second = new ArrayList<>();
+            long[] firstRun = wander(resolved, fighters, rounds, first);
+            wander(resolved, fighters, rounds, second);
+
+            if (resolved) {
+                assertEquals(first, second);
+            }
+            assertEquals(fighters, first.stream().distinct().count());
+            BenchmarkReport.print("%d fighters, %d rounds, %-18s: %5d %-27s %6.1f us per round, same cells on a second run: %b",
+                    fighters, rounds, resolved ? "intent and resolve" : "moving themselves", firstRun[0],
+                    resolved ? "intents blocked in a phase," : "moves failed by exception,", BenchmarkReport.microsPer(firstRun[1], rounds),
+                    first.equals(second));
+        }
+    }
+}
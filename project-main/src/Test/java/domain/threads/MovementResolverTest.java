@@ -0,0 +1,139 @@
+package domain.threads;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import domain.gameObjects.*;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+public class MovementResolverTest {
+
+    static Hall emptyHall() {
+        return new Hall("Hall of Earth", new Player(15, 15), 60, Constants.HallType.EARTH);
+    }
+
+    static FighterMonster fighter(Hall hall, int x, int y) {
+        FighterMonster fighter = new FighterMonster(x, y);
+        hall.addObject(fighter);
+        return fighter;
+    }
+
+    // the empty cells next to a fighter in random order, the way a wandering fighter picks them
+    static List<Point> emptyNeighbours(Hall hall, Point current, Random random) {
+        List<Point> moves = new ArrayList<>(List.of(new Point(current.x - 1, current.y), new Point(current.x + 1, current.y),
+                new Point(current.x, current.y - 1), new Point(current.x, current.y + 1)));
+        Collections.shuffle(moves, random);
+        moves.removeIf(move -> !hall.isPositionEmpty(move));
+        return moves;
+    }
+
+    @Test
+    void contestedCellGoesToTheSameMonsterWhateverTheOrder() {
+        for (boolean leftFirst : new boolean[]{true, false}) {
+            Hall hall = emptyHall();
+            FighterMonster left = fighter(hall, 4, 5);
+            FighterMonster right = fighter(hall, 6, 5);
+            MovementResolver resolver = new MovementResolver(hall);
+
+            if (leftFirst) {
+                resolver.submit(left, List.of(new Point(5, 5)), MovementResolver.WANDERING);
+                resolver.submit(right, List.of(new Point(5, 5), new Point(6, 6)), MovementResolver.WANDERING);
+            } else {
+                resolver.submit(right, List.of(new Point(5, 5), new Point(6, 6)), MovementResolver.WANDERING);
+                resolver.submit(left, List.of(new Point(5, 5)), MovementResolver.WANDERING);
+            }
+
+            // the fighter in the lower cell wins the tie, the other one takes its second choice
+            assertEquals(2, resolver.resolve());
+            assertEquals(new Point(5, 5), left.getPosition());
+            assertEquals(new Point(6, 6), right.getPosition());
+        }
+    }
+
+    @Test
+    void lowerPriorityPicksFirst() {
+        Hall hall = emptyHall();
+        FighterMonster wandering = fighter(hall, 4, 5);
+        FighterMonster lured = fighter(hall, 6, 5);
+        MovementResolver resolver = new MovementResolver(hall);
+
+        resolver.submit(wandering, List.of(new Point(5, 5)), MovementResolver.WANDERING);
+        resolver.submit(lured, List.of(new Point(5, 5)), 3);
+
+        assertEquals(1, resolver.resolve());
+        assertEquals(new Point(5, 5), lured.getPosition());
+        assertEquals(new Point(4, 5), wandering.getPosition());
+        assertEquals(1, resolver.getBlockedCount());
+    }
+
+    @Test
+    void queueFollowsItsLeaderInOnePhase() {
+        Hall hall = emptyHall();
+        List<FighterMonster> queue = List.of(fighter(hall, 1, 1), fighter(hall, 2, 1), fighter(hall, 3, 1));
+        MovementResolver resolver = new MovementResolver(hall);
+
+        // lured to the right, the one in front is nearest to the gem
+        for (FighterMonster fighter : queue) {
+            Point current = fighter.getPosition();
+            resolver.submit(fighter, List.of(new Point(current.x + 1, current.y)), 10 - current.x);
+        }
+
+        assertEquals(3, resolver.resolve());
+        assertEquals(List.of(new Point(2, 1), new Point(3, 1), new Point(4, 1)),
+                queue.stream().map(FighterMonster::getPosition).toList());
+    }
+
+    @Test
+    void intentOfAMonsterThatIsGoneMovesNothing() {
+        Hall hall = emptyHall();
+        FighterMonster removed = fighter(hall, 3, 3);
+        FighterMonster moved = fighter(hall, 8, 8);
+        MovementResolver resolver = new MovementResolver(hall);
+        resolver.submit(removed, List.of(new Point(3, 4)), MovementResolver.WANDERING);
+        resolver.submit(moved, List.of(new Point(8, 9)), MovementResolver.WANDERING);
+
+        hall.removeObject(new Point(3, 3));
+        hall.moveObject(moved, new Point(9, 8));
+
+        assertEquals(0, resolver.resolve());
+        assertNull(hall.getObjectAt(3, 4));
+        assertNull(hall.getObjectAt(8, 9));
+        assertEquals(2, resolver.getBlockedCount());
+        assertThrows(IllegalArgumentException.class, () -> resolver.submit(null, List.of(), 0));
+    }
+
+    @Test
+    void firstIntentSchedulesAPhase() throws InterruptedException {
+        GameThreadFactory factory = GameThreadFactory.getInstance();
+        Constants.ExecutionMode executionMode = factory.getExecutionMode();
+        factory.setExecutionMode(Constants.ExecutionMode.VIRTUAL_THREADS);
+        try {
+            Hall hall = emptyHall();
+            FighterMonster fighter = fighter(hall, 3, 3);
+            MovementResolver resolver = MovementResolver.forHall(hall);
+            assertSame(resolver, MovementResolver.forHall(hall));
+
+            resolver.submit(fighter, List.of(new Point(3, 4)), MovementResolver.WANDERING);
+            long deadline = System.nanoTime() + 1_000_000_000L;
+            while (resolver.getMovedCount() == 0 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+
+            assertEquals(new Point(3, 4), fighter.getPosition());
+            resolver.submit(fighter, List.of(new Point(3, 5)), MovementResolver.WANDERING);
+            deadline = System.nanoTime() + 1_000_000_000L;
+            while (resolver.getMovedCount() == 1 && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(new Point(3, 5), fighter.getPosition());
+        } finally {
+            factory.setExecutionMode(executionMode);
+        }
+    }
+}
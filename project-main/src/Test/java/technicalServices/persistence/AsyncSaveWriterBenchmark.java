@@ -0,0 +1,55 @@
+/**
+ * Compares how long the caller waits for a save when it writes the save itself and when it hands the save to the
+ * AsyncSaveWriter.
+ */
+package technicalServices.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.assertSameGameState;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.sampleGameState;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.dto.GameStateDto;
+import domain.serializers.GameStateSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import technicalServices.persistence.adapters.FileAdapter;
+
+import java.nio.file.Path;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+@Benchmark
+public class AsyncSaveWriterBenchmark {
+    private static final int SAVES = 200;
+
+    @TempDir
+    Path saveDirectory;
+
+    @Test
+    void benchmarkCallerTimeAgainstSynchronousSave() throws Exception {
+        FileAdapter adapter = new FileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        GameStateDto snapshot = sampleGameState(3);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < SAVES; i++) {
+            adapter.writeGameStateDto("sync" + i, snapshot);
+        }
+        long synchronousTime = System.nanoTime() - start;
+
+        long callerTime = 0;
+        Future<?> last = null;
+        for (int i = 0; i < SAVES; i++) {
+            start = System.nanoTime();
+            last = AsyncSaveWriter.getInstance().save(adapter, "async" + i, snapshot, null);
+            callerTime += System.nanoTime() - start;
+        }
+        last.get(30, TimeUnit.SECONDS);
+        assertEquals(2 * SAVES, adapter.listSavedGames().size());
+        assertSameGameState(snapshot, adapter.readGameStateDto("async" + (SAVES - 1)));
+
+        BenchmarkReport.print("Synchronous save on the caller: %.1f us/op", BenchmarkReport.microsPer(synchronousTime, SAVES));
+        BenchmarkReport.print("AsyncSaveWriter caller time:    %.1f us/op", BenchmarkReport.microsPer(callerTime, SAVES));
+    }
+}
@@ -0,0 +1,82 @@
+package technicalServices.persistence;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.assertSameGameState;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.sampleGameState;
+
+import domain.dto.GameStateDto;
+import domain.observers.SaveObserver;
+import domain.serializers.GameStateSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import technicalServices.persistence.adapters.FileAdapter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class AsyncSaveWriterTest {
+
+    // completes with null when the save is written and with the error when it failed
+    private static class RecordingObserver implements SaveObserver {
+        private final CompletableFuture<Exception> result = new CompletableFuture<>();
+        private volatile String threadName;
+
+        @Override
+        public void onSaveCompleted(String gameName) {
+            threadName = Thread.currentThread().getName();
+            result.complete(null);
+        }
+
+        @Override
+        public void onSaveFailed(String gameName, Exception error) {
+            threadName = Thread.currentThread().getName();
+            result.complete(error);
+        }
+    }
+
+    @TempDir
+    Path saveDirectory;
+
+    @Test
+    void snapshotIsWrittenInTheBackground() throws Exception {
+        FileAdapter adapter = new FileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        GameStateDto snapshot = sampleGameState(1);
+        RecordingObserver observer = new RecordingObserver();
+
+        AsyncSaveWriter.getInstance().save(adapter, "run", snapshot, observer);
+
+        assertNull(observer.result.get(5, TimeUnit.SECONDS));
+        assertEquals("save-writer", observer.threadName);
+        assertSameGameState(snapshot, adapter.readGameStateDto("run"));
+        assertEquals(0, AsyncSaveWriter.getInstance().getPendingSaves());
+    }
+
+    @Test
+    void failureIsReported() throws Exception {
+        // a directory in place of the save file makes the rename fail
+        FileAdapter adapter = new FileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        Files.createDirectories(saveDirectory.resolve("blocked" + FileAdapter.FILE_EXTENSION).resolve("child"));
+        RecordingObserver observer = new RecordingObserver();
+
+        AsyncSaveWriter.getInstance().save(adapter, "blocked", sampleGameState(2), observer);
+
+        assertInstanceOf(IOException.class, observer.result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failedWriteKeepsTheOldFile() throws IOException {
+        Path target = saveDirectory.resolve("file");
+        AtomicFiles.write(target, new byte[]{1, 2, 3});
+
+        assertThrows(IOException.class, () -> AtomicFiles.write(target, out -> {
+            out.write(new byte[]{9, 9});
+            throw new IOException("disk full");
+        }));
+
+        assertArrayEquals(new byte[]{1, 2, 3}, Files.readAllBytes(target));
+        assertFalse(Files.exists(saveDirectory.resolve("file" + AtomicFiles.TEMPORARY_SUFFIX)));
+    }
+}
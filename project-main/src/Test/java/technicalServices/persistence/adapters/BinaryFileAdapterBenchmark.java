@@ -0,0 +1,73 @@
+/**
+ * Compares the save and load times and file sizes of a late-game hall with the JSON FileAdapter and the
+ * BinaryFileAdapter.
+ */
+package technicalServices.persistence.adapters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.dto.GameStateDto;
+import domain.serializers.GameStateSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+@Benchmark
+public class BinaryFileAdapterBenchmark {
+    private static final int OPERATIONS = 500;
+    private static final int ROUNDS = 5;
+
+    @TempDir
+    Path saveDirectory;
+
+    @Test
+    void benchmarkAgainstJsonAdapter() throws IOException {
+        FileAdapter jsonAdapter = new FileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        BinaryFileAdapter binaryAdapter = new BinaryFileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        GameStateDto gameState = BinaryFileAdapterTest.sampleGameState(4);
+
+        long jsonSave = Long.MAX_VALUE;
+        long jsonLoad = Long.MAX_VALUE;
+        long binarySave = Long.MAX_VALUE;
+        long binaryLoad = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; i++) {
+                jsonAdapter.writeGameStateDto("bench", gameState);
+            }
+            jsonSave = Math.min(jsonSave, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; i++) {
+                jsonAdapter.readGameStateDto("bench");
+            }
+            jsonLoad = Math.min(jsonLoad, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; i++) {
+                binaryAdapter.writeGameStateDto("bench", gameState);
+            }
+            binarySave = Math.min(binarySave, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; i++) {
+                binaryAdapter.readGameStateDto("bench");
+            }
+            binaryLoad = Math.min(binaryLoad, System.nanoTime() - start);
+        }
+        BinaryFileAdapterTest.assertSameGameState(jsonAdapter.readGameStateDto("bench"), binaryAdapter.readGameStateDto("bench"));
+
+        long jsonSize = Files.size(saveDirectory.resolve("bench" + FileAdapter.FILE_EXTENSION));
+        long binarySize = Files.size(saveDirectory.resolve("bench" + BinaryFileAdapter.FILE_EXTENSION));
+        assertTrue(binarySize < jsonSize);
+        BenchmarkReport.print("FileAdapter (JSON):  save %.1f us/op, load %.1f us/op, %d bytes",
+                BenchmarkReport.microsPer(jsonSave, OPERATIONS), BenchmarkReport.microsPer(jsonLoad, OPERATIONS), jsonSize);
+        BenchmarkReport.print("BinaryFileAdapter:   save %.1f us/op, load %.1f us/op, %d bytes",
+                BenchmarkReport.microsPer(binarySave, OPERATIONS), BenchmarkReport.microsPer(binaryLoad, OPERATIONS), binarySize);
+    }
+}
@@ -0,0 +1,165 @@
+package technicalServices.persistence.adapters;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import domain.dto.GameObjectDto;
+import domain.dto.GameStateDto;
+import domain.gameObjects.Rune;
+import domain.serializers.GameStateSerializer;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class BinaryFileAdapterTest {
+
+    // a hall filled the way a late game looks: walls around the edge and objects and monsters inside
+    public static GameStateDto sampleGameState(long seed) {
+        Random random = new Random(seed);
+        Constants.GameObjectsInHall[] insideTypes = {
+                Constants.GameObjectsInHall.CHEST, Constants.GameObjectsInHall.BLOCK,
+                Constants.GameObjectsInHall.ARCHER, Constants.GameObjectsInHall.FIGHTER,
+                Constants.GameObjectsInHall.WIZARD, Constants.GameObjectsInHall.LIFEENCHANTMENT,
+                Constants.GameObjectsInHall.REVEALENCHANTMENT
+        };
+        HashMap<Point, GameObjectDto> objects = new HashMap<>();
+        for (int r = 0; r < 16; r++) {
+            for (int c = 0; c < 16; c++) {
+                Constants.GameObjectsInHall type = null;
+                if (r == 0 || c == 0 || r == 15 || c == 15) {
+                    type = (r + c) % 2 == 0 ? Constants.GameObjectsInHall.WALL : Constants.GameObjectsInHall.WALLDIFFERENT;
+                } else if (random.nextInt(4) == 0) {
+                    type = insideTypes[random.nextInt(insideTypes.length)];
+                }
+                if (type != null) {
+                    GameObjectDto object = new GameObjectDto();
+                    object.setX(c);
+                    object.setY(r);
+                    object.setType(type);
+                    objects.put(new Point(c, r), object);
+                }
+            }
+        }
+        HashMap<Constants.GameObjectsInHall, Integer> enchantments = new HashMap<>();
+        enchantments.put(Constants.GameObjectsInHall.CLOAKENCHANTMENT, 2);
+        enchantments.put(Constants.GameObjectsInHall.LURINGENCHANTMENT, 1);
+        Map<Point, Rune> runes = new HashMap<>();
+        runes.put(new Point(4, 7), new Rune(4, 7, Constants.HallType.FIRE));
+
+        GameStateDto dto = new GameStateDto();
+        dto.setHallType(Constants.HallType.FIRE);
+        dto.setSaveDate(new Date(1_700_000_000_000L));
+        dto.setPlayerPositionx(3);
+        dto.setPlayerPositiony(4);
+        dto.setPlayerLifeCount(2);
+        dto.setHallTimeRemaining(41);
+        dto.setHallGameObjects(objects);
+        dto.setPlayerEnchantments(enchantments);
+        dto.setHallRunes(runes);
+        return dto;
+    }
+
+    public static void assertSameGameState(GameStateDto expected, GameStateDto actual) {
+        assertEquals(expected.getHallType(), actual.getHallType());
+        assertEquals(expected.getSaveDate(), actual.getSaveDate());
+        assertEquals(expected.getPlayerPositionx(), actual.getPlayerPositionx());
+        assertEquals(expected.getPlayerPositiony(), actual.getPlayerPositiony());
+        assertEquals(expected.getPlayerLifeCount(), actual.getPlayerLifeCount());
+        assertEquals(expected.getHallTimeRemaining(), actual.getHallTimeRemaining());
+        assertEquals(expected.getPlayerEnchantments(), actual.getPlayerEnchantments());
+        assertEquals(expected.getHallGameObjects().keySet(), actual.getHallGameObjects().keySet());
+        for (Map.Entry<Point, GameObjectDto> entry : expected.getHallGameObjects().entrySet()) {
+            GameObjectDto object = actual.getHallGameObjects().get(entry.getKey());
+            assertEquals(entry.getValue().getType(), object.getType());
+            assertEquals(entry.getValue().getX(), object.getX());
+            assertEquals(entry.getValue().getY(), object.getY());
+        }
+        assertEquals(expected.getHallRunes().keySet(), actual.getHallRunes().keySet());
+        for (Map.Entry<Point, Rune> entry : expected.getHallRunes().entrySet()) {
+            assertEquals(entry.getValue().getRuneType(), actual.getHallRunes().get(entry.getKey()).getRuneType());
+        }
+    }
+
+    @TempDir
+    Path saveDirectory;
+
+    @Test
+    void savedGameIsReadBackUnchanged() throws IOException {
+        BinaryFileAdapter adapter = new BinaryFileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        GameStateDto saved = sampleGameState(1);
+        adapter.writeGameStateDto("run", saved);
+
+        assertSameGameState(saved, adapter.readGameStateDto("run"));
+        assertEquals(1, adapter.listSavedGames().size());
+        assertEquals("run", adapter.listSavedGames().get(0));
+    }
+
+    @Test
+    void emptyParts() throws IOException {
+        BinaryFileAdapter adapter = new BinaryFileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        GameStateDto saved = new GameStateDto();
+        adapter.writeGameStateDto("empty", saved);
+
+        GameStateDto loaded = adapter.readGameStateDto("empty");
+        assertNull(loaded.getHallType());
+        assertNull(loaded.getSaveDate());
+        assertNull(loaded.getHallGameObjects());
+        assertNull(loaded.getPlayerEnchantments());
+        assertNull(loaded.getHallRunes());
+    }
+
+    @Test
+    void missingEnchantmentCountIsSavedAsNone() throws IOException {
+        BinaryFileAdapter adapter = new BinaryFileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        GameStateDto saved = new GameStateDto();
+        HashMap<Constants.GameObjectsInHall, Integer> enchantments = new HashMap<>();
+        enchantments.put(Constants.GameObjectsInHall.REVEALENCHANTMENT, null);
+        enchantments.put(Constants.GameObjectsInHall.CLOAKENCHANTMENT, 2);
+        saved.setPlayerEnchantments(enchantments);
+        adapter.writeGameStateDto("run", saved);
+
+        Map<Constants.GameObjectsInHall, Integer> loaded = adapter.readGameStateDto("run").getPlayerEnchantments();
+        assertEquals(0, loaded.get(Constants.GameObjectsInHall.REVEALENCHANTMENT));
+        assertEquals(2, loaded.get(Constants.GameObjectsInHall.CLOAKENCHANTMENT));
+    }
+
+    @Test
+    void corruptedFileIsRejected() throws IOException {
+        BinaryFileAdapter adapter = new BinaryFileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        adapter.writeGameStateDto("run", sampleGameState(2));
+        Path file = saveDirectory.resolve("run" + BinaryFileAdapter.FILE_EXTENSION);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length / 2] ^= 0x10;
+        Files.write(file, bytes);
+
+        assertThrows(IOException.class, () -> adapter.readGameStateDto("run"));
+    }
+
+    @Test
+    void jsonSavesAreConverted() throws IOException {
+        FileAdapter jsonAdapter = new FileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        GameStateDto saved = sampleGameState(3);
+        jsonAdapter.writeGameStateDto("old", saved);
+
+        SaveGameConverter converter = new SaveGameConverter(saveDirectory.toString());
+        assertEquals(1, converter.convertAll(false));
+        // a save that already has a binary copy is not converted again
+        assertEquals(0, converter.convertAll(false));
+
+        BinaryFileAdapter binaryAdapter = new BinaryFileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        assertSameGameState(saved, binaryAdapter.readGameStateDto("old"));
+        assertTrue(jsonAdapter.listSavedGames().contains("old"));
+
+        converter.convert("old", true);
+        assertFalse(jsonAdapter.listSavedGames().contains("old"));
+        assertTrue(binaryAdapter.listSavedGames().contains("old"));
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * Compares the time and allocated bytes of loading a save with the streaming JsonGameStateCodec and with the
+ * ObjectMapper the game used before.
+ */
+package technicalServices.persistence.codecs;
+
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.assertSameGameState;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.sampleGameState;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import domain.dto.GameStateDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+
+@Benchmark
+public class JsonGameStateCodecBenchmark {
+    private static final int OPERATIONS = 2_000;
+    private static final int ROUNDS = 5;
+
+    @Test
+    void benchmarkAgainstObjectMapper() throws IOException {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ObjectMapper objectMapper = JsonGameStateCodecTest.legacyObjectMapper();
+        JsonGameStateCodec codec = new JsonGameStateCodec();
+        byte[] save = codec.encode(sampleGameState(4));
+
+        long mapperTime = Long.MAX_VALUE;
+        long codecTime = Long.MAX_VALUE;
+        long mapperBytes = Long.MAX_VALUE;
+        long codecBytes = Long.MAX_VALUE;
+        for (int round = 0; round < ROUNDS; round++) {
+            long allocated = threads.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; i++) {
+                objectMapper.readValue(save, GameStateDto.class);
+            }
+            mapperTime = Math.min(mapperTime, System.nanoTime() - start);
+            mapperBytes = Math.min(mapperBytes, threads.getCurrentThreadAllocatedBytes() - allocated);
+
+            allocated = threads.getCurrentThreadAllocatedBytes();
+            start = System.nanoTime();
+            for (int i = 0; i < OPERATIONS; i++) {
+                codec.decode(save);
+            }
+            codecTime = Math.min(codecTime, System.nanoTime() - start);
+            codecBytes = Math.min(codecBytes, threads.getCurrentThreadAllocatedBytes() - allocated);
+        }
+        assertSameGameState(objectMapper.readValue(save, GameStateDto.class), codec.decode(save));
+
+        BenchmarkReport.print("ObjectMapper load:       %.1f us/op, %d bytes allocated/op",
+                BenchmarkReport.microsPer(mapperTime, OPERATIONS), mapperBytes / OPERATIONS);
+        BenchmarkReport.print("JsonGameStateCodec load: %.1f us/op, %d bytes allocated/op",
+                BenchmarkReport.microsPer(codecTime, OPERATIONS), codecBytes / OPERATIONS);
+    }
+}
@@ -0,0 +1,77 @@
+package technicalServices.persistence.codecs;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.assertSameGameState;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.sampleGameState;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import domain.dto.CollectedEnchantmentDto;
+import domain.dto.GameStateDto;
+import domain.gameObjects.Rune;
+import domain.serializers.*;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Point;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+public class JsonGameStateCodecTest {
+
+    // configured the way FileAdapter used to write saves
+    static ObjectMapper legacyObjectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Point.class, new PointSerializer());
+        module.addDeserializer(Point.class, new PointDeserializer());
+        module.addSerializer(Rune.class, new RuneSerializer());
+        module.addDeserializer(Rune.class, new RuneDeserializer());
+        module.addKeyDeserializer(Point.class, new PointKeyDeserializer());
+        module.addKeyDeserializer(CollectedEnchantmentDto.class, new CollectedEnchantmentDtoKeyDeserializer());
+        module.addDeserializer(CollectedEnchantmentDto.class, new CollectedEnchantmentDtoDeserializer());
+        module.addSerializer(CollectedEnchantmentDto.class, new CollectedEnchantmentDtoSerializer());
+        objectMapper.registerModule(module);
+        return objectMapper;
+    }
+
+    @Test
+    void writesTheSameDocumentAsTheObjectMapper() throws IOException {
+        GameStateDto gameState = sampleGameState(1);
+        String expected = legacyObjectMapper().writeValueAsString(gameState);
+        String actual = new String(new JsonGameStateCodec().encode(gameState), StandardCharsets.UTF_8);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void readsSavesWrittenByTheObjectMapper() throws IOException {
+        GameStateDto gameState = sampleGameState(2);
+        byte[] legacySave = legacyObjectMapper().writeValueAsBytes(gameState);
+        assertSameGameState(gameState, new JsonGameStateCodec().decode(legacySave));
+    }
+
+    @Test
+    void objectMapperReadsCodecOutput() throws IOException {
+        GameStateDto gameState = sampleGameState(3);
+        byte[] save = new JsonGameStateCodec().encode(gameState);
+        assertSameGameState(gameState, legacyObjectMapper().readValue(save, GameStateDto.class));
+    }
+
+    @Test
+    void emptyParts() throws IOException {
+        JsonGameStateCodec codec = new JsonGameStateCodec();
+        GameStateDto loaded = codec.decode(codec.encode(new GameStateDto()));
+        assertNull(loaded.getHallGameObjects());
+        assertNull(loaded.getHallRunes());
+        assertNull(loaded.getPlayerEnchantments());
+        assertNull(loaded.getSaveDate());
+        assertNull(loaded.getHallType());
+    }
+
+    @Test
+    void invalidSavesAreRejected() {
+        JsonGameStateCodec codec = new JsonGameStateCodec();
+        assertThrows(IOException.class, () -> codec.decode("{\"hallType\":\"LAVA\"}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IOException.class, () -> codec.decode("{\"hallGameObjects\":{\"3,4\":null}}".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IOException.class, () -> codec.decode("[]".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Measures the size of a save and the time to write and read it for every compression and save format, with the
+ * hall a tenth, half and fully filled.
+ */
+package technicalServices.persistence.codecs;
+
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.assertSameGameState;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.dto.GameStateDto;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+@Benchmark
+public class SaveCompressorBenchmark {
+
+    @Test
+    void sizeAndLatencyPerCodec() throws IOException {
+        BinaryGameStateCodec binary = new BinaryGameStateCodec();
+        JsonGameStateCodec json = new JsonGameStateCodec();
+        int rounds = 300;
+        for (double filled : new double[]{0.1, 0.5, 1.0}) {
+            GameStateDto dto = SaveCompressorTest.gameStateWithObjects(filled, 7);
+            for (Constants.SaveCompression compression : Constants.SaveCompression.values()) {
+                SaveCompressor compressor = new SaveCompressor(compression);
+                for (String format : new String[]{"json", "binary"}) {
+                    byte[] stored = null;
+                    long start = System.nanoTime();
+                    for (int i = 0; i < rounds; i++) {
+                        ByteArrayOutputStream out = new ByteArrayOutputStream();
+                        compressor.write(out, raw -> {
+                            if (format.equals("json")) {
+                                json.encode(dto, raw);
+                            } else {
+                                binary.encode(dto, raw);
+                            }
+                        });
+                        stored = out.toByteArray();
+                    }
+                    long writeNanos = System.nanoTime() - start;
+
+                    GameStateDto read = null;
+                    start = System.nanoTime();
+                    for (int i = 0; i < rounds; i++) {
+                        try (InputStream in = SaveCompressor.open(new ByteArrayInputStream(stored))) {
+                            read = format.equals("json") ? json.decode(in) : binary.decode(in);
+                        }
+                    }
+                    long readNanos = System.nanoTime() - start;
+                    assertSameGameState(dto, read);
+
+                    BenchmarkReport.print("%3.0f%% filled, %-6s %-7s: %6d bytes, write %7.1f us, read %7.1f us",
+                            filled * 100, format, compression, stored.length,
+                            BenchmarkReport.microsPer(writeNanos, rounds), BenchmarkReport.microsPer(readNanos, rounds));
+                }
+            }
+        }
+    }
+}
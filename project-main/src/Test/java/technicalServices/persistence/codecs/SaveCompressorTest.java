@@ -0,0 +1,116 @@
+package technicalServices.persistence.codecs;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.assertSameGameState;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.sampleGameState;
+
+import domain.dto.GameObjectDto;
+import domain.dto.GameStateDto;
+import domain.serializers.GameStateSerializer;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import technicalServices.persistence.adapters.BinaryFileAdapter;
+import technicalServices.persistence.adapters.DatabaseAdapter;
+import technicalServices.persistence.adapters.FileAdapter;
+import technicalServices.persistence.adapters.SaveGameAdapter;
+import technicalServices.persistence.adapters.SlotStoreAdapter;
+
+import java.awt.Point;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Random;
+
+public class SaveCompressorTest {
+
+    private static SaveGameAdapter adapter(Constants.SaveFormat format, Path directory, SaveCompressor compressor) {
+        GameStateSerializer serializer = new GameStateSerializer();
+        return switch (format) {
+            case JSON -> new FileAdapter(serializer, directory.toString(), compressor);
+            case BINARY -> new BinaryFileAdapter(serializer, directory.toString(), compressor);
+            case SLOTS -> new SlotStoreAdapter(serializer, directory.toString(), compressor);
+            case DATABASE -> new DatabaseAdapter(serializer, directory.toString(), compressor);
+        };
+    }
+
+    // a sample game whose hall has the given share of its inner cells filled
+    static GameStateDto gameStateWithObjects(double filled, long seed) {
+        GameStateDto dto = sampleGameState(seed);
+        Random random = new Random(seed);
+        Constants.GameObjectsInHall[] types = Constants.GameObjectsInHall.values();
+        HashMap<Point, GameObjectDto> objects = new HashMap<>(dto.getHallGameObjects());
+        for (int r = 1; r < 15; r++) {
+            for (int c = 1; c < 15; c++) {
+                if (random.nextDouble() < filled) {
+                    GameObjectDto object = new GameObjectDto();
+                    object.setX(c);
+                    object.setY(r);
+                    object.setType(types[random.nextInt(types.length - 1)]);
+                    objects.put(new Point(c, r), object);
+                } else {
+                    objects.remove(new Point(c, r));
+                }
+            }
+        }
+        dto.setHallGameObjects(objects);
+        return dto;
+    }
+
+    @TempDir
+    Path saveDirectory;
+
+    @Test
+    void everyFormatIsReadBackWithEveryCompression() throws IOException {
+        for (Constants.SaveFormat format : Constants.SaveFormat.values()) {
+            for (Constants.SaveCompression compression : Constants.SaveCompression.values()) {
+                Path directory = saveDirectory.resolve(format + "-" + compression);
+                SaveGameAdapter adapter = adapter(format, directory, new SaveCompressor(compression));
+                GameStateDto saved = sampleGameState(format.ordinal() * 10L + compression.ordinal());
+
+                adapter.writeGameStateDto("game", saved);
+
+                assertSameGameState(saved, adapter.readGameStateDto("game"));
+            }
+        }
+    }
+
+    @Test
+    void uncompressedSavesStillLoad() throws IOException {
+        adapter(Constants.SaveFormat.JSON, saveDirectory, SaveCompressor.NONE).writeGameStateDto("old", sampleGameState(1));
+        SaveGameAdapter compressing = adapter(Constants.SaveFormat.JSON, saveDirectory,
+                new SaveCompressor(Constants.SaveCompression.DEFLATE));
+
+        assertSameGameState(sampleGameState(1), compressing.readGameStateDto("old"));
+    }
+
+    @Test
+    void compressedSaveIsSmallerAndStartsWithTheMagic() throws IOException {
+        adapter(Constants.SaveFormat.JSON, saveDirectory.resolve("plain"), SaveCompressor.NONE)
+                .writeGameStateDto("game", sampleGameState(2));
+        adapter(Constants.SaveFormat.JSON, saveDirectory.resolve("deflate"), new SaveCompressor(Constants.SaveCompression.DEFLATE))
+                .writeGameStateDto("game", sampleGameState(2));
+
+        byte[] plain = Files.readAllBytes(saveDirectory.resolve("plain").resolve("game" + FileAdapter.FILE_EXTENSION));
+        byte[] compressed = Files.readAllBytes(saveDirectory.resolve("deflate").resolve("game" + FileAdapter.FILE_EXTENSION));
+        assertTrue(compressed.length < plain.length / 3);
+        assertEquals('R', compressed[0]);
+        assertEquals('Z', compressed[3]);
+    }
+
+    @Test
+    void unknownMethodIsRejected() {
+        byte[] stored = {'R', 'K', 'C', 'Z', 9, 1, 2, 3};
+
+        assertThrows(IOException.class, () -> SaveCompressor.open(new ByteArrayInputStream(stored)));
+    }
+
+    @Test
+    void shortSaveIsReadAsItIs() throws IOException {
+        byte[] stored = {'R', 'K'};
+
+        assertArrayEquals(stored, SaveCompressor.decompress(stored));
+    }
+}
@@ -0,0 +1,56 @@
+/**
+ * Compares fetching a page of one hall's saves from the embedded database and from sorting the manifest, for every
+ * sort order.
+ */
+package technicalServices.persistence.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.serializers.GameStateSerializer;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import technicalServices.persistence.adapters.BinaryFileAdapter;
+import technicalServices.persistence.adapters.DatabaseAdapter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Benchmark
+public class SaveDatabaseBenchmark {
+
+    @TempDir
+    Path saveDirectory;
+
+    @Test
+    void indexedPageAgainstSortingTheManifest() throws IOException {
+        int saves = 500;
+        int rounds = 200;
+        BinaryFileAdapter files = new BinaryFileAdapter(new GameStateSerializer(), saveDirectory.resolve("files").toString());
+        DatabaseAdapter database = new DatabaseAdapter(new GameStateSerializer(), saveDirectory.resolve("database").toString());
+        SaveDatabaseTest.fill(files, saves);
+        SaveDatabaseTest.fill(database, saves);
+
+        for (Constants.SaveSortOrder order : Constants.SaveSortOrder.values()) {
+            long start = System.nanoTime();
+            for (int round = 0; round < rounds; round++) {
+                files.querySavedGameSummaries(Constants.HallType.FIRE, order, 10, 10);
+            }
+            long fileNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (int round = 0; round < rounds; round++) {
+                database.querySavedGameSummaries(Constants.HallType.FIRE, order, 10, 10);
+            }
+            long databaseNanos = System.nanoTime() - start;
+            assertEquals(SaveDatabaseTest.names(files.querySavedGameSummaries(Constants.HallType.FIRE, order, 10, 10)),
+                    SaveDatabaseTest.names(database.querySavedGameSummaries(Constants.HallType.FIRE, order, 10, 10)));
+
+            BenchmarkReport.print("second page of %d saves, one hall, %-12s: manifest %8.1f us, database %6.1f us",
+                    saves, order, BenchmarkReport.microsPer(fileNanos, rounds), BenchmarkReport.microsPer(databaseNanos, rounds));
+        }
+        database.getDatabase().close();
+    }
+}
@@ -0,0 +1,168 @@
+package technicalServices.persistence.database;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.assertSameGameState;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.sampleGameState;
+
+import domain.dto.GameStateDto;
+import domain.dto.SavedGameSummaryDto;
+import domain.serializers.GameStateSerializer;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import technicalServices.persistence.adapters.BinaryFileAdapter;
+import technicalServices.persistence.adapters.DatabaseAdapter;
+import technicalServices.persistence.adapters.SaveGameAdapter;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+
+public class SaveDatabaseTest {
+
+    // a sample game in the given hall, saved at the given minute with the given lives
+    private static GameStateDto gameState(Constants.HallType hallType, int minute, int lives) {
+        GameStateDto dto = sampleGameState(minute);
+        dto.setHallType(hallType);
+        dto.setSaveDate(new Date(1_700_000_000_000L + minute * 60_000L));
+        dto.setPlayerLifeCount(lives);
+        return dto;
+    }
+
+    static void fill(SaveGameAdapter adapter, int saves) throws IOException {
+        Constants.HallType[] halls = Constants.HallType.values();
+        for (int i = 0; i < saves; i++) {
+            // a few saves share a minute so the name has to break the tie
+            adapter.writeGameStateDto("game" + i, gameState(halls[i % halls.length], i / 3, i % 4));
+        }
+    }
+
+    static List<String> names(List<SavedGameSummaryDto> summaries) {
+        return summaries.stream().map(SavedGameSummaryDto::getName).toList();
+    }
+
+    @TempDir
+    Path saveDirectory;
+
+    @Test
+    void savedGameIsReadBackWithItsColumns() throws IOException {
+        DatabaseAdapter adapter = new DatabaseAdapter(new GameStateSerializer(), saveDirectory.toString());
+        GameStateDto saved = gameState(Constants.HallType.WATER, 5, 3);
+
+        adapter.writeGameStateDto("first", saved);
+
+        assertSameGameState(saved, adapter.readGameStateDto("first"));
+        SavedGameSummaryDto summary = adapter.listSavedGameSummaries().get(0);
+        assertEquals("first", summary.getName());
+        assertEquals(Constants.HallType.WATER, summary.getHallType());
+        assertEquals(saved.getSaveDate(), summary.getSaveDate());
+        assertEquals(3, summary.getPlayerLifeCount());
+        assertEquals(256, summary.getThumbnail().length());
+        adapter.getDatabase().close();
+    }
+
+    @Test
+    void latestSavesOfOneHallAreListedNewestFirst() throws IOException {
+        DatabaseAdapter adapter = new DatabaseAdapter(new GameStateSerializer(), saveDirectory.toString());
+        adapter.writeGameStateDto("old fire", gameState(Constants.HallType.FIRE, 1, 3));
+        adapter.writeGameStateDto("water", gameState(Constants.HallType.WATER, 9, 3));
+        adapter.writeGameStateDto("new fire", gameState(Constants.HallType.FIRE, 5, 3));
+        adapter.writeGameStateDto("middle fire", gameState(Constants.HallType.FIRE, 3, 3));
+
+        SaveDatabase database = adapter.getDatabase();
+        assertEquals(List.of("new fire", "middle fire"), names(database.latestSaves(Constants.HallType.FIRE, 2)));
+        assertEquals(3, database.count(Constants.HallType.FIRE));
+        assertEquals(0, database.count(Constants.HallType.AIR));
+        database.close();
+    }
+
+    @Test
+    void pagesMatchSortingTheWholeList() throws IOException {
+        DatabaseAdapter database = new DatabaseAdapter(new GameStateSerializer(), saveDirectory.resolve("database").toString());
+        BinaryFileAdapter files = new BinaryFileAdapter(new GameStateSerializer(), saveDirectory.resolve("files").toString());
+        fill(database, 40);
+        fill(files, 40);
+        database.deleteSavedGame("game7");
+        files.deleteSavedGame("game7");
+
+        for (Constants.SaveSortOrder order : Constants.SaveSortOrder.values()) {
+            for (Constants.HallType hallType : new Constants.HallType[]{null, Constants.HallType.EARTH, Constants.HallType.FIRE}) {
+                assertEquals(files.countSavedGames(hallType), database.countSavedGames(hallType));
+                for (int offset = 0; offset < 40; offset += 6) {
+                    assertEquals(names(files.querySavedGameSummaries(hallType, order, offset, 6)),
+                            names(database.querySavedGameSummaries(hallType, order, offset, 6)),
+                            order + " " + hallType + " from " + offset);
+                }
+            }
+        }
+        database.getDatabase().close();
+    }
+
+    @Test
+    void savesSurviveReopening() throws IOException {
+        DatabaseAdapter adapter = new DatabaseAdapter(new GameStateSerializer(), saveDirectory.toString());
+        adapter.writeGameStateDto("first", gameState(Constants.HallType.EARTH, 1, 1));
+        adapter.writeGameStateDto("second", gameState(Constants.HallType.AIR, 2, 2));
+        adapter.writeGameStateDto("first", gameState(Constants.HallType.FIRE, 3, 3));
+        adapter.writeGameStateDto("third", gameState(Constants.HallType.AIR, 4, 4));
+        adapter.deleteSavedGame("third");
+        adapter.getDatabase().close();
+
+        DatabaseAdapter reopened = new DatabaseAdapter(new GameStateSerializer(), saveDirectory.toString());
+
+        assertEquals(List.of("first", "second"), reopened.listSavedGames());
+        assertSameGameState(gameState(Constants.HallType.FIRE, 3, 3), reopened.readGameStateDto("first"));
+        assertEquals(List.of("first"), names(reopened.querySavedGameSummaries(Constants.HallType.FIRE,
+                Constants.SaveSortOrder.NEWEST_FIRST, 0, 10)));
+        assertEquals(0, reopened.countSavedGames(Constants.HallType.EARTH));
+        reopened.getDatabase().close();
+    }
+
+    @Test
+    void tornRowIsCutOff() throws IOException {
+        DatabaseAdapter adapter = new DatabaseAdapter(new GameStateSerializer(), saveDirectory.toString());
+        adapter.writeGameStateDto("kept", gameState(Constants.HallType.EARTH, 1, 3));
+        long size = adapter.getDatabase().getFileSize();
+        adapter.getDatabase().close();
+        // a row that was being written when the game crashed, its length promises more than the file holds
+        try (RandomAccessFile file = new RandomAccessFile(saveDirectory.resolve(DatabaseAdapter.DATABASE_FILE_NAME).toFile(), "rw")) {
+            file.seek(size);
+            file.writeInt(5000);
+            file.write(new byte[100]);
+        }
+
+        DatabaseAdapter reopened = new DatabaseAdapter(new GameStateSerializer(), saveDirectory.toString());
+
+        assertEquals(List.of("kept"), reopened.listSavedGames());
+        assertEquals(size, Files.size(saveDirectory.resolve(DatabaseAdapter.DATABASE_FILE_NAME)));
+        reopened.writeGameStateDto("after", gameState(Constants.HallType.FIRE, 2, 3));
+        assertSameGameState(gameState(Constants.HallType.FIRE, 2, 3), reopened.readGameStateDto("after"));
+        reopened.getDatabase().close();
+    }
+
+    @Test
+    void garbageIsCompactedOnItsOwn() throws IOException {
+        DatabaseAdapter adapter = new DatabaseAdapter(new GameStateSerializer(), saveDirectory.toString());
+        for (int i = 0; i < 1000; i++) {
+            adapter.writeGameStateDto("autosave", gameState(Constants.HallType.WATER, i, 3));
+        }
+
+        assertTrue(adapter.getDatabase().getFileSize() < 128 * 1024);
+        assertSameGameState(gameState(Constants.HallType.WATER, 999, 3), adapter.readGameStateDto("autosave"));
+        assertEquals(1, adapter.countSavedGames(null));
+        adapter.getDatabase().close();
+    }
+
+    @Test
+    void invalidNamesAndQueriesAreRejected() throws IOException {
+        DatabaseAdapter adapter = new DatabaseAdapter(new GameStateSerializer(), saveDirectory.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> adapter.writeGameStateDto("x".repeat(256), sampleGameState(1)));
+        assertThrows(IllegalArgumentException.class, () -> adapter.querySavedGameSummaries(null, Constants.SaveSortOrder.NAME, -1, 10));
+        assertThrows(IOException.class, () -> adapter.readGameStateDto("missing"));
+        adapter.getDatabase().close();
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Compares journaling a player move, flushing a group of records and writing a full save.
+ */
+package technicalServices.persistence.journal;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.dto.GameStateDto;
+import domain.gameObjects.*;
+import domain.serializers.GameStateSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import technicalServices.persistence.adapters.FileAdapter;
+
+import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Benchmark
+public class HallJournalBenchmark {
+
+    @TempDir
+    Path journalDirectory;
+
+    @Test
+    void journalingAMoveCostsLessThanSavingTheGame() throws IOException {
+        HallJournal journal = new HallJournal(journalDirectory.toString());
+        Player player = new Player(5, 5);
+        Hall hall = HallJournalTest.sampleHall(player);
+        journal.attach(hall, player, () -> HallJournalTest.snapshotOf(hall, player, 60), () -> 60);
+        journal.flush();
+        int moves = 200_000;
+
+        long start = System.nanoTime();
+        for (int i = 0; i < moves; i++) {
+            HallJournalTest.step(hall, player, new Point(5 + i % 2, 5));
+        }
+        long appendNanos = System.nanoTime() - start;
+
+        int flushes = 50;
+        start = System.nanoTime();
+        for (int i = 0; i < flushes; i++) {
+            HallJournalTest.step(hall, player, new Point(5 + i % 2, 6));
+            journal.flush();
+        }
+        long flushNanos = System.nanoTime() - start;
+        journal.close();
+        HallJournalTest.assertRecovered(journalDirectory, hall, player, 60);
+
+        FileAdapter adapter = new FileAdapter(new GameStateSerializer(), journalDirectory.resolve("saves").toString());
+        GameStateDto snapshot = HallJournalTest.snapshotOf(hall, player, 60);
+        int saves = 50;
+        start = System.nanoTime();
+        for (int i = 0; i < saves; i++) {
+            adapter.writeGameStateDto("full", snapshot);
+        }
+        long saveNanos = System.nanoTime() - start;
+
+        BenchmarkReport.print("journal: append %.3f us per move (including the hall update), group flush %.1f us, full save %.1f us",
+                BenchmarkReport.microsPer(appendNanos, moves), BenchmarkReport.microsPer(flushNanos, flushes), BenchmarkReport.microsPer(saveNanos, saves));
+    }
+}
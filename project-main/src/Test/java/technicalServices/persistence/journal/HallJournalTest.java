@@ -0,0 +1,191 @@
+package technicalServices.persistence.journal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.assertSameGameState;
+
+import domain.dto.GameObjectDto;
+import domain.dto.GameStateDto;
+import domain.gameObjects.*;
+import domain.serializers.GameStateSerializer;
+import domain.utilities.Constants;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import technicalServices.persistence.adapters.FileAdapter;
+
+import java.awt.*;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class HallJournalTest {
+
+    // builds the hall the tests play in, walls around and a few objects inside
+    static Hall sampleHall(Player player) {
+        Hall hall = new Hall("Hall of Earth", player, 60, Constants.HallType.EARTH);
+        for (int i = 0; i < 16; i++) {
+            hall.addObject(new Wall(i, 0));
+            hall.addObject(new Wall(i, 15));
+            if (i > 0 && i < 15) {
+                hall.addObject(new Wall(0, i));
+                hall.addObject(new Wall(15, i));
+            }
+        }
+        hall.addObject(new Chest(3, 3));
+        hall.addObject(new Block(7, 9));
+        hall.addObject(new Rune(3, 3, Constants.HallType.EARTH));
+        return hall;
+    }
+
+    // moves the player the way PlayerController does
+    static void step(Hall hall, Player player, Point target) {
+        Point current = new Point(player.getPosition());
+        player.setPosition(target);
+        hall.moveObject(current, target);
+    }
+
+    // the same transfer form GameStateSerializer builds from a running game
+    static GameStateDto snapshotOf(Hall hall, Player player, int timeRemaining) {
+        GameStateDto dto = new GameStateDto();
+        dto.setPlayerPositionx(player.getPosition().x);
+        dto.setPlayerPositiony(player.getPosition().y);
+        dto.setPlayerLifeCount(player.getLifeCount());
+        HashMap<Constants.GameObjectsInHall, Integer> enchantments = new HashMap<>();
+        player.getEnchantments().forEach((enchantment, count) -> enchantments.merge(enchantment.getType(), count, Integer::sum));
+        dto.setPlayerEnchantments(enchantments);
+        HashMap<Point, GameObjectDto> objects = new HashMap<>();
+        hall.getGameObjects().forEach((point, object) -> {
+            GameObjectDto objectDto = new GameObjectDto();
+            objectDto.setX(object.getPosition().x);
+            objectDto.setY(object.getPosition().y);
+            objectDto.setType(object.getType());
+            objects.put(point, objectDto);
+        });
+        dto.setHallGameObjects(objects);
+        dto.setHallRunes(new HashMap<>(hall.getRuneObjects()));
+        dto.setHallType(hall.getHallType());
+        dto.setHallTimeRemaining(timeRemaining);
+        return dto;
+    }
+
+    static void assertRecovered(Path directory, Hall hall, Player player, int timeRemaining) throws IOException {
+        GameStateDto recovered = HallJournal.recover(directory);
+        GameStateDto expected = snapshotOf(hall, player, timeRemaining);
+        expected.setSaveDate(recovered.getSaveDate());
+        assertSameGameState(expected, recovered);
+    }
+
+    @TempDir
+    Path journalDirectory;
+
+    private HallJournal journal;
+
+    @AfterEach
+    void closeJournal() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Test
+    void replayedJournalMatchesTheHall() throws IOException {
+        journal = new HallJournal(journalDirectory.toString());
+        Player player = new Player(5, 5);
+        Hall hall = sampleHall(player);
+        AtomicInteger time = new AtomicInteger(60);
+        journal.attach(hall, player, () -> snapshotOf(hall, player, time.get()), time::get);
+        journal.flush();
+
+        FighterMonster fighter = new FighterMonster(8, 8);
+        hall.addObject(fighter);
+        hall.moveObject(fighter, new Point(8, 9));
+        hall.removeObject(new Point(7, 9));
+        step(hall, player, new Point(6, 5));
+        hall.teleportRune();
+        player.setLifeCount(2);
+        player.collectEnchantment(new CloakEnchantment(1, 1));
+        player.collectEnchantment(new CloakEnchantment(2, 2));
+        player.collectEnchantment(new RevealEnchantment(3, 3));
+        time.set(41);
+        journal.flush();
+
+        assertRecovered(journalDirectory, hall, player, 41);
+    }
+
+    @Test
+    void tornGroupAtTheEndIsIgnored() throws IOException {
+        journal = new HallJournal(journalDirectory.toString());
+        Player player = new Player(5, 5);
+        Hall hall = sampleHall(player);
+        journal.attach(hall, player, () -> snapshotOf(hall, player, 60), () -> 60);
+        step(hall, player, new Point(5, 6));
+        journal.flush();
+
+        // a crash in the middle of a write leaves a group that is shorter than its length says
+        Files.write(journalDirectory.resolve(HallJournal.JOURNAL_FILE), new byte[]{0, 0, 0, 9, 1, 2, 3, 4, 1, 0},
+                StandardOpenOption.APPEND);
+
+        assertRecovered(journalDirectory, hall, player, 60);
+    }
+
+    @Test
+    void compactionKeepsTheState() throws IOException {
+        journal = new HallJournal(journalDirectory.toString());
+        Player player = new Player(5, 5);
+        Hall hall = sampleHall(player);
+        journal.attach(hall, player, () -> snapshotOf(hall, player, 60), () -> 60);
+        journal.flush();
+        for (int i = 0; i < 30_000; i++) {
+            step(hall, player, new Point(5 + i % 2, 5));
+        }
+        journal.flush();
+        long sizeBeforeCompaction = Files.size(journalDirectory.resolve(HallJournal.JOURNAL_FILE));
+        hall.removeObject(new Point(3, 3));
+        journal.flush();
+
+        assertTrue(Files.size(journalDirectory.resolve(HallJournal.JOURNAL_FILE)) < sizeBeforeCompaction);
+        assertRecovered(journalDirectory, hall, player, 60);
+    }
+
+    @Test
+    void crashedGameIsRecoveredAsASave() throws IOException {
+        journal = new HallJournal(journalDirectory.toString());
+        Player player = new Player(5, 5);
+        Hall hall = sampleHall(player);
+        journal.attach(hall, player, () -> snapshotOf(hall, player, 60), () -> 60);
+        step(hall, player, new Point(4, 5));
+        journal.flush();
+        journal.close();
+
+        HallJournal restarted = new HallJournal(journalDirectory.toString());
+        FileAdapter adapter = new FileAdapter(new GameStateSerializer(), journalDirectory.resolve("saves").toString());
+        String gameName = restarted.recoverCrashedGame(adapter);
+        restarted.close();
+
+        assertNotNull(gameName);
+        assertTrue(gameName.startsWith(HallJournal.RECOVERED_GAME_PREFIX));
+        assertEquals(4, adapter.readGameStateDto(gameName).getPlayerPositionx());
+        assertFalse(Files.exists(journalDirectory.resolve(HallJournal.JOURNAL_FILE)));
+        assertFalse(Files.exists(journalDirectory.resolve(HallJournal.SNAPSHOT_FILE)));
+    }
+
+    @Test
+    void endedGameLeavesNothingToRecover() throws IOException {
+        journal = new HallJournal(journalDirectory.toString());
+        Player player = new Player(5, 5);
+        Hall hall = sampleHall(player);
+        journal.attach(hall, player, () -> snapshotOf(hall, player, 60), () -> 60);
+        journal.flush();
+        journal.detach();
+
+        step(hall, player, new Point(4, 5));
+        journal.flush();
+
+        assertFalse(Files.exists(journalDirectory.resolve(HallJournal.SNAPSHOT_FILE)));
+        assertNull(journal.recoverCrashedGame(new FileAdapter(new GameStateSerializer(),
+                journalDirectory.resolve("saves").toString())));
+    }
+}
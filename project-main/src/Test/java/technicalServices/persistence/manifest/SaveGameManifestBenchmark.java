@@ -0,0 +1,53 @@
+/**
+ * Compares listing saves from the manifest with reading every save, the way the saved games screen listed them
+ * before.
+ */
+package technicalServices.persistence.manifest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.sampleGameState;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.dto.SavedGameSummaryDto;
+import domain.serializers.GameStateSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import technicalServices.persistence.adapters.FileAdapter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Benchmark
+public class SaveGameManifestBenchmark {
+    private static final int SAVES = 300;
+
+    @TempDir
+    Path saveDirectory;
+
+    @Test
+    void benchmarkAgainstReadingEverySave() throws IOException {
+        FileAdapter adapter = new FileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        for (int i = 0; i < SAVES; i++) {
+            adapter.writeGameStateDto("save" + i, sampleGameState(i));
+        }
+
+        long start = System.nanoTime();
+        for (String gameName : adapter.listSavedGames()) {
+            adapter.readGameStateDto(gameName);
+        }
+        long readAllTime = System.nanoTime() - start;
+
+        AtomicInteger reads = new AtomicInteger();
+        start = System.nanoTime();
+        List<SavedGameSummaryDto> summaries = SaveGameManifestTest.countingManifest(saveDirectory, adapter, reads).list();
+        long manifestTime = System.nanoTime() - start;
+        assertEquals(SAVES, summaries.size());
+        assertEquals(0, reads.get());
+
+        BenchmarkReport.print("Reading %d saves:       %.1f ms", SAVES, readAllTime / 1_000_000.0);
+        BenchmarkReport.print("Listing from manifest: %.1f ms", manifestTime / 1_000_000.0);
+    }
+}
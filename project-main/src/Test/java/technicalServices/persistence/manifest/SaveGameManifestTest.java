@@ -0,0 +1,104 @@
+package technicalServices.persistence.manifest;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.sampleGameState;
+
+import domain.dto.GameStateDto;
+import domain.dto.SavedGameSummaryDto;
+import domain.serializers.GameStateSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import technicalServices.persistence.adapters.FileAdapter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SaveGameManifestTest {
+
+    private static Path manifestFile(Path saveDirectory) {
+        return saveDirectory.resolve(SaveGameManifest.MANIFEST_PREFIX + FileAdapter.FILE_EXTENSION + SaveGameManifest.MANIFEST_SUFFIX);
+    }
+
+    // counts how often the manifest has to fall back to reading a save
+    static SaveGameManifest countingManifest(Path saveDirectory, FileAdapter adapter, AtomicInteger reads) {
+        return new SaveGameManifest(saveDirectory.toString(), FileAdapter.FILE_EXTENSION, gameName -> {
+            reads.incrementAndGet();
+            return adapter.readGameStateDto(gameName);
+        });
+    }
+
+    @TempDir
+    Path saveDirectory;
+
+    @Test
+    void savesAreListedWithoutReadingThem() throws IOException {
+        FileAdapter adapter = new FileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        GameStateDto older = sampleGameState(1);
+        older.setSaveDate(new Date(1_000L));
+        GameStateDto newer = sampleGameState(2);
+        newer.setSaveDate(new Date(2_000L));
+        adapter.writeGameStateDto("older", older);
+        adapter.writeGameStateDto("newer", newer);
+
+        AtomicInteger reads = new AtomicInteger();
+        List<SavedGameSummaryDto> summaries = countingManifest(saveDirectory, adapter, reads).list();
+        assertEquals(0, reads.get());
+        assertEquals(2, summaries.size());
+        assertEquals("newer", summaries.get(0).getName());
+        assertEquals(newer.getHallType(), summaries.get(0).getHallType());
+        assertEquals(newer.getPlayerLifeCount(), summaries.get(0).getPlayerLifeCount());
+        assertEquals(SaveGameManifest.HALL_SIZE * SaveGameManifest.HALL_SIZE, summaries.get(0).getThumbnail().length());
+        assertEquals(SaveGameManifest.PLAYER_CELL,
+                summaries.get(0).getThumbnail().charAt(newer.getPlayerPositiony() * SaveGameManifest.HALL_SIZE + newer.getPlayerPositionx()));
+    }
+
+    @Test
+    void deletedSavesAreRemoved() throws IOException {
+        FileAdapter adapter = new FileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        adapter.writeGameStateDto("run", sampleGameState(1));
+        adapter.deleteSavedGame("run");
+        assertTrue(adapter.listSavedGameSummaries().isEmpty());
+    }
+
+    @Test
+    void missingOrBrokenManifestIsRebuilt() throws IOException {
+        FileAdapter adapter = new FileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        adapter.writeGameStateDto("run", sampleGameState(1));
+        Files.writeString(manifestFile(saveDirectory), "{ not json");
+
+        AtomicInteger reads = new AtomicInteger();
+        SaveGameManifest manifest = countingManifest(saveDirectory, adapter, reads);
+        assertEquals(1, manifest.list().size());
+        assertEquals(1, reads.get());
+
+        Files.delete(manifestFile(saveDirectory));
+        manifest = countingManifest(saveDirectory, adapter, reads);
+        assertEquals("run", manifest.list().get(0).getName());
+        assertEquals(2, reads.get());
+        // the rebuilt manifest is written, so the next listing reads nothing
+        countingManifest(saveDirectory, adapter, reads).list();
+        assertEquals(2, reads.get());
+    }
+
+    @Test
+    void savesChangedOutsideTheAdapterAreIndexedAgain() throws IOException {
+        FileAdapter adapter = new FileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        adapter.writeGameStateDto("run", sampleGameState(1));
+        FileAdapter otherAdapter = new FileAdapter(new GameStateSerializer(), saveDirectory.resolve("other").toString());
+        GameStateDto replaced = sampleGameState(5);
+        replaced.setPlayerLifeCount(1);
+        otherAdapter.writeGameStateDto("run", replaced);
+        Files.copy(saveDirectory.resolve("other").resolve("run" + FileAdapter.FILE_EXTENSION),
+                saveDirectory.resolve("run" + FileAdapter.FILE_EXTENSION), java.nio.file.StandardCopyOption.REPLACE_EXISTING);
+        saveDirectory.resolve("run" + FileAdapter.FILE_EXTENSION).toFile().setLastModified(System.currentTimeMillis() + 5_000L);
+
+        AtomicInteger reads = new AtomicInteger();
+        List<SavedGameSummaryDto> summaries = countingManifest(saveDirectory, adapter, reads).list();
+        assertEquals(1, reads.get());
+        assertEquals(1, summaries.get(0).getPlayerLifeCount());
+    }
+}
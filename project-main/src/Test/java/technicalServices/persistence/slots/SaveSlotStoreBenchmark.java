@@ -0,0 +1,62 @@
+/**
+ * Compares listing and loading every save from one file per save and from the slot file.
+ */
+package technicalServices.persistence.slots;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.assertSameGameState;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.sampleGameState;
+
+import benchmark.Benchmark;
+import benchmark.BenchmarkReport;
+import domain.serializers.GameStateSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import technicalServices.persistence.adapters.BinaryFileAdapter;
+import technicalServices.persistence.adapters.SlotStoreAdapter;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashSet;
+
+@Benchmark
+public class SaveSlotStoreBenchmark {
+
+    @TempDir
+    Path saveDirectory;
+
+    @Test
+    void slotFileAgainstOneFilePerSave() throws IOException {
+        int saves = 100;
+        int rounds = 20;
+        BinaryFileAdapter files = new BinaryFileAdapter(new GameStateSerializer(), saveDirectory.resolve("files").toString());
+        SlotStoreAdapter slots = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.resolve("slots").toString());
+        for (int i = 0; i < saves; i++) {
+            files.writeGameStateDto("game" + i, sampleGameState(i));
+            slots.writeGameStateDto("game" + i, sampleGameState(i));
+        }
+
+        long start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (String gameName : files.listSavedGames()) {
+                files.readGameStateDto(gameName);
+            }
+        }
+        long fileNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (String gameName : slots.listSavedGames()) {
+                slots.readGameStateDto(gameName);
+            }
+        }
+        long slotNanos = System.nanoTime() - start;
+        assertEquals(new HashSet<>(files.listSavedGames()), new HashSet<>(slots.listSavedGames()));
+        assertEquals(saves, slots.listSavedGames().size());
+        assertSameGameState(files.readGameStateDto("game" + (saves - 1)), slots.readGameStateDto("game" + (saves - 1)));
+        slots.getStore().close();
+
+        BenchmarkReport.print("list and load %d saves: one file per save %.2f ms, slot file %.2f ms",
+                saves, fileNanos / 1_000_000.0 / rounds, slotNanos / 1_000_000.0 / rounds);
+    }
+}
@@ -0,0 +1,167 @@
+package technicalServices.persistence.slots;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.assertSameGameState;
+import static technicalServices.persistence.adapters.BinaryFileAdapterTest.sampleGameState;
+
+import domain.dto.GameStateDto;
+import domain.serializers.GameStateSerializer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import technicalServices.persistence.AtomicFiles;
+import technicalServices.persistence.adapters.FileAdapter;
+import technicalServices.persistence.adapters.SlotStoreAdapter;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class SaveSlotStoreTest {
+
+    @TempDir
+    Path saveDirectory;
+
+    @Test
+    void savedGameIsReadBackUnchanged() throws IOException {
+        SlotStoreAdapter adapter = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+        GameStateDto saved = sampleGameState(1);
+
+        adapter.writeGameStateDto("first", saved);
+
+        assertSameGameState(saved, adapter.readGameStateDto("first"));
+        assertEquals(List.of("first"), adapter.listSavedGames());
+        adapter.getStore().close();
+    }
+
+    @Test
+    void savesSurviveReopening() throws IOException {
+        SlotStoreAdapter adapter = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+        adapter.writeGameStateDto("first", sampleGameState(1));
+        adapter.writeGameStateDto("second", sampleGameState(2));
+        adapter.writeGameStateDto("first", sampleGameState(3));
+        adapter.getStore().close();
+
+        SlotStoreAdapter reopened = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+
+        assertSameGameState(sampleGameState(3), reopened.readGameStateDto("first"));
+        assertSameGameState(sampleGameState(2), reopened.readGameStateDto("second"));
+        reopened.getStore().close();
+    }
+
+    @Test
+    void adaptersOfTheSameDirectoryShareTheStore() throws IOException {
+        SlotStoreAdapter writer = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+        SlotStoreAdapter reader = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+
+        writer.writeGameStateDto("shared", sampleGameState(4));
+
+        assertSameGameState(sampleGameState(4), reader.readGameStateDto("shared"));
+        writer.getStore().close();
+    }
+
+    @Test
+    void deletedAndOverwrittenRecordsAreCompactedAway() throws IOException {
+        SlotStoreAdapter adapter = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+        SaveSlotStore store = adapter.getStore();
+        for (int i = 0; i < 100; i++) {
+            adapter.writeGameStateDto("game" + (i % 10), sampleGameState(i));
+        }
+        for (int i = 0; i < 5; i++) {
+            adapter.deleteSavedGame("game" + i);
+        }
+        store.compact();
+
+        assertEquals(0, store.getGarbageBytes());
+        assertEquals(SaveSlotStore.DATA_START + store.getLiveBytes(), store.getFileSize());
+        assertEquals(5, adapter.listSavedGames().size());
+        assertSameGameState(sampleGameState(99), adapter.readGameStateDto("game9"));
+        assertFalse(Files.exists(saveDirectory.resolve(SlotStoreAdapter.SLOT_FILE_NAME + AtomicFiles.TEMPORARY_SUFFIX)));
+        store.close();
+    }
+
+    @Test
+    void failedCompactionDoesNotFailTheSave() throws IOException {
+        SlotStoreAdapter adapter = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+        // a directory where the compacted file would be written makes every compaction fail
+        Path blocked = Files.createDirectory(saveDirectory.resolve(SlotStoreAdapter.SLOT_FILE_NAME + AtomicFiles.TEMPORARY_SUFFIX));
+        Files.createFile(blocked.resolve("keep"));
+        for (int i = 0; i < 200; i++) {
+            adapter.writeGameStateDto("autosave", sampleGameState(i));
+        }
+
+        assertTrue(adapter.getStore().getGarbageBytes() > adapter.getStore().getLiveBytes());
+        assertSameGameState(sampleGameState(199), adapter.readGameStateDto("autosave"));
+        adapter.getStore().close();
+    }
+
+    @Test
+    void garbageIsCompactedOnItsOwn() throws IOException {
+        SlotStoreAdapter adapter = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+        for (int i = 0; i < 1000; i++) {
+            adapter.writeGameStateDto("autosave", sampleGameState(i));
+        }
+
+        assertTrue(adapter.getStore().getFileSize() < SaveSlotStore.DATA_START + 128 * 1024);
+        assertSameGameState(sampleGameState(999), adapter.readGameStateDto("autosave"));
+        adapter.getStore().close();
+    }
+
+    @Test
+    void corruptedEntryIsIgnored() throws IOException {
+        SlotStoreAdapter adapter = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+        adapter.writeGameStateDto("kept", sampleGameState(1));
+        adapter.writeGameStateDto("broken", sampleGameState(2));
+        adapter.getStore().close();
+        // the second entry's record offset is changed without fixing its checksum
+        try (RandomAccessFile file = new RandomAccessFile(saveDirectory.resolve(SlotStoreAdapter.SLOT_FILE_NAME).toFile(), "rw")) {
+            file.seek(32 + 80 + 64 + 7);
+            file.write(0x7F);
+        }
+
+        SlotStoreAdapter reopened = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+
+        assertEquals(List.of("kept"), reopened.listSavedGames());
+        reopened.getStore().close();
+    }
+
+    @Test
+    void invalidNamesAndMissingSavesAreRejected() throws IOException {
+        SlotStoreAdapter adapter = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+
+        assertThrows(IllegalArgumentException.class, () -> adapter.writeGameStateDto("x".repeat(63), sampleGameState(1)));
+        assertThrows(IOException.class, () -> adapter.readGameStateDto("missing"));
+        adapter.getStore().close();
+    }
+
+    @Test
+    void jsonSavesAreImported() throws IOException {
+        FileAdapter jsonAdapter = new FileAdapter(new GameStateSerializer(), saveDirectory.toString());
+        jsonAdapter.writeGameStateDto("old", sampleGameState(5));
+        SlotStoreAdapter adapter = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+
+        assertEquals(1, adapter.importSavedGames(jsonAdapter));
+        assertEquals(0, adapter.importSavedGames(jsonAdapter));
+        assertSameGameState(sampleGameState(5), adapter.readGameStateDto("old"));
+        assertTrue(Files.exists(saveDirectory.resolve("old" + FileAdapter.FILE_EXTENSION)));
+        adapter.getStore().close();
+    }
+
+    @Test
+    void importThatDoesNotFitImportsNothing() throws IOException {
+        FileAdapter jsonAdapter = new FileAdapter(new GameStateSerializer(), saveDirectory.resolve("json").toString());
+        for (int i = 0; i < 10; i++) {
+            jsonAdapter.writeGameStateDto("old" + i, sampleGameState(i));
+        }
+        SlotStoreAdapter adapter = new SlotStoreAdapter(new GameStateSerializer(), saveDirectory.toString());
+        for (int i = 0; i < SaveSlotStore.MAX_SLOTS - 5; i++) {
+            adapter.getStore().put("slot" + i, new byte[]{1});
+        }
+
+        assertEquals(0, adapter.importSavedGames(jsonAdapter));
+        assertEquals(5, adapter.getStore().getFreeSlotCount());
+        assertFalse(adapter.listSavedGames().contains("old0"));
+        adapter.getStore().close();
+    }
+}
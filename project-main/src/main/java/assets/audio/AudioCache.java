@@ -0,0 +1,230 @@
+/**
+ * Decodes every sound of the game once and plays it from a small pool of reusable clips.
+ *
+ * Each sound file is read and decoded to PCM a single time. Its clips are opened from the decoded bytes, so playing a
+ * sound never touches the disk, and a clip that has finished is rewound and started again instead of opening a new
+ * line. The number of sounds playing at the same time is capped; when the cap is reached the new sound is skipped,
+ * and when every clip of a sound is busy the clip that started first is restarted. A clip that cannot be opened only
+ * skips that one sound; the next time the sound is played, opening it is tried again. A sound file that cannot be
+ * decoded is remembered as such and skipped from then on, so a missing or broken file is not read again on every play.
+ */
+package assets.audio;
+
+import technicalServices.logging.GameLogger;
+
+import javax.sound.sampled.*;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AudioCache {
+    private static final GameLogger LOGGER = GameLogger.getLogger(AudioCache.class);
+    // how many copies of one sound can overlap, e.g. fast clicks on the grid
+    public static final int CLIPS_PER_SOUND = 3;
+    // how many sounds of any kind can play at once
+    public static final int MAX_VOICES = 8;
+
+    private static final AudioCache instance = new AudioCache();
+
+    private final Map<String, ClipPool> pools = new ConcurrentHashMap<>();
+    // stored in pools for a sound that cannot be decoded, it has no clips
+    private final ClipPool undecodable = new ClipPool("undecodable sound", null);
+
+    private AudioCache() {
+    }
+
+    public static AudioCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Decodes the given sounds so the first time they are played needs no disk access.
+     *
+     * @param soundFilePaths the paths of the .wav files
+     */
+    public void preload(String... soundFilePaths) {
+        int decoded = 0;
+        for (String path : soundFilePaths) {
+            if (getPool(path) != null) {
+                decoded++;
+            }
+        }
+        int count = decoded;
+        LOGGER.info(() -> count + " sounds decoded. [from class: AudioCache, method: preload]");
+    }
+
+    /**
+     * Plays the sound stored at the given path, decoding it first if it was not preloaded.
+     *
+     * @param soundFilePath the path of the .wav file
+     */
+    public synchronized void play(String soundFilePath) {
+        ClipPool pool = getPool(soundFilePath);
+        if (pool == null) {
+            return;
+        }
+        if (getActiveVoices() >= MAX_VOICES) {
+            LOGGER.debug(() -> "Voice limit reached, skipping " + soundFilePath + " [from class: AudioCache, method: play]");
+            return;
+        }
+        pool.play();
+    }
+
+    /**
+     * Counts the clips that are playing right now.
+     *
+     * @return the number of busy voices
+     */
+    public synchronized int getActiveVoices() {
+        int active = 0;
+        for (ClipPool pool : pools.values()) {
+            active += pool.countRunning();
+        }
+        return active;
+    }
+
+    /**
+     * Stops and closes every clip. The decoded sounds are kept, so clips are opened again when needed.
+     */
+    public synchronized void close() {
+        for (ClipPool pool : pools.values()) {
+            pool.close();
+        }
+    }
+
+    private ClipPool getPool(String soundFilePath) {
+        ClipPool pool = pools.get(soundFilePath);
+        if (pool == null) {
+            DecodedSound sound = decode(soundFilePath);
+            pool = pools.computeIfAbsent(soundFilePath, path -> sound == null ? undecodable : new ClipPool(path, sound));
+        }
+        return pool == undecodable ? null : pool;
+    }
+
+    private static DecodedSound decode(String soundFilePath) {
+        try (AudioInputStream source = AudioSystem.getAudioInputStream(new File(soundFilePath))) {
+            AudioFormat format = source.getFormat();
+            AudioInputStream pcm = source;
+            // clips only take PCM, other encodings are converted once here
+            if (format.getEncoding() != AudioFormat.Encoding.PCM_SIGNED && format.getEncoding() != AudioFormat.Encoding.PCM_UNSIGNED) {
+                format = new AudioFormat(AudioFormat.Encoding.PCM_SIGNED, format.getSampleRate(), 16,
+                        format.getChannels(), format.getChannels() * 2, format.getSampleRate(), false);
+                pcm = AudioSystem.getAudioInputStream(format, source);
+            }
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            int read;
+            while ((read = pcm.read(chunk)) != -1) {
+                bytes.write(chunk, 0, read);
+            }
+            byte[] data = bytes.toByteArray();
+            // a clip only accepts whole frames
+            int length = data.length - data.length % format.getFrameSize();
+            return new DecodedSound(format, data, length);
+        } catch (UnsupportedAudioFileException | IOException e) {
+            LOGGER.error("Sound could not be decoded: " + soundFilePath + " " + e.getMessage() + " [from class: AudioCache, method: decode]");
+            return null;
+        }
+    }
+
+    private static class DecodedSound {
+        private final AudioFormat format;
+        private final byte[] data;
+        private final int length;
+
+        private DecodedSound(AudioFormat format, byte[] data, int length) {
+            this.format = format;
+            this.data = data;
+            this.length = length;
+        }
+    }
+
+    private class ClipPool {
+        private final String path;
+        private final DecodedSound sound;
+        private final List<Clip> clips = new ArrayList<>(CLIPS_PER_SOUND);
+        // index of the clip started longest ago, restarted when every clip is busy
+        private int oldest = 0;
+        // set once a failure to open a clip is logged as an error, later ones are only logged at debug level until a
+        // clip opens again
+        private boolean failureReported = false;
+
+        private ClipPool(String path, DecodedSound sound) {
+            this.path = path;
+            this.sound = sound;
+        }
+
+        // clips are started in turn, so the next one to reuse is always the one that started first
+        private void play() {
+            Clip clip = null;
+            for (int i = 0; i < clips.size(); i++) {
+                int index = (oldest + i) % clips.size();
+                if (!clips.get(index).isRunning()) {
+                    clip = clips.get(index);
+                    oldest = (index + 1) % clips.size();
+                    break;
+                }
+            }
+            if (clip == null && clips.size() < CLIPS_PER_SOUND) {
+                clip = openClip();
+                if (clip == null) {
+                    return;
+                }
+                clips.add(clip);
+                oldest = 0;
+            }
+            if (clip == null) {
+                clip = clips.get(oldest);
+                oldest = (oldest + 1) % clips.size();
+            }
+            clip.stop();
+            clip.setFramePosition(0);
+            clip.start();
+        }
+
+        private int countRunning() {
+            int running = 0;
+            for (Clip clip : clips) {
+                if (clip.isRunning()) {
+                    running++;
+                }
+            }
+            return running;
+        }
+
+        // a line can be busy only for a moment, so a failure skips this sound and the next play tries again
+        private Clip openClip() {
+            Clip clip = null;
+            try {
+                clip = AudioSystem.getClip();
+                clip.open(sound.format, sound.data, 0, sound.length);
+                failureReported = false;
+                return clip;
+            } catch (LineUnavailableException | IllegalArgumentException e) {
+                if (clip != null) {
+                    clip.close();
+                }
+                if (!failureReported) {
+                    failureReported = true;
+                    LOGGER.error("No audio line available, skipping " + path + ": " + e.getMessage() + " [from class: AudioCache, method: openClip]");
+                } else {
+                    LOGGER.debug(() -> "No audio line available, skipping " + path + " [from class: AudioCache, method: openClip]");
+                }
+                return null;
+            }
+        }
+
+        private void close() {
+            for (Clip clip : clips) {
+                clip.close();
+            }
+            clips.clear();
+            oldest = 0;
+            LOGGER.debug(() -> "Clips closed for " + path + " [from class: AudioCache, method: close]");
+        }
+    }
+}
@@ -1,14 +1,20 @@
 /**
  * The SoundProcessor class is responsible for handling audio playback for a specified sound file.
+ * The sound is decoded once by the AudioCache and played from its pool of reusable clips.
  */
 package assets.audio;
 
-import javax.sound.sampled.*;
-import java.io.File;
-import java.io.IOException;
-
 
 public class SoundProcessor {
+    public static final String DOOR_OPENING = "src/main/java/assets/audio/doorOpening.wav";
+    public static final String GAME_OVER = "src/main/java/assets/audio/game-over.wav";
+    public static final String DAMAGE_TAKEN = "src/main/java/assets/audio/undertale-damage-taken.wav";
+    public static final String SAVE = "src/main/java/assets/audio/undertale-save.wav";
+    public static final String SELECT = "src/main/java/assets/audio/undertale-select.wav";
+    public static final String YOU_WIN = "src/main/java/assets/audio/undertale-sound-effect-you-win.wav";
+    // every sound the game plays, decoded at startup
+    public static final String[] ALL_SOUNDS = {DOOR_OPENING, GAME_OVER, DAMAGE_TAKEN, SAVE, SELECT, YOU_WIN};
+
     private String soundFilePath;
 
     public SoundProcessor(String soundFilePath) {
@@ -16,15 +22,13 @@ public class SoundProcessor {
     }
 
     public void playSound() {
-        try {
-            File soundFile = new File(soundFilePath);
-            AudioInputStream audioIn = AudioSystem.getAudioInputStream(soundFile);
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioIn);
-            clip.start();
-        } catch (UnsupportedAudioFileException | IOException | LineUnavailableException e) {
-            e.printStackTrace();
-        
-        }
+        AudioCache.getInstance().play(soundFilePath);
+    }
+
+    /**
+     * Decodes all game sounds so no sound is read from disk while playing.
+     */
+    public static void preloadSounds() {
+        AudioCache.getInstance().preload(ALL_SOUNDS);
     }
-}
\ No newline at end of file
+}
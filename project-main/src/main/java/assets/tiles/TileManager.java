@@ -21,8 +21,10 @@ import org.w3c.dom.Element;
 import org.w3c.dom.Document;
 import org.w3c.dom.NodeList;
 import java.awt.Graphics2D;
+import technicalServices.logging.GameLogger;
 
 public class TileManager {
+    private static final GameLogger LOGGER = GameLogger.getLogger(TileManager.class);
       
     public ArrayList<TileMap> tilemap;
 
@@ -86,11 +88,9 @@ public class TileManager {
             File file = new File(getClass().getClassLoader().getResource(path).toURI());
             parseXMLWithDOM(file);
         } catch (URISyntaxException e) {
-            System.out.println("TILEMANAGER Error: Invalid URI for tilemap path");
-            e.printStackTrace();
+            LOGGER.error("TILEMANAGER Error: Invalid URI for tilemap path", e);
         } catch (ParserConfigurationException | SAXException | IOException e) {
-            System.out.println("TILEMANAGER Error: Cannot parse tilemap XML");
-            e.printStackTrace();
+            LOGGER.error("TILEMANAGER Error: Cannot parse tilemap XML", e);
         }
     }
 
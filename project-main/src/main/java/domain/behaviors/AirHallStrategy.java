@@ -11,8 +11,10 @@ import domain.gameObjects.Hall;
 import domain.gameObjects.Player;
 import domain.utilities.Constants;
 import ui.swing.AirHallScreen;
+import technicalServices.logging.GameLogger;
 
 public class AirHallStrategy implements HallStrategy{
+    private static final GameLogger LOGGER = GameLogger.getLogger(AirHallStrategy.class);
     Player player;
     /**
      * Creates an AirHallStrategy for the given player.
@@ -24,7 +26,7 @@ public class AirHallStrategy implements HallStrategy{
     }
     @Override
     public void setupHall(Hall hall) {
-        System.out.println("Setting up Air Hall.");
+        LOGGER.debug("Setting up Air Hall.");
     }
 
 
@@ -0,0 +1,219 @@
+/**
+ * The ArcherRangeService answers which archers of a hall can shoot the player.
+ *
+ * The cells within archer range of every cell are worked out once, as one bitmask per cell with a bit for each cell of
+ * the hall. The service keeps the mask of the cell the player stands in, swapped only when the player moves, and a
+ * bitset of the cells holding an archer, changed only when an archer is added or removed. Whether an archer can hit
+ * the player is then a single bit test, and which archers can hit the player is a bitwise AND of the two sets, no
+ * matter how many archers there are. The service hears about the changes as a HallMutationObserver.
+ *
+ * The range is 4 cells, counted as steps along rows and columns; it can be changed at startup with
+ * -Drokue.archerRange=6.
+ */
+package domain.behaviors;
+
+import domain.gameObjects.GameObject;
+import domain.gameObjects.GameObjectGrid;
+import domain.gameObjects.Hall;
+import domain.observers.HallMutationObserver;
+import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
+
+import java.awt.Point;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+public class ArcherRangeService implements HallMutationObserver {
+    private static final GameLogger LOGGER = GameLogger.getLogger(ArcherRangeService.class);
+    public static final String ARCHER_RANGE_PROPERTY = "rokue.archerRange";
+    public static final int DEFAULT_ARCHER_RANGE = 4;
+
+    // one service per hall, a hall that is no longer played is forgotten with its service
+    private static final Map<Hall, ArcherRangeService> services = new WeakHashMap<>();
+
+    private final int width;
+    private final int height;
+    private final int words;
+    private final int range;
+    // the cells within range of cell c are the bits of masks[c * words] to masks[c * words + words - 1]
+    private final long[] masks;
+    private final long[] archers;
+    private int playerCell = GameObjectGrid.NO_CELL;
+
+    /**
+     * Creates a service that is not attached to a hall, for a hall of the given size.
+     *
+     * @param width the number of columns of the hall
+     * @param height the number of rows of the hall
+     * @param range how many steps an arrow reaches
+     */
+    public ArcherRangeService(int width, int height, int range) {
+        if (width <= 0 || height <= 0 || range < 0) {
+            LOGGER.error("Invalid hall size " + width + "x" + height + " or range " + range + ". [from class: ArcherRangeService, method: ArcherRangeService]");
+            throw new IllegalArgumentException("Hall size must be positive and range cannot be negative.");
+        }
+        this.width = width;
+        this.height = height;
+        this.words = (width * height + 63) >>> 6;
+        this.range = range;
+        this.masks = new long[width * height * words];
+        this.archers = new long[words];
+        for (int cell = 0; cell < width * height; cell++) {
+            int col = cell % width;
+            int row = cell / width;
+            for (int r = Math.max(0, row - range); r <= Math.min(height - 1, row + range); r++) {
+                int reach = range - Math.abs(r - row);
+                for (int c = Math.max(0, col - reach); c <= Math.min(width - 1, col + reach); c++) {
+                    int inRange = r * width + c;
+                    masks[cell * words + (inRange >>> 6)] |= 1L << inRange;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the service of the given hall, creating it the first time with the range chosen at startup.
+     *
+     * @param hall the hall the archers are in
+     * @return the service shared by every archer of the hall
+     */
+    public static ArcherRangeService forHall(Hall hall) {
+        if (hall == null) {
+            LOGGER.error("Hall cannot be null. [from class: ArcherRangeService, method: forHall]");
+            throw new IllegalArgumentException("Hall cannot be null.");
+        }
+        synchronized (services) {
+            ArcherRangeService service = services.get(hall);
+            if (service == null) {
+                GameObjectGrid grid = hall.getGameObjectGrid();
+                service = new ArcherRangeService(grid.getWidth(), grid.getHeight(), readArcherRange());
+                // the hall is read and the observer added in one go, so no change falls in between
+                synchronized (hall) {
+                    service.readHall(hall);
+                    hall.addMutationObserver(service);
+                }
+                services.put(hall, service);
+            }
+            return service;
+        }
+    }
+
+    public static int readArcherRange() {
+        String range = System.getProperty(ARCHER_RANGE_PROPERTY);
+        if (range == null) {
+            return DEFAULT_ARCHER_RANGE;
+        }
+        try {
+            int parsed = Integer.parseInt(range.trim());
+            if (parsed >= 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below like a negative range
+        }
+        LOGGER.error("Unknown archer range " + range + ", using " + DEFAULT_ARCHER_RANGE + ". [from class: ArcherRangeService, method: readArcherRange]");
+        return DEFAULT_ARCHER_RANGE;
+    }
+
+    public int getRange() {
+        return range;
+    }
+
+    /**
+     * Checks whether an archer standing in the given cell can hit the player.
+     *
+     * @param archer the cell of the archer
+     * @return true if the player is within range of the cell
+     */
+    public synchronized boolean canHit(Point archer) {
+        if (playerCell == GameObjectGrid.NO_CELL || archer == null || archer.x < 0 || archer.y < 0 || archer.x >= width || archer.y >= height) {
+            return false;
+        }
+        int cell = archer.y * width + archer.x;
+        // range is symmetric, the archer is in range of the player exactly when the player is in range of the archer
+        return (masks[playerCell * words + (cell >>> 6)] & (1L << cell)) != 0;
+    }
+
+    /**
+     * Lists the archers that can hit the player.
+     *
+     * @return the cells of the archers within range of the player
+     */
+    public synchronized Point[] archersInRange() {
+        if (playerCell == GameObjectGrid.NO_CELL) {
+            return new Point[0];
+        }
+        int count = 0;
+        long[] hits = new long[words];
+        for (int word = 0; word < words; word++) {
+            hits[word] = masks[playerCell * words + word] & archers[word];
+            count += Long.bitCount(hits[word]);
+        }
+        Point[] cells = new Point[count];
+        int next = 0;
+        for (int word = 0; word < words; word++) {
+            for (long bits = hits[word]; bits != 0; bits &= bits - 1) {
+                int cell = (word << 6) + Long.numberOfTrailingZeros(bits);
+                cells[next++] = new Point(cell % width, cell / width);
+            }
+        }
+        return cells;
+    }
+
+    /**
+     * Moves the player without a hall telling the service, used when the service is not attached to a hall.
+     *
+     * @param player the cell of the player, or null if the player is not in the hall
+     */
+    public synchronized void setPlayerPosition(Point player) {
+        if (player == null || player.x < 0 || player.y < 0 || player.x >= width || player.y >= height) {
+            playerCell = GameObjectGrid.NO_CELL;
+        } else {
+            playerCell = player.y * width + player.x;
+        }
+    }
+
+    @Override
+    public synchronized void onObjectPlaced(int cell, Constants.GameObjectsInHall type) {
+        if (cell >= 0 && type == Constants.GameObjectsInHall.ARCHER) {
+            archers[cell >>> 6] |= 1L << cell;
+        }
+    }
+
+    @Override
+    public synchronized void onObjectRemoved(int cell) {
+        if (cell >= 0) {
+            archers[cell >>> 6] &= ~(1L << cell);
+        }
+    }
+
+    @Override
+    public synchronized void onPlayerMoved(int cell) {
+        playerCell = cell;
+    }
+
+    @Override
+    public void onRunePlaced(int cell, Constants.HallType hallType) {
+    }
+
+    @Override
+    public void onRuneRemoved(int cell) {
+    }
+
+    @Override
+    public synchronized void onHallCleared() {
+        Arrays.fill(archers, 0L);
+    }
+
+    private synchronized void readHall(Hall hall) {
+        GameObjectGrid grid = hall.getGameObjectGrid();
+        for (int cell = 0; cell < width * height; cell++) {
+            GameObject object = grid.get(cell);
+            if (object != null && object.getType() == Constants.GameObjectsInHall.ARCHER) {
+                archers[cell >>> 6] |= 1L << cell;
+            }
+        }
+        setPlayerPosition(hall.getPlayer() == null ? null : hall.getPlayer().getPosition());
+    }
+}
@@ -10,8 +10,11 @@ package domain.behaviors;
 
 import domain.gameObjects.Hall;
 import domain.gameObjects.WizardMonster;
+import domain.threads.GameThreadFactory;
+import technicalServices.logging.GameLogger;
 
 public class DoNothingStrategy implements WizardStrategy {
+    private static final GameLogger LOGGER = GameLogger.getLogger(DoNothingStrategy.class);
 
     private boolean isRunning = false;
     private Thread disappearanceThread;
@@ -29,7 +32,7 @@ public class DoNothingStrategy implements WizardStrategy {
         if (!isRunning) {
             isRunning = true;
 
-            disappearanceThread = new Thread(() -> {
+            disappearanceThread = GameThreadFactory.getInstance().newThread(() -> {
                 try {
                     Thread.sleep(2000);
                 } catch (InterruptedException e) {
@@ -39,7 +42,7 @@ public class DoNothingStrategy implements WizardStrategy {
                 hall.removeObject(monster.getPosition());
                 hall.removeMonster(monster);
                 hall.notifyListeners();
-                System.out.println("DoNothingStrategy executed (WizardMonster disappeared after 2s)");
+                LOGGER.debug("DoNothingStrategy executed (WizardMonster disappeared after 2s)");
             });
 
             disappearanceThread.start();
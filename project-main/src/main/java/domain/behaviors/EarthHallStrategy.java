@@ -10,8 +10,10 @@ package domain.behaviors;
 import domain.gameObjects.Hall;
 import domain.gameObjects.Player;
 import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
 
 public class EarthHallStrategy implements HallStrategy {
+    private static final GameLogger LOGGER = GameLogger.getLogger(EarthHallStrategy.class);
     Player player;
     /**
      * Creates an EarthHallStrategy for the given player.
@@ -23,7 +25,7 @@ public class EarthHallStrategy implements HallStrategy {
     }
     @Override
     public void setupHall(Hall hall) {
-        System.out.println("Setting up Earth Hall.");
+        LOGGER.debug("Setting up Earth Hall.");
         // Add earth-specific objects or configurations
     }
 
@@ -9,8 +9,10 @@ package domain.behaviors;
 import domain.gameObjects.Hall;
 import domain.gameObjects.Player;
 import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
 
 public class FireHallStrategy implements HallStrategy {
+    private static final GameLogger LOGGER = GameLogger.getLogger(FireHallStrategy.class);
     Player player;
     /**
      * Creates a FireHallStrategy for the given player.
@@ -22,7 +24,7 @@ public class FireHallStrategy implements HallStrategy {
     }
     @Override
     public void setupHall(Hall hall) {
-        System.out.println("Setting up Fire Hall.");
+        LOGGER.debug("Setting up Fire Hall.");
     }
 
     @Override
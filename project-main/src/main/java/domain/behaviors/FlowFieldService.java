@@ -0,0 +1,294 @@
+/**
+ * The FlowFieldService finds the way to a target cell for every monster of a hall at once.
+ *
+ * For a target, such as the active luring gem or the player, it fills in the walking distance from every cell to the
+ * target with a breadth-first search around walls, blocks, chests and enchantments. The result is a FlowField that all
+ * monsters heading for the same target share; a monster's step is then a look at its four neighbours for one that is
+ * closer. Monsters and the player are left out of the search because they move all the time, a monster standing in
+ * the way only blocks the step of the monster behind it. A field is computed again only when the target moves or an
+ * object other than a monster is added to or removed from the hall, which the service hears about as a
+ * HallMutationObserver.
+ */
+package domain.behaviors;
+
+import domain.gameObjects.GameObject;
+import domain.gameObjects.GameObjectGrid;
+import domain.gameObjects.Hall;
+import domain.observers.HallMutationObserver;
+import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
+
+import java.awt.Point;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class FlowFieldService implements HallMutationObserver {
+    private static final GameLogger LOGGER = GameLogger.getLogger(FlowFieldService.class);
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+    // a lure and the player are the only targets today, older fields are dropped beyond this
+    private static final int MAX_CACHED_FIELDS = 4;
+
+    // one service per hall, a hall that is no longer played is forgotten with its service
+    private static final Map<Hall, FlowFieldService> services = new WeakHashMap<>();
+
+    private final int width;
+    private final int height;
+    // cells the search cannot pass, guarded by its own lock; the service keeps no reference to its hall, so the weak
+    // map can forget both
+    private final boolean[] obstacles;
+    // counts the changes to the obstacles, a field computed before the last change is stale
+    private final AtomicLong obstacleVersion = new AtomicLong();
+    private final Map<Integer, FlowField> fields = new LinkedHashMap<>();
+
+    private FlowFieldService(Hall hall) {
+        GameObjectGrid grid = hall.getGameObjectGrid();
+        this.width = grid.getWidth();
+        this.height = grid.getHeight();
+        this.obstacles = new boolean[width * height];
+    }
+
+    /**
+     * Returns the service of the given hall, creating it the first time.
+     *
+     * @param hall the hall the monsters are in
+     * @return the service shared by every monster of the hall
+     */
+    public static FlowFieldService forHall(Hall hall) {
+        if (hall == null) {
+            LOGGER.error("Hall cannot be null. [from class: FlowFieldService, method: forHall]");
+            throw new IllegalArgumentException("Hall cannot be null.");
+        }
+        synchronized (services) {
+            FlowFieldService service = services.get(hall);
+            if (service == null) {
+                service = new FlowFieldService(hall);
+                // the obstacles are read and the observer added in one go, so no change falls in between
+                synchronized (hall) {
+                    service.readObstacles(hall);
+                    hall.addMutationObserver(service);
+                }
+                services.put(hall, service);
+            }
+            return service;
+        }
+    }
+
+    /**
+     * Returns the field leading to the given target, computing it only if the hall changed since it was last asked for.
+     *
+     * @param target the cell to walk to
+     * @return the field of distances to the target
+     */
+    public FlowField fieldTo(Point target) {
+        if (target == null || target.x < 0 || target.y < 0 || target.x >= width || target.y >= height) {
+            LOGGER.error("Target " + target + " is outside the hall. [from class: FlowFieldService, method: fieldTo]");
+            throw new IllegalArgumentException("Target is outside the hall.");
+        }
+        int targetCell = target.y * width + target.x;
+        synchronized (fields) {
+            FlowField field = fields.get(targetCell);
+            if (field != null && field.version == obstacleVersion.get()) {
+                return field;
+            }
+        }
+        FlowField field;
+        synchronized (obstacles) {
+            field = search(targetCell, obstacleVersion.get());
+        }
+        synchronized (fields) {
+            fields.remove(targetCell);
+            fields.put(targetCell, field);
+            if (fields.size() > MAX_CACHED_FIELDS) {
+                fields.remove(fields.keySet().iterator().next());
+            }
+        }
+        LOGGER.trace(() -> "Flow field to " + target + " computed. [from class: FlowFieldService, method: fieldTo]");
+        return field;
+    }
+
+    public long getObstacleVersion() {
+        return obstacleVersion.get();
+    }
+
+    @Override
+    public void onObjectPlaced(int cell, Constants.GameObjectsInHall type) {
+        synchronized (obstacles) {
+            if (cell >= 0 && !isMonster(type) && !obstacles[cell]) {
+                obstacles[cell] = true;
+                obstacleVersion.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public void onObjectRemoved(int cell) {
+        synchronized (obstacles) {
+            if (cell >= 0 && obstacles[cell]) {
+                obstacles[cell] = false;
+                obstacleVersion.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public void onPlayerMoved(int cell) {
+        // the player is left out of the search, a field to the player is asked for with its new cell
+    }
+
+    @Override
+    public void onRunePlaced(int cell, Constants.HallType hallType) {
+        // runes hide under objects that are obstacles already
+    }
+
+    @Override
+    public void onRuneRemoved(int cell) {
+    }
+
+    @Override
+    public void onHallCleared() {
+        synchronized (obstacles) {
+            Arrays.fill(obstacles, false);
+            obstacleVersion.incrementAndGet();
+        }
+    }
+
+    private void readObstacles(Hall hall) {
+        GameObjectGrid grid = hall.getGameObjectGrid();
+        synchronized (obstacles) {
+            for (int cell = 0; cell < obstacles.length; cell++) {
+                GameObject object = grid.get(cell);
+                obstacles[cell] = object != null && !isMonster(object.getType());
+            }
+            obstacleVersion.incrementAndGet();
+        }
+    }
+
+    private FlowField search(int targetCell, long version) {
+        int[] distances = new int[width * height];
+        Arrays.fill(distances, UNREACHABLE);
+        int[] queue = new int[width * height];
+        int head = 0;
+        int tail = 0;
+        // the target itself may hold an object, the lure can lie next to a wall or the player can stand anywhere
+        distances[targetCell] = 0;
+        queue[tail++] = targetCell;
+        while (head < tail) {
+            int cell = queue[head++];
+            int col = cell % width;
+            int row = cell / width;
+            int next = distances[cell] + 1;
+            if (col > 0) {
+                tail = visit(cell - 1, next, distances, queue, tail);
+            }
+            if (col < width - 1) {
+                tail = visit(cell + 1, next, distances, queue, tail);
+            }
+            if (row > 0) {
+                tail = visit(cell - width, next, distances, queue, tail);
+            }
+            if (row < height - 1) {
+                tail = visit(cell + width, next, distances, queue, tail);
+            }
+        }
+        return new FlowField(width, height, targetCell, distances, version);
+    }
+
+    private int visit(int cell, int distance, int[] distances, int[] queue, int tail) {
+        if (obstacles[cell] || distances[cell] != UNREACHABLE) {
+            return tail;
+        }
+        distances[cell] = distance;
+        queue[tail] = cell;
+        return tail + 1;
+    }
+
+    private static boolean isMonster(Constants.GameObjectsInHall type) {
+        return type == Constants.GameObjectsInHall.FIGHTER || type == Constants.GameObjectsInHall.ARCHER
+                || type == Constants.GameObjectsInHall.WIZARD;
+    }
+
+    /**
+     * The walking distance from every cell of a hall to one target cell. A field never changes once computed, so the
+     * monsters of a hall share it without locking.
+     */
+    public static final class FlowField {
+        private static final int[][] NEIGHBOURS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}};
+
+        private final int width;
+        private final int height;
+        private final int targetCell;
+        private final int[] distances;
+        private final long version;
+
+        private FlowField(int width, int height, int targetCell, int[] distances, long version) {
+            this.width = width;
+            this.height = height;
+            this.targetCell = targetCell;
+            this.distances = distances;
+            this.version = version;
+        }
+
+        public Point getTarget() {
+            return new Point(targetCell % width, targetCell / width);
+        }
+
+        /**
+         * Returns the number of steps from a cell to the target.
+         *
+         * @param position the cell to walk from
+         * @return the number of steps, or UNREACHABLE if the cell is outside the hall or walled off from the target
+         */
+        public int distanceFrom(Point position) {
+            if (position == null || position.x < 0 || position.y < 0 || position.x >= width || position.y >= height) {
+                return UNREACHABLE;
+            }
+            return distances[position.y * width + position.x];
+        }
+
+        /**
+         * Lists the neighbours of a cell that are one step closer to the target, whether or not they are empty now.
+         *
+         * @param current the cell the monster is in
+         * @return the closer neighbours, none if the monster is at the target or walled off
+         */
+        public List<Point> stepsCloser(Point current) {
+            int distance = distanceFrom(current);
+            List<Point> steps = new ArrayList<>(2);
+            if (distance == 0 || distance == UNREACHABLE) {
+                return steps;
+            }
+            for (int[] neighbour : NEIGHBOURS) {
+                Point move = new Point(current.x + neighbour[0], current.y + neighbour[1]);
+                if (distanceFrom(move) == distance - 1) {
+                    steps.add(move);
+                }
+            }
+            return steps;
+        }
+
+        /**
+         * Picks the next step from a cell towards the target: an empty neighbour one step closer to the target.
+         * When more than one neighbour is closer, one of them is picked at random.
+         *
+         * @param current the cell the monster is in
+         * @param hall the hall, asked which neighbours are empty right now
+         * @param random the random source that breaks ties
+         * @return the cell to step to, or null if the monster is at the target, walled off or every closer cell is taken
+         */
+        public Point nextStep(Point current, Hall hall, Random random) {
+            int distance = distanceFrom(current);
+            if (distance == 0 || distance == UNREACHABLE) {
+                return null;
+            }
+            Point chosen = null;
+            int candidates = 0;
+            for (int[] neighbour : NEIGHBOURS) {
+                Point move = new Point(current.x + neighbour[0], current.y + neighbour[1]);
+                if (distanceFrom(move) == distance - 1 && hall.isPositionEmpty(move) && random.nextInt(++candidates) == 0) {
+                    chosen = move;
+                }
+            }
+            return chosen;
+        }
+    }
+}
@@ -11,10 +11,13 @@ import domain.gameObjects.Hall;
 import domain.gameObjects.Player;
 import domain.gameObjects.WizardMonster;
 import domain.controllers.PlayerController;
+import domain.threads.GameThreadFactory;
+import technicalServices.logging.GameLogger;
 
 import java.awt.Point;
 
 public class MovePlayerStrategy implements WizardStrategy {
+    private static final GameLogger LOGGER = GameLogger.getLogger(MovePlayerStrategy.class);
     private boolean hasMovedPlayer = false;
     private Thread disappearanceThread;
     private PlayerController playerController;
@@ -39,7 +42,7 @@ public class MovePlayerStrategy implements WizardStrategy {
     public void execute(WizardMonster monster, Hall hall) {
         if (!monster.hasAlreadyMovedPlayer()) {
             monster.setHasMovedPlayer(true);
-            disappearanceThread = new Thread(() -> {
+            disappearanceThread = GameThreadFactory.getInstance().newThread(() -> {
                 try {
                     Thread.sleep(1000);
                 } catch (InterruptedException e) {
@@ -51,13 +54,13 @@ public class MovePlayerStrategy implements WizardStrategy {
                 Point currentPosition = player.getPosition();
                 if (randomEmptyLocation != null) {
                     player.setPosition(randomEmptyLocation);
-                    System.out.println("Player moved to a new location: " + randomEmptyLocation);
+                    LOGGER.debug(() -> "Player moved to a new location: " + randomEmptyLocation);
                 }
                 hall.removeMonster(monster);
                 hall.removeObject(monster.getPosition());
                 hall.moveObject(currentPosition, randomEmptyLocation);
                 hall.notifyListeners();
-                System.out.println("movePlayerStrategy is executed (WizardMonster disappeared)");
+                LOGGER.debug("movePlayerStrategy is executed (WizardMonster disappeared)");
             });
             disappearanceThread.start();
         }
@@ -10,8 +10,11 @@ package domain.behaviors;
 import domain.gameCore.GameState;
 import domain.gameObjects.Hall;
 import domain.gameObjects.WizardMonster;
+import domain.threads.GameThreadFactory;
+import technicalServices.logging.GameLogger;
 
 public class TeleportRuneStrategy implements WizardStrategy {
+    private static final GameLogger LOGGER = GameLogger.getLogger(TeleportRuneStrategy.class);
     private GameState model;
     private Thread teleportThread;
     private boolean isRunning = false;
@@ -36,7 +39,7 @@ public class TeleportRuneStrategy implements WizardStrategy {
     public void execute(WizardMonster monster, Hall hall) {
         if (!isRunning) {
             isRunning = true;
-            teleportThread = new Thread(() -> {
+            teleportThread = GameThreadFactory.getInstance().newThread(() -> {
                 while (!Thread.currentThread().isInterrupted()) {
                     try {
                         while (model.isPaused()) {
@@ -45,13 +48,13 @@ public class TeleportRuneStrategy implements WizardStrategy {
                         Thread.sleep(3000);
                         if (hall.getTimeRemaining() > 0) {
                             hall.teleportRune();
-                            System.out.println("WizardMonster teleported the rune.");
+                            LOGGER.debug("WizardMonster teleported the rune.");
                         } else {
-                            System.out.println("Time is over. Stopping behavior.");
+                            LOGGER.debug("Time is over. Stopping behavior.");
                             break;
                         }
                     } catch (InterruptedException e) {
-                        System.out.println("TeleportRuneBehavior interrupted.");
+                        LOGGER.debug("TeleportRuneBehavior interrupted.");
                         Thread.currentThread().interrupt();
                         break;
                     }
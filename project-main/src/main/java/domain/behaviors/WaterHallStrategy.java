@@ -10,8 +10,10 @@ package domain.behaviors;
 import domain.gameObjects.Hall;
 import domain.gameObjects.Player;
 import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
 
 public class WaterHallStrategy implements HallStrategy {
+    private static final GameLogger LOGGER = GameLogger.getLogger(WaterHallStrategy.class);
     Player player;
     /**
      * Creates a WaterHallStrategy for the given player.
@@ -23,7 +25,7 @@ public class WaterHallStrategy implements HallStrategy {
     }
     @Override
     public void setupHall(Hall hall) {
-        System.out.println("Setting up Water Hall.");
+        LOGGER.debug("Setting up Water Hall.");
     }
 
     @Override
@@ -3,7 +3,7 @@
  * of enchantments in the game.
  *
  * It interacts with the game state, hall, and enchantment factory to spawn new
- * enchantments at random positions and initiate their behavior using threads.
+ * enchantments at random positions and initiate their behavior on the game loop.
  *
  */
 package domain.controllers;
@@ -12,7 +12,7 @@ import domain.factories.EnchantmentFactory;
 import domain.gameCore.GameState;
 import domain.gameObjects.*;
 import domain.threads.EnchantmentThread;
-import technicalServices.logging.LogManager;
+import technicalServices.logging.GameLogger;
 
 import java.awt.Point;
 import java.util.concurrent.Executors;
@@ -20,6 +20,7 @@ import java.util.concurrent.TimeUnit;
 
 
 public class EnchantmentController {
+    private static final GameLogger LOGGER = GameLogger.getLogger(EnchantmentController.class);
 
     private Hall hall; // Hall where enchantments are stored and managed
     private EnchantmentFactory enchantmentFactory; // Factory to create enchantments
@@ -39,7 +40,7 @@ public class EnchantmentController {
     /**
      * Spawns a new enchantment at a random empty position in the hall.
      *
-     * The enchantment is added to the hall and managed as a game object. A thread is started to handle the behavior
+     * The enchantment is added to the hall and managed as a game object. Its lifecycle is registered with the game loop to handle the behavior
      * of the spawned enchantment.
      */
     public void spawnEnchantment() {
@@ -50,11 +51,8 @@ public class EnchantmentController {
         hall.addEnchantment(enchantment);
         hall.addObject(enchantment);
         hall.getGameObjects().put(position, enchantment);
-        System.out.println("Enchantment spawned at " + enchantment.getPosition() + " of type " + enchantment.getClass().getSimpleName());
-        LogManager.logInfo("Enchantment " + enchantment.getClass().getSimpleName() + " has been spawned at position " + position);
-        EnchantmentThread enchantmentThread = new EnchantmentThread(enchantment, model);
-        Thread thread = new Thread(enchantmentThread);
-        thread.start();
+        LOGGER.info(() -> "Enchantment " + enchantment.getClass().getSimpleName() + " has been spawned at position " + position);
+        model.activateEnchantment(new EnchantmentThread(enchantment, model));
     }
 
 
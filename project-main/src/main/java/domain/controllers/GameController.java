@@ -14,12 +14,15 @@ import domain.gameCore.GameSession;
 import domain.gameCore.GameState;
 import domain.gameObjects.*;
 import domain.observers.HealthObserver;
+import domain.observers.SaveObserver;
 import domain.threads.CustomTimer;
+import domain.threads.GameThreadFactory;
 import domain.threads.HallManager;
 import domain.utilities.*;
-import technicalServices.logging.LogManager;
 import ui.gameObjectImage.*;
 import ui.swing.*;
+import technicalServices.logging.GameLogger;
+import technicalServices.persistence.journal.HallJournal;
 
 import javax.swing.*;
 import java.awt.*;
@@ -29,9 +32,10 @@ import java.io.Serializable;
 import java.awt.image.BufferedImage;
 import java.util.Map;
 
-import java.util.ArrayList;
+import java.util.List;
 
 public class GameController implements Serializable {
+    private static final GameLogger LOGGER = GameLogger.getLogger(GameController.class);
     private GameState gameState;
     private GameView view;
     private GameWindow window;
@@ -58,8 +62,7 @@ public class GameController implements Serializable {
         this.playerController = new PlayerController(gameState);
         this.snapshot = null;
         this.healthHeartDisplay = new HealthHeartDisplay(player, this);
-        LogManager.logInfo("GameController initialized. [from class: GameController, method: GameController]");
-        System.out.println("GameController initialized.");
+        LOGGER.info("GameController initialized. [from class: GameController, method: GameController]");
     }
 
     public PlayerController getPlayerController() {
@@ -73,8 +76,7 @@ public class GameController implements Serializable {
     public GameController() {
         //set the gamestate to newly loaded one in the loaded game part
         this.playerController = new PlayerController(gameState);
-        LogManager.logInfo("GameController initialized with empty constructor. [from class: GameController, method: GameController]");
-        System.out.println("GameController initialized with empty constructor.");
+        LOGGER.info("GameController initialized with empty constructor. [from class: GameController, method: GameController]");
     }
     public HallManager getHallManager() {
         return this.hallManager;
@@ -106,8 +108,7 @@ public class GameController implements Serializable {
         playerController.setPaused(true);
         isPaused = true;
         gameState.freeze();
-        LogManager.logInfo("Game paused. [from class: GameController, method: pauseGame]");
-        System.out.println("Game paused.");
+        LOGGER.info("Game paused. [from class: GameController, method: pauseGame]");
         timerDisplay.stopTimer();
     }
     /**
@@ -117,8 +118,7 @@ public class GameController implements Serializable {
         playerController.setPaused(false);
         isPaused = false;
         gameState.unfreeze();
-        LogManager.logInfo("Game resumed. [from class: GameController, method: resumeGame]");
-        System.out.println("Game resumed.");
+        LOGGER.info("Game resumed. [from class: GameController, method: resumeGame]");
         timerDisplay.startTimer();
     }
     /**
@@ -129,8 +129,8 @@ public class GameController implements Serializable {
         isPaused = true;
         HallManager.stopAllThreads();
         gameState.freeze();
-        LogManager.logInfo("Game over. [from class: GameController, method: stopGame]");
-        System.out.println("Game over.");
+        detachJournal();
+        LOGGER.info("Game over. [from class: GameController, method: stopGame]");
         timerDisplay.stopTimer();
     }
     /**
@@ -140,11 +140,11 @@ public class GameController implements Serializable {
     public void successfulEnding() {
         isPaused = true;
         gameState.freeze();
-        LogManager.logInfo("Game successfully ended. [from class: GameController, method: successfulEnding]");
-        System.out.println("Game successfully ended.");
+        detachJournal();
+        LOGGER.info("Game successfully ended. [from class: GameController, method: successfulEnding]");
         timerDisplay.stopTimer();
 
-        SoundProcessor soundProcessor = new SoundProcessor("src/main/java/assets/audio/undertale-sound-effect-you-win.wav");
+        SoundProcessor soundProcessor = new SoundProcessor(SoundProcessor.YOU_WIN);
         soundProcessor.playSound();
         onGameSuccess(setSnapshot(snapshot));
     }
@@ -154,7 +154,7 @@ public class GameController implements Serializable {
     }
 
     public void notifyGameOver() {
-        LogManager.logInfo("Game over. [from class: GameController, method: notifyGameOver]");
+        LOGGER.info("Game over. [from class: GameController, method: notifyGameOver]");
         onGameOver(setSnapshot(snapshot));
     }
 
@@ -169,8 +169,7 @@ public class GameController implements Serializable {
      * where players can choose actions such as starting a new game or loading a saved game.
      */
     public void startGame() {
-        LogManager.logInfo("Game started. [from class: GameController, method: startGame]");
-        System.out.println("Game started.");
+        LOGGER.info("Game started. [from class: GameController, method: startGame]");
         switchToMainMenu();
     }
     /**
@@ -348,17 +347,9 @@ public class GameController implements Serializable {
      * @param hall the hall where the Rune will be placed
      */
     private void placeRuneRandomlyInHall(Hall hall) {
-        ArrayList<Point> objectLocations = new ArrayList<>();
+        Point randomLocation = hall.getRandomPositionOfType(Hall.RUNE_CONTAINERS);
 
-        for (Point point : hall.getGameObjects().keySet()) {
-            GameObject obj = hall.getGameObjects().get(point);
-            if (obj instanceof Chest || obj instanceof Wall || obj instanceof WallDifferent || obj instanceof Block) {
-                objectLocations.add(point);
-            }
-        }
-
-        if (!objectLocations.isEmpty()) {
-            Point randomLocation = objectLocations.get((int) (Math.random() * objectLocations.size()));
+        if (randomLocation != null) {
             int row = randomLocation.y;
             int col = randomLocation.x;
 
@@ -366,11 +357,9 @@ public class GameController implements Serializable {
             hall.addObject(rune);
             hall.getRuneObjects().put(randomLocation, rune);
 
-            LogManager.logInfo("Rune placed at " + row + "," + col + " [from class: GameController, method: placeRuneRandomlyInHall]");
-            System.out.println("Rune placed at " + row + "," + col);
+            LOGGER.info(() -> "Rune placed at " + row + "," + col + " [from class: GameController, method: placeRuneRandomlyInHall]");
         } else {
-            LogManager.logError("No valid locations to place the Rune. [from class: GameController, method: placeRuneRandomlyInHall]");
-            System.err.println("No valid locations to place the Rune.");
+            LOGGER.error("No valid locations to place the Rune. [from class: GameController, method: placeRuneRandomlyInHall]");
         }
     }
     /**
@@ -386,6 +375,7 @@ public class GameController implements Serializable {
         }
 
         HallManager.stopAllThreads();
+        detachJournal();
         MainMenuScreen mainMenu = new MainMenuScreen();
         mainMenu.initialize();
         mainMenu.getStartButton().addActionListener(e -> switchToEarthHallScreen());
@@ -405,17 +395,41 @@ public class GameController implements Serializable {
     public void switchToSavedGamesScreen() {
         // i will add 2 methods to gamestate
         //but gamestate will communicate with adapter interface
-        ArrayList<String> savedGames = gameState.loadSavedGames();
-        SavedGamesScreen savedGamesScreen = new SavedGamesScreen(savedGames);
+        SavedGamesScreen savedGamesScreen = new SavedGamesScreen(List.of());
         this.setView(savedGamesScreen);
         savedGamesScreen.initialize();
+        // only the shown page is asked for, the save database answers it from its indexes
+        int[] page = {0};
+        Runnable showPage = () -> {
+            Constants.HallType hallType = savedGamesScreen.getSelectedHallType();
+            int pageCount = (gameState.countSavedGames(hallType) + SavedGamesScreen.PAGE_SIZE - 1) / SavedGamesScreen.PAGE_SIZE;
+            page[0] = Math.max(0, Math.min(page[0], pageCount - 1));
+            savedGamesScreen.setPage(gameState.loadSavedGameSummaries(hallType, savedGamesScreen.getSelectedSortOrder(),
+                    page[0] * SavedGamesScreen.PAGE_SIZE, SavedGamesScreen.PAGE_SIZE), page[0], pageCount);
+            savedGamesScreen.render();
+        };
+        showPage.run();
+        savedGamesScreen.getHallFilter().addActionListener(e -> {
+            page[0] = 0;
+            showPage.run();
+        });
+        savedGamesScreen.getSortOrder().addActionListener(e -> {
+            page[0] = 0;
+            showPage.run();
+        });
+        savedGamesScreen.getPreviousPageButton().addActionListener(e -> {
+            page[0]--;
+            showPage.run();
+        });
+        savedGamesScreen.getNextPageButton().addActionListener(e -> {
+            page[0]++;
+            showPage.run();
+        });
         savedGamesScreen.getDeleteSelectedButton().addActionListener(e -> {
             String selectedGame = savedGamesScreen.getSelectedGame();
             if (selectedGame != null) {
                 deleteSavedGame(selectedGame);
-                ArrayList<String> updatedSavedGames = gameState.loadSavedGames();
-                savedGamesScreen.setSavedGames(updatedSavedGames);
-                savedGamesScreen.render();
+                showPage.run();
             } else {
                 JOptionPane.showMessageDialog(window, "Please select a game to delete.", "No Game Selected", JOptionPane.WARNING_MESSAGE);
             }
@@ -424,8 +438,20 @@ public class GameController implements Serializable {
             {
                 String selectedGame = savedGamesScreen.getSelectedGame();
                 if (selectedGame != null) {
-                    gameState.loadGame(selectedGame);
-                    switchToLoadedGame();
+                    // the save is decoded off the event thread, the loaded game is shown and started on it
+                    savedGamesScreen.getLoadButton().setEnabled(false);
+                    Thread.ofPlatform().name("save-loader").daemon().start(() -> {
+                        try {
+                            gameState.loadGame(selectedGame);
+                            SwingUtilities.invokeLater(this::switchToLoadedGame);
+                        } catch (RuntimeException error) {
+                            LOGGER.error("Game could not be loaded: " + error.getMessage() + " [from class: GameController, method: switchToSavedGamesScreen]");
+                            SwingUtilities.invokeLater(() -> {
+                                savedGamesScreen.getLoadButton().setEnabled(true);
+                                JOptionPane.showMessageDialog(window, "The game could not be loaded.", "Load Failed", JOptionPane.ERROR_MESSAGE);
+                            });
+                        }
+                    });
                 } else {
                     JOptionPane.showMessageDialog(window, "Please select a game to load.", "No Game Selected", JOptionPane.WARNING_MESSAGE);
                 }
@@ -455,8 +481,7 @@ public class GameController implements Serializable {
 
 
 
-        LogManager.logInfo("Switching to Build Mode. [from class: GameController, method: switchToBuildMode]");
-        System.out.println("Switching to Build Mode.");
+        LOGGER.info("Switching to Build Mode. [from class: GameController, method: switchToBuildMode]");
         if (view != null) {
             view.teardown();
         }
@@ -480,8 +505,7 @@ public class GameController implements Serializable {
                     String[][] placedObjects = buildMode.getPlacedObjects();
                     switchToPlayMode(placedObjects, hallStrategy);
                 } else {
-                    LogManager.logError("Object number validation failed. [from class: GameController, method: switchToBuildMode]");
-                    System.out.println("Object number validation failed.");
+                    LOGGER.error("Object number validation failed. [from class: GameController, method: switchToBuildMode]");
                     JOptionPane.showMessageDialog(buildMode.getPanel(),
                             "Object number validation failed! Please adjust your placement.");
 
@@ -508,8 +532,7 @@ public class GameController implements Serializable {
      * @param hallStrategy the strategy for the hall being played
      */
     public void switchToPlayMode(String[][] placedObjects, HallStrategy hallStrategy) {
-        LogManager.logInfo("Switching to Play Mode. [from class: GameController, method: switchToPlayMode]");
-        System.out.println("Switching to Play Mode.");
+        LOGGER.info("Switching to Play Mode. [from class: GameController, method: switchToPlayMode]");
         if (view != null) {
             view.teardown();
         }
@@ -557,8 +580,7 @@ public class GameController implements Serializable {
             @Override
             public void onTimeUp() {
                 pauseGame();
-                LogManager.logInfo("Time is over, so the game is over. [from class: GameController, method: switchToPlayMode]");
-                System.out.println("Time is over, so the game is over.");
+                LOGGER.info("Time is over, so the game is over. [from class: GameController, method: switchToPlayMode]");
                 onGameOver(setSnapshot(snapshot));
             }
         });
@@ -569,8 +591,8 @@ public class GameController implements Serializable {
         EnchantmentController enchantmentController = new EnchantmentController(gameState, EnchantmentFactory.getInstance());
         HallManager hallManager = new HallManager(gameState, monsterController, enchantmentController);
         this.hallManager = hallManager;
-        Thread hallManagerThread = new Thread(hallManager);
-        hallManagerThread.start();
+        GameThreadFactory.getInstance().startEntity(hallManager);
+        attachJournal();
     }
     /**
      * Switches the current game state to a loaded game.
@@ -579,12 +601,11 @@ public class GameController implements Serializable {
      * initializes the play mode, and sets up the user interface for the loaded game.
      *
      * The method ensures that the game controller is properly set within the game state
-     * after deserialization. It also starts the timer and hall manager threads, resuming
+     * after deserialization. It also starts the timer and the hall manager, resuming
      * the game from the saved state.
      */
     public void switchToLoadedGame() {
-        LogManager.logInfo("Switching to Loaded Game. [from class: GameController, method: switchToLoadedGame]");
-        System.out.println("Switching to Loaded Game.");
+        LOGGER.info("Switching to Loaded Game. [from class: GameController, method: switchToLoadedGame]");
 
         if (view != null) {
             view.teardown();
@@ -630,8 +651,7 @@ public class GameController implements Serializable {
             @Override
             public void onTimeUp() {
                 stopGame();
-                LogManager.logInfo("Time is over, so the game is over. [from class: GameController, method: switchToLoadedGame]");
-                System.out.println("Time is over, so the game is over.");
+                LOGGER.info("Time is over, so the game is over. [from class: GameController, method: switchToLoadedGame]");
                 onGameOver(setSnapshot(snapshot));
             }
         });
@@ -640,14 +660,34 @@ public class GameController implements Serializable {
 
         MonsterController monsterController = new MonsterController(gameState, MonsterFactory.getInstance());
         HallManager hallManager = new HallManager(gameState, monsterController, new EnchantmentController(gameState, EnchantmentFactory.getInstance()));
-        Thread hallManagerThread = new Thread(hallManager);
-        hallManagerThread.start();
+        GameThreadFactory.getInstance().startEntity(hallManager);
+        gameState.activateEntities();
+        attachJournal();
         this.resumeGame();
         SwingUtilities.invokeLater(() -> {
             JPanel playPanel = ((PlayMode) this.view).getPanel();
             playPanel.requestFocusInWindow();
         });
     }
+    /**
+     * Starts journaling the hall being played so it can be recovered if the game crashes.
+     */
+    private void attachJournal() {
+        HallJournal journal = HallJournal.getInstance();
+        if (journal != null) {
+            journal.attach(gameState);
+        }
+    }
+
+    /**
+     * Stops journaling and deletes the journal, the game being played ended normally.
+     */
+    private void detachJournal() {
+        HallJournal journal = HallJournal.getInstance();
+        if (journal != null) {
+            journal.detach();
+        }
+    }
     public void setTimerDisplay(TimerDisplay timerDisplay) {
         this.timerDisplay = timerDisplay;
     }
@@ -657,17 +697,33 @@ public class GameController implements Serializable {
     }
     /**
      * Saves the current game state with a specified name.
+     *
+     * The game is only paused while the name is asked for. The save itself is written in the background, so the
+     * game resumes at once and the sound is played when the file is written.
      */
     public void saveGameActionListener() {
+        boolean wasPaused = isPaused;
         this.pauseGame();
         String gameName = JOptionPane.showInputDialog(window, "Enter a name for your saved game:", "Save Game", JOptionPane.PLAIN_MESSAGE);
         if (gameName != null && !gameName.trim().isEmpty()) {
-            gameState.saveGame(gameName);
-            SoundProcessor soundProcessor = new SoundProcessor("src/main/java/assets/audio/undertale-save.wav");
-            soundProcessor.playSound();
+            gameState.saveGameAsync(gameName, new SaveObserver() {
+                @Override
+                public void onSaveCompleted(String savedGameName) {
+                    SwingUtilities.invokeLater(() -> new SoundProcessor(SoundProcessor.SAVE).playSound());
+                }
+
+                @Override
+                public void onSaveFailed(String savedGameName, Exception error) {
+                    SwingUtilities.invokeLater(() -> JOptionPane.showMessageDialog(window,
+                            "The game could not be saved: " + error.getMessage(), "Error", JOptionPane.ERROR_MESSAGE));
+                }
+            });
         } else {
             JOptionPane.showMessageDialog(window, "Game name cannot be empty.", "Error", JOptionPane.ERROR_MESSAGE);
         }
+        if (!wasPaused) {
+            this.resumeGame();
+        }
     }
     /**
      * Handles the successful ending of the game, plays a sound, and shows a success screen.
@@ -757,7 +813,7 @@ public class GameController implements Serializable {
     public void onGameOver(BufferedImage snapshot) {
         stopGame();
 
-        SoundProcessor soundProcessor = new SoundProcessor("src/main/java/assets/audio/game-over.wav");
+        SoundProcessor soundProcessor = new SoundProcessor(SoundProcessor.GAME_OVER);
         soundProcessor.playSound();
         GameOverMiniScreen gameOverScreen = new GameOverMiniScreen();
         gameOverScreen.initialize();
@@ -793,8 +849,7 @@ public class GameController implements Serializable {
      * action that returns to the main menu when clicked.
      */
     public void showHelpScreen() {
-        LogManager.logInfo("Showing Help Screen. [from class: GameController, method: showHelpScreen]");
-        System.out.println("Showing Help Screen.");
+        LOGGER.info("Showing Help Screen. [from class: GameController, method: showHelpScreen]");
         if (view != null) {
             view.teardown();
         }
@@ -818,8 +873,7 @@ public class GameController implements Serializable {
      * @return the created Hall object populated with the specified objects
      */
     private Hall createHallFromPlacedObjects(String[][] placedObjects) {
-        LogManager.logInfo("Creating hall from placed objects. [from class: GameController, method: createHallFromPlacedObjects]");
-        System.out.println("Creating hall from placed objects.");
+        LOGGER.info("Creating hall from placed objects. [from class: GameController, method: createHallFromPlacedObjects]");
 
         Hall hall = gameState.getHall();
 
@@ -850,7 +904,7 @@ public class GameController implements Serializable {
                 }
             }
         }
-        LogManager.logError("No empty spots available in the hall. [from class: GameController, method: findEmptySpot]");
+        LOGGER.error("No empty spots available in the hall. [from class: GameController, method: findEmptySpot]");
         throw new IllegalStateException("No empty spots available in the hall.");
     }
 
@@ -861,27 +915,27 @@ public class GameController implements Serializable {
      * Retrieves the appropriate renderer for a given game object.
      *
      * This method checks the type of the provided {@code GameObject} and returns
-     * the corresponding GameEntityImage instance, which is used to render the object
-     * in the game view.
+     * the corresponding GameEntityImage singleton, which is used to render the object
+     * in the game view. Renderers are stateless, so no object is created per paint.
      *
      * @param object the game object for which the renderer is required
      * @return a GameEntityImage instance for rendering the object, or null if no match is found
      */
     public GameEntityImage getGameEntityRenderer(GameObject object) {
         if (object instanceof Player) {
-            return new PlayerImage();
+            return PlayerImage.getInstance();
         } else if (object instanceof Monster) {
-            return new MonsterImage();
+            return MonsterImage.getInstance();
         } else if (object instanceof Enchantment) {
-            return new EnchantmentImage();
+            return EnchantmentImage.getInstance();
         } else if (object instanceof Chest) {
-            return new ChestImage();
+            return ChestImage.getInstance();
         } else if (object instanceof Wall) {
-            return new WallImage();
+            return WallImage.getInstance();
         } else if (object instanceof Block) {
-            return new BlockImage();
+            return BlockImage.getInstance();
         } else if (object instanceof WallDifferent) {
-            return new WallDifferentImage();
+            return WallDifferentImage.getInstance();
         }
         return null;
     }
@@ -900,16 +954,17 @@ public class GameController implements Serializable {
             PlayMode playMode = (PlayMode) view;
 
             JPanel[][] gridPanels = playMode.getGridPanels();
-            JPanel objectPanel = gridPanels[clickedPoint.y][clickedPoint.x];
-            Component[] components = objectPanel.getComponents();
-            for (Component component : components) {
-                if (component instanceof JLabel) {
-                    ((JLabel) component).setIcon(runeIcon);
-                    break;
+            if (gridPanels != null) {
+                JPanel objectPanel = gridPanels[clickedPoint.y][clickedPoint.x];
+                Component[] components = objectPanel.getComponents();
+                for (Component component : components) {
+                    if (component instanceof JLabel) {
+                        ((JLabel) component).setIcon(runeIcon);
+                        break;
+                    }
                 }
             }
-            System.out.println("Rune is shown on the grid.");
-            LogManager.logInfo("Play mode grid updated. [from class: GameController, method: updatePlayModeGrid]");
+            LOGGER.info("Play mode grid updated. [from class: GameController, method: updatePlayModeGrid]");
             playMode.render();
             window.revalidate();
             window.repaint();
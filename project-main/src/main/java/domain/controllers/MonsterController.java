@@ -11,11 +11,12 @@ import domain.factories.MonsterFactory;
 import domain.gameCore.GameState;
 import domain.gameObjects.ArcherMonster;
 import domain.threads.MonsterThread;
-import technicalServices.logging.LogManager;
+import technicalServices.logging.GameLogger;
 
 import java.awt.*;
 
 public class MonsterController {
+    private static final GameLogger LOGGER = GameLogger.getLogger(MonsterController.class);
 
     private GameState model;
     private MonsterFactory monsterFactory;
@@ -23,8 +24,7 @@ public class MonsterController {
     public MonsterController(GameState model, MonsterFactory monsterFactory) {
         this.model = model;
         this.monsterFactory = monsterFactory;
-        LogManager.logInfo("MonsterController initialized. [from class: MonsterController, method: MonsterController]");
-        System.out.println("MonsterController initialized.");
+        LOGGER.info("MonsterController initialized. [from class: MonsterController, method: MonsterController]");
     }
     /**
      * Spawns a random monster at a valid empty position in the game hall.
@@ -37,8 +37,7 @@ public class MonsterController {
      */
     public void spawnRandomMonster(GameState model) {
         if (model == null || model.getHall() == null) {
-            LogManager.logError("Model or hall is null, cannot spawn monster. [from class: MonsterController, method: spawnRandomMonster]");
-            System.err.println("Model or hall is null, cannot spawn monster.");
+            LOGGER.error("Model or hall is null, cannot spawn monster. [from class: MonsterController, method: spawnRandomMonster]");
             return;
         }
 
@@ -11,15 +11,15 @@ import domain.gameCore.GameState;
 import domain.gameObjects.*;
 import domain.threads.MonsterThread;
 import domain.utilities.Constants;
-import technicalServices.logging.LogManager;
+import technicalServices.logging.GameLogger;
 
 import java.awt.*;
 import java.awt.event.ActionEvent;
-import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 
 public class PlayerController {
+    private static final GameLogger LOGGER = GameLogger.getLogger(PlayerController.class);
 
     private GameState model;
     private boolean isPaused = false;
@@ -31,8 +31,7 @@ public class PlayerController {
      * @param model the current game state
      */
     public PlayerController(GameState model) {
-        LogManager.logInfo("PlayerController initialized. [from class: PlayerController, method: PlayerController]");
-        System.out.println("PlayerController initialized");
+        LOGGER.info("PlayerController initialized. [from class: PlayerController, method: PlayerController]");
         this.model = model;
     }
     /**
@@ -51,7 +50,8 @@ public class PlayerController {
         }
 
 
-        System.out.println("Player has " + CloakCount + " cloaks");
+        int cloaks = CloakCount;
+        LOGGER.debug(() -> "Player has " + cloaks + " cloaks");
         if (CloakCount > 0) {
             return true;
         }
@@ -74,8 +74,7 @@ public class PlayerController {
                 CloakCount++;
             }
         }
-        model.getPlayer().getEnchantments().remove(lastCloak);
-        model.getPlayer().getEnchantments().remove(lastCloak);
+        model.getPlayer().removeEnchantment(lastCloak);
     }
     /**
      * Removes a Reveal enchantment from the player.
@@ -92,8 +91,7 @@ public class PlayerController {
                 revealCount++;
             }
         }
-        model.getPlayer().getEnchantments().remove(lastReveal);
-        model.getPlayer().getEnchantments().remove(lastReveal);
+        model.getPlayer().removeEnchantment(lastReveal);
     }
     /**
      * Sets the attack damage for all ArcherMonster instances in the game.
@@ -104,7 +102,7 @@ public class PlayerController {
         for (MonsterThread monsterThread : model.getMonsterThreads()) {
             if (monsterThread.getMonster() instanceof ArcherMonster) {
                 monsterThread.getMonster().setAttackDamage(damage);
-                System.out.println(monsterThread.getMonster() + " attack damage: " + monsterThread.getMonster().getAttackDamage());
+                LOGGER.debug(() -> monsterThread.getMonster() + " attack damage: " + monsterThread.getMonster().getAttackDamage());
             }
         }
     }
@@ -140,8 +138,7 @@ public class PlayerController {
         try {
             model.getPlayer().setMoving(false);
         } catch (Exception e) {
-            LogManager.logError("Error while stopping player movement. [from class: PlayerController, method: stopPlayerMoving]");
-            System.err.println("Error while stopping player movement");
+            LOGGER.error("Error while stopping player movement. [from class: PlayerController, method: stopPlayerMoving]");
         }
     }
 
@@ -153,69 +150,51 @@ public class PlayerController {
      * Moves the player one step to the left.
      */
     public void movePlayerLeft() {
-        if (isPaused) return;
-
         Point currentPosition = getPlayerCurrentPosition();
-        Point targetPosition = new Point(currentPosition.x - 1, currentPosition.y);
-
-        synchronized (model.getHall()) {
-            if (targetPosition.x >= 0 && !isCellOccupied(targetPosition)) {
-                model.getPlayer().setDirection(Constants.Directions.LEFT);
-                model.getPlayer().updatePosition();
-                model.getHall().moveObject(currentPosition, targetPosition);
-            }
-        }
+        stepPlayer(Constants.Directions.LEFT, new Point(currentPosition.x - 1, currentPosition.y));
     }
     /**
      * Moves the player one step to the up.
      */
     public void movePlayerUp() {
-        if (isPaused) return;
-        synchronized (model.getHall()) {
-
-            Point currentPosition = getPlayerCurrentPosition();
-            Point targetPosition = new Point(currentPosition.x, currentPosition.y - 1);
-
-            if (targetPosition.y >= 0 && !isCellOccupied(targetPosition)) {
-                model.getPlayer().setDirection(Constants.Directions.UP);
-                model.getPlayer().updatePosition();
-                model.getHall().moveObject(currentPosition, targetPosition);
-            }
-        }
+        Point currentPosition = getPlayerCurrentPosition();
+        stepPlayer(Constants.Directions.UP, new Point(currentPosition.x, currentPosition.y - 1));
     }
     /**
      * Moves the player one step to the down.
      */
     public void movePlayerDown() {
-        if (isPaused) return;
-
         Point currentPosition = getPlayerCurrentPosition();
-        Point targetPosition = new Point(currentPosition.x, currentPosition.y + 1);
-
-        synchronized (model.getHall()) {
-            if (targetPosition.y < 16 && !isCellOccupied(targetPosition)) {
-                model.getPlayer().setDirection(Constants.Directions.DOWN);
-                model.getPlayer().updatePosition();
-                model.getHall().moveObject(currentPosition, targetPosition);
-            }
-        }
+        stepPlayer(Constants.Directions.DOWN, new Point(currentPosition.x, currentPosition.y + 1));
     }
     /**
      * Moves the player one step to the right.
      */
     public void movePlayerRight() {
-        if (isPaused) return;
-
         Point currentPosition = getPlayerCurrentPosition();
-        Point targetPosition = new Point(currentPosition.x + 1, currentPosition.y);
-
-        synchronized (model.getHall()) {
-            if (targetPosition.x < 16 && !isCellOccupied(targetPosition)) {
-                model.getPlayer().setDirection(Constants.Directions.RIGHT);
-                model.getPlayer().updatePosition();
-                model.getHall().moveObject(currentPosition, targetPosition);
-
-            }
+        stepPlayer(Constants.Directions.RIGHT, new Point(currentPosition.x + 1, currentPosition.y));
+    }
+    /**
+     * Turns the player and steps it into the target cell unless it is outside the hall or a game object stands in it.
+     *
+     * The hall claims the target cell for the player instead of the controller locking the whole hall, so the
+     * monsters keep moving through the rest of the hall while the player steps. The step is made by the hall rather
+     * than by updatePosition, which would move the player without claiming the cell; a step the hall refuses is
+     * ended here so that the next update does not make it anyway.
+     *
+     * @param direction the direction of the step
+     * @param targetPosition the cell next to the player to step into
+     */
+    private void stepPlayer(int direction, Point targetPosition) {
+        if (isPaused) return;
+        if (targetPosition.x < 0 || targetPosition.y < 0 || targetPosition.x >= 16 || targetPosition.y >= 16
+                || isCellOccupied(targetPosition)) {
+            return;
+        }
+        Player player = model.getPlayer();
+        player.setDirection(direction);
+        if (!model.getHall().tryMovePlayer(player, targetPosition)) {
+            player.setMoving(false);
         }
     }
     /**
@@ -230,8 +209,8 @@ public class PlayerController {
      *         false otherwise
      */
     private boolean isCellOccupied(Point targetPosition) {
-        Map<Point, GameObject> gameObjects = model.getHall().getGameObjects();
-        return gameObjects.containsKey(targetPosition) && !(gameObjects.get(targetPosition) instanceof Player);
+        GameObject occupant = model.getHall().getObjectAt(targetPosition.x, targetPosition.y);
+        return occupant != null && !(occupant instanceof Player);
     }
 
     public void setPaused(boolean paused) {
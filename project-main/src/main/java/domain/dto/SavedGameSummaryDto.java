@@ -0,0 +1,114 @@
+/**
+ * Represents a Data Transfer Object describing a saved game without its contents.
+ *
+ * This class stores what the saved games screen shows for a save: its name, when it was saved, the hall, the
+ * player's lives and remaining time, a few counts and a small thumbnail of the hall. It also keeps the size and
+ * modification time of the save file, so an out of date entry can be noticed without reading the save.
+ */
+package domain.dto;
+
+import domain.utilities.Constants;
+
+import java.io.Serializable;
+import java.util.Date;
+
+public class SavedGameSummaryDto implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    private String name;
+    private Date saveDate;
+    private Constants.HallType hallType;
+    private int playerLifeCount;
+    private int hallTimeRemaining;
+    private int monsterCount;
+    private int collectedEnchantmentCount;
+    // one character per hall cell, row by row, see SaveGameManifest for the codes
+    private String thumbnail;
+    private long fileSize;
+    private long lastModified;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Date getSaveDate() {
+        return saveDate;
+    }
+
+    public void setSaveDate(Date saveDate) {
+        this.saveDate = saveDate;
+    }
+
+    public Constants.HallType getHallType() {
+        return hallType;
+    }
+
+    public void setHallType(Constants.HallType hallType) {
+        this.hallType = hallType;
+    }
+
+    public int getPlayerLifeCount() {
+        return playerLifeCount;
+    }
+
+    public void setPlayerLifeCount(int playerLifeCount) {
+        this.playerLifeCount = playerLifeCount;
+    }
+
+    public int getHallTimeRemaining() {
+        return hallTimeRemaining;
+    }
+
+    public void setHallTimeRemaining(int hallTimeRemaining) {
+        this.hallTimeRemaining = hallTimeRemaining;
+    }
+
+    public int getMonsterCount() {
+        return monsterCount;
+    }
+
+    public void setMonsterCount(int monsterCount) {
+        this.monsterCount = monsterCount;
+    }
+
+    public int getCollectedEnchantmentCount() {
+        return collectedEnchantmentCount;
+    }
+
+    public void setCollectedEnchantmentCount(int collectedEnchantmentCount) {
+        this.collectedEnchantmentCount = collectedEnchantmentCount;
+    }
+
+    public String getThumbnail() {
+        return thumbnail;
+    }
+
+    public void setThumbnail(String thumbnail) {
+        this.thumbnail = thumbnail;
+    }
+
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    public void setFileSize(long fileSize) {
+        this.fileSize = fileSize;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(long lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
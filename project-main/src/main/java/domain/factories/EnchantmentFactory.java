@@ -8,13 +8,14 @@
 package domain.factories;
 
 import domain.gameObjects.*;
-import technicalServices.logging.LogManager;
+import technicalServices.logging.GameLogger;
 
 import java.awt.*;
 import java.util.Random;
 import java.util.function.ToIntBiFunction;
 
 public class EnchantmentFactory {
+    private static final GameLogger LOGGER = GameLogger.getLogger(EnchantmentFactory.class);
     private static EnchantmentFactory instance;
     /**
      * Retrieves the single instance of the EnchantmentFactory.
@@ -26,7 +27,7 @@ public class EnchantmentFactory {
     public static synchronized EnchantmentFactory getInstance() {
         if (instance == null) {
             instance = new EnchantmentFactory();
-            LogManager.logInfo("MonsterFactory instance created. [from class: MonsterFactory, method: getInstance]");
+            LOGGER.info("MonsterFactory instance created. [from class: MonsterFactory, method: getInstance]");
         }
         return instance;
     }
@@ -42,7 +43,7 @@ public class EnchantmentFactory {
      */
     public Enchantment spawnRandomEnchantment(int x, int y) {
         int type = new Random().nextInt(5);
-        LogManager.logInfo("EnchantmentFactory created a random enchantment. [from class: EnchantmentFactory, method: spawnRandomEnchantment]");
+        LOGGER.info("EnchantmentFactory created a random enchantment. [from class: EnchantmentFactory, method: spawnRandomEnchantment]");
         switch (type) {
             case 0:
                 return new LifeEnchantment(x, y);
@@ -10,11 +10,12 @@ import domain.gameObjects.ArcherMonster;
 import domain.gameObjects.FighterMonster;
 import domain.gameObjects.Monster;
 import domain.gameObjects.WizardMonster;
-import technicalServices.logging.LogManager;
+import technicalServices.logging.GameLogger;
 
 import java.util.Random;
 
 public class MonsterFactory {
+    private static final GameLogger LOGGER = GameLogger.getLogger(MonsterFactory.class);
     private static MonsterFactory instance;
     /**
      * Retrieves the singleton instance of the MonsterFactory.
@@ -26,7 +27,7 @@ public class MonsterFactory {
     public static synchronized MonsterFactory getInstance() {
         if (instance == null) {
             instance = new MonsterFactory();
-            LogManager.logInfo("MonsterFactory instance created. [from class: MonsterFactory, method: getInstance]");
+            LOGGER.info("MonsterFactory instance created. [from class: MonsterFactory, method: getInstance]");
         }
         return instance;
     }
@@ -43,26 +44,21 @@ public class MonsterFactory {
      */
     public Monster createRandomMonster(int x, int y) {
         int type = new Random().nextInt(3);
-        LogManager.logInfo("MonsterFactory created a random monster. [from class: MonsterFactory, method: createRandomMonster]");
+        LOGGER.info("MonsterFactory created a random monster. [from class: MonsterFactory, method: createRandomMonster]");
         switch (type) {
             case 0:
-                LogManager.logInfo("Archer Monster created INSIDE FACTORY before new--- -> " + x + ", " + y+"[from class: MonsterFactory, method: createRandomMonster]");
-                System.out.println("Archer Monster created INSIDE FACTORY before new--- -> " + x + ", " + y);
+                LOGGER.info(() -> "Archer Monster created INSIDE FACTORY before new--- -> " + x + ", " + y+"[from class: MonsterFactory, method: createRandomMonster]");
                 Monster archer = new ArcherMonster(x, y);
-                LogManager.logInfo("Archer Monster created after new, position is -> " + archer.getPosition() + "[from class: MonsterFactory, method: createRandomMonster]");
-                System.out.println("Archer Monster created after new, position is -> " + archer.getPosition());
+                LOGGER.info(() -> "Archer Monster created after new, position is -> " + archer.getPosition() + "[from class: MonsterFactory, method: createRandomMonster]");
                 return archer;
             case 1:
-                LogManager.logInfo("Fighter Monster created INSIDE FACTORY -> " + x + ", " + y+ "[from class: MonsterFactory, method: createRandomMonster]");
-                System.out.println("Fighter Monster created INSIDE FACTORY -> " + x + ", " + y);
+                LOGGER.info(() -> "Fighter Monster created INSIDE FACTORY -> " + x + ", " + y+ "[from class: MonsterFactory, method: createRandomMonster]");
                 Monster fighter = new FighterMonster(x, y);
-                LogManager.logInfo("Fighter Monster created after new, position is -> " + fighter.getPosition()+ "[from class: MonsterFactory, method: createRandomMonster]");
-                System.out.println("Fighter Monster created after new, position is -> " + fighter.getPosition());
+                LOGGER.info(() -> "Fighter Monster created after new, position is -> " + fighter.getPosition()+ "[from class: MonsterFactory, method: createRandomMonster]");
                 return fighter;
              case 2:
                  Monster wizard = new WizardMonster(x, y);
-                 LogManager.logInfo("Wizard Monster created after new, position is -> " + wizard.getPosition() + "[from class: MonsterFactory, method: createRandomMonster]");
-                 System.out.println("Wizard Monster created after new, position is -> " + wizard.getPosition());
+                 LOGGER.info(() -> "Wizard Monster created after new, position is -> " + wizard.getPosition() + "[from class: MonsterFactory, method: createRandomMonster]");
                 return wizard;
             default:
                 return null;
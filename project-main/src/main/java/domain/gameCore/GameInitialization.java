@@ -6,13 +6,25 @@
  */
 package domain.gameCore;
 
-import technicalServices.logging.LogManager;
+import assets.audio.SoundProcessor;
+import domain.serializers.GameStateSerializer;
+import technicalServices.logging.GameLogger;
+import technicalServices.persistence.adapters.SaveGameAdapterFactory;
+import technicalServices.persistence.journal.HallJournal;
+
 
 public class GameInitialization {
+    private static final GameLogger LOGGER = GameLogger.getLogger(GameInitialization.class);
     public static void main(String[] args) {
 
-        LogManager.logInfo("GameInitialization started. [from class: GameInitialization, method: main]");
-        System.out.println("GameInitialization started.");
+        LOGGER.info("GameInitialization started. [from class: GameInitialization, method: main]");
+        // sounds are decoded once here so playing them later never reads the disk
+        SoundProcessor.preloadSounds();
+        // a journal left behind means the last game crashed, it is offered as a saved game
+        HallJournal journal = HallJournal.getInstance();
+        if (journal != null) {
+            journal.recoverCrashedGame(SaveGameAdapterFactory.createAdapter(new GameStateSerializer()));
+        }
         GameSession game = new GameSession();
         game.startGame();
 
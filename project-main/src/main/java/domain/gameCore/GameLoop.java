@@ -0,0 +1,285 @@
+/**
+ * A single-threaded, fixed-timestep simulation loop that advances every Tickable entity in the game.
+ *
+ * Monsters, enchantments, the hall manager and the countdown timer register here instead of starting
+ * their own threads. Every tick the loop advances its simulation clock by one timestep and ticks each
+ * entity whose cooldown has expired, so all of them run from one thread no matter how many exist.
+ * An entity that returned IDLE is not ticked at all until wake is called for it, so a hall where nothing
+ * happens costs the loop nothing but the clock.
+ */
+package domain.gameCore;
+
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import technicalServices.logging.GameLogger;
+
+public class GameLoop implements Runnable {
+    private static final GameLogger LOGGER = GameLogger.getLogger(GameLoop.class);
+    public static final int DEFAULT_TICK_RATE = 20;
+    // if the loop falls further behind than this, the missed ticks are dropped instead of replayed
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    private static GameLoop instance;
+
+    private final Queue<ScheduledEntity> pendingEntities = new ConcurrentLinkedQueue<>();
+    private final Queue<Tickable> wokenEntities = new ConcurrentLinkedQueue<>();
+    // only touched by the loop thread
+    private final List<ScheduledEntity> scheduledEntities = new ArrayList<>();
+    private final Map<Tickable, ScheduledEntity> entitiesByTickable = new IdentityHashMap<>();
+    private volatile int tickRate;
+    private volatile boolean running = false;
+    private volatile long tickCount = 0;
+    private volatile int entityCount = 0;
+    private volatile long entityTickCount = 0;
+    // simulation clock in milliseconds, computed from the ticks since the tick rate was last changed
+    private long clock = 0;
+    private long clockBase = 0;
+    private long clockTicks = 0;
+    private int clockRate;
+    private volatile Thread loopThread;
+
+    /**
+     * Retrieves the single instance of the GameLoop.
+     *
+     * @return the singleton instance of the GameLoop
+     */
+    public static synchronized GameLoop getInstance() {
+        if (instance == null) {
+            instance = new GameLoop(DEFAULT_TICK_RATE);
+            LOGGER.info("GameLoop instance created. [from class: GameLoop, method: getInstance]");
+        }
+        return instance;
+    }
+
+    public GameLoop(int tickRate) {
+        this.tickRate = checkTickRate(tickRate);
+    }
+
+    /**
+     * Registers an entity to be ticked on the next loop tick.
+     * The loop thread is started if it is not already running.
+     *
+     * @param entity the entity to advance from the loop
+     */
+    public void register(Tickable entity) {
+        register(entity, 0);
+    }
+
+    /**
+     * Registers an entity to be ticked once the given delay has passed.
+     * Safe to call from any thread; the entity joins the loop at the start of the next tick.
+     *
+     * @param entity the entity to advance from the loop
+     * @param initialDelay the delay in milliseconds before the first tick
+     */
+    public void register(Tickable entity, long initialDelay) {
+        if (entity == null) {
+            LOGGER.error("Entity cannot be null. [from class: GameLoop, method: register]");
+            throw new IllegalArgumentException("Entity cannot be null.");
+        }
+        pendingEntities.add(new ScheduledEntity(entity, Math.max(0, initialDelay)));
+        start();
+    }
+
+    /**
+     * Registers many entities so they are all ticked for the first time in the same loop tick.
+     * Safe to call from any thread.
+     *
+     * @param entities the entities to advance from the loop
+     */
+    public void registerAll(Collection<? extends Tickable> entities) {
+        List<ScheduledEntity> batch = new ArrayList<>(entities.size());
+        for (Tickable entity : entities) {
+            if (entity == null) {
+                LOGGER.error("Entity cannot be null. [from class: GameLoop, method: registerAll]");
+                throw new IllegalArgumentException("Entity cannot be null.");
+            }
+            batch.add(new ScheduledEntity(entity, 0));
+        }
+        // the loop drains the queue under the same lock, so it never sees half of the batch
+        synchronized (pendingEntities) {
+            pendingEntities.addAll(batch);
+        }
+        start();
+    }
+
+    /**
+     * Wakes an entity that is waiting for an event, so it is ticked on the next loop tick.
+     * An entity that is cooling down keeps its cooldown, and an entity that is not in the loop is ignored.
+     * Safe to call from any thread.
+     *
+     * @param entity the entity to wake
+     */
+    public void wake(Tickable entity) {
+        if (entity != null) {
+            wokenEntities.add(entity);
+        }
+    }
+
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        running = true;
+        loopThread = new Thread(this, "GameLoop");
+        loopThread.setDaemon(true);
+        loopThread.start();
+        LOGGER.info(() -> "GameLoop started at " + tickRate + " ticks per second. [from class: GameLoop, method: start]");
+    }
+
+    public synchronized void stop() {
+        running = false;
+        if (loopThread != null) {
+            loopThread.interrupt();
+            loopThread = null;
+        }
+    }
+
+    public void setTickRate(int tickRate) {
+        this.tickRate = checkTickRate(tickRate);
+    }
+
+    private static int checkTickRate(int tickRate) {
+        if (tickRate <= 0 || tickRate > 1000) {
+            throw new IllegalArgumentException("Tick rate must be between 1 and 1000.");
+        }
+        return tickRate;
+    }
+
+    public int getTickRate() {
+        return tickRate;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public int getEntityCount() {
+        return entityCount;
+    }
+
+    // the simulation clock in milliseconds, only read by the loop thread and by tests that tick the loop themselves
+    long getClock() {
+        return clock;
+    }
+
+    // how many times an entity was ticked, an idle entity is not counted until it is woken
+    public long getEntityTickCount() {
+        return entityTickCount;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Runs the loop at the configured tick rate until it is stopped.
+     * Ticks are paced against System.nanoTime so the timestep stays fixed even when a tick runs long. Each deadline
+     * is computed as start + ticks * period rather than by adding up rounded periods, so the loop does not drift when
+     * the tick rate does not divide a second.
+     */
+    @Override
+    public void run() {
+        long start = System.nanoTime();
+        long ticks = 0;
+        int rate = tickRate;
+        while (running && Thread.currentThread() == loopThread) {
+            tick();
+            ticks++;
+            long nextTick = start + ticks * 1_000_000_000L / rate;
+            long now = System.nanoTime();
+            if (now - nextTick > MAX_CATCH_UP_TICKS * 1_000_000_000L / rate) {
+                // the missed ticks are dropped, the schedule starts again from now
+                start = now;
+                ticks = 0;
+                nextTick = now;
+            } else if (rate != tickRate) {
+                start = nextTick;
+                ticks = 0;
+                rate = tickRate;
+            }
+            long wait = nextTick - now;
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+        }
+    }
+
+    /**
+     * Advances the simulation clock by one timestep and ticks every entity whose cooldown has expired.
+     * Entities that return DONE or throw are removed from the loop.
+     */
+    void tick() {
+        int rate = tickRate;
+        if (rate != clockRate) {
+            clockBase = clock;
+            clockTicks = 0;
+            clockRate = rate;
+        }
+        clockTicks++;
+        clock = clockBase + clockTicks * 1000L / rate;
+        if (!pendingEntities.isEmpty()) {
+            synchronized (pendingEntities) {
+                ScheduledEntity pending;
+                while ((pending = pendingEntities.poll()) != null) {
+                    pending.dueTime = clock + pending.dueTime;
+                    scheduledEntities.add(pending);
+                    entitiesByTickable.put(pending.entity, pending);
+                }
+            }
+        }
+        Tickable woken;
+        while ((woken = wokenEntities.poll()) != null) {
+            ScheduledEntity scheduled = entitiesByTickable.get(woken);
+            if (scheduled != null && scheduled.dueTime == Tickable.IDLE) {
+                scheduled.dueTime = clock;
+            }
+        }
+
+        Iterator<ScheduledEntity> iterator = scheduledEntities.iterator();
+        while (iterator.hasNext()) {
+            ScheduledEntity scheduled = iterator.next();
+            if (scheduled.dueTime > clock) {
+                continue;
+            }
+            long cooldown;
+            entityTickCount++;
+            try {
+                cooldown = scheduled.entity.tick();
+            } catch (RuntimeException e) {
+                LOGGER.error("Entity " + scheduled.entity.getClass().getSimpleName() + " failed and was removed: "
+                        + e.getMessage() + " [from class: GameLoop, method: tick]");
+                cooldown = Tickable.DONE;
+            }
+            if (cooldown < 0) {
+                iterator.remove();
+                entitiesByTickable.remove(scheduled.entity);
+            } else if (cooldown == Tickable.IDLE) {
+                scheduled.dueTime = Tickable.IDLE;
+            } else {
+                scheduled.dueTime = clock + cooldown;
+            }
+        }
+        entityCount = scheduledEntities.size();
+        tickCount++;
+    }
+
+    private static class ScheduledEntity {
+        private final Tickable entity;
+        // holds the initial delay until the entity is drained into the loop, then the absolute due time, or IDLE
+        private long dueTime;
+
+        private ScheduledEntity(Tickable entity, long dueTime) {
+            this.entity = entity;
+            this.dueTime = dueTime;
+        }
+    }
+}
@@ -12,11 +12,12 @@ import domain.controllers.GameController;
 import domain.gameObjects.Player;
 import domain.threads.CustomTimer;
 import domain.utilities.Constants;
-import technicalServices.logging.LogManager;
 import ui.swing.EarthHallScreen;
 import ui.swing.GameWindow;
+import technicalServices.logging.GameLogger;
 
 public class GameSession {
+    private static final GameLogger LOGGER = GameLogger.getLogger(GameSession.class);
 
     Player player;
     GameState model;
@@ -30,11 +31,9 @@ public class GameSession {
      * Sets up the player, game state, game window, and controller, and logs the initialization.
      */
     public GameSession() {
-        LogManager.logInfo("GameSession initialized. [from class: GameSession, method: GameSession]");
-        System.out.println("GameSession initialized");
+        LOGGER.info("GameSession initialized. [from class: GameSession, method: GameSession]");
         this.player = new Player(0, 0);
-        LogManager.logInfo("Player initialized with position (0,0). [from class: GameSession, method: GameSession]");
-        System.out.println("Player initialized with position (0,0)");
+        LOGGER.info("Player initialized with position (0,0). [from class: GameSession, method: GameSession]");
         this.model = new GameState(player, null);
         this.window = new GameWindow();
         this.controller = new GameController(model, window, player);
@@ -49,11 +48,9 @@ public class GameSession {
      * @param hallStrategy the strategy for the hall in this game session
      */
     public GameSession(HallStrategy hallStrategy) {
-        LogManager.logInfo("GameSession initialized. [from class: GameSession, method: GameSession]");
-        System.out.println("GameSession initialized");
+        LOGGER.info("GameSession initialized. [from class: GameSession, method: GameSession]");
         this.player = new Player(0, 0);
-        LogManager.logInfo("Player initialized with position (0,0). [from class: GameSession, method: GameSession]");
-        System.out.println("Player initialized with position (0,0)");
+        LOGGER.info("Player initialized with position (0,0). [from class: GameSession, method: GameSession]");
         this.model = new GameState(player, null);
         model.setHallStrategy(hallStrategy);
         model.getHall().setHallType(hallStrategy.getHallType());
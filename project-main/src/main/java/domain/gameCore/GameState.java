@@ -9,14 +9,18 @@ package domain.gameCore;
 
 import domain.behaviors.*;
 import domain.controllers.GameController;
+import domain.dto.GameStateDto;
+import domain.dto.SavedGameSummaryDto;
 import domain.factories.MonsterFactory;
 import domain.gameObjects.*;
+import domain.observers.SaveObserver;
 import domain.serializers.GameStateSerializer;
 import domain.threads.*;
 import domain.utilities.Constants;
 import technicalServices.logging.LogManager;
-import technicalServices.persistence.adapters.FileAdapter;
+import technicalServices.persistence.AsyncSaveWriter;
 import technicalServices.persistence.adapters.SaveGameAdapter;
+import technicalServices.persistence.adapters.SaveGameAdapterFactory;
 import ui.gameObjectImage.RuneImage;
 import java.awt.*;
 import java.io.Serializable;
@@ -25,8 +29,10 @@ import java.util.List;
 import javax.swing.ImageIcon;
 import assets.audio.SoundProcessor;
 import ui.swing.PlayMode;
+import technicalServices.logging.GameLogger;
 
 public class GameState implements Serializable {
+    private static final GameLogger LOGGER = GameLogger.getLogger(GameState.class);
 
     private Player player = null;
     private Hall hall;
@@ -37,11 +43,14 @@ public class GameState implements Serializable {
     private boolean isGameOver = false;
     private boolean isPlayMode;
     private final transient GameStateSerializer serializer = new GameStateSerializer();
-    private transient SaveGameAdapter persistenceAdapter = new FileAdapter(serializer);
+    private transient SaveGameAdapter persistenceAdapter = SaveGameAdapterFactory.createAdapter(serializer);
     private final List<MonsterThread> activeMonsterThreads = new ArrayList<>();
     private CustomTimer timer;
     private HallStrategy hallStrategy;
     private Date saveDate;
+    // how long the last load took, split into decoding the save and starting its monsters and enchantments
+    private transient volatile long lastLoadDecodeNanos;
+    private transient volatile long lastLoadActivationNanos;
     // you need to create an instance of GameState object with player object, after
     // you can add another objects
     // into GameState.
@@ -53,7 +62,7 @@ public class GameState implements Serializable {
      */
     public GameState(Player player, GameController controller)  {
         if (player == null) {
-            LogManager.logError("Player cannot be null. [from class: GameState, method: GameState]");
+            LOGGER.error("Player cannot be null. [from class: GameState, method: GameState]");
             throw new IllegalArgumentException("Player cannot be null");
         }
         this.controller = controller;
@@ -73,7 +82,7 @@ public class GameState implements Serializable {
      */
     public GameState(Player player, GameController controller, HallStrategy hallStrategy)  {
         if (player == null) {
-            LogManager.logError("Player cannot be null. [from class: GameState, method: GameState]");
+            LOGGER.error("Player cannot be null. [from class: GameState, method: GameState]");
             throw new IllegalArgumentException("Player cannot be null");
         }
         this.hallStrategy = hallStrategy;
@@ -133,11 +142,7 @@ public class GameState implements Serializable {
 
     // this method is used to check if the position is empty
     public boolean isPositionEmpty(Point position) {
-        if (this.hall.getEmptyPositions().contains(position)) {
-            return true;
-        } else {
-            return false;
-        }
+        return this.hall.isPositionEmpty(position);
     }
 
 
@@ -156,7 +161,7 @@ public class GameState implements Serializable {
         // add logging here (State is frozen)
         // this.timer.stop();
         this.runningFlag = false;
-        LogManager.logInfo("State is frozen. [from class: GameState, method: freeze]");
+        LOGGER.info("State is frozen. [from class: GameState, method: freeze]");
         return true;
     }
 
@@ -167,7 +172,9 @@ public class GameState implements Serializable {
 
     public boolean unfreeze() {
         this.runningFlag = true;
-        LogManager.logInfo("State is unfrozen. [from class: GameState, method: unfreeze]");
+        // monsters wait without polling while the game is paused
+        MonsterEventBus.forHall(hall).wakeAll();
+        LOGGER.info("State is unfrozen. [from class: GameState, method: unfreeze]");
         return true;
     }
     /**
@@ -218,7 +225,7 @@ public class GameState implements Serializable {
 
                 // if rune exists at clicked point, reveal it and replace object img with rune img
                 if (runeMap.containsKey(clickedPoint)) {
-                    System.out.println("Type of Rune found is: " + runeMap.get(clickedPoint).getRuneType());
+                    LOGGER.debug(() -> "Type of Rune found is: " + runeMap.get(clickedPoint).getRuneType());
                     successfulHallCompletion(object, clickedPoint, runeMap);
                 }
                 return true;
@@ -234,7 +241,7 @@ public class GameState implements Serializable {
                             hall.removeEnchantment(enchantment);
 
                         }
-                        System.out.println("eskican= " + oldHealth + " şimdikican= " + player.getLifeCount());
+                        LOGGER.debug(() -> "eskican= " + oldHealth + " şimdikican= " + player.getLifeCount());
                         if (controller.getHealthHeartDisplay() != null) {
                             controller.getHealthHeartDisplay().onHealthChanged(player.getLifeCount(), oldHealth);
                         }
@@ -269,9 +276,9 @@ public class GameState implements Serializable {
                 hall.removeObject(((Enchantment) object).getPosition());
                 hall.getGameObjects().remove(clickedPoint);
                 remainingTime = this.getTimer().getTimeRemaining();
-                System.out.println("Time before: " + remainingTime);
+                LOGGER.debug(() -> "Time before: " + remainingTime);
                 remainingTime += 5.0f;
-                System.out.println("Time after: " + remainingTime);
+                LOGGER.debug(() -> "Time after: " + remainingTime);
                 controller.getTimerDisplay().setTime((int)remainingTime);
                 hall.notifyListeners();
                 return true;
@@ -293,12 +300,11 @@ public void successfulHallCompletion(GameObject object, Point clickedPoint, Map<
         Rune rune = runeMap.get(clickedPoint);
         rune.setRevealed(true);
         rune.reveal();
-        RuneImage runeImage = new RuneImage();
-        ImageIcon runeIcon = runeImage.getImageForEntity(rune);
+        ImageIcon runeIcon = RuneImage.getInstance().getImageForEntity(rune);
         object.setIcon(runeIcon);
         controller.updatePlayModeGrid(clickedPoint, runeIcon);
         // sound is played to signify end of the current level
-        SoundProcessor doorSound = new SoundProcessor("src/main/java/assets/audio/doorOpening.wav");
+        SoundProcessor doorSound = new SoundProcessor(SoundProcessor.DOOR_OPENING);
         doorSound.playSound();
 
         // wait for 2 seconds (simulate delay before stopping the level)
@@ -310,7 +316,7 @@ public void successfulHallCompletion(GameObject object, Point clickedPoint, Map<
 //        }
 
 
-        LogManager.logInfo("Level has been stopped. [from class: GameState, method: stopLevel]");
+        LOGGER.info("Level has been stopped. [from class: GameState, method: stopLevel]");
         if (hall.getHallType() == Constants.HallType.EARTH) {
             timer.stop();
             controller.switchToAirHallScreen();
@@ -325,6 +331,7 @@ public void successfulHallCompletion(GameObject object, Point clickedPoint, Map<
             controller.successfulEnding();
             this.isGameOver = true;
             runningFlag = false;
+            MonsterEventBus.forHall(hall).wakeAll();
         }
     }
     public int getTotalTime() {
@@ -347,6 +354,8 @@ public void successfulHallCompletion(GameObject object, Point clickedPoint, Map<
 
     public void gameOver() {
         this.isGameOver = true;
+        // idle monsters have to be woken to notice that the game is over
+        MonsterEventBus.forHall(hall).wakeAll();
     }
 
     public void resetGame() {
@@ -355,8 +364,7 @@ public void successfulHallCompletion(GameObject object, Point clickedPoint, Map<
         player.setPosition(new Point(0, 0));
         player.setLifeCount(3);
         this.runningFlag = true;
-        LogManager.logInfo("Game has been reset. [from class: GameState, method: resetGame]");
-        System.out.println("Game has been reset.");
+        LOGGER.info("Game has been reset. [from class: GameState, method: resetGame]");
         // this.timer.kill();
     }
 
@@ -381,27 +389,48 @@ public void successfulHallCompletion(GameObject object, Point clickedPoint, Map<
         // System.out.println("Which monster is being spawned to what position? " +
         // monster.getPosition() + " " + monster.getClass().getSimpleName());
         if (monster instanceof WizardMonster && hall.countMonstersOfType(WizardMonster.class) >= 1) {
-            System.out.println("Cannot spawn more than 1 WizardMonster.");
-            LogManager.logInfo("Cannot spawn more than 1 WizardMonster. [from class: GameState, method: spawnMonster]");
+            LOGGER.info("Cannot spawn more than 1 WizardMonster. [from class: GameState, method: spawnMonster]");
             return;
         }
         hall.addMonster(monster);
         hall.addObject(monster);
         hall.getGameObjects().put(position, monster);
-        System.out.println("Which monster is being spawned to what position? " + monster.getPosition() + " "
-                + monster.getClass().getSimpleName());
-        LogManager.logInfo("Monster " + monster.getClass().getSimpleName() + " has been spawned at position " + position
+        LOGGER.info(() -> "Monster " + monster.getClass().getSimpleName() + " has been spawned at position " + position
                 + ". [from class: GameState, method: spawnMonster]");
-        // here create a thread for the monster created
-        MonsterThread monsterThread = switch (monster) {
-            case ArcherMonster archerMonster1 -> new ArcherMonsterThread(archerMonster1, this);
-            case FighterMonster fighterMonster1 -> new FighterMonsterThread(fighterMonster1, this);
-            case WizardMonster wizardMonster1 -> new WizardMonsterThread(wizardMonster1, this);
+        // here start the behaviour of the monster created
+        activateMonster(createMonsterThread(monster));
+    }
+    /**
+     * Creates the behaviour that drives the given monster.
+     *
+     * @param monster the monster whose behaviour is created
+     * @return the MonsterThread matching the monster's type
+     */
+    public MonsterThread createMonsterThread(Monster monster) {
+        return switch (monster) {
+            case ArcherMonster archerMonster -> new ArcherMonsterThread(archerMonster, this);
+            case FighterMonster fighterMonster -> new FighterMonsterThread(fighterMonster, this);
+            case WizardMonster wizardMonster -> new WizardMonsterThread(wizardMonster, this);
             default -> throw new IllegalArgumentException("Unknown monster type");
         };
+    }
+    /**
+     * Tracks a monster's behaviour as active and starts it according to the execution mode:
+     * on the game loop, or on its own platform or virtual thread.
+     *
+     * @param monsterThread the monster behaviour to activate
+     */
+    public void activateMonster(MonsterThread monsterThread) {
         activeMonsterThreads.add(monsterThread);
-        Thread thread = new Thread(monsterThread);
-        thread.start();
+        GameThreadFactory.getInstance().startEntity(monsterThread);
+    }
+    /**
+     * Starts an enchantment's lifecycle according to the execution mode.
+     *
+     * @param enchantmentThread the enchantment lifecycle to activate
+     */
+    public void activateEnchantment(EnchantmentThread enchantmentThread) {
+        GameThreadFactory.getInstance().startEntity(enchantmentThread);
     }
     public void setMonsterFactory(MonsterFactory monsterFactory) {
         this.monsterFactory = monsterFactory;
@@ -413,34 +442,23 @@ public void successfulHallCompletion(GameObject object, Point clickedPoint, Map<
      *
      * This method uses the monster factory to create a random monster. If the monster is a WizardMonster,
      * it ensures that only one WizardMonster exists in the hall at a time. The created monster is added to
-     * the hall and the game objects map. A corresponding thread is started to manage the monster's behavior.
+     * the hall and the game objects map. Its behavior is started on the game loop or on its own thread, depending on the execution mode.
      *
      * @param position the position where the monster will be spawned
      */
     public void spawnMonster(Point position) {
         Monster monster = monsterFactory.createRandomMonster(position.x, position.y);
         if (monster instanceof WizardMonster && hall.countMonstersOfType(WizardMonster.class) >= 1) {
-            System.out.println("Cannot spawn more than 1 WizardMonster.");
-            LogManager.logInfo("Cannot spawn more than 1 WizardMonster. [from class: GameState, method: spawnMonster]");
+            LOGGER.info("Cannot spawn more than 1 WizardMonster. [from class: GameState, method: spawnMonster]");
             return;
         }
         hall.addMonster(monster);
         hall.addObject(monster);
         hall.getGameObjects().put(position, monster);
-        System.out.println("Which monster is being spawned to what position? " + monster.getPosition() + " "
-                + monster.getClass().getSimpleName());
-        LogManager.logInfo("Monster " + monster.getClass().getSimpleName() + " has been spawned at position " + position
+        LOGGER.info(() -> "Monster " + monster.getClass().getSimpleName() + " has been spawned at position " + position
                 + ". [from class: GameState, method: spawnMonster]");
-        // here create a thread for the monster created
-        MonsterThread monsterThread = switch (monster) {
-            case ArcherMonster archerMonster1 -> new ArcherMonsterThread(archerMonster1, this);
-            case FighterMonster fighterMonster1 -> new FighterMonsterThread(fighterMonster1, this);
-            case WizardMonster wizardMonster1 -> new WizardMonsterThread(wizardMonster1, this);
-            default -> throw new IllegalArgumentException("Unknown monster type");
-        };
-        activeMonsterThreads.add(monsterThread);
-        Thread thread = new Thread(monsterThread);
-        thread.start();
+        // here start the behaviour of the monster created
+        activateMonster(createMonsterThread(monster));
     }
 
     public void setPlayMode(boolean isPlayMode) {
@@ -455,6 +473,33 @@ public void successfulHallCompletion(GameObject object, Point clickedPoint, Map<
             persistenceAdapter.saveGame(gameName, this);
         }
     }
+    /**
+     * Saves the game without blocking the calling thread.
+     *
+     * A snapshot of the game is taken while the hall is locked, which only copies the positions and types of the
+     * objects. Serializing and writing the snapshot happen on the save thread, and the observer is told there when
+     * the save file is written.
+     *
+     * @param gameName the name of the saved game
+     * @param observer told when the save is written or failed, may be null
+     */
+    public void saveGameAsync(String gameName, SaveObserver observer) {
+        if (persistenceAdapter == null) {
+            return;
+        }
+        AsyncSaveWriter.getInstance().save(persistenceAdapter, gameName, createSnapshot(), observer);
+    }
+
+    /**
+     * Copies the state that is saved into a transfer object that no game thread changes afterwards.
+     *
+     * @return the snapshot of the game
+     */
+    public GameStateDto createSnapshot() {
+        synchronized (hall) {
+            return serializer.serializeGameState(this);
+        }
+    }
 
     /**
      * Loads a saved game state using the specified game name.
@@ -467,6 +512,8 @@ public void successfulHallCompletion(GameObject object, Point clickedPoint, Map<
     //this is a crucial method for loading the game
     public void loadGame(String gameName) {
         if (persistenceAdapter != null) {
+            // only decodes: nothing runs against the hall until activateEntities is called
+            long start = System.nanoTime();
             GameState loadedState = persistenceAdapter.loadGame(gameName);
             this.player = loadedState.player;
             this.hall = loadedState.hall;
@@ -475,14 +522,86 @@ public void successfulHallCompletion(GameObject object, Point clickedPoint, Map<
             this.isPlayMode = loadedState.isPlayMode;
             this.controller = loadedState.controller;
             this.saveDate = loadedState.saveDate;
+            lastLoadDecodeNanos = System.nanoTime() - start;
+            LOGGER.info(() -> "Game " + gameName + " decoded in " + lastLoadDecodeNanos / 1_000 + " us. [from class: GameState, method: loadGame]");
         }
     }
+    /**
+     * Starts the monsters and enchantments of a loaded hall, all in one batch.
+     * Loading only decodes the save, so this is called once the loaded game is shown and should start running.
+     * The behaviours are bound to this game state, so they follow its pauses.
+     *
+     * @return the number of entities started
+     */
+    public int activateEntities() {
+        long start = System.nanoTime();
+        List<MonsterThread> monsterThreads = new ArrayList<>();
+        List<EnchantmentThread> enchantmentThreads = new ArrayList<>();
+        synchronized (hall) {
+            for (Monster monster : hall.getMonsters()) {
+                monsterThreads.add(createMonsterThread(monster));
+            }
+            for (GameObject gameObject : hall.getGameObjects().values()) {
+                if (gameObject instanceof Enchantment enchantment) {
+                    enchantmentThreads.add(new EnchantmentThread(enchantment, this));
+                }
+            }
+        }
+        activeMonsterThreads.addAll(monsterThreads);
+        GameThreadFactory.getInstance().startEntities(monsterThreads);
+        GameThreadFactory.getInstance().startEntities(enchantmentThreads);
+        lastLoadActivationNanos = System.nanoTime() - start;
+        int started = monsterThreads.size() + enchantmentThreads.size();
+        LOGGER.info(() -> "Load latency: decode " + lastLoadDecodeNanos / 1_000 + " us, activation of " + started
+                + " entities " + lastLoadActivationNanos / 1_000 + " us. [from class: GameState, method: activateEntities]");
+        return started;
+    }
+
+    public long getLastLoadDecodeNanos() {
+        return lastLoadDecodeNanos;
+    }
+
+    public long getLastLoadActivationNanos() {
+        return lastLoadActivationNanos;
+    }
     public ArrayList<String> loadSavedGames() {
         if (persistenceAdapter != null) {
             return new ArrayList<>(persistenceAdapter.listSavedGames());
         }
         return new ArrayList<>();
     }
+    /**
+     * Lists the saved games with their save date, hall, lives and thumbnail, without loading any of them.
+     *
+     * @return the summaries of the saved games, newest first
+     */
+    public List<SavedGameSummaryDto> loadSavedGameSummaries() {
+        if (persistenceAdapter != null) {
+            return persistenceAdapter.listSavedGameSummaries();
+        }
+        return new ArrayList<>();
+    }
+    /**
+     * Lists one page of the saved games, optionally only the ones in one hall, without loading any of them.
+     *
+     * @param hallType the hall the saves are in, or null for every hall
+     * @param order the order of the saves
+     * @param offset how many saves to skip
+     * @param limit how many saves to list at most
+     * @return the summaries of the page
+     */
+    public List<SavedGameSummaryDto> loadSavedGameSummaries(Constants.HallType hallType, Constants.SaveSortOrder order, int offset, int limit) {
+        if (persistenceAdapter != null) {
+            return persistenceAdapter.querySavedGameSummaries(hallType, order, offset, limit);
+        }
+        return new ArrayList<>();
+    }
+    public int countSavedGames(Constants.HallType hallType) {
+        if (persistenceAdapter != null) {
+            return persistenceAdapter.countSavedGames(hallType);
+        }
+        return 0;
+    }
     public void deleteSavedGame(String gameName) {
         persistenceAdapter.deleteSavedGame(gameName);
     }
@@ -0,0 +1,24 @@
+/**
+ * Represents a piece of game logic that is advanced by the GameLoop instead of owning a thread.
+ *
+ * Each call to tick performs one step of the behaviour and returns a cooldown, so entities wait by
+ * being skipped by the loop rather than by sleeping. An entity with nothing to do until something happens in
+ * the hall returns IDLE and is skipped until GameLoop.wake is called for it.
+ */
+package domain.gameCore;
+
+public interface Tickable {
+    // returned by tick when the entity has finished and should be dropped from the loop
+    long DONE = -1;
+    // returned by tick when the entity waits for an event instead of a cooldown
+    long IDLE = Long.MAX_VALUE;
+
+    /**
+     * Advances the entity by one step.
+     *
+     * @return the cooldown in milliseconds before the entity should be ticked again,
+     *         0 to be ticked again on the next loop tick, IDLE to wait until it is woken, or DONE to be removed
+     *         from the loop
+     */
+    long tick();
+}
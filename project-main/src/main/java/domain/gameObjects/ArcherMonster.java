@@ -11,9 +11,10 @@ import javax.imageio.ImageIO;
 import java.io.IOException;
 import domain.gameCore.GameInitialization;
 import domain.utilities.Constants;
-import technicalServices.logging.LogManager;
+import technicalServices.logging.GameLogger;
 
 public class ArcherMonster extends Monster {
+    private static final GameLogger LOGGER = GameLogger.getLogger(ArcherMonster.class);
     private Image archerSprite;
     private List<Arrow> arrows;
     private long lastShotTime;
@@ -30,16 +31,14 @@ public class ArcherMonster extends Monster {
      */
     public ArcherMonster( int x, int y) {
         super(x, y);
-        LogManager.logInfo("Archer Monster created -> " + x + ", " + y + " [from class: ArcherMonster, method: ArcherMonster]");
-        System.out.println("Archer Monster created -> " + x + ", " + y);
+        LOGGER.info(() -> "Archer Monster created -> " + x + ", " + y + " [from class: ArcherMonster, method: ArcherMonster]");
         this.arrows = new ArrayList<>();
         this.lastShotTime = 0;
 
         try {
             archerSprite = ImageIO.read(getClass().getResource("/assets/images/archer2x.png"));
         } catch (IOException e) {
-            LogManager.logError("Error loading archer sprite -> " + e.getMessage() + " [from class: ArcherMonster, method: ArcherMonster]");
-            System.err.println("Error loading archer sprite -> " + e.getMessage());
+            LOGGER.error("Error loading archer sprite -> " + e.getMessage() + " [from class: ArcherMonster, method: ArcherMonster]");
         }
     }
 
@@ -5,11 +5,13 @@
 package domain.gameObjects;
 
 import ui.gameObjectImage.ArrowImage;
+import technicalServices.logging.GameLogger;
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.List;
 
 public class Arrow extends GameObject {
+    private static final GameLogger LOGGER = GameLogger.getLogger(Arrow.class);
     private int x;
     private int y;
     private int direction;
@@ -50,7 +52,7 @@ public class Arrow extends GameObject {
         x = nextX;
         y = nextY;
 
-        System.out.println("Arrow moved to: (" + x + ", " + y + ")");
+        LOGGER.trace(() -> "Arrow moved to: (" + x + ", " + y + ")");
 
         // Optionally interact if the target is reached
         if (hasReachedTarget()) {
@@ -70,7 +72,7 @@ public class Arrow extends GameObject {
         if (arrowImage != null) {
             arrowImage.render(g, this, 50);
         } else {
-            System.err.println("Arrow image not loaded properly");
+            LOGGER.warn("Arrow image not loaded properly");
         }
     }
 
@@ -0,0 +1,86 @@
+/**
+ * Keeps the owner of each cell of a hall, so that moves can decide who gets a cell without locking the hall.
+ *
+ * Every cell holds the object that stands in it or is stepping into it, or nothing. A cell is claimed with a single
+ * compare-and-set from empty to the new owner and released with a compare-and-set from the owner back to empty, so
+ * two movers heading for different cells never touch the same slot, and of two movers heading for the same cell
+ * exactly one succeeds while the other fails at once instead of waiting. Cells are indexed as y * width + x, like in
+ * the GameObjectGrid.
+ */
+package domain.gameObjects;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class CellReservations implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private final AtomicReferenceArray<Object> owners;
+
+    public CellReservations(int cellCount) {
+        if (cellCount <= 0) {
+            throw new IllegalArgumentException("Cell count must be positive.");
+        }
+        this.owners = new AtomicReferenceArray<>(cellCount);
+    }
+
+    /**
+     * Claims an empty cell for the given owner.
+     *
+     * @param cell the cell index to claim
+     * @param owner the object taking the cell
+     * @return true if the cell was empty and now belongs to the owner, false if someone else holds it
+     */
+    public boolean claim(int cell, Object owner) {
+        if (owner == null) {
+            throw new IllegalArgumentException("Owner cannot be null.");
+        }
+        return owners.compareAndSet(cell, null, owner);
+    }
+
+    /**
+     * Gives a cell back, if it is still held by the given owner.
+     *
+     * @param cell the cell index to release
+     * @param owner the object leaving the cell
+     * @return true if the owner held the cell and it is now empty
+     */
+    public boolean release(int cell, Object owner) {
+        return owner != null && owners.compareAndSet(cell, owner, null);
+    }
+
+    /**
+     * Hands a cell from one owner to another, e.g. when an object is replaced by another one in its cell.
+     *
+     * @param cell the cell index
+     * @param owner the object holding the cell
+     * @param newOwner the object taking it over
+     * @return true if the owner held the cell and it now belongs to the new owner
+     */
+    public boolean transfer(int cell, Object owner, Object newOwner) {
+        if (owner == null || newOwner == null) {
+            throw new IllegalArgumentException("Owners cannot be null.");
+        }
+        return owners.compareAndSet(cell, owner, newOwner);
+    }
+
+    public Object ownerOf(int cell) {
+        return owners.get(cell);
+    }
+
+    public boolean isFree(int cell) {
+        return owners.get(cell) == null;
+    }
+
+    public int getCellCount() {
+        return owners.length();
+    }
+
+    /**
+     * Empties every cell. A mover that claimed a cell before finds its object gone and gives the claim up.
+     */
+    public void clear() {
+        for (int cell = 0; cell < owners.length(); cell++) {
+            owners.set(cell, null);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/**
+ * A set of cell indexes with O(1) add, remove, contains and random pick.
+ *
+ * The cells are kept in a dense array together with each cell's slot in that array; removing a cell swaps the last
+ * cell into its slot. GameObjectGrid keeps one of these per object type.
+ */
+package domain.gameObjects;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Random;
+
+public class CellSet implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int ABSENT = -1;
+
+    private final int[] cells;
+    // slot of each cell in cells, or ABSENT
+    private final int[] slots;
+    private int size;
+
+    public CellSet(int capacity) {
+        this.cells = new int[capacity];
+        this.slots = new int[capacity];
+        Arrays.fill(slots, ABSENT);
+    }
+
+    public boolean contains(int cell) {
+        return cell >= 0 && cell < slots.length && slots[cell] != ABSENT;
+    }
+
+    public boolean add(int cell) {
+        if (cell < 0 || cell >= slots.length || slots[cell] != ABSENT) {
+            return false;
+        }
+        cells[size] = cell;
+        slots[cell] = size;
+        size++;
+        return true;
+    }
+
+    public boolean remove(int cell) {
+        if (!contains(cell)) {
+            return false;
+        }
+        int slot = slots[cell];
+        int last = cells[--size];
+        cells[slot] = last;
+        slots[last] = slot;
+        slots[cell] = ABSENT;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the cell stored in the given slot. Slots run from 0 to size() - 1 in no particular order.
+     *
+     * @param slot the slot to read
+     * @return the cell index in that slot
+     */
+    public int get(int slot) {
+        if (slot < 0 || slot >= size) {
+            throw new IndexOutOfBoundsException("Slot " + slot + " is out of bounds for size " + size);
+        }
+        return cells[slot];
+    }
+
+    /**
+     * Picks a cell of the set uniformly at random.
+     *
+     * @param random the random source to draw from
+     * @return a cell index, or -1 if the set is empty
+     */
+    public int random(Random random) {
+        return size == 0 ? ABSENT : cells[random.nextInt(size)];
+    }
+
+    public void clear() {
+        for (int i = 0; i < size; i++) {
+            slots[cells[i]] = ABSENT;
+        }
+        size = 0;
+    }
+}
@@ -4,12 +4,13 @@
 package domain.gameObjects;
 
 import domain.utilities.Constants;
-import technicalServices.logging.LogManager;
+import technicalServices.logging.GameLogger;
 
 import java.awt.*;
 import java.util.ArrayList;
 
 public class FighterMonster extends Monster{
+    private static final GameLogger LOGGER = GameLogger.getLogger(FighterMonster.class);
 
 
     public FighterMonster(int x, int y) {
@@ -24,8 +25,7 @@ public class FighterMonster extends Monster{
     //if player is right next to the monster, it will attack the player by stabbing
     @Override
     public void attack(Player player) {
-        LogManager.logInfo("FighterMonster is stabbing the player. Player Life: " + player.getLifeCount() + "[from class:FighterMonster, method:attack]");
-        System.out.println("FighterMonster is stabbing the player. Player Life: " + player.getLifeCount());
+        LOGGER.info(() -> "FighterMonster is stabbing the player. Player Life: " + player.getLifeCount() + "[from class:FighterMonster, method:attack]");
         if(Monster.calculateDistance(this.getPosition(),player.getPosition())<=1){
             //I assumed stabbing only takes 1 life
             player.setLifeCount(player.getLifeCount()-1);
@@ -42,8 +42,7 @@ public class FighterMonster extends Monster{
     public void move(ArrayList<Point> emptyLocations) {
         //here when we do enchantments, luring gem will change the behaviour of the fighter monster
         this.getPosition().setLocation(Monster.findRandomLocation(emptyLocations));
-        LogManager.logInfo("FighterMonster is moving to [x="+ this.getPosition().getX()+",y="+this.getPosition().getY()+"]. [from class:FighterMonster, method:move]");
-        System.out.println("FighterMonster is moving to [x="+ this.getPosition().getX()+",y="+this.getPosition().getY()+"].");
+        LOGGER.trace(() -> "FighterMonster is moving to [x="+ this.getPosition().getX()+",y="+this.getPosition().getY()+"]. [from class:FighterMonster, method:move]");
     }
 
     @Override
@@ -5,6 +5,7 @@
 package domain.gameObjects;
 
 import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
 
 import javax.swing.*;
 import java.awt.*;
@@ -12,6 +13,7 @@ import java.util.Map;
 import java.net.URL;
 
 public abstract class GameObject {
+    private static final GameLogger LOGGER = GameLogger.getLogger(GameObject.class);
     private Point position;
     private String name;
     private String imagePath;
@@ -79,11 +81,11 @@ public abstract class GameObject {
             if (imgURL != null) {
                 return new ImageIcon(imgURL);
             } else {
-                System.err.println("Image not found: " + imagePath);
+                LOGGER.warn("Image not found: " + imagePath);
                 return null;
             }
         } catch (Exception e) {
-            e.printStackTrace();
+            LOGGER.error("Image could not be loaded: " + imagePath + " [from class: GameObject, method: loadIcon]", e);
             return null;
         }
     }
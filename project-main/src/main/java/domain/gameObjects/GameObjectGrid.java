@@ -0,0 +1,413 @@
+/**
+ * Stores the game objects of a hall in a flat array indexed by a packed cell index (row * width + col).
+ *
+ * Lookups, placements and moves work on the int index directly, so they neither allocate a Point nor hash one.
+ * A Map view keyed by Point is kept for the serializer and the older callers; it reads and writes the same array.
+ * The grid also keeps the cells of each object type in a CellSet, updated on every put, so counting the objects
+ * of a type or picking a random one does not need a scan. Every cell whose content changes is recorded as dirty until
+ * the hall drains the dirty cells and hands them to its observers.
+ *
+ * The grid owns the CellReservations of its cells. Every put claims the cell for the object it places and every
+ * removal releases it, so a write through the Map view cannot slip past a mover that has claimed the cell.
+ *
+ * The grid is not Serializable, since the game objects it holds are not; saves go through the serializers instead.
+ */
+package domain.gameObjects;
+
+import domain.utilities.Constants;
+
+import java.awt.Point;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+public class GameObjectGrid {
+    // returned by cellIndex for cells outside the grid
+    public static final int NO_CELL = -1;
+
+    private final int width;
+    private final int height;
+    private final GameObject[] cells;
+    private int size;
+    // counts the puts that add or remove an object, so the Map view's iterators can fail fast like HashMap's
+    private int modCount;
+    // cells holding each object type, indexed by the ordinal of the type
+    private final CellSet[] cellsByType;
+    // cells changed since the last drain
+    private final CellSet dirtyCells;
+    // owner of each cell, kept in step with the cells by put
+    private final CellReservations reservations;
+    private final Map<Point, GameObject> mapView = new MapView();
+
+    public GameObjectGrid(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive.");
+        }
+        this.width = width;
+        this.height = height;
+        this.cells = new GameObject[width * height];
+        this.cellsByType = new CellSet[Constants.GameObjectsInHall.values().length];
+        for (int i = 0; i < cellsByType.length; i++) {
+            cellsByType[i] = new CellSet(width * height);
+        }
+        this.dirtyCells = new CellSet(width * height);
+        this.reservations = new CellReservations(width * height);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * Packs a column and row into a cell index.
+     *
+     * @param col the column of the cell
+     * @param row the row of the cell
+     * @return the cell index, or NO_CELL if the cell is outside the grid
+     */
+    public int cellIndex(int col, int row) {
+        if (col < 0 || row < 0 || col >= width || row >= height) {
+            return NO_CELL;
+        }
+        return row * width + col;
+    }
+
+    public int cellIndex(Point position) {
+        return position == null ? NO_CELL : cellIndex(position.x, position.y);
+    }
+
+    public int colOf(int cell) {
+        return cell % width;
+    }
+
+    public int rowOf(int cell) {
+        return cell / width;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the object in the given cell.
+     *
+     * @param cell the cell index, NO_CELL is allowed
+     * @return the object in the cell, or null if the cell is empty or outside the grid
+     */
+    public GameObject get(int cell) {
+        return cell == NO_CELL ? null : cells[cell];
+    }
+
+    public GameObject get(int col, int row) {
+        return get(cellIndex(col, row));
+    }
+
+    public CellReservations getReservations() {
+        return reservations;
+    }
+
+    /**
+     * Places an object in the given cell, replacing whatever was there.
+     *
+     * @param cell the cell index
+     * @param obj the object to place, or null to clear the cell
+     * @return the object previously in the cell, or null
+     * @throws IllegalArgumentException if the cell is outside the grid, or claimed by someone other than the object
+     *         placed or the object it replaces, e.g. by the player or by a mover stepping into it
+     */
+    public GameObject put(int cell, GameObject obj) {
+        if (cell < 0 || cell >= cells.length) {
+            throw new IllegalArgumentException("Cell index is out of bounds: " + cell);
+        }
+        GameObject previous = cells[cell];
+        if (obj != null && obj != previous && !takeOver(cell, previous, obj)) {
+            throw new IllegalArgumentException("Cell " + cell + " is claimed by another mover.");
+        } else if (obj == null && previous != null) {
+            reservations.release(cell, previous);
+        }
+        cells[cell] = obj;
+        if (previous != obj) {
+            dirtyCells.add(cell);
+        }
+        if (previous != null) {
+            cellsByType[previous.getType().ordinal()].remove(cell);
+        }
+        if (obj != null) {
+            cellsByType[obj.getType().ordinal()].add(cell);
+        }
+        if (previous == null && obj != null) {
+            size++;
+            modCount++;
+        } else if (previous != null && obj == null) {
+            size--;
+            modCount++;
+        }
+        return previous;
+    }
+
+    // claims the cell for the object placed, unless it already holds it, or takes it over from the object replaced
+    private boolean takeOver(int cell, GameObject previous, GameObject obj) {
+        Object owner = reservations.ownerOf(cell);
+        if (owner == obj) {
+            return true;
+        }
+        if (owner == null) {
+            return reservations.claim(cell, obj);
+        }
+        return owner == previous && reservations.transfer(cell, previous, obj);
+    }
+
+    public GameObject remove(int cell) {
+        return cell == NO_CELL ? null : put(cell, null);
+    }
+
+    /**
+     * Moves the object in one cell to another, replacing whatever was in the target cell.
+     *
+     * @param from the cell index to move from
+     * @param to the cell index to move to
+     * @return the moved object, or null if the source cell was empty
+     */
+    public GameObject move(int from, int to) {
+        GameObject obj = get(from);
+        if (obj != null) {
+            put(from, null);
+            put(to, obj);
+        }
+        return obj;
+    }
+
+    public void clear() {
+        Arrays.fill(cells, null);
+        for (CellSet typeCells : cellsByType) {
+            typeCells.clear();
+        }
+        size = 0;
+        modCount++;
+        reservations.clear();
+        markAllDirty();
+    }
+
+    /**
+     * Records that a cell has to be drawn again, e.g. because the player, who is not stored in the grid, moved.
+     *
+     * @param cell the cell index, NO_CELL is ignored
+     */
+    public void markDirty(int cell) {
+        if (cell != NO_CELL) {
+            dirtyCells.add(cell);
+        }
+    }
+
+    public void markAllDirty() {
+        for (int cell = 0; cell < cells.length; cell++) {
+            dirtyCells.add(cell);
+        }
+    }
+
+    /**
+     * Returns the cells changed since the last call and starts recording again from an empty set.
+     *
+     * @return the dirty cell indexes, in no particular order
+     */
+    public int[] drainDirtyCells() {
+        int[] drained = new int[dirtyCells.size()];
+        for (int i = 0; i < drained.length; i++) {
+            drained[i] = dirtyCells.get(i);
+        }
+        dirtyCells.clear();
+        return drained;
+    }
+
+    /**
+     * Counts the objects of the given type in the grid.
+     *
+     * @param type the object type to count
+     * @return the number of cells holding an object of that type
+     */
+    public int countOfType(Constants.GameObjectsInHall type) {
+        return cellsByType[type.ordinal()].size();
+    }
+
+    /**
+     * Returns the cells holding objects of the given type. The set is live and must not be modified.
+     *
+     * @param type the object type
+     * @return the cells holding that type
+     */
+    public CellSet cellsOfType(Constants.GameObjectsInHall type) {
+        return cellsByType[type.ordinal()];
+    }
+
+    /**
+     * Picks a cell uniformly at random among all cells holding one of the given types.
+     *
+     * @param random the random source to draw from
+     * @param types the object types to choose from
+     * @return a cell index, or NO_CELL if no cell holds any of the types
+     */
+    public int randomCellOfType(Random random, Constants.GameObjectsInHall... types) {
+        int total = 0;
+        for (Constants.GameObjectsInHall type : types) {
+            total += countOfType(type);
+        }
+        if (total == 0) {
+            return NO_CELL;
+        }
+        int pick = random.nextInt(total);
+        for (Constants.GameObjectsInHall type : types) {
+            CellSet typeCells = cellsByType[type.ordinal()];
+            if (pick < typeCells.size()) {
+                return typeCells.get(pick);
+            }
+            pick -= typeCells.size();
+        }
+        return NO_CELL;
+    }
+
+    /**
+     * Returns a Map view of the grid keyed by position. The view is backed by the grid, so changes in either
+     * are visible in the other.
+     *
+     * The view stands in for the HashMap the hall used to keep, and differs from it where a grid cannot hold what a
+     * HashMap could:
+     * <ul>
+     *     <li>keys outside the grid are treated as absent, and putting one throws IllegalArgumentException instead of
+     *     adding an entry nothing in the hall would ever look at;</li>
+     *     <li>putting into a cell claimed by the player or by a mover stepping into it throws IllegalArgumentException,
+     *     see put;</li>
+     *     <li>a null value clears the cell, so putting null or setting an entry's value to null removes the entry;</li>
+     *     <li>entries are iterated in row-major order.</li>
+     * </ul>
+     * Like HashMap's, its iterators are fail-fast: adding or removing an object other than through the iterator
+     * makes the iterator throw ConcurrentModificationException. Replacing the object of a cell does not.
+     *
+     * @return the Map view of the grid
+     */
+    public Map<Point, GameObject> asMap() {
+        return mapView;
+    }
+
+    private class MapView extends AbstractMap<Point, GameObject> {
+        private transient Set<Map.Entry<Point, GameObject>> entrySet;
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof Point && GameObjectGrid.this.get(cellIndex((Point) key)) != null;
+        }
+
+        @Override
+        public GameObject get(Object key) {
+            return key instanceof Point ? GameObjectGrid.this.get(cellIndex((Point) key)) : null;
+        }
+
+        @Override
+        public GameObject put(Point key, GameObject value) {
+            int cell = cellIndex(key);
+            if (cell == NO_CELL) {
+                throw new IllegalArgumentException("Position is out of bounds: " + key);
+            }
+            return GameObjectGrid.this.put(cell, value);
+        }
+
+        @Override
+        public GameObject remove(Object key) {
+            return key instanceof Point ? GameObjectGrid.this.remove(cellIndex((Point) key)) : null;
+        }
+
+        @Override
+        public void clear() {
+            GameObjectGrid.this.clear();
+        }
+
+        @Override
+        public Set<Map.Entry<Point, GameObject>> entrySet() {
+            if (entrySet == null) {
+                entrySet = new AbstractSet<>() {
+                    @Override
+                    public Iterator<Map.Entry<Point, GameObject>> iterator() {
+                        return new EntryIterator();
+                    }
+
+                    @Override
+                    public int size() {
+                        return size;
+                    }
+                };
+            }
+            return entrySet;
+        }
+    }
+
+    // walks the occupied cells in row-major order
+    private class EntryIterator implements Iterator<Map.Entry<Point, GameObject>> {
+        private int next = advance(0);
+        private int last = NO_CELL;
+        private int expectedModCount = modCount;
+
+        private int advance(int from) {
+            while (from < cells.length && cells[from] == null) {
+                from++;
+            }
+            return from;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < cells.length;
+        }
+
+        @Override
+        public Map.Entry<Point, GameObject> next() {
+            checkForComodification();
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = advance(next + 1);
+            int cell = last;
+            return new AbstractMap.SimpleEntry<>(new Point(colOf(cell), rowOf(cell)), cells[cell]) {
+                @Override
+                public GameObject setValue(GameObject value) {
+                    super.setValue(value);
+                    GameObject previous = put(cell, value);
+                    // clearing the cell through its entry is the iterator's own change
+                    expectedModCount = modCount;
+                    return previous;
+                }
+            };
+        }
+
+        @Override
+        public void remove() {
+            if (last == NO_CELL) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            put(last, null);
+            last = NO_CELL;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -3,47 +3,75 @@
  */
 package domain.gameObjects;
 
+import domain.observers.HallMutationObserver;
 import domain.observers.HallObserver;
 import domain.threads.MonsterThread;
-import technicalServices.logging.LogManager;
 import ui.gameObjectImage.RuneImage;
 
 import java.awt.*;
 import java.io.Serializable;
 import java.util.*;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import javax.swing.ImageIcon;
 import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
 
 public class Hall implements Serializable {
+    private static final GameLogger LOGGER = GameLogger.getLogger(Hall.class);
+    // object types a rune can be hidden in
+    public static final Constants.GameObjectsInHall[] RUNE_CONTAINERS = {
+            Constants.GameObjectsInHall.CHEST,
+            Constants.GameObjectsInHall.WALL,
+            Constants.GameObjectsInHall.BLOCK,
+            Constants.GameObjectsInHall.WALLDIFFERENT
+    };
+
     private String name;
-    private Map<Point, GameObject> gameObjects;
+    // game objects of the 16x16 grid, indexed by packed cell index
+    private final GameObjectGrid gameObjects = new GameObjectGrid(16, 16);
     private Player player;
     private int timeRemaining;
     private List<Monster> monsters = new ArrayList<>();
+    // number of monsters in the list for each monster class
+    private final HashMap<Class<? extends Monster>, Integer> monsterCounts = new HashMap<>();
     private List<HallObserver> listeners = new ArrayList<>();
-    private List<Point> emptyPositions = new ArrayList<>();
+    // told about every change of the hall's contents, e.g. by the save journal
+    private final CopyOnWriteArrayList<HallMutationObserver> mutationObservers = new CopyOnWriteArrayList<>();
+    // number of observers at the end of mutationObservers that are told after all the others, guarded by the list
+    private int lastObserverCount = 0;
+    // tracks the empty cells of the 16x16 grid
+    private final OccupancyGrid occupancy = new OccupancyGrid(16, 16);
+    // owner of each cell, claimed with compare-and-set so a move decides its target cell without the hall lock
+    private final CellReservations reservations = gameObjects.getReservations();
+    // shared by every random pick the hall makes
+    private final Random random = new Random();
     private Map<Point, Rune> runeObjects;
     private Constants.HallType hallType;
     private int totalTime;
+    // cell the player was drawn in at the last notification
+    private int lastPlayerCell = GameObjectGrid.NO_CELL;
+    // cell the player stands in and holds in the reservations, NO_CELL while it stands on an object
+    private int claimedPlayerCell = GameObjectGrid.NO_CELL;
+    // set while addObjects fills the hall, observers are told once at the end instead of once per object
+    private boolean quiet = false;
 
     public Hall(String name, Player player, int timeLimit, Constants.HallType hallType) {
         this.name = name;
         this.player = player;
         this.hallType = hallType;
         this.timeRemaining = timeLimit;
-        this.gameObjects = new HashMap<>();
-        this.emptyPositions = initializeEmptyPositions();
         this.runeObjects = new HashMap<>();
         this.totalTime = timeLimit;
+        claimPlayerCell();
     }
 
     private final List<Enchantment> activeEnchantments = new ArrayList<>();
 
     public void addEnchantment(Enchantment enchantment) {
         activeEnchantments.add(enchantment);
-        System.out.println("Enchantment added: " + enchantment.getClass().getSimpleName());
+        LOGGER.debug(() -> "Enchantment added: " + enchantment.getClass().getSimpleName());
         printInventory();
         // Trigger rendering or notify UI
     }
@@ -53,11 +81,11 @@ public class Hall implements Serializable {
         int inventorySize = player.getEnchantments().size();
 
         // Print inventory size
-        System.out.println("Inventory contains " + inventorySize + " item(s):");
+        LOGGER.debug(() -> "Inventory contains " + inventorySize + " item(s):");
 
         // Check if inventory is empty
         if (inventorySize == 0) {
-            System.out.println("The inventory is empty.");
+            LOGGER.debug("The inventory is empty.");
             return;
         }
 
@@ -67,7 +95,7 @@ public class Hall implements Serializable {
 
     public void removeEnchantment(Enchantment enchantment) {
         activeEnchantments.remove(enchantment);
-        System.out.println("Enchantment removed: " + enchantment.getClass().getSimpleName());
+        LOGGER.debug(() -> "Enchantment removed: " + enchantment.getClass().getSimpleName());
         // Trigger UI update
     }
 
@@ -93,10 +121,39 @@ public class Hall implements Serializable {
         this.hallType = hallType;
     }
 
+    /**
+     * Returns a Map view of the game objects keyed by position, backed by the hall's grid.
+     * Prefer getObjectAt on hot paths, since every Map lookup needs a Point.
+     *
+     * @return the game objects of the hall keyed by position
+     */
     public Map<Point, GameObject> getGameObjects() {
+        return gameObjects.asMap();
+    }
+
+    public GameObjectGrid getGameObjectGrid() {
         return gameObjects;
     }
 
+    /**
+     * Returns the game object in the given cell without allocating a Point.
+     *
+     * @param col the column of the cell
+     * @param row the row of the cell
+     * @return the game object in the cell, or null if the cell is empty or outside the hall
+     */
+    public GameObject getObjectAt(int col, int row) {
+        return gameObjects.get(col, row);
+    }
+
+    public GameObject getObjectAt(int cell) {
+        return gameObjects.get(cell);
+    }
+
+    public int cellIndex(int col, int row) {
+        return gameObjects.cellIndex(col, row);
+    }
+
     public Player getPlayer() {
         return player;
     }
@@ -119,91 +176,295 @@ public class Hall implements Serializable {
 
     /** for tests made by: İpek Akbaytürk
      * Requires: The object cannot be null and the position of the object cannot be out of bounds. Hall cannot be full.
-     * Modifies: gameObjects, emptyPositions
+     * Modifies: gameObjects, occupancy
      * Effects: The object cannot be placed if the spot is occupied. Adds the object to the hall if the object is not null and the position of the object is not out of bounds.
-                * When object is added, the emptyPositions array must be updated to reflect changes within the grid.
+                * When object is added, the occupancy grid must be updated to reflect changes within the grid.
      * @param obj
      */
     public synchronized void addObject(GameObject obj) {
 
         if (obj == null){
-            LogManager.logError("Object cannot be null. [from class: Hall, method: addObject]");
+            LOGGER.error("Object cannot be null. [from class: Hall, method: addObject]");
             throw new IllegalArgumentException("Object cannot be null.");
         }
 
         if (obj.getPosition().getX() > 15 || obj.getPosition().getY() > 15 || obj.getPosition().getX() < 0 || obj.getPosition().getY() < 0 || obj.getPosition() == null){
-            LogManager.logError("Object position is out of bounds. [from class: Hall, method: addObject]");
+            LOGGER.error("Object position is out of bounds. [from class: Hall, method: addObject]");
             throw new IllegalArgumentException("Object position is out of bounds.");
         }
 
         // if hall is full, do not add object
-        if (emptyPositions.isEmpty()){
-            LogManager.logError("Hall is full. Cannot add object. [from class: Hall, method: addObject]");
+        if (occupancy.getEmptyCount() == 0){
+            LOGGER.error("Hall is full. Cannot add object. [from class: Hall, method: addObject]");
             throw new IllegalArgumentException("Hall is full. Cannot add object.");
         }
 
         if (obj instanceof Rune){
             runeObjects.put(obj.getPosition(), (Rune) obj);
+            if (!quiet) {
+                for (HallMutationObserver observer : mutationObservers) {
+                    observer.onRunePlaced(gameObjects.cellIndex(obj.getPosition()), ((Rune) obj).getRuneType());
+                }
+            }
 
             //safeguard for rune behavior (must coincide with object for concealment)
-            if (emptyPositions.contains(obj.getPosition())){
-                emptyPositions.remove(obj.getPosition());
-            }
+            occupancy.occupy(obj.getPosition());
 
-            System.out.println("Rune added to the hall");
+            LOGGER.debug("Rune added to the hall");
+        }
+        else if (gameObjects.get(obj.getPosition().x, obj.getPosition().y) != null) {
+            GameObject occupant = gameObjects.get(obj.getPosition().x, obj.getPosition().y);
+            LOGGER.error("Position is already occupied by another object. Which object is it? " + occupant.getClass().getSimpleName()+ " [from class: Hall, method: addObject]");
+            throw new IllegalArgumentException("Position is already occupied by another object. Which object is it? " + occupant.getClass().getSimpleName());
         }
-        else if (gameObjects.containsKey(obj.getPosition())) {
-            LogManager.logError("Position is already occupied by another object. Which object is it? " + gameObjects.get(obj.getPosition()).getClass().getSimpleName()+ " [from class: Hall, method: addObject]");
-            throw new IllegalArgumentException("Position is already occupied by another object. Which object is it? " + gameObjects.get(obj.getPosition()).getClass().getSimpleName());
+        else if (!claimForPlacement(gameObjects.cellIndex(obj.getPosition()), obj)) {
+            LOGGER.error("Position is being stepped into by another object or the player. [from class: Hall, method: addObject]");
+            throw new IllegalArgumentException("Position is being stepped into by another object or the player.");
         }
         else {
-            gameObjects.put(obj.getPosition(), obj);
-            emptyPositions.remove(obj.getPosition());
-            notifyListeners();
+            gameObjects.put(gameObjects.cellIndex(obj.getPosition()), obj);
+            occupancy.occupy(obj.getPosition());
+            if (!quiet) {
+                for (HallMutationObserver observer : mutationObservers) {
+                    observer.onObjectPlaced(gameObjects.cellIndex(obj.getPosition()), obj.getType());
+                }
+                notifyListeners();
+            }
+        }
+    }
+
+    // an object placed where the player stands takes the cell from it, the player then stands on the object
+    private boolean claimForPlacement(int cell, GameObject obj) {
+        if (cell == claimedPlayerCell) {
+            releasePlayerCell();
+        }
+        return reservations.claim(cell, obj);
+    }
+
+    /**
+     * Claims the cell the player stands in, and gives up the one it claimed before if the player is elsewhere now.
+     * The player's position is also changed from outside the hall, e.g. when a game is reset, so this is checked
+     * whenever the listeners are told about changes. Has to be called while the hall is locked.
+     */
+    private void claimPlayerCell() {
+        int cell = player == null ? GameObjectGrid.NO_CELL : gameObjects.cellIndex(player.getPosition());
+        if (cell == claimedPlayerCell) {
+            return;
+        }
+        releasePlayerCell();
+        if (cell != GameObjectGrid.NO_CELL && reservations.claim(cell, player)) {
+            occupancy.occupy(gameObjects.colOf(cell), gameObjects.rowOf(cell));
+            claimedPlayerCell = cell;
         }
     }
+
+    private void releasePlayerCell() {
+        if (claimedPlayerCell != GameObjectGrid.NO_CELL && reservations.release(claimedPlayerCell, player)) {
+            occupancy.vacate(gameObjects.colOf(claimedPlayerCell), gameObjects.rowOf(claimedPlayerCell));
+        }
+        claimedPlayerCell = GameObjectGrid.NO_CELL;
+    }
+
+    /**
+     * Adds many objects at once, used when a saved game is loaded.
+     * The objects are checked like in addObject, but observers are not told about each of them: listeners are told
+     * once that every cell changed, and mutation observers are not told at all, they are expected to take a snapshot
+     * of the filled hall when they attach. Monsters are added to the monster list as well.
+     *
+     * @param objects the objects to add
+     * @throws IllegalArgumentException if an object cannot be added, the objects before it stay in the hall
+     */
+    public void addObjects(Collection<? extends GameObject> objects) {
+        synchronized (this) {
+            quiet = true;
+            try {
+                for (GameObject obj : objects) {
+                    addObject(obj);
+                    if (obj instanceof Monster) {
+                        addMonster((Monster) obj);
+                    }
+                }
+            } finally {
+                quiet = false;
+            }
+            gameObjects.markAllDirty();
+        }
+        notifyListeners();
+    }
+    /**
+     * Hands the cells changed since the last notification to every listener.
+     * The player is not stored with the other objects, so a change of the player's cell is detected here.
+     */
     public void notifyListeners() {
+        int[] dirtyCells;
+        synchronized (this) {
+            claimPlayerCell();
+            int playerCell = player == null ? GameObjectGrid.NO_CELL : gameObjects.cellIndex(player.getPosition());
+            if (playerCell != lastPlayerCell) {
+                gameObjects.markDirty(lastPlayerCell);
+                gameObjects.markDirty(playerCell);
+                lastPlayerCell = playerCell;
+            }
+            dirtyCells = gameObjects.drainDirtyCells();
+        }
         for (HallObserver listener : listeners) {
-            listener.onObjectAdded();
-            listener.onObjectReplaced();
+            listener.onCellsChanged(dirtyCells);
         }
     }
     public void addListener(HallObserver listener) {
         listeners.add(listener);
     }
-    public void removeObject(Point position) {
-        gameObjects.remove(position);
-        emptyPositions.add(position);
+    public void addMutationObserver(HallMutationObserver observer) {
+        synchronized (mutationObservers) {
+            mutationObservers.add(mutationObservers.size() - lastObserverCount, observer);
+        }
+    }
+    /**
+     * Adds an observer that is told about each change after every other observer. Used by observers that wake
+     * threads, so that the woken threads find the state the other observers keep already updated.
+     *
+     * @param observer the observer to tell last
+     */
+    public void addMutationObserverLast(HallMutationObserver observer) {
+        synchronized (mutationObservers) {
+            mutationObservers.add(observer);
+            lastObserverCount++;
+        }
     }
-    public void removeMonster(Monster monster) {
-        monsters.remove(monster);
+    public void removeMutationObserver(HallMutationObserver observer) {
+        synchronized (mutationObservers) {
+            int index = mutationObservers.indexOf(observer);
+            if (index < 0) {
+                return;
+            }
+            if (index >= mutationObservers.size() - lastObserverCount) {
+                lastObserverCount--;
+            }
+            mutationObservers.remove(index);
+        }
     }
-    public void movePlayer(Player p, Point newPosition) {
-        // Remove the object from its current position and update it
-        Point old = p.getPosition();
-        player.setPosition(newPosition.x, newPosition.y);
-        emptyPositions.add(old);
-        emptyPositions.remove(newPosition);
-
+    public synchronized void removeObject(Point position) {
+        int cell = gameObjects.cellIndex(position);
+        gameObjects.remove(cell);
+        occupancy.vacate(position);
+        for (HallMutationObserver observer : mutationObservers) {
+            observer.onObjectRemoved(cell);
+        }
+    }
+    public synchronized void removeMonster(Monster monster) {
+        if (monsters.remove(monster)) {
+            monsterCounts.merge(monster.getClass(), -1, Integer::sum);
+        }
+    }
+    public synchronized void movePlayer(Player p, Point newPosition) {
+        // setPosition changes the player's point in place, so the old cell is copied before it
+        Point old = new Point(p.getPosition());
+        p.setPosition(newPosition.x, newPosition.y);
+        claimPlayerCell();
+        gameObjects.markDirty(gameObjects.cellIndex(old));
+        gameObjects.markDirty(gameObjects.cellIndex(newPosition));
+        for (HallMutationObserver observer : mutationObservers) {
+            observer.onPlayerMoved(gameObjects.cellIndex(newPosition));
+        }
     }
+    /**
+     * Moves an object to another cell, like tryMoveObject, but fails loudly.
+     *
+     * @throws IllegalArgumentException if the object is not in the hall or the target cell is taken
+     */
     public void moveObject(GameObject obj, Point newPosition) {
-        if (!gameObjects.containsKey(obj.getPosition())) {
-            LogManager.logError("Object does not exist in the hall. [from class: Hall, method: moveObject]");
-            throw new IllegalArgumentException("Object does not exist in the hall.");
+        if (tryMoveObject(obj, newPosition)) {
+            return;
         }
-        if (gameObjects.containsKey(newPosition)) {
-            LogManager.logError("Target position is already occupied. [from class: Hall, method: moveObject]");
-            throw new IllegalArgumentException("Target position is already occupied.");
+        if (gameObjects.get(gameObjects.cellIndex(obj.getPosition())) != obj) {
+            LOGGER.error("Object does not exist in the hall. [from class: Hall, method: moveObject]");
+            throw new IllegalArgumentException("Object does not exist in the hall.");
         }
+        LOGGER.error("Target position is already occupied. [from class: Hall, method: moveObject]");
+        throw new IllegalArgumentException("Target position is already occupied.");
+    }
 
-        Point old = obj.getPosition();
-        gameObjects.remove(gameObjects.get(old));
-        obj.setPosition(newPosition.x, newPosition.y);
-        gameObjects.put(newPosition, obj);
+    /**
+     * Moves an object to another cell if nothing stands in it or is stepping into it.
+     *
+     * The target cell is claimed with a compare-and-set before the hall is locked, so a mover that loses the cell to
+     * another one fails at once without waiting for the lock, and movers heading for different cells only share the
+     * lock for the short update of the grid, the occupancy and the observers.
+     *
+     * @param obj the object to move
+     * @param newPosition the cell to move it to
+     * @return true if the object moved, false if it is not in the hall or the target cell is outside or taken
+     */
+    public boolean tryMoveObject(GameObject obj, Point newPosition) {
+        // setPosition changes the object's point in place, so the old cell is copied before it
+        Point old = new Point(obj.getPosition());
+        int oldCell = gameObjects.cellIndex(old);
+        int newCell = gameObjects.cellIndex(newPosition);
+        if (oldCell == GameObjectGrid.NO_CELL || newCell == GameObjectGrid.NO_CELL || !reservations.claim(newCell, obj)) {
+            return false;
+        }
+        synchronized (this) {
+            // the object may have been removed, or moved by someone else, since the cell was claimed, and the map
+            // view of the grid can still put an object into a cell without claiming it
+            if (gameObjects.get(oldCell) != obj || gameObjects.get(newCell) != null) {
+                reservations.release(newCell, obj);
+                return false;
+            }
+            gameObjects.remove(oldCell);
+            obj.setPosition(newPosition.x, newPosition.y);
+            gameObjects.put(newCell, obj);
+
+            occupancy.vacate(old);
+            occupancy.occupy(newPosition);
+            for (HallMutationObserver observer : mutationObservers) {
+                observer.onObjectRemoved(oldCell);
+                observer.onObjectPlaced(newCell, obj.getType());
+            }
+        }
+        return true;
+    }
 
-        emptyPositions.add(old);
-        emptyPositions.remove(newPosition);
+    /**
+     * Steps the player into another cell if no object stands in it or is stepping into it.
+     *
+     * The player is not stored with the other objects, but it holds the cell it stands in, so no monster can step
+     * into it. The target cell is claimed before the hall is locked, and the old cell is only given up once the
+     * player stands in the new one. The step ends here, the player is not left moving for its next update.
+     *
+     * @param p the player to move
+     * @param newPosition the cell to step into
+     * @return true if the player moved, false if the target cell is outside, taken, or the player left the hall
+     */
+    public boolean tryMovePlayer(Player p, Point newPosition) {
+        int newCell = gameObjects.cellIndex(newPosition);
+        if (newCell == GameObjectGrid.NO_CELL || gameObjects.get(newCell) != null || !reservations.claim(newCell, p)) {
+            return false;
+        }
+        int oldCell;
+        synchronized (this) {
+            // an object can still be put into the cell through the map view of the grid before it was claimed
+            if (p != player || gameObjects.get(newCell) != null) {
+                reservations.release(newCell, p);
+                return false;
+            }
+            oldCell = gameObjects.cellIndex(p.getPosition());
+            releasePlayerCell();
+            p.setPosition(newPosition.x, newPosition.y);
+            p.setMoving(false);
+            occupancy.occupy(newPosition);
+            claimedPlayerCell = newCell;
+            gameObjects.markDirty(oldCell);
+            gameObjects.markDirty(newCell);
+            for (HallMutationObserver observer : mutationObservers) {
+                observer.onPlayerMoved(newCell);
+            }
+        }
+        notifyListeners();
+        return true;
+    }
 
+    public CellReservations getCellReservations() {
+        return reservations;
     }
     /**
      * Retrieves the position of the active Luring Gem Enchantment.
@@ -260,102 +521,180 @@ public class Hall implements Serializable {
         }
 
         if (rune == null) {
-            LogManager.logError("No Rune found to teleport. [from class: Hall, method: teleportRune]");
-            System.out.println("No Rune found to teleport.");
+            LOGGER.error("No Rune found to teleport. [from class: Hall, method: teleportRune]");
             return;
         }
         // Remove rune from runeObjects
         runeObjects.remove(runePos);
+        // the key can be the rune's own position, which changes below
+        int oldRuneCell = gameObjects.cellIndex(runePos);
 
-        List<Point> validLocations = new ArrayList<>();
-        for (Map.Entry<Point, GameObject> entry : gameObjects.entrySet()) {
-            GameObject obj = entry.getValue();
-            if (obj instanceof Chest || obj instanceof Wall || obj instanceof Block || obj instanceof WallDifferent) {
-                validLocations.add(entry.getKey());
-            }
-        }
+        Point newRunePos = getRandomPositionOfType(RUNE_CONTAINERS);
 
-        if (validLocations.isEmpty()) {
-            LogManager.logError("No valid locations found to teleport the Rune. [from class: Hall, method: teleportRune]");
-            System.out.println("No valid locations found to teleport the Rune.");
+        if (newRunePos == null) {
+            LOGGER.error("No valid locations found to teleport the Rune. [from class: Hall, method: teleportRune]");
+            for (HallMutationObserver observer : mutationObservers) {
+                observer.onRuneRemoved(oldRuneCell);
+            }
             return;
         }
 
-        Random random = new Random();
-        Point newRunePos = validLocations.get(random.nextInt(validLocations.size()));
         // Set new position of the rune and put it in runeObjects map "Can be obtained from that map for further implementation"
         rune.setPosition(newRunePos.x, newRunePos.y);
         runeObjects.put(newRunePos, rune);
+        for (HallMutationObserver observer : mutationObservers) {
+            observer.onRuneRemoved(oldRuneCell);
+            observer.onRunePlaced(gameObjects.cellIndex(newRunePos), rune.getRuneType());
+        }
         int row = newRunePos.y;
         int col = newRunePos.x;
-        LogManager.logInfo("Rune teleported to new position: " + row + "," + col + " [from class: Hall, method: teleportRune]");
-        System.out.println("Rune teleported to new position: " + row + "," + col);
+        LOGGER.info(() -> "Rune teleported to new position: " + row + "," + col + " [from class: Hall, method: teleportRune]");
     }
 
     public synchronized Point getRandomEmptyPosition() {
-        if (emptyPositions.isEmpty()) {
+        Point pos = occupancy.getRandomEmpty(random);
+        if (pos == null) {
             return null;
         }
-        Random random = new Random();
-        int index = random.nextInt(emptyPositions.size());
-        Point pos = emptyPositions.get(index);
-        System.out.println("What is the empty position given to the factory? " + pos);
+        LOGGER.trace(() -> "What is the empty position given to the factory? " + pos);
         return pos;
     }
 
-    public List<Point> initializeEmptyPositions() {
-        List<Point> emptyPositions = new ArrayList<>();
-        for (int r = 0; r < 16; r++) {
-            for (int c = 0; c < 16; c++) {
-                Point pos = new Point(c, r);
-                emptyPositions.add(pos);
-            }
-        }
-        return emptyPositions;
+    /**
+     * Checks whether a position is inside the hall and not occupied.
+     *
+     * @param position the position to check
+     * @return true if the position is empty
+     */
+    public synchronized boolean isPositionEmpty(Point position) {
+        return occupancy.isEmpty(position);
     }
-    public ArrayList<Point> getEmptyPositions() {
-        return (ArrayList<Point>) emptyPositions;
+
+    /**
+     * Returns a snapshot of the empty positions, kept for callers that still expect a list.
+     * Changes to the returned list do not affect the hall; use isPositionEmpty and getRandomEmptyPosition instead.
+     *
+     * @return a new list holding every empty position
+     */
+    public synchronized ArrayList<Point> getEmptyPositions() {
+        return occupancy.toPointList();
     }
 
-    public void addMonster(Monster monster) {
+    public synchronized void addMonster(Monster monster) {
         monsters.add(monster);
+        monsterCounts.merge(monster.getClass(), 1, Integer::sum);
     }
 
+    /**
+     * Returns the monsters of the hall. The list cannot be modified; use addMonster and removeMonster instead.
+     *
+     * @return an unmodifiable view of the monsters
+     */
     public List<Monster> getMonsters() {
-        return monsters;
+        return Collections.unmodifiableList(monsters);
+    }
+
+    /**
+     * Counts the monsters that are instances of the given type.
+     * Counts are kept per monster class, so only the few classes present are checked instead of every monster.
+     *
+     * @param monsterType the monster type to count
+     * @return the number of monsters of that type
+     */
+    public synchronized <T extends Monster> long countMonstersOfType(Class<T> monsterType) {
+        long count = 0;
+        for (Map.Entry<Class<? extends Monster>, Integer> entry : monsterCounts.entrySet()) {
+            if (monsterType.isAssignableFrom(entry.getKey())) {
+                count += entry.getValue();
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Counts the game objects of the given type currently in the hall.
+     *
+     * @param type the object type to count
+     * @return the number of objects of that type
+     */
+    public synchronized int countObjectsOfType(Constants.GameObjectsInHall type) {
+        return gameObjects.countOfType(type);
     }
-    public <T extends Monster> long countMonstersOfType(Class<T> monsterType) {
-        return monsters.stream().filter(monsterType::isInstance).count();
+
+    /**
+     * Picks the position of a random game object among those of the given types.
+     * Each matching object is equally likely to be chosen.
+     *
+     * @param types the object types to choose from
+     * @return the position of the chosen object, or null if the hall has none of those types
+     */
+    public synchronized Point getRandomPositionOfType(Constants.GameObjectsInHall... types) {
+        int cell = gameObjects.randomCellOfType(random, types);
+        if (cell == GameObjectGrid.NO_CELL) {
+            return null;
+        }
+        return new Point(gameObjects.colOf(cell), gameObjects.rowOf(cell));
     }
 
     public void setPlayer(Player player) {
         if (player == null) {
             throw new IllegalArgumentException("Player cannot be null");
         }
-        this.player = player;
+        synchronized (this) {
+            releasePlayerCell();
+            this.player = player;
+            claimPlayerCell();
+        }
     }
 
     public synchronized void moveObject(Point from, Point to) {
-        GameObject object = gameObjects.remove(from);
-        if (object != null) {
-            gameObjects.put(to, object);
+        int fromCell = gameObjects.cellIndex(from);
+        int toCell = gameObjects.cellIndex(to);
+        GameObject object = gameObjects.get(fromCell);
+        // an object only moves into a cell it could claim, nothing standing there is overwritten
+        if (object != null && fromCell != toCell && (toCell == GameObjectGrid.NO_CELL || !reservations.claim(toCell, object))) {
+            LOGGER.error("Target position is already occupied. [from class: Hall, method: moveObject]");
+            return;
+        }
+        if (object != null && fromCell != toCell) {
+            gameObjects.move(fromCell, toCell);
+            occupancy.vacate(from);
+            occupancy.occupy(to);
+            for (HallMutationObserver observer : mutationObservers) {
+                observer.onObjectRemoved(gameObjects.cellIndex(from));
+                observer.onObjectPlaced(toCell, object.getType());
+            }
+        } else if (object == null && player != null && toCell != GameObjectGrid.NO_CELL && player.getPosition().equals(to)) {
+            claimPlayerCell();
+            for (HallMutationObserver observer : mutationObservers) {
+                observer.onPlayerMoved(toCell);
+            }
         }
+        // the player is moved through here too without being stored in the grid
+        gameObjects.markDirty(gameObjects.cellIndex(from));
+        gameObjects.markDirty(toCell);
         notifyListeners();
     }
     /**
      * Clears all objects and monsters from the hall.
      *
      * This method removes all game objects and monsters currently in the hall.
-     * It also resets the list of empty positions to its initial state, making the hall ready for a fresh start.
+     * It also marks every cell as empty again, making the hall ready for a fresh start.
      */
-    public void clearObjects() {
+    public synchronized void clearObjects() {
         gameObjects.clear();
 
         monsters.clear();
+        monsterCounts.clear();
+
+        occupancy.reset();
+        // clearing the grid dropped the player's claim with the others
+        claimedPlayerCell = GameObjectGrid.NO_CELL;
+        claimPlayerCell();
+        for (HallMutationObserver observer : mutationObservers) {
+            observer.onHallCleared();
+        }
 
-        emptyPositions = initializeEmptyPositions();
-
-        LogManager.logInfo("All game objects and monsters have been cleared. The hall is reset. [from class: Hall, method: clearObjects]");
-        System.out.println("All game objects and monsters have been cleared. The hall is reset.");
+        LOGGER.info("All game objects and monsters have been cleared. The hall is reset. [from class: Hall, method: clearObjects]");
     }
 }
\ No newline at end of file
@@ -5,9 +5,10 @@
 package domain.gameObjects;
 
 import domain.utilities.Constants;
-import technicalServices.logging.LogManager;
+import technicalServices.logging.GameLogger;
 
 public class LifeEnchantment extends Enchantment {
+    private static final GameLogger LOGGER = GameLogger.getLogger(LifeEnchantment.class);
     private static final int LIVES_INCREMENT = 1;
 
     public LifeEnchantment(int x, int y) {
@@ -33,8 +34,7 @@ public class LifeEnchantment extends Enchantment {
     public void collect(Player player) {
         if (player != null) {
             player.incrementLives(LIVES_INCREMENT); // Assuming player has this method
-            System.out.println("Player's lives increased by " + LIVES_INCREMENT);
-            LogManager.logInfo("Player's lives increased by " + LIVES_INCREMENT + " [from class: LifeEnchantment, method: collect]");
+            LOGGER.info(() -> "Player's lives increased by " + LIVES_INCREMENT + " [from class: LifeEnchantment, method: collect]");
             player.addEnchantment(this);
         }
     }
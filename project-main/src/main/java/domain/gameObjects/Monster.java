@@ -4,13 +4,14 @@
 package domain.gameObjects;
 
 import domain.utilities.Constants;
-import technicalServices.logging.LogManager;
+import technicalServices.logging.GameLogger;
 
 import java.awt.*;
 import java.util.ArrayList;
 import java.util.logging.Logger;
 
 public abstract class Monster extends GameObject {
+    private static final GameLogger LOGGER = GameLogger.getLogger(Monster.class);
     public static final Logger logger = Logger.getLogger(Monster.class.getName());
     private int x;
     private int y;
@@ -45,8 +46,7 @@ public abstract class Monster extends GameObject {
      */
     public static Point findRandomLocation(ArrayList<Point> possibleLocations){
         if (possibleLocations==null|| possibleLocations.isEmpty() ){
-            LogManager.logInfo("Given list of possible locations is null or empty, can not find random location. [from class: Monster, method: findRandomLocation]");
-            System.err.println("Given list of possible locations is null or empty, can not find random location");
+            LOGGER.warn("Given list of possible locations is null or empty, can not find random location. [from class: Monster, method: findRandomLocation]");
             return null;
         }
         int randomIndex = (int) (Math.random() * possibleLocations.size());
@@ -61,8 +61,7 @@ public abstract class Monster extends GameObject {
      */
     public static int calculateDistance(Point p1, Point p2){
         if (p1==null || p2==null){
-            LogManager.logError("Given points are null, can not calculate distance. [from class: Monster, method: calculateDistance]");
-            System.err.println("Given points are null, can not calculate distance.");
+            LOGGER.error("Given points are null, can not calculate distance. [from class: Monster, method: calculateDistance]");
             return -1;
         }
         return (int) Math.sqrt(Math.pow(p1.getX()-p2.getX(),2)+Math.pow(p1.getY()-p2.getY(),2));
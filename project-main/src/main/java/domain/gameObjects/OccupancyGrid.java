@@ -0,0 +1,165 @@
+/**
+ * Keeps track of which cells of a hall are empty.
+ *
+ * Occupancy is stored in a bitset, one bit per cell, so checking a cell is a single bit test. The empty cells are
+ * also kept in a dense array together with each cell's slot in that array; removing a cell swaps the last empty
+ * cell into its slot. This makes occupying, vacating and picking a uniformly random empty cell all O(1).
+ */
+package domain.gameObjects;
+
+import java.awt.Point;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+public class OccupancyGrid implements Serializable {
+    private static final long serialVersionUID = 1L;
+    private static final int NOT_FREE = -1;
+
+    private final int width;
+    private final int height;
+    // bit i is set when cell i is occupied, cells are indexed as y * width + x
+    private final long[] occupied;
+    // the first freeCount entries are the indexes of the empty cells, in no particular order
+    private final int[] freeCells;
+    // slot of each cell in freeCells, or NOT_FREE if the cell is occupied
+    private final int[] freeSlots;
+    private int freeCount;
+
+    public OccupancyGrid(int width, int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException("Grid dimensions must be positive.");
+        }
+        this.width = width;
+        this.height = height;
+        this.occupied = new long[(width * height + 63) >>> 6];
+        this.freeCells = new int[width * height];
+        this.freeSlots = new int[width * height];
+        reset();
+    }
+
+    /**
+     * Marks every cell of the grid as empty.
+     */
+    public final void reset() {
+        Arrays.fill(occupied, 0L);
+        for (int cell = 0; cell < freeCells.length; cell++) {
+            freeCells[cell] = cell;
+            freeSlots[cell] = cell;
+        }
+        freeCount = freeCells.length;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    /**
+     * Checks whether the cell is inside the grid and empty.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return true if the cell is empty, false if it is occupied or out of bounds
+     */
+    public boolean isEmpty(int x, int y) {
+        if (!isInBounds(x, y)) {
+            return false;
+        }
+        int cell = y * width + x;
+        return (occupied[cell >>> 6] & (1L << cell)) == 0;
+    }
+
+    public boolean isEmpty(Point position) {
+        return position != null && isEmpty(position.x, position.y);
+    }
+
+    /**
+     * Marks the cell as occupied. Cells that are out of bounds or already occupied are ignored.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return true if the cell was empty before the call
+     */
+    public boolean occupy(int x, int y) {
+        if (!isEmpty(x, y)) {
+            return false;
+        }
+        int cell = y * width + x;
+        occupied[cell >>> 6] |= 1L << cell;
+
+        // move the last empty cell into the slot that is being freed up
+        int slot = freeSlots[cell];
+        int last = freeCells[--freeCount];
+        freeCells[slot] = last;
+        freeSlots[last] = slot;
+        freeSlots[cell] = NOT_FREE;
+        return true;
+    }
+
+    public boolean occupy(Point position) {
+        return position != null && occupy(position.x, position.y);
+    }
+
+    /**
+     * Marks the cell as empty. Cells that are out of bounds or already empty are ignored.
+     *
+     * @param x the column of the cell
+     * @param y the row of the cell
+     * @return true if the cell was occupied before the call
+     */
+    public boolean vacate(int x, int y) {
+        if (!isInBounds(x, y) || isEmpty(x, y)) {
+            return false;
+        }
+        int cell = y * width + x;
+        occupied[cell >>> 6] &= ~(1L << cell);
+        freeCells[freeCount] = cell;
+        freeSlots[cell] = freeCount;
+        freeCount++;
+        return true;
+    }
+
+    public boolean vacate(Point position) {
+        return position != null && vacate(position.x, position.y);
+    }
+
+    public int getEmptyCount() {
+        return freeCount;
+    }
+
+    /**
+     * Picks an empty cell uniformly at random.
+     *
+     * @param random the random source to draw from
+     * @return the position of the chosen cell, or null if the grid is full
+     */
+    public Point getRandomEmpty(Random random) {
+        if (freeCount == 0) {
+            return null;
+        }
+        int cell = freeCells[random.nextInt(freeCount)];
+        return new Point(cell % width, cell / width);
+    }
+
+    /**
+     * Copies the empty cells into a new list. Changes to the list do not affect the grid.
+     *
+     * @return the positions of all empty cells
+     */
+    public ArrayList<Point> toPointList() {
+        ArrayList<Point> points = new ArrayList<>(freeCount);
+        for (int i = 0; i < freeCount; i++) {
+            points.add(new Point(freeCells[i] % width, freeCells[i] / width));
+        }
+        return points;
+    }
+}
@@ -6,6 +6,7 @@ package domain.gameObjects;
 
 import domain.observers.HealthObserver;
 import domain.observers.InventoryObserver;
+import technicalServices.logging.GameLogger;
 
 import static domain.utilities.Constants.Directions.DOWN;
 import static domain.utilities.Constants.Directions.LEFT;
@@ -20,11 +21,14 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class Player extends GameObject implements Serializable {
+    private static final GameLogger LOGGER = GameLogger.getLogger(Player.class);
     private Point position;
     private int lifeCount;
     private ArrayList<HealthObserver> observers;
+    private final CopyOnWriteArrayList<InventoryObserver> inventoryObservers = new CopyOnWriteArrayList<>();
     private Image playerImage;
     private int playerDir;
     private boolean moving;
@@ -58,8 +62,9 @@ public class Player extends GameObject implements Serializable {
             // Otherwise, add the enchantment with a count of 1
             enchantments.put(enchantment, 1);
         }
+        notifyInventoryObservers();
 
-        System.out.println("Collected enchantment: " + enchantment.getClass().getSimpleName());
+        LOGGER.debug(() -> "Collected enchantment: " + enchantment.getClass().getSimpleName());
     }
 
     public int getLifeCount() {
@@ -86,10 +91,12 @@ public class Player extends GameObject implements Serializable {
         else{
             enchantments.put(enchantment,1);
         }
-
+        notifyInventoryObservers();
     }
     public void removeEnchantment(Enchantment enchantment) {
-        enchantments.remove(enchantment);
+        if (enchantments.remove(enchantment) != null) {
+            notifyInventoryObservers();
+        }
     }
     public HashMap<Enchantment,Integer> getEnchantments() {
         return enchantments;
@@ -112,6 +119,12 @@ public class Player extends GameObject implements Serializable {
         this.position = position;
     }
 
+    // the player keeps its own position, the one of GameObject is not used
+    @Override
+    public void setPosition(int x, int y) {
+        position.setLocation(x, y);
+    }
+
     public void setDirection(int direction) {
         this.playerDir = direction;
         this.moving = true; // Movement starts when direction is set
@@ -129,6 +142,20 @@ public class Player extends GameObject implements Serializable {
         observers.remove(observer);
     }
 
+    public void addInventoryObserver(InventoryObserver observer) {
+        inventoryObservers.add(observer);
+    }
+
+    public void removeInventoryObserver(InventoryObserver observer) {
+        inventoryObservers.remove(observer);
+    }
+
+    private void notifyInventoryObservers() {
+        for (InventoryObserver observer : inventoryObservers) {
+            observer.onInventoryChanged(enchantments);
+        }
+    }
+
     private void notifyObservers() {
         for (HealthObserver observer : observers) {
             observer.onHealthChanged(lifeCount, lifeCount);
@@ -140,10 +167,10 @@ public class Player extends GameObject implements Serializable {
             if (is != null) {
                 playerImage = ImageIO.read(is);
             } else {
-                System.err.println("Player image not found at /assets/images/player.png");
+                LOGGER.warn("Player image not found at /assets/images/player.png");
             }
         } catch (IOException e) {
-            System.err.println("Error loading player image: " + e.getMessage());
+            LOGGER.warn("Error loading player image: " + e.getMessage());
         }
     }
 
@@ -197,7 +224,7 @@ public class Player extends GameObject implements Serializable {
 
     @Override
     public void interact() {
-        System.out.println("Player is interacting...");
+        LOGGER.debug("Player is interacting...");
     }
 
     public void incrementLives(int livesIncrement) {
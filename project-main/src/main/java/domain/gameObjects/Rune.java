@@ -5,9 +5,10 @@
 package domain.gameObjects;
 
 import domain.utilities.Constants;
-import technicalServices.logging.LogManager;
+import technicalServices.logging.GameLogger;
 
 public class Rune extends GameObject {
+    private static final GameLogger LOGGER = GameLogger.getLogger(Rune.class);
     private boolean revealed;
     private Constants.HallType runeType;
 
@@ -34,11 +35,9 @@ public class Rune extends GameObject {
     public void reveal() {
         if (!revealed) {
             revealed = true;
-            LogManager.logInfo("Rune has been revealed! [Rune.reveal()]");
-            System.out.println("Rune has been revealed!");
+            LOGGER.info("Rune has been revealed! [Rune.reveal()]");
         } else {
-            LogManager.logInfo("Rune is already revealed. [Rune.reveal()]");
-            System.out.println("Rune is already revealed.");
+            LOGGER.info("Rune is already revealed. [Rune.reveal()]");
         }
     }
     /**
@@ -49,8 +48,7 @@ public class Rune extends GameObject {
         if (!revealed) {
             reveal();
         } else {
-            LogManager.logInfo("Rune is already revealed. [Rune.interact()]");
-            System.out.println("Rune is already revealed.");
+            LOGGER.info("Rune is already revealed. [Rune.interact()]");
         }
     }
 
@@ -6,15 +6,16 @@
 package domain.gameObjects;
 
 import domain.utilities.Constants;
-import technicalServices.logging.LogManager;
 import domain.behaviors.WizardStrategy;
 import domain.behaviors.DoNothingStrategy;
 import domain.behaviors.MovePlayerStrategy;
 import domain.behaviors.TeleportRuneStrategy;
+import technicalServices.logging.GameLogger;
 import java.awt.*;
 import java.util.ArrayList;
 
 public class WizardMonster extends Monster{
+    private static final GameLogger LOGGER = GameLogger.getLogger(WizardMonster.class);
     private WizardStrategy behavior;
     private boolean hasMovedPlayer = false;
 
@@ -41,17 +42,17 @@ public class WizardMonster extends Monster{
     // information expert pattern should be used, who knows the empty locations in the grid?
     @Override
     public void attack(Player player) {
-        LogManager.logInfo("Wizard monster does not attacking");
+        LOGGER.trace("Wizard monster does not attacking");
     }
 
     @Override
     public void move(ArrayList<Point> emptyLocations) {
-        LogManager.logInfo("Wizard monster does not move");
+        LOGGER.trace("Wizard monster does not move");
     }
 
     @Override
     public void interact() {
-        LogManager.logInfo("Wizard monster is interacting with the player. [from class: WizardMonster, method: interact]");
+        LOGGER.info("Wizard monster is interacting with the player. [from class: WizardMonster, method: interact]");
     }
 
     @Override
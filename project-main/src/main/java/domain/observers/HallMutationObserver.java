@@ -0,0 +1,36 @@
+/**
+ * Interface for observing every change made to the contents of a hall.
+ * Unlike HallObserver, which is told which cells to redraw, this observer is told what each change was, so it can
+ * record the changes and apply them again later. It is called while the hall is locked, so it must return quickly.
+ */
+package domain.observers;
+
+import domain.utilities.Constants;
+
+public interface HallMutationObserver {
+    /**
+     * Called when an object is put in a cell, either added or moved there.
+     *
+     * @param cell the index (row * 16 + col) of the cell
+     * @param type the type of the object
+     */
+    void onObjectPlaced(int cell, Constants.GameObjectsInHall type);
+
+    /**
+     * Called when the object in a cell is removed or moved away.
+     *
+     * @param cell the index (row * 16 + col) of the cell
+     */
+    void onObjectRemoved(int cell);
+
+    // the player is not stored with the other objects, so its moves are reported separately
+    void onPlayerMoved(int cell);
+
+    // runes hide under other objects, so placing or removing one does not change the object in the cell
+    void onRunePlaced(int cell, Constants.HallType hallType);
+
+    void onRuneRemoved(int cell);
+
+    // every object of the hall was removed, the runes and the player stay
+    void onHallCleared();
+}
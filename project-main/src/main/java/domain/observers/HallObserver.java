@@ -1,5 +1,5 @@
 /**
- * Interface for observing changes in the hall, such as the addition or replacement of objects,
+ * Interface for observing changes in the hall, such as objects being added, moved or removed,
  * and checking if the player is dead.
  */
 package domain.observers;
@@ -7,6 +7,10 @@ package domain.observers;
 public interface HallObserver {
     void isPlayerDead();
 
-    public void onObjectAdded();
-    public void onObjectReplaced();
+    /**
+     * Called when cells of the hall changed since the previous notification.
+     *
+     * @param dirtyCells the indexes (row * 16 + col) of the changed cells, possibly empty
+     */
+    public void onCellsChanged(int[] dirtyCells);
 }
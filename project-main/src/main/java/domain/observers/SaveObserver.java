@@ -0,0 +1,10 @@
+/**
+ * Interface for observing the end of a save that runs in the background.
+ * Notifies the observer on the save thread once the save file is written or the save failed.
+ */
+package domain.observers;
+
+public interface SaveObserver {
+    void onSaveCompleted(String gameName);
+    void onSaveFailed(String gameName, Exception error);
+}
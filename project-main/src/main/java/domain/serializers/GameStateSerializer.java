@@ -11,12 +11,13 @@ import domain.dto.GameObjectDto;
 import domain.dto.GameStateDto;
 import domain.gameCore.GameState;
 import domain.gameObjects.*;
-import domain.threads.*;
 import domain.utilities.Constants;
 
 import java.awt.*;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 
 import static domain.utilities.Constants.GameObjectsInHall.*;
 
@@ -53,13 +54,16 @@ public class GameStateSerializer {
         });
         gameStateDto.setHallGameObjects(hallGameObjects);
         gameStateDto.setHallTimeRemaining(gameState.getTimer().getTimeRemaining());
-        gameStateDto.setHallRunes(gameState.getHall().getRuneObjects());
+        //copied so a snapshot written in the background does not change with the hall
+        gameStateDto.setHallRunes(new HashMap<>(gameState.getHall().getRuneObjects()));
         gameStateDto.setHallType(gameState.getHall().getHallType());
         gameStateDto.setSaveDate(new Date());
         return gameStateDto;
     }
     /**
      * Deserializes a `GameStateDto` object into a `GameState` object.
+     * Only the state is built: the hall is filled in one batch without notifying its observers, and no monster or
+     * enchantment is started. Call `GameState.activateEntities` once the loaded game should start running.
      *
      * @param dto The serialized game state data.
      * @param gameController The game controller instance to bind the deserialized state.
@@ -84,6 +88,7 @@ public class GameStateSerializer {
         gameState.getHall().setTimeRemaining(dto.getHallTimeRemaining());
         //instead of this maybe we can set the halls timer to the remaining time but i am not sure how is the current impl is
         //gameState.setTimer(new CustomTimer(dto.getHallTimeRemaining()));
+        List<GameObject> gameObjects = new ArrayList<>(dto.getHallGameObjects().size());
         dto.getHallGameObjects().forEach((point, gameObjectDto) -> {
             GameObject gameObject = switch (gameObjectDto.getType()) {
                 case CLOAKENCHANTMENT -> new CloakEnchantment(gameObjectDto.getX(), gameObjectDto.getY());
@@ -102,24 +107,10 @@ public class GameStateSerializer {
             };
 
             if (gameObject != null) {
-                gameState.getHall().addObject(gameObject);
-                if (gameObject instanceof Monster) {
-                    MonsterThread monsterThread = switch ((Monster) gameObject) {
-                        case ArcherMonster archerMonster -> new ArcherMonsterThread(archerMonster, gameState);
-                        case FighterMonster fighterMonster -> new FighterMonsterThread(fighterMonster, gameState);
-                        case WizardMonster wizardMonster -> new WizardMonsterThread(wizardMonster, gameState);
-                        default -> throw new IllegalArgumentException("Unknown monster type");
-                    };
-                    gameState.getMonsterThreads().add(monsterThread);
-                    new Thread(monsterThread).start();
-                }
-
-                if (gameObject instanceof Enchantment) {
-                    EnchantmentThread enchantmentThread = new EnchantmentThread((Enchantment) gameObject, gameState);
-                    new Thread(enchantmentThread).start();
-                }
+                gameObjects.add(gameObject);
             }
         });
+        gameState.getHall().addObjects(gameObjects);
         gameState.getHall().setRuneObjects(dto.getHallRunes());
         //setting hall type
         gameState.getHall().setHallType(dto.getHallType());
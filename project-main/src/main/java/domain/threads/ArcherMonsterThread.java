@@ -1,16 +1,26 @@
 /**
  * Thread implementation for controlling the behavior of an `ArcherMonster` in the game.
  * Handles movement, interactions, and actions of the `ArcherMonster` on a separate thread.
+ * While the player is out of range the archer is idle and only the player moving wakes it.
  */
 package domain.threads;
 
 
+import domain.behaviors.ArcherRangeService;
 import domain.gameCore.GameState;
 import domain.gameObjects.ArcherMonster;
+import domain.utilities.Constants;
+
 import java.awt.*;
+import java.util.EnumSet;
+import java.util.Set;
 
 
 public class ArcherMonsterThread extends MonsterThread {
+    private static final long SHOOT_COOLDOWN = 5000;
+    // when the archer can shoot again, in System.nanoTime
+    private long nextShot = System.nanoTime();
+
     public ArcherMonsterThread(ArcherMonster monster, GameState model) {
         super(monster, model);
     }
@@ -21,30 +31,34 @@ public class ArcherMonsterThread extends MonsterThread {
         g.fillRect(x * 50, y * 50, 50, 50);
     }
 
+    @Override
+    public Set<Constants.MonsterEvent> wakeEvents() {
+        return EnumSet.of(Constants.MonsterEvent.PLAYER_MOVED);
+    }
+
     /**
      * Defines the behavior of the `ArcherMonster` during its turn.
-     * Checks the distance to the player and attacks if within range.
+     * Checks whether the player is within range and attacks if so.
      * Updates the game state and notifies listeners of changes.
+     *
+     * @return the time until the archer can shoot again, or IDLE while the player is out of range
      */
     @Override
-    public void act() {
+    protected long step() {
         //instead of those we could do this:, and monsterthread could be enough on its own in that case
         // this.monster.attack(model.getPlayer());
-        int heroX = model.getPlayer().getPosition().x;
-        int heroY = model.getPlayer().getPosition().y;
-
-        // Check distance to hero
-        int distance = Math.abs(heroX - monster.getPosition().x) + Math.abs(heroY - monster.getPosition().y);
-        if (distance <= 4) {
-            model.getPlayer().setLifeCount(model.getPlayer().getLifeCount() - monster.getAttackDamage());
-
+        // the cells in range of the player are kept up to date as the player moves, so this is a single bit test
+        if (!ArcherRangeService.forHall(model.getHall()).canHit(monster.getPosition())) {
+            return IDLE;
         }
-        model.getHall().notifyListeners();
-        try {
-            Thread.sleep(5000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
+        long reloading = (nextShot - System.nanoTime()) / 1_000_000;
+        if (reloading > 0) {
+            // the player walked into range while the archer was still reloading
+            return reloading;
         }
+        model.getPlayer().setLifeCount(model.getPlayer().getLifeCount() - monster.getAttackDamage());
+        nextShot = System.nanoTime() + SHOOT_COOLDOWN * 1_000_000;
+        model.getHall().notifyListeners();
+        return SHOOT_COOLDOWN;
     }
 }
-
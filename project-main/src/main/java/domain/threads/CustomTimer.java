@@ -1,24 +1,32 @@
 /**
- * CustomTimer is a thread-based timer implementation for managing timed events in the game.
+ * CustomTimer is a timer implementation for managing timed events in the game.
  * It tracks the remaining time, supports pausing and resuming, and notifies a listener when the time is up.
+ * The timer is advanced by the GameLoop or runs the thread-based countdown in run(), depending on the execution mode.
  */
 package domain.threads;
 
 
+import domain.gameCore.Tickable;
+import technicalServices.logging.GameLogger;
 import ui.swing.TimerDisplay;
 
 import java.util.Timer;
 import java.util.TimerTask;
 
-public class CustomTimer implements Runnable {
+public class CustomTimer implements Runnable, Tickable {
+    private static final GameLogger LOGGER = GameLogger.getLogger(CustomTimer.class);
+    private static final long PAUSE_POLL_INTERVAL = 10;
 
 
-    private int timeRemaining;
-    private boolean isActive = true;
+    private volatile int timeRemaining;
+    private volatile boolean isActive = true;
     private boolean isDead = false;
     private int delay;
     private TimerDisplay.TimerListener listener;
     private Runnable task;
+    private boolean scheduled = false;
+    // set after the task has run, the remaining time is decremented once the delay has passed
+    private boolean countdownPending = false;
 
     public CustomTimer(int timeRemaining) {
         this.timeRemaining = timeRemaining;
@@ -32,8 +40,16 @@ public class CustomTimer implements Runnable {
 
 
 
-    public void start() {
-        new Thread(this).start();
+    /**
+     * Starts the countdown according to the execution mode.
+     * Calling start again while the countdown is already scheduled (e.g. on resume) has no effect.
+     */
+    public synchronized void start() {
+        if (scheduled) {
+            return;
+        }
+        scheduled = true;
+        GameThreadFactory.getInstance().startEntity(this);
     }
 
     public void stop() {
@@ -62,6 +78,37 @@ public class CustomTimer implements Runnable {
     public void kill() {
         stop();
     }
+    /**
+     * Advances the countdown from the GameLoop.
+     * Runs the task, waits for the delay, then decrements the remaining time. While the timer is stopped
+     * it is polled every tick, and the listener is notified once the time runs out.
+     *
+     * @return the delay until the next countdown step, or DONE once the time is up
+     */
+    @Override
+    public long tick() {
+        if (countdownPending) {
+            countdownPending = false;
+            timeRemaining--;
+        }
+        if (timeRemaining <= 0 || isDead) {
+            synchronized (this) {
+                scheduled = false;
+            }
+            if (listener != null) {
+                listener.onTimeUp();  // Notify the listener that the time is up
+            }
+            return DONE;
+        }
+        if (!isActive) {
+            return 0;
+        }
+        if (task != null) {
+            task.run();
+        }
+        countdownPending = true;
+        return delay;
+    }
     /**
      * The main execution logic of the timer.
      * Decrements the remaining time, executes the task periodically, and notifies the listener when time is up.
@@ -74,15 +121,19 @@ public class CustomTimer implements Runnable {
             }
             try {
                 while (!isActive) {
-                    //do nothing
+                    // wait without spinning so a virtual thread does not hold on to its carrier
+                    Thread.sleep(PAUSE_POLL_INTERVAL);
                 }
                 task.run();
                 Thread.sleep(delay);
                 timeRemaining--;
             } catch (InterruptedException e) {
-                e.printStackTrace();
+                LOGGER.error("Timer was interrupted while counting down. [from class: CustomTimer, method: run]", e);
             }
         }
+        synchronized (this) {
+            scheduled = false;
+        }
         if (listener != null) {
             listener.onTimeUp();  // Notify the listener that the time is up
         }
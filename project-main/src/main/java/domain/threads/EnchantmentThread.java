@@ -2,15 +2,20 @@
  * EnchantmentThread is a runnable task responsible for managing the lifecycle of an enchantment in the game.
  * The enchantment remains active for a specified duration before disappearing from the game state.
  * It also ensures compatibility with game pauses.
+ * The lifecycle can be advanced either by the GameLoop, one second per tick, or by its own thread.
  */
 package domain.threads;
 
 import domain.gameCore.GameState;
+import domain.gameCore.Tickable;
 import domain.gameObjects.Enchantment;
 
-public class EnchantmentThread implements Runnable{
+public class EnchantmentThread implements Runnable, Tickable {
+    private static final long SECOND = 1000;
+    private static final long PAUSE_POLL_INTERVAL = 10;
     protected int x, y;
-    protected boolean alive = true;
+    protected volatile boolean alive = true;
+    private boolean placed = false;
     protected GameState model;
     protected Enchantment enchantment;
     protected int duration = 6;
@@ -34,6 +39,30 @@ public class EnchantmentThread implements Runnable{
     public void kill() {
         alive = false;
     }
+    /**
+     * Advances the enchantment's lifecycle from the GameLoop.
+     * The first tick places the enchantment, every following tick counts down one second of its duration
+     * unless the game is paused, and the enchantment is removed once the duration runs out.
+     *
+     * @return the time until the next countdown step, or DONE once the enchantment has been removed
+     */
+    @Override
+    public long tick() {
+        if (!placed) {
+            placed = true;
+            model.getHall().getGameObjects().put(enchantment.getPosition(), enchantment);
+        } else {
+            if (model.isPaused()) {
+                return 0;
+            }
+            duration--;
+        }
+        if (!isAlive()) {
+            model.getHall().removeObject(enchantment.getPosition());
+            return DONE;
+        }
+        return SECOND;
+    }
     /**
      * The main execution logic for the thread.
      * Places the enchantment into the game state, manages its lifecycle, and removes it upon expiration.
@@ -42,11 +71,12 @@ public class EnchantmentThread implements Runnable{
     public void run() {
         model.getHall().getGameObjects().put(enchantment.getPosition(), enchantment);
         while (isAlive()) {
-            while (model.isPaused()) {
-                // do nothing
-            }
             try {
-                Thread.sleep(1000);
+                while (model.isPaused()) {
+                    // wait without spinning so a virtual thread does not hold on to its carrier
+                    Thread.sleep(PAUSE_POLL_INTERVAL);
+                }
+                Thread.sleep(SECOND);
                 duration--;
             } catch (InterruptedException e) {
                 throw new RuntimeException(e);
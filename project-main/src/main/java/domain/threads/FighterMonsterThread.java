@@ -1,21 +1,34 @@
 /**
  * FighterMonsterThread manages the behavior and movement of a FighterMonster.
  * This thread executes the monster's logic, including attacking the player and reacting to luring gems.
+ * A lured fighter walks around walls and blocks to the gem, following the FlowFieldService of its hall.
+ * Its moves are made by the MovementResolver of the hall, so fighters never race each other for a cell.
+ * A fighter that cannot move is idle until the player moves, a lure is thrown or a cell is freed.
  */
 
 package domain.threads;
 
+import domain.behaviors.FlowFieldService;
 import domain.gameCore.GameState;
 import domain.gameObjects.FighterMonster;
+import domain.gameObjects.Hall;
+import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
 
 import java.awt.*;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Random;
+import java.util.Set;
 
 public class FighterMonsterThread extends MonsterThread {
+    private static final GameLogger LOGGER = GameLogger.getLogger(FighterMonsterThread.class);
+    private static final long MOVE_COOLDOWN = 500;
+    private static final long ATTACK_COOLDOWN = 1000;
     private final Random random = new Random();
-    private List<Point> possibleMoves;
+    private boolean recovering = false;
     public FighterMonsterThread(FighterMonster monster, GameState model) {
         super(monster, model);
     }
@@ -26,196 +39,70 @@ public class FighterMonsterThread extends MonsterThread {
         g.fillRect(monster.getPosition().x * 50, monster.getPosition().y * 50, 50, 50);
     }
 
-    private Point getNextPositionTowards(Point target, Point current) {
-        int dx = Integer.compare(target.x, current.x);
-        int dy = Integer.compare(target.y, current.y);
-
-        Point[] possibleMoves = {
-                new Point(current.x + dx, current.y),
-                new Point(current.x, current.y + dy)
-        };
-
-        for (Point move : possibleMoves) {
-            if (model.getHall().getEmptyPositions().contains(move)) {
-                return move;
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Determines a random valid position that brings the monster closer to the target (e.g., a luring gem).
-     *
-     * @param target  The target position to move towards.
-     * @param current The monster's current position.
-     * @return A valid position closer to the target, or null if no valid move exists.
-     */
-
-    private Point getRandomPointTowardsGem(Point target, Point current) {
-        int currentDistance = Math.abs(current.x - target.x) + Math.abs(current.y - target.y);
-
-        List<Point> possibleMoves = List.of(
-                new Point(current.x + 1, current.y),  // Right
-                new Point(current.x - 1, current.y),  // Left
-                new Point(current.x, current.y + 1),  // Down
-                new Point(current.x, current.y - 1)   // Up
-        );
-
-        List<Point> validMoves = possibleMoves.stream()
-                .filter(move -> model.getHall().getEmptyPositions().contains(move))
-                .filter(move -> {
-                    int newDistance = Math.abs(move.x - target.x) + Math.abs(move.y - target.y);
-                    return newDistance < currentDistance;
-                })
-                .toList();
-
-        System.out.println("Monster at " + current + " moving towards " + target + ". Valid moves: " + validMoves);
-
-        if (validMoves.isEmpty()) {
-            return null;
-        }
-
-        return validMoves.get(random.nextInt(validMoves.size()));
+    @Override
+    public Set<Constants.MonsterEvent> wakeEvents() {
+        return EnumSet.of(Constants.MonsterEvent.PLAYER_MOVED, Constants.MonsterEvent.LURE_THROWN,
+                Constants.MonsterEvent.CELL_FREED);
     }
 
     /**
-     * Determines a random valid position for the monster to move to.
+     * Lists the cells next to the fighter, in bounds and empty right now, in random order.
      *
-     * @return A valid position within the hall, or null if no valid move exists.
+     * @return the cells the fighter could wander to
      */
-
-    private Point getRandomMove() {
-        List<Point> possibleMoves = List.of(
-                new Point(Math.max(monster.getPosition().x - 1, 0), monster.getPosition().y), // Left
-                new Point(Math.min(monster.getPosition().x + 1, 16), monster.getPosition().y), // Right
-                new Point(monster.getPosition().x, Math.max(monster.getPosition().y - 1, 0)), // Up
-                new Point(monster.getPosition().x, Math.min(monster.getPosition().y + 1, 16))  // Down
-        );
-
-        possibleMoves = possibleMoves.stream()
-                .filter(move -> model.getHall().getEmptyPositions().contains(move))
-                .toList();
-
-        if (possibleMoves.isEmpty()) {
-            return null;
-        }
-
-        return possibleMoves.get(random.nextInt(possibleMoves.size()));
+    private List<Point> getRandomMoves() {
+        Point current = monster.getPosition();
+        List<Point> moves = new ArrayList<>(List.of(
+                new Point(current.x - 1, current.y), // Left
+                new Point(current.x + 1, current.y), // Right
+                new Point(current.x, current.y - 1), // Up
+                new Point(current.x, current.y + 1)  // Down
+        ));
+        Collections.shuffle(moves, random);
+        return moves;
     }
     /**
      * The main behavior logic for the FighterMonster.
      * Handles movement, attacking the player, and reacting to luring gems.
-     * Includes safeguards against race conditions and game pauses.
+     * After stabbing the player the fighter recovers for a second before its next move.
+     * The fighter does not move itself: it submits the cells it would step to, and the MovementResolver of the hall
+     * moves it together with the other monsters.
+     *
+     * @return the time the fighter waits before its next step, or IDLE if it has nowhere to go
      */
 
     @Override
-    public void act() {
-        while (true) {
-            while (model.isPaused()) {
-
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    return;
-                }
-            }
-
-
-            try {
-
-                if (Math.abs(model.getPlayer().getPosition().x - monster.getPosition().x) + Math.abs(model.getPlayer().getPosition().y - monster.getPosition().y) == 1) {
-                    model.getPlayer().setLifeCount(model.getPlayer().getLifeCount() - 1); // for this implement a function.
-                    try {
-                        Thread.sleep(1000);
-                    } catch (InterruptedException e) {
-                        e.printStackTrace();
-                    }
-
-                }
-
-
-
-                Point oldPoint = monster.getPosition();
-                Point newPoint;
-
-                Point luringGemPosition = model.getHall().getLuringGemPosition();
-                if (luringGemPosition != null) {
-                    newPoint = getRandomPointTowardsGem(luringGemPosition, oldPoint);
-                } else {
-                    newPoint = getRandomMove();
-                }
-
-                if (newPoint != null) {
-                    model.getHall().moveObject(oldPoint, newPoint);
-
-                    monster.move(new ArrayList<>() {{
-                        add(newPoint);
-                    }});
-
-                    model.getHall().notifyListeners();
-                    System.out.println("Fighter moved from " + oldPoint + " to " + newPoint);
-
-                    Thread.sleep(500);
-                } else {
-                    System.out.println("No valid move for FighterMonster at " + oldPoint);
-                    Thread.sleep(500);
-                }
-
-            } catch (IllegalArgumentException | IllegalStateException e) {
-                System.err.println("Race condition occurred: " + e.getMessage());
-                try {
-                    Thread.sleep(500);
-                } catch (InterruptedException interruptedException) {
-                    model.getHall().removeObject(this.monster.getPosition());
-                    model.spawnFighterMonster(this.monster.getPosition());
-                    Thread.currentThread().interrupt();
-                    System.err.println("Thread interrupted: " + interruptedException.getMessage());
-                    break;
-                }
-            } catch (InterruptedException e) {
-
-                model.getHall().removeObject(this.monster.getPosition());
-                model.spawnFighterMonster(this.monster.getPosition());
-                Thread.currentThread().interrupt();
-                System.err.println("Thread interrupted: " + e.getMessage());
-                break;
-            }
+    protected long step() {
+        if (!recovering && Math.abs(model.getPlayer().getPosition().x - monster.getPosition().x) + Math.abs(model.getPlayer().getPosition().y - monster.getPosition().y) == 1) {
+            model.getPlayer().setLifeCount(model.getPlayer().getLifeCount() - 1); // for this implement a function.
+            recovering = true;
+            return ATTACK_COOLDOWN;
         }
-    }
-
-
-    private void moveMonster(Point oldPoint, Point newPoint, String moveType) {
-        synchronized (model.getHall().getEmptyPositions()) {
-            if (!model.getHall().getEmptyPositions().contains(newPoint)) {
-                System.err.println("Cannot move to occupied position: " + newPoint);
-                return;
-            }
-
-            // Update the positions in the game model
-            model.getHall().getGameObjects().remove(oldPoint);
-            model.getHall().getGameObjects().put(newPoint, monster);
-            model.getHall().getEmptyPositions().add(oldPoint);
-            model.getHall().getEmptyPositions().remove(newPoint);
-
-            // Move the monster and notify listeners
-            model.getHall().moveObject(oldPoint, newPoint);
-            monster.move(new ArrayList<>() {{
-                add(newPoint);
-            }});
-            model.getHall().notifyListeners();
+        recovering = false;
+
+        Hall hall = model.getHall();
+        Point current = monster.getPosition();
+        List<Point> moves;
+        int priority;
+        Point luringGemPosition = hall.getLuringGemPosition();
+        if (luringGemPosition != null) {
+            // every fighter of the hall walks the same field, it is computed again only when the hall changes
+            FlowFieldService.FlowField field = FlowFieldService.forHall(hall).fieldTo(luringGemPosition);
+            moves = field.stepsCloser(current);
+            Collections.shuffle(moves, random);
+            // the fighter nearest to the gem moves first and makes room for the ones behind it
+            priority = field.distanceFrom(current);
+        } else {
+            moves = getRandomMoves();
+            priority = MovementResolver.WANDERING;
         }
+        moves.removeIf(move -> !hall.isPositionEmpty(move));
 
-        System.out.println("Fighter moved from " + oldPoint + " to " + newPoint + " " + moveType);
-        sleepThread(500);
-    }
-
-    private void sleepThread(int millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            System.err.println("Thread interrupted: " + e.getMessage());
+        if (moves.isEmpty()) {
+            LOGGER.trace(() -> "No valid move for FighterMonster at " + current);
+            return IDLE;
         }
+        MovementResolver.forHall(hall).submit(monster, moves, priority);
+        return MOVE_COOLDOWN;
     }
 }
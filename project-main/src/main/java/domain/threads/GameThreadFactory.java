@@ -0,0 +1,181 @@
+/**
+ * GameThreadFactory creates every worker thread used by the game and decides how game entities are run.
+ *
+ * Depending on the execution mode, monsters, enchantments, the hall manager and the timer are either ticked by the
+ * GameLoop or given their own platform or virtual thread running their blocking run() method. The helper threads
+ * started by the wizard strategies are created here as well, so they follow the same switch.
+ * The factory also reports how many of its threads are alive and how many carrier threads back the virtual ones.
+ */
+package domain.threads;
+
+import domain.gameCore.GameLoop;
+import domain.gameCore.Tickable;
+import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
+
+import java.util.Collection;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class GameThreadFactory implements ThreadFactory {
+    private static final GameLogger LOGGER = GameLogger.getLogger(GameThreadFactory.class);
+    // the mode can be chosen at startup with -Drokue.executionMode=VIRTUAL_THREADS
+    public static final String EXECUTION_MODE_PROPERTY = "rokue.executionMode";
+    // class of the platform threads the JDK uses to carry virtual threads
+    private static final String CARRIER_THREAD_CLASS = "jdk.internal.misc.CarrierThread";
+
+    private static GameThreadFactory instance;
+
+    private volatile Constants.ExecutionMode executionMode;
+    private final AtomicInteger liveThreads = new AtomicInteger();
+    private final AtomicInteger peakLiveThreads = new AtomicInteger();
+    private final AtomicLong createdThreads = new AtomicLong();
+
+    /**
+     * Retrieves the single instance of the GameThreadFactory.
+     *
+     * @return the singleton instance of the GameThreadFactory
+     */
+    public static synchronized GameThreadFactory getInstance() {
+        if (instance == null) {
+            instance = new GameThreadFactory(readExecutionMode());
+            LOGGER.info(() -> "GameThreadFactory instance created in " + instance.getExecutionMode() + " mode. [from class: GameThreadFactory, method: getInstance]");
+        }
+        return instance;
+    }
+
+    public GameThreadFactory(Constants.ExecutionMode executionMode) {
+        this.executionMode = checkExecutionMode(executionMode);
+    }
+
+    private static Constants.ExecutionMode readExecutionMode() {
+        String mode = System.getProperty(EXECUTION_MODE_PROPERTY);
+        if (mode == null) {
+            return Constants.ExecutionMode.GAME_LOOP;
+        }
+        try {
+            return Constants.ExecutionMode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Unknown execution mode " + mode + ", using GAME_LOOP. [from class: GameThreadFactory, method: readExecutionMode]");
+            return Constants.ExecutionMode.GAME_LOOP;
+        }
+    }
+
+    public Constants.ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    public void setExecutionMode(Constants.ExecutionMode executionMode) {
+        this.executionMode = checkExecutionMode(executionMode);
+    }
+
+    private static Constants.ExecutionMode checkExecutionMode(Constants.ExecutionMode executionMode) {
+        if (executionMode == null) {
+            throw new IllegalArgumentException("Execution mode cannot be null.");
+        }
+        return executionMode;
+    }
+
+    /**
+     * Creates an unstarted worker thread for the given task.
+     * Only PLATFORM_THREADS mode creates platform threads; the other modes use virtual threads.
+     *
+     * @param task the task to run
+     * @return the new, unstarted thread
+     */
+    @Override
+    public Thread newThread(Runnable task) {
+        Runnable countedTask = () -> {
+            peakLiveThreads.accumulateAndGet(liveThreads.incrementAndGet(), Math::max);
+            try {
+                task.run();
+            } finally {
+                liveThreads.decrementAndGet();
+            }
+        };
+        String name = "game-worker-" + createdThreads.incrementAndGet();
+        if (executionMode == Constants.ExecutionMode.PLATFORM_THREADS) {
+            return Thread.ofPlatform().name(name).unstarted(countedTask);
+        }
+        return Thread.ofVirtual().name(name).unstarted(countedTask);
+    }
+
+    /**
+     * Starts a game entity according to the execution mode.
+     * In GAME_LOOP mode the entity is registered with the GameLoop, otherwise its blocking run() method
+     * is started on a new worker thread. A monster is subscribed to its hall's events before it starts.
+     *
+     * @param entity the entity to start
+     */
+    public <T extends Runnable & Tickable> void startEntity(T entity) {
+        activate(entity);
+        if (executionMode == Constants.ExecutionMode.GAME_LOOP) {
+            GameLoop.getInstance().register(entity);
+        } else {
+            newThread(entity).start();
+        }
+    }
+
+    /**
+     * Starts many game entities at once according to the execution mode.
+     * In GAME_LOOP mode they are registered with the GameLoop in one batch, so they all start in the same tick.
+     * Monsters are subscribed to their hall's events before any of them starts.
+     *
+     * @param entities the entities to start
+     */
+    public <T extends Runnable & Tickable> void startEntities(Collection<T> entities) {
+        for (T entity : entities) {
+            activate(entity);
+        }
+        if (executionMode == Constants.ExecutionMode.GAME_LOOP) {
+            GameLoop.getInstance().registerAll(entities);
+        } else {
+            for (T entity : entities) {
+                newThread(entity).start();
+            }
+        }
+    }
+
+    // the GameLoop never calls run(), so a monster it ticks would otherwise never subscribe and sleep forever once idle
+    private void activate(Tickable entity) {
+        if (entity instanceof MonsterThread monsterThread) {
+            monsterThread.activate();
+        }
+    }
+
+    public int getLiveThreadCount() {
+        return liveThreads.get();
+    }
+
+    public int getPeakLiveThreadCount() {
+        return peakLiveThreads.get();
+    }
+
+    /**
+     * Counts the carrier threads currently backing virtual threads.
+     * Carriers are platform threads, so they show up among all live threads of the JVM. Finding them captures the
+     * stack of every thread, so this is only meant for debugging.
+     *
+     * @return the number of live carrier threads
+     */
+    public int getCarrierThreadCount() {
+        int carriers = 0;
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            if (thread.getClass().getName().equals(CARRIER_THREAD_CLASS)) {
+                carriers++;
+            }
+        }
+        return carriers;
+    }
+
+    /**
+     * Writes the current thread statistics to the debug log. Called on every monster spawn round, so nothing is
+     * counted unless debug logging is on.
+     */
+    public void logThreadStatistics() {
+        LOGGER.debug(() -> "Execution mode: " + executionMode + ", live worker threads: " + getLiveThreadCount()
+                + " (peak " + getPeakLiveThreadCount() + "), carrier threads: " + getCarrierThreadCount()
+                + ", JVM threads: " + Thread.activeCount() + " [from class: GameThreadFactory, method: logThreadStatistics]");
+    }
+}
@@ -1,6 +1,7 @@
 /**
  * HallManager is responsible for managing the spawning of monsters and enchantments in the game hall.
- * It operates as a separate thread to ensure continuous gameplay updates, even while other game logic executes.
+ * It is advanced by the GameLoop to ensure continuous gameplay updates, even while other game logic executes,
+ * and can still be run on a separate thread.
  * The manager handles synchronization, pausing, and resuming, and can be terminated when the game ends.
  */
 
@@ -9,20 +10,27 @@ package domain.threads;
 import domain.controllers.EnchantmentController;
 import domain.controllers.MonsterController;
 import domain.gameCore.GameState;
+import domain.gameCore.Tickable;
 import domain.gameObjects.Enchantment;
-import technicalServices.logging.LogManager;
+import technicalServices.logging.GameLogger;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
 
-public class HallManager implements Runnable {
+public class HallManager implements Runnable, Tickable {
+    private static final GameLogger LOGGER = GameLogger.getLogger(HallManager.class);
+    private static final long MONSTER_SPAWN_INTERVAL = 12000;
+    private static final long ENCHANTMENT_SPAWN_INTERVAL = 3000;
+    private static final long PAUSE_POLL_INTERVAL = 1000;
 
     private GameState model;
     private MonsterController controller;
     private Random random = new Random();
-    private boolean isAlive = true;
+    private volatile boolean isAlive = true;
+    // the GameLoop alternates between spawning monsters and spawning an enchantment
+    private boolean spawnMonstersNext = true;
     private static final List<HallManager> activeManagers = new ArrayList<>();
     private EnchantmentController enchantmentController;
 
@@ -39,6 +47,35 @@ public class HallManager implements Runnable {
     public void kill() {
         isAlive = false;
     }
+    /**
+     * Advances the HallManager by one spawn phase from the GameLoop.
+     * Spawns monsters and then waits 12 seconds before spawning an enchantment, then waits 3 seconds before
+     * the next round, polling every second while the game is paused.
+     *
+     * @return the time until the next spawn phase, or DONE once the manager is killed or the game is over
+     */
+    @Override
+    public long tick() {
+        if (!isAlive || (spawnMonstersNext && model.isGameOver())) {
+            terminate();
+            return DONE;
+        }
+        if (model.isPaused()) {
+            LOGGER.trace("Hall manager paused. [from class: HallManager, method: tick]");
+            return PAUSE_POLL_INTERVAL;
+        }
+        if (spawnMonstersNext) {
+            LOGGER.debug("Hall manager resumed. [from class: HallManager, method: tick]");
+            controller.spawnRandomMonster(model);
+            controller.spawnRandomMonster(model);
+            GameThreadFactory.getInstance().logThreadStatistics();
+            spawnMonstersNext = false;
+            return MONSTER_SPAWN_INTERVAL;
+        }
+        enchantmentController.spawnEnchantment();
+        spawnMonstersNext = true;
+        return ENCHANTMENT_SPAWN_INTERVAL;
+    }
     /**
      * Executes the main logic of the HallManager thread.
      * Periodically spawns monsters and enchantments, while respecting the game's paused state and game over condition.
@@ -52,35 +89,33 @@ public class HallManager implements Runnable {
 
             while (model.isPaused()) {
                 //do nothing
-                LogManager.logInfo("Hall manager paused. [from class: HallManager, method: run]");
-                System.out.println("Hall manager paused");
+                LOGGER.trace("Hall manager paused. [from class: HallManager, method: run]");
                 try {
-                    Thread.sleep(1000);
+                    Thread.sleep(PAUSE_POLL_INTERVAL);
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
             }
-            LogManager.logInfo("Hall manager resumed. [from class: HallManager, method: run]");
-            System.out.println("Hall manager resumed");
+            LOGGER.debug("Hall manager resumed. [from class: HallManager, method: run]");
             controller.spawnRandomMonster(model);
 
             try {
                 controller.spawnRandomMonster(model);
-                Thread.sleep(12000);
+                GameThreadFactory.getInstance().logThreadStatistics();
+                Thread.sleep(MONSTER_SPAWN_INTERVAL);
                 while (model.isPaused()) {
                     //do nothing
-                    LogManager.logInfo("Hall manager paused. [from class: HallManager, method: run]");
-                    System.out.println("Hall manager paused");
+                    LOGGER.trace("Hall manager paused. [from class: HallManager, method: run]");
                     try {
-                        Thread.sleep(1000);
+                        Thread.sleep(PAUSE_POLL_INTERVAL);
                     } catch (InterruptedException e) {
                         throw new RuntimeException(e);
                     }
                 }
                 enchantmentController.spawnEnchantment();
-                Thread.sleep(3000);
+                Thread.sleep(ENCHANTMENT_SPAWN_INTERVAL);
             } catch (InterruptedException e) {
-                e.printStackTrace();
+                LOGGER.error("Hall manager was interrupted while waiting. [from class: HallManager, method: run]", e);
             }
 
             if (model.isGameOver()) {
@@ -88,7 +123,11 @@ public class HallManager implements Runnable {
             }
         }
 
-        LogManager.logInfo("Hall manager thread terminating. [from class: HallManager, method: run]");
+        terminate();
+    }
+
+    private void terminate() {
+        LOGGER.info("Hall manager thread terminating. [from class: HallManager, method: terminate]");
         synchronized (activeManagers) {
             activeManagers.remove(this);
         }
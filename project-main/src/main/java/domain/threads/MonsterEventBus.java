@@ -0,0 +1,174 @@
+/**
+ * The MonsterEventBus wakes the monsters of a hall when something they react to happens.
+ *
+ * Each monster behaviour declares the events it reacts to and subscribes to the bus of its hall. A monster with
+ * nothing to do returns IDLE instead of polling on a fixed sleep, and waits until one of its events is published:
+ * the player moved, a luring gem was thrown, the remaining time crossed one of the wizard's thresholds, or a cell
+ * was freed. The bus hears about the player, the lure and freed cells as a HallMutationObserver; the timer reports
+ * the remaining time itself. Waking a monster only queues it, so the bus is quick enough to be called while the
+ * hall is locked. The hall tells the bus after every other observer, so a woken monster that asks e.g. the
+ * ArcherRangeService or the FlowFieldService finds them already updated for the change that woke it.
+ */
+package domain.threads;
+
+import domain.gameObjects.Hall;
+import domain.observers.HallMutationObserver;
+import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+public class MonsterEventBus implements HallMutationObserver {
+    private static final GameLogger LOGGER = GameLogger.getLogger(MonsterEventBus.class);
+    // below this share of the time left the wizard moves the player, above EARLY_GAME_PERCENT it teleports the rune
+    public static final int LATE_GAME_PERCENT = 30;
+    public static final int EARLY_GAME_PERCENT = 70;
+    private static final int NO_BAND = -1;
+
+    // one bus per hall, a hall that is no longer played is forgotten with its bus
+    private static final Map<Hall, MonsterEventBus> buses = new WeakHashMap<>();
+
+    private final Map<Constants.MonsterEvent, Set<MonsterThread>> subscribers = new EnumMap<>(Constants.MonsterEvent.class);
+    private int timeBand = NO_BAND;
+
+    public MonsterEventBus() {
+        for (Constants.MonsterEvent event : Constants.MonsterEvent.values()) {
+            subscribers.put(event, new CopyOnWriteArraySet<>());
+        }
+    }
+
+    /**
+     * Returns the bus of the given hall, creating it the first time.
+     *
+     * @param hall the hall the monsters are in
+     * @return the bus shared by every monster of the hall
+     */
+    public static MonsterEventBus forHall(Hall hall) {
+        if (hall == null) {
+            LOGGER.error("Hall cannot be null. [from class: MonsterEventBus, method: forHall]");
+            throw new IllegalArgumentException("Hall cannot be null.");
+        }
+        synchronized (buses) {
+            MonsterEventBus bus = buses.get(hall);
+            if (bus == null) {
+                bus = new MonsterEventBus();
+                hall.addMutationObserverLast(bus);
+                buses.put(hall, bus);
+            }
+            return bus;
+        }
+    }
+
+    /**
+     * Subscribes a monster to the events its behaviour reacts to.
+     *
+     * @param monsterThread the behaviour to wake
+     */
+    public void subscribe(MonsterThread monsterThread) {
+        if (monsterThread == null) {
+            LOGGER.error("Monster thread cannot be null. [from class: MonsterEventBus, method: subscribe]");
+            throw new IllegalArgumentException("Monster thread cannot be null.");
+        }
+        for (Constants.MonsterEvent event : monsterThread.wakeEvents()) {
+            subscribers.get(event).add(monsterThread);
+        }
+    }
+
+    public void unsubscribe(MonsterThread monsterThread) {
+        for (Set<MonsterThread> subscribed : subscribers.values()) {
+            subscribed.remove(monsterThread);
+        }
+    }
+
+    public int getSubscriberCount(Constants.MonsterEvent event) {
+        return subscribers.get(event).size();
+    }
+
+    /**
+     * Wakes every monster that reacts to the given event.
+     *
+     * @param event what happened in the hall
+     */
+    public void publish(Constants.MonsterEvent event) {
+        for (MonsterThread monsterThread : subscribers.get(event)) {
+            monsterThread.wake();
+        }
+        LOGGER.trace(() -> event + " published. [from class: MonsterEventBus, method: publish]");
+    }
+
+    /**
+     * Wakes every monster of the hall whatever it reacts to, used when the game is resumed or over.
+     */
+    public void wakeAll() {
+        for (Set<MonsterThread> subscribed : subscribers.values()) {
+            for (MonsterThread monsterThread : subscribed) {
+                monsterThread.wake();
+            }
+        }
+    }
+
+    /**
+     * Tells the bus how much time is left, publishing TIMER_THRESHOLD when it crosses one of the wizard's
+     * thresholds.
+     *
+     * @param timeRemaining the seconds left in the hall
+     * @param totalTime the seconds the hall started with
+     */
+    public void timeRemainingChanged(int timeRemaining, int totalTime) {
+        int band = timeBand(timeRemaining, totalTime);
+        synchronized (this) {
+            if (band == timeBand) {
+                return;
+            }
+            timeBand = band;
+        }
+        publish(Constants.MonsterEvent.TIMER_THRESHOLD);
+    }
+
+    /**
+     * Sorts the remaining time into the wizard's bands.
+     *
+     * @return 0 below LATE_GAME_PERCENT, 2 above EARLY_GAME_PERCENT, 1 in between
+     */
+    public static int timeBand(int timeRemaining, int totalTime) {
+        double percentageRemaining = (timeRemaining / (double) totalTime) * 100;
+        if (percentageRemaining < LATE_GAME_PERCENT) {
+            return 0;
+        }
+        return percentageRemaining > EARLY_GAME_PERCENT ? 2 : 1;
+    }
+
+    @Override
+    public void onObjectPlaced(int cell, Constants.GameObjectsInHall type) {
+        if (type == Constants.GameObjectsInHall.LURINGENCHANTMENT) {
+            publish(Constants.MonsterEvent.LURE_THROWN);
+        }
+    }
+
+    @Override
+    public void onObjectRemoved(int cell) {
+        publish(Constants.MonsterEvent.CELL_FREED);
+    }
+
+    @Override
+    public void onPlayerMoved(int cell) {
+        publish(Constants.MonsterEvent.PLAYER_MOVED);
+    }
+
+    @Override
+    public void onRunePlaced(int cell, Constants.HallType hallType) {
+    }
+
+    @Override
+    public void onRuneRemoved(int cell) {
+    }
+
+    @Override
+    public void onHallCleared() {
+        publish(Constants.MonsterEvent.CELL_FREED);
+    }
+}
@@ -3,30 +3,132 @@
  * Each monster type has its own specific implementation of this class.
  * The thread manages the monster's actions, including movement, interaction, and rendering, while respecting
  * the game's paused and game-over states.
+ * The behavior is written as non-blocking steps so it can be advanced either by the GameLoop or by its own thread.
+ * A step with nothing to do returns IDLE, and the monster waits until the MonsterEventBus of its hall wakes it for
+ * one of the events its behavior declares in wakeEvents. The monster subscribes to the bus when it is activated and
+ * unsubscribes when it stops, so a behaviour that is never started is never woken.
  */
 
 package domain.threads;
 
+import domain.gameCore.GameLoop;
 import domain.gameCore.GameState;
+import domain.gameCore.Tickable;
 import domain.gameObjects.Monster;
-import technicalServices.logging.LogManager;
+import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
 
 import java.awt.*;
+import java.util.Set;
 
-public abstract class MonsterThread implements Runnable {
+public abstract class MonsterThread implements Runnable, Tickable {
+    private static final GameLogger LOGGER = GameLogger.getLogger(MonsterThread.class);
     protected int x, y;
-    protected boolean alive = true;
+    protected volatile boolean alive = true;
     protected GameState model;
     protected Monster monster;
+    protected final MonsterEventBus events;
+    // set by wake, guarded by wakeLock; a wake that comes while the monster is stepping is not lost
+    private final Object wakeLock = new Object();
+    private boolean wakePending = false;
 
     public MonsterThread(Monster monster, GameState model) {
         this.monster = monster;
         this.model = model;
+        this.events = MonsterEventBus.forHall(model.getHall());
+    }
+
+    /**
+     * Subscribes the monster to the events it reacts to. GameThreadFactory calls it before starting the monster, so that
+     * no event published between starting it and its first step is missed; calling it again does nothing.
+     */
+    public void activate() {
+        if (alive) {
+            events.subscribe(this);
+        }
     }
 
     public abstract void draw(Graphics g);
 
-    public abstract void act();
+    /**
+     * Lists what the monster reacts to while it is idle.
+     *
+     * @return the events that wake the monster
+     */
+    public abstract Set<Constants.MonsterEvent> wakeEvents();
+
+    /**
+     * Performs a single step of the monster's behavior without blocking.
+     *
+     * @return the cooldown in milliseconds before the monster should act again, IDLE to wait for one of its
+     *         events, or DONE if it has finished
+     */
+    protected abstract long step();
+
+    /**
+     * Performs a single step and then blocks for the step's cooldown, or until the monster is woken if it is idle.
+     * Used when the monster runs on its own thread instead of the GameLoop.
+     */
+    public void act() {
+        clearWake();
+        long cooldown = step();
+        if (cooldown < 0) {
+            kill();
+            return;
+        }
+        try {
+            if (cooldown == IDLE) {
+                awaitWake();
+            } else {
+                awaitCooldown(cooldown);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            kill();
+        }
+    }
+
+    /**
+     * Wakes the monster if it is waiting for an event; a monster that is cooling down finishes its cooldown first.
+     * Safe to call from any thread, and quick enough to be called while the hall is locked.
+     */
+    public void wake() {
+        synchronized (wakeLock) {
+            wakePending = true;
+            wakeLock.notifyAll();
+        }
+        if (GameThreadFactory.getInstance().getExecutionMode() == Constants.ExecutionMode.GAME_LOOP) {
+            GameLoop.getInstance().wake(this);
+        }
+    }
+
+    /**
+     * Clears a pending wake before the next step. The bus is told about a change after the hall's other observers,
+     * so the state the step reads from them is already updated when the wake arrives.
+     */
+    private void clearWake() {
+        synchronized (wakeLock) {
+            wakePending = false;
+        }
+    }
+
+    private void awaitWake() throws InterruptedException {
+        synchronized (wakeLock) {
+            while (!wakePending && alive) {
+                wakeLock.wait();
+            }
+        }
+    }
+
+    // only killing the monster cuts the cooldown short, a wake is kept for the next step
+    private void awaitCooldown(long cooldown) throws InterruptedException {
+        long deadline = System.nanoTime() + cooldown * 1_000_000;
+        synchronized (wakeLock) {
+            for (long left = cooldown; alive && left > 0; left = (deadline - System.nanoTime()) / 1_000_000) {
+                wakeLock.wait(left);
+            }
+        }
+    }
 
     public int getX() {
         return monster.getPosition().x;
@@ -38,11 +140,45 @@ public abstract class MonsterThread implements Runnable {
 
     public void kill() {
         alive = false;
+        events.unsubscribe(this);
+        // an idle monster would otherwise never notice that it was killed
+        wake();
     }
 
     public Monster getMonster() {
         return monster;
     }
+
+    public boolean isAlive() {
+        return alive;
+    }
+    /**
+     * Advances the monster by one step from the GameLoop.
+     * While the game is paused the monster is idle, and resuming the game wakes it.
+     *
+     * @return the cooldown before the next step, IDLE, or DONE once the monster is killed or the game is over
+     */
+    @Override
+    public long tick() {
+        if (!alive || model.isGameOver()) {
+            finish();
+            return DONE;
+        }
+        if (model.isPaused()) {
+            return IDLE;
+        }
+        clearWake();
+        long cooldown = step();
+        if (cooldown < 0) {
+            finish();
+        }
+        return cooldown;
+    }
+
+    private void finish() {
+        alive = false;
+        events.unsubscribe(this);
+    }
     /**
      * The main execution loop for the MonsterThread.
      * Continuously manages the monster's behavior, handling pauses and ensuring
@@ -51,32 +187,33 @@ public abstract class MonsterThread implements Runnable {
 
     @Override
     public void run() {
+        activate();
         while (alive) {
 
-            while (model.isPaused()) {
+            while (model.isPaused() && alive) {
                 try {
-                    Thread.sleep(1000);
+                    // resuming the game wakes every monster of the hall
+                    synchronized (wakeLock) {
+                        wakePending = false;
+                    }
+                    if (model.isPaused()) {
+                        awaitWake();
+                    }
                 } catch (InterruptedException e) {
                     throw new RuntimeException(e);
                 }
             }
 
-            LogManager.logInfo("Monster thread resumed. [from class: MonsterThread, method: run]");
-            System.out.println("Monster thread resumed");
+            LOGGER.trace("Monster thread resumed. [from class: MonsterThread, method: run]");
 
             //model.repaint();
 
-            try {
-                act();
-                Thread.sleep(1);
-
-            } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
+            act();
 
             if (model.isGameOver()) {
                 break;
             }
         }
+        finish();
     }
 }
@@ -0,0 +1,212 @@
+/**
+ * The MovementResolver moves the monsters of a hall in phases instead of letting every monster move itself.
+ *
+ * A monster that wants to move submits a move intent: the cells it would step to, in order of preference. The first
+ * intent schedules a phase, and every intent that arrives until the phase runs is resolved in it together. The phase
+ * goes through the intents once, ordered by priority and then by the cell the monster stands in, and moves each
+ * monster to the first of its cells that is still empty; a cell taken earlier in the pass is no longer empty and a
+ * cell left earlier in the pass can be taken. The order does not depend on which monster submitted first, so the same
+ * intents always give the same moves. The hall is locked once for the whole phase, so the monsters do not compete for
+ * it and no move fails halfway. A monster whose cells are all taken stays where it is and tries again on its next step.
+ *
+ * The phase runs on the GameLoop, or on a short-lived worker thread that waits one loop tick to gather the intents.
+ */
+package domain.threads;
+
+import domain.gameCore.GameLoop;
+import domain.gameCore.Tickable;
+import domain.gameObjects.Hall;
+import domain.gameObjects.Monster;
+import technicalServices.logging.GameLogger;
+
+import java.awt.*;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class MovementResolver implements Runnable, Tickable {
+    private static final GameLogger LOGGER = GameLogger.getLogger(MovementResolver.class);
+    // the priority of a monster that is not heading anywhere, it moves after every monster that is
+    public static final int WANDERING = Integer.MAX_VALUE;
+    private static final long PHASE_LENGTH = 1000L / GameLoop.DEFAULT_TICK_RATE;
+
+    // one resolver per hall, a hall that is no longer played is forgotten with its resolver
+    private static final Map<Hall, MovementResolver> resolvers = new WeakHashMap<>();
+
+    // held weakly so the weak map can forget the hall
+    private final WeakReference<Hall> hall;
+    private final boolean schedulesPhases;
+    // the latest intent of each monster, guarded by this
+    private final Map<Monster, MoveIntent> pendingIntents = new IdentityHashMap<>();
+    private boolean phaseScheduled = false;
+    private final AtomicLong movedCount = new AtomicLong();
+    private final AtomicLong blockedCount = new AtomicLong();
+
+    /**
+     * Creates a resolver whose phases are run by calling resolve, instead of being scheduled by the first intent.
+     *
+     * @param hall the hall the monsters move in
+     */
+    public MovementResolver(Hall hall) {
+        this(hall, false);
+    }
+
+    private MovementResolver(Hall hall, boolean schedulesPhases) {
+        if (hall == null) {
+            LOGGER.error("Hall cannot be null. [from class: MovementResolver, method: MovementResolver]");
+            throw new IllegalArgumentException("Hall cannot be null.");
+        }
+        this.hall = new WeakReference<>(hall);
+        this.schedulesPhases = schedulesPhases;
+    }
+
+    /**
+     * Returns the resolver of the given hall, creating it the first time.
+     *
+     * @param hall the hall the monsters move in
+     * @return the resolver shared by every monster of the hall
+     */
+    public static MovementResolver forHall(Hall hall) {
+        if (hall == null) {
+            LOGGER.error("Hall cannot be null. [from class: MovementResolver, method: forHall]");
+            throw new IllegalArgumentException("Hall cannot be null.");
+        }
+        synchronized (resolvers) {
+            return resolvers.computeIfAbsent(hall, key -> new MovementResolver(key, true));
+        }
+    }
+
+    /**
+     * Asks for a monster to be moved in the next phase. A later intent of the same monster replaces its earlier one.
+     *
+     * @param monster the monster to move
+     * @param cells the cells the monster would step to, the one it prefers first
+     * @param priority the lower the priority, the earlier the monster picks its cell
+     */
+    public void submit(Monster monster, List<Point> cells, int priority) {
+        if (monster == null || cells == null) {
+            LOGGER.error("Monster and cells cannot be null. [from class: MovementResolver, method: submit]");
+            throw new IllegalArgumentException("Monster and cells cannot be null.");
+        }
+        if (cells.isEmpty()) {
+            return;
+        }
+        boolean schedule;
+        synchronized (this) {
+            pendingIntents.put(monster, new MoveIntent(monster, new Point(monster.getPosition()), List.copyOf(cells), priority));
+            schedule = schedulesPhases && !phaseScheduled;
+            phaseScheduled = true;
+        }
+        if (schedule) {
+            GameThreadFactory.getInstance().startEntity(this);
+        }
+    }
+
+    /**
+     * Runs a phase now: resolves every pending intent and applies the moves while the hall is locked.
+     *
+     * @return the number of monsters moved
+     */
+    public int resolve() {
+        List<MoveIntent> intents;
+        synchronized (this) {
+            intents = new ArrayList<>(pendingIntents.values());
+            pendingIntents.clear();
+        }
+        Hall hall = this.hall.get();
+        if (hall == null || intents.isEmpty()) {
+            return 0;
+        }
+        // every monster stands in a cell of its own, so the order is the same whichever thread submitted first
+        int width = hall.getGameObjectGrid().getWidth();
+        intents.sort(Comparator.comparingInt((MoveIntent intent) -> intent.priority)
+                .thenComparingInt(intent -> intent.from.y * width + intent.from.x));
+
+        int moved = 0;
+        synchronized (hall) {
+            for (MoveIntent intent : intents) {
+                // the monster may have been removed or moved since it submitted, then its cells mean nothing
+                if (hall.getObjectAt(intent.from.x, intent.from.y) != intent.monster) {
+                    continue;
+                }
+                for (Point cell : intent.cells) {
+                    // the player steps without the hall lock, it can hold an empty cell for the length of a step
+                    if (hall.isPositionEmpty(cell) && hall.tryMoveObject(intent.monster, cell)) {
+                        moved++;
+                        break;
+                    }
+                }
+            }
+        }
+        movedCount.addAndGet(moved);
+        blockedCount.addAndGet(intents.size() - moved);
+        if (moved > 0) {
+            hall.notifyListeners();
+        }
+        int phaseMoves = moved;
+        LOGGER.trace(() -> phaseMoves + " of " + intents.size() + " monsters moved. [from class: MovementResolver, method: resolve]");
+        return moved;
+    }
+
+    public long getMovedCount() {
+        return movedCount.get();
+    }
+
+    // intents that moved nothing, every cell was taken or the monster was no longer where it asked from
+    public long getBlockedCount() {
+        return blockedCount.get();
+    }
+
+    /**
+     * Runs a phase from the GameLoop, and another one on the next tick if intents arrived meanwhile.
+     *
+     * @return 0 while intents are pending, or DONE so that the next intent schedules a new phase
+     */
+    @Override
+    public long tick() {
+        resolve();
+        synchronized (this) {
+            if (pendingIntents.isEmpty()) {
+                phaseScheduled = false;
+                return DONE;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Runs phases one loop tick apart on a worker thread until no intents are left.
+     */
+    @Override
+    public void run() {
+        while (true) {
+            try {
+                Thread.sleep(PHASE_LENGTH);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (tick() == DONE) {
+                return;
+            }
+        }
+    }
+
+    private static final class MoveIntent {
+        private final Monster monster;
+        private final Point from;
+        private final List<Point> cells;
+        private final int priority;
+
+        private MoveIntent(Monster monster, Point from, List<Point> cells, int priority) {
+            this.monster = monster;
+            this.from = from;
+            this.cells = cells;
+            this.priority = priority;
+        }
+    }
+}
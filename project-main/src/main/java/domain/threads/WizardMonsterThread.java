@@ -2,12 +2,14 @@
  * WizardMonsterThread manages the threaded behavior of a WizardMonster.
  * It dynamically updates the monster's strategy based on the game's remaining time and current state.
  * The thread ensures the WizardMonster executes its behavior while responding to game events like pausing or game over.
+ * Between changes of strategy the wizard is idle; the timer crossing a threshold or its cell being freed wakes it.
  */
 
 package domain.threads;
 
 import java.awt.*;
-import java.util.Random;
+import java.util.EnumSet;
+import java.util.Set;
 
 import domain.behaviors.WizardStrategy;
 import domain.gameCore.GameState;
@@ -16,6 +18,7 @@ import domain.behaviors.DoNothingStrategy;
 import domain.behaviors.MovePlayerStrategy;
 import domain.behaviors.TeleportRuneStrategy;
 import domain.gameObjects.Hall;
+import domain.utilities.Constants;
 
 public class WizardMonsterThread extends MonsterThread {
     private WizardStrategy currentBehavior;
@@ -32,55 +35,29 @@ public class WizardMonsterThread extends MonsterThread {
         g.setColor(Color.MAGENTA);
         g.fillRect(x * 50, y * 50, 50, 50);
     }
+    @Override
+    public Set<Constants.MonsterEvent> wakeEvents() {
+        return EnumSet.of(Constants.MonsterEvent.TIMER_THRESHOLD, Constants.MonsterEvent.CELL_FREED);
+    }
     /**
      * Executes the current behavior strategy for the WizardMonster.
      * The behavior is dynamically updated based on the remaining time in the game.
+     *
+     * @return IDLE until the remaining time crosses a threshold, or DONE once the wizard has left the hall
      */
 
     @Override
-    public void act() {
-        if (!hall.getMonsters().contains(monster)) {
-            return;
+    protected long step() {
+        // the strategies take the wizard out of its cell before they take it off the monster list
+        if (!hall.getMonsters().contains(monster) || hall.getObjectAt(monster.getPosition().x, monster.getPosition().y) != monster) {
+            return DONE;
         }
+        int timeRemaining = model.getTimer().getTimeRemaining();
+        updateBehavior(timeRemaining);
         if (currentBehavior != null) {
             currentBehavior.execute((WizardMonster) monster, hall);
         }
-    }
-    /**
-     * The main execution loop for the WizardMonsterThread.
-     * Continuously updates the WizardMonster's behavior and ensures proper
-     * thread management during game pauses or game over events.
-     */
-
-    @Override
-    public void run() {
-        while (!Thread.currentThread().isInterrupted()) {
-            while (model.isPaused()) {
-                if (!hall.getMonsters().contains(monster)) {
-                    break;
-                }
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    return;
-                }
-            }
-
-            try {
-                int timeRemaining = model.getTimer().getTimeRemaining();
-                updateBehavior(timeRemaining);
-                act();
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                return;
-            }
-
-            if (model.isGameOver()) {
-                break;
-            }
-        }
+        return IDLE;
     }
     /**
      * Updates the behavior strategy for the WizardMonster based on the game's remaining time.
@@ -89,19 +66,19 @@ public class WizardMonsterThread extends MonsterThread {
      *                      - Less than 30% remaining: MovePlayerStrategy.
      *                      - More than 70% remaining: TeleportRuneStrategy.
      *                      - Otherwise: DoNothingStrategy.
+     *                      The thresholds are the ones the MonsterEventBus publishes TIMER_THRESHOLD for.
      */
 
     private void updateBehavior(int timeRemaining) {;
-        int totalTime = model.getTotalTime();
-        double percentageRemaining = (timeRemaining / (double) totalTime) * 100;
+        int band = MonsterEventBus.timeBand(timeRemaining, model.getTotalTime());
         if (!hall.getMonsters().contains(monster)) {
             currentBehavior = null;
             return;
         }
         WizardStrategy newStrategy;
-        if (percentageRemaining < 30) {
+        if (band == 0) {
             newStrategy = new MovePlayerStrategy(model.getController().getPlayerController());
-        } else if (percentageRemaining > 70) {
+        } else if (band == 2) {
             newStrategy = new TeleportRuneStrategy(model);
         } else {
             newStrategy = new DoNothingStrategy();
@@ -56,4 +56,42 @@ public class Constants {
         EMPTY
 
     }
+    //This enum is used to choose how the play mode draws the hall grid
+    public enum HallRenderMode {
+        PANEL_GRID,
+        SINGLE_CANVAS
+    }
+    //This enum is used to decide how monsters, enchantments, the hall manager and the timer are run
+    public enum ExecutionMode {
+        GAME_LOOP,
+        PLATFORM_THREADS,
+        VIRTUAL_THREADS
+    }
+    //This enum is used to tell monster behaviours which change in the hall they are woken up for
+    public enum MonsterEvent {
+        PLAYER_MOVED,
+        LURE_THROWN,
+        TIMER_THRESHOLD,
+        CELL_FREED
+    }
+    //This enum is used to choose the file format games are saved in
+    public enum SaveFormat {
+        JSON,
+        BINARY,
+        SLOTS,
+        DATABASE
+    }
+    //This enum is used to choose how save files are compressed
+    public enum SaveCompression {
+        NONE,
+        DEFLATE,
+        FAST
+    }
+    //This enum is used to choose the order saved games are listed in
+    public enum SaveSortOrder {
+        NEWEST_FIRST,
+        OLDEST_FIRST,
+        NAME,
+        MOST_LIVES
+    }
 }
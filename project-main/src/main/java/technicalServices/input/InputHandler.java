@@ -10,6 +10,7 @@ import domain.controllers.PlayerController;
 import domain.gameCore.GameState;
 import domain.gameObjects.*;
 import ui.swing.PlayMode;
+import technicalServices.logging.GameLogger;
 
 import java.awt.*;
 import java.awt.event.*;
@@ -18,6 +19,7 @@ import javax.swing.*;
 import assets.audio.SoundProcessor;
 
 public class InputHandler implements KeyListener, MouseListener{
+    private static final GameLogger LOGGER = GameLogger.getLogger(InputHandler.class);
     private final GameController gameController;
     private final PlayerController playerController;
     private PlayMode playMode;
@@ -48,19 +50,15 @@ public class InputHandler implements KeyListener, MouseListener{
             switch (e.getKeyCode()) {
                 case KeyEvent.VK_LEFT:
                     playerController.movePlayerLeft();
-                    playMode.render();
                     break;
                 case KeyEvent.VK_UP:
                     playerController.movePlayerUp();
-                    playMode.render();
                     break;
                 case KeyEvent.VK_DOWN:
                     playerController.movePlayerDown();
-                    playMode.render();
                     break;
                 case KeyEvent.VK_RIGHT:
                     playerController.movePlayerRight();
-                    playMode.render();
                     break;
                 case KeyEvent.VK_B:
                     handleLuringGem();
@@ -75,7 +73,7 @@ public class InputHandler implements KeyListener, MouseListener{
                     break;
                 }
             }
-            System.out.println("Player Position: " + gameController.getPlayerObject().getPosition());
+            LOGGER.trace(() -> "Player Position: " + gameController.getPlayerObject().getPosition());
         }
     /**
      * Activates a Reveal Enchantment, highlighting the area around the Rune in the hall.
@@ -90,20 +88,20 @@ public class InputHandler implements KeyListener, MouseListener{
                 .anyMatch(enchantment -> enchantment instanceof RevealEnchantment);
 
         if (!hasRevealEnchantment) {
-            System.out.println("No Reveal Enchantment in inventory.");
+            LOGGER.debug("No Reveal Enchantment in inventory.");
             return;
         }
         playerController.removeReveal();
         Point runePosition = hall.getRuneObjects().keySet().stream().findFirst().orElse(null);
         if (runePosition == null) {
-            System.out.println("No rune found in the hall.");
+            LOGGER.debug("No rune found in the hall.");
             return;
         }
         int x = runePosition.x;
         int y = runePosition.y;
         int w = Math.min(4, 16-x);
         int h = Math.min(4, 16-y);
-        System.out.println("Rune Position: " + runePosition);
+        LOGGER.debug(() -> "Rune Position: " + runePosition);
 
         playMode.setHighlightRectangle(new Rectangle(x,y,w,h));
 
@@ -145,27 +143,35 @@ public class InputHandler implements KeyListener, MouseListener{
     @Override
     public void mouseClicked(MouseEvent e) {
         Component source = e.getComponent();
-        if (source instanceof JPanel) {
-            SoundProcessor processSound = new SoundProcessor("src/main/java/assets/audio/undertale-select.wav");
+        if (source instanceof JPanel && playMode.getGridPanels() != null) {
             JPanel clickedPanel = (JPanel) source; // finds the panel that is interacted with
             //iterates through game grid to check if the clicked panel is in the grid 
             for (int row = 0; row < playMode.getGridPanels().length; row++) {
                 for (int col = 0; col < playMode.getGridPanels()[row].length; col++) {
                     if (playMode.getGridPanels()[row][col] == clickedPanel) {
                         // found clicked panel -> create the point for interaction
-                        Point clickedPoint = new Point(col, row);
-                        // checks if clicked object is adjacent to player and interacts if true 
-                        if (playerController.playerInteract(clickedPoint)) {
-                            System.out.println("Player interacted with object at: " + clickedPoint);
-                            // play sound if true 
-                            processSound.playSound();
-                        }
+                        cellClicked(new Point(col, row));
                         return;
                     }
                 }
             }
         }
     }
+
+    /**
+     * Handles a click on a cell of the hall grid, whichever way the grid is drawn.
+     * The player interacts with the object in the cell if it is adjacent, and a sound is played on success.
+     *
+     * @param clickedPoint the column and row of the clicked cell
+     */
+    public void cellClicked(Point clickedPoint) {
+        // checks if clicked object is adjacent to player and interacts if true 
+        if (playerController.playerInteract(clickedPoint)) {
+            LOGGER.debug(() -> "Player interacted with object at: " + clickedPoint);
+            // play sound if true 
+            new SoundProcessor(SoundProcessor.SELECT).playSound();
+        }
+    }
     
 
     @Override
@@ -212,8 +218,8 @@ public class InputHandler implements KeyListener, MouseListener{
 
 
         if (lastLuringGem != null) {
-            System.out.println("Luring Gem is in inventory");
-            System.out.println("Press A, D, W, or S to choose the direction to throw the Luring Gem.");
+            LOGGER.debug("Luring Gem is in inventory");
+            LOGGER.debug("Press A, D, W, or S to choose the direction to throw the Luring Gem.");
 
             LuringGemEnchantment finalLastLuringGem = lastLuringGem;
             playMode.addTemporaryKeyListener(new KeyAdapter() {
@@ -229,7 +235,7 @@ public class InputHandler implements KeyListener, MouseListener{
                 }
             });
         } else {
-            System.out.println("No Luring Gem in inventory.");
+            LOGGER.debug("No Luring Gem in inventory.");
         }
     }
     /**
@@ -245,7 +251,7 @@ public class InputHandler implements KeyListener, MouseListener{
         Point playerPosition = player.getPosition();
         Point lurePosition = calculateLurePosition(playerPosition, direction);
 
-        if (lurePosition != null && hall.getEmptyPositions().contains(lurePosition)) {
+        if (lurePosition != null && hall.isPositionEmpty(lurePosition)) {
             // Create a Luring Gem object at the lure position
             LuringGemEnchantment lure = new LuringGemEnchantment(lurePosition.x, lurePosition.y);
             hall.addObject(lure); // Add the lure to the hall
@@ -253,9 +259,9 @@ public class InputHandler implements KeyListener, MouseListener{
             // Remove the Luring Gem from active enchantments
             hall.getActiveEnchantments().removeIf(enchantment -> enchantment instanceof LuringGemEnchantment);
 
-            System.out.println("Luring Gem thrown at " + lurePosition);
+            LOGGER.debug(() -> "Luring Gem thrown at " + lurePosition);
         } else {
-            System.out.println("Invalid position for Lure.");
+            LOGGER.debug("Invalid position for Lure.");
         }
     }
     /**
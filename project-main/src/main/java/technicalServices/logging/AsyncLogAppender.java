@@ -0,0 +1,242 @@
+/**
+ * Writes log messages to their files on a single background thread so game threads never touch the disk.
+ *
+ * Game threads only place a record in a bounded lock-free ring buffer. The writer thread keeps every log file open,
+ * drains the buffer in batches and flushes once per batch instead of once per message. When the buffer is full the
+ * overflow policy decides whether the caller waits for space or the message is dropped and counted; dropped messages
+ * are reported in the error log once the writer catches up. Everything still buffered is written when the JVM exits.
+ */
+package technicalServices.logging;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class AsyncLogAppender {
+    // the policy and the size can be chosen at startup with -Drokue.logOverflow=DROP -Drokue.logBufferSize=16384
+    public static final String OVERFLOW_POLICY_PROPERTY = "rokue.logOverflow";
+    public static final String BUFFER_SIZE_PROPERTY = "rokue.logBufferSize";
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+    // the writer flushes at least this often while messages keep coming
+    private static final int BATCH_SIZE = 256;
+    // how long the idle writer sleeps before checking the buffer again
+    private static final long IDLE_PARK_NANOS = 50_000_000L;
+    // how long a blocked caller waits before retrying
+    private static final long FULL_PARK_NANOS = 100_000L;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("MM/dd/yyyy 'at' hh:mm a");
+    private static final long MILLIS_PER_MINUTE = 60_000L;
+
+    public enum OverflowPolicy {
+        // the caller waits until the writer has made room
+        BLOCK,
+        // the message is discarded and counted
+        DROP
+    }
+
+    private static final AsyncLogAppender instance = new AsyncLogAppender(readOverflowPolicy(), readBufferSize());
+
+    private final LogRingBuffer buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final Thread writerThread;
+    private final AtomicLong droppedMessages = new AtomicLong();
+    private final AtomicLong writtenMessages = new AtomicLong();
+    private volatile boolean writerIdle = false;
+    private volatile boolean closed = false;
+
+    // the fields below are only used by the writer thread
+    private final Map<String, Writer> openFiles = new HashMap<>();
+    private final Map<String, Writer> pendingFlush = new HashMap<>();
+    private long cachedMinute = -1;
+    private String cachedTimestamp;
+
+    public static AsyncLogAppender getInstance() {
+        return instance;
+    }
+
+    private AsyncLogAppender(OverflowPolicy overflowPolicy, int bufferSize) {
+        this.overflowPolicy = overflowPolicy;
+        this.buffer = new LogRingBuffer(bufferSize);
+        this.writerThread = new Thread(this::runWriter, "log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "log-writer-shutdown"));
+    }
+
+    private static OverflowPolicy readOverflowPolicy() {
+        String policy = System.getProperty(OVERFLOW_POLICY_PROPERTY);
+        if (policy == null) {
+            return OverflowPolicy.BLOCK;
+        }
+        try {
+            return OverflowPolicy.valueOf(policy.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown log overflow policy " + policy + ", using BLOCK.");
+            return OverflowPolicy.BLOCK;
+        }
+    }
+
+    private static int readBufferSize() {
+        String size = System.getProperty(BUFFER_SIZE_PROPERTY);
+        if (size == null) {
+            return DEFAULT_BUFFER_SIZE;
+        }
+        try {
+            return Math.max(2, Integer.parseInt(size.trim()));
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid log buffer size " + size + ", using " + DEFAULT_BUFFER_SIZE + ".");
+            return DEFAULT_BUFFER_SIZE;
+        }
+    }
+
+    /**
+     * Queues a message for the given file. Never does file I/O on the calling thread.
+     *
+     * @param filename the file the message is appended to
+     * @param logMessage the message, without the timestamp
+     */
+    public void append(String filename, String logMessage) {
+        if (closed) {
+            droppedMessages.incrementAndGet();
+            return;
+        }
+        LogRingBuffer.LogRecord record = new LogRingBuffer.LogRecord(filename, logMessage, System.currentTimeMillis());
+        while (!buffer.offer(record)) {
+            LockSupport.unpark(writerThread);
+            // the writer never logs through this method, so it cannot wait on itself here
+            if (overflowPolicy == OverflowPolicy.DROP || closed || !writerThread.isAlive()) {
+                droppedMessages.incrementAndGet();
+                return;
+            }
+            LockSupport.parkNanos(FULL_PARK_NANOS);
+        }
+        if (writerIdle) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    public int getCapacity() {
+        return buffer.capacity();
+    }
+
+    public long getDroppedMessages() {
+        return droppedMessages.get();
+    }
+
+    public long getWrittenMessages() {
+        return writtenMessages.get();
+    }
+
+    private void runWriter() {
+        long reportedDrops = 0;
+        while (true) {
+            int written = drainBatch();
+            if (written == BATCH_SIZE) {
+                // more messages are probably waiting, flush this batch and keep going
+                flushPending();
+                continue;
+            }
+            long drops = droppedMessages.get();
+            if (drops != reportedDrops) {
+                write(new LogRingBuffer.LogRecord(LogManager.ERROR_FILE,
+                        "[ERROR] " + (drops - reportedDrops) + " log messages were dropped because the log buffer was full. [from class: AsyncLogAppender, method: runWriter]",
+                        System.currentTimeMillis()));
+                reportedDrops = drops;
+            }
+            flushPending();
+            if (closed && buffer.isEmpty()) {
+                break;
+            }
+            writerIdle = true;
+            // checked again after announcing the idle state so a message queued in between is not left waiting
+            if (buffer.isEmpty() && !closed) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            }
+            writerIdle = false;
+        }
+        closeFiles();
+    }
+
+    private int drainBatch() {
+        int written = 0;
+        LogRingBuffer.LogRecord record;
+        while (written < BATCH_SIZE && (record = buffer.poll()) != null) {
+            write(record);
+            written++;
+        }
+        return written;
+    }
+
+    private void write(LogRingBuffer.LogRecord record) {
+        Writer writer = openFiles.get(record.filename);
+        try {
+            if (writer == null) {
+                writer = new BufferedWriter(new FileWriter(record.filename, true));
+                openFiles.put(record.filename, writer);
+            }
+            writer.write("[" + formatTimestamp(record.timestamp) + "]" + record.message + "\n");
+            pendingFlush.put(record.filename, writer);
+            writtenMessages.incrementAndGet();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    // the timestamp only shows minutes, so it is formatted once per minute
+    private String formatTimestamp(long timestamp) {
+        long minute = timestamp / MILLIS_PER_MINUTE;
+        if (minute != cachedMinute) {
+            cachedMinute = minute;
+            cachedTimestamp = LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault()).format(FORMATTER);
+        }
+        return cachedTimestamp;
+    }
+
+    private void flushPending() {
+        for (Writer writer : pendingFlush.values()) {
+            try {
+                writer.flush();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        pendingFlush.clear();
+    }
+
+    private void closeFiles() {
+        for (Writer writer : openFiles.values()) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        openFiles.clear();
+    }
+
+    /**
+     * Stops accepting messages, writes everything still buffered and closes the files.
+     * Called automatically when the JVM shuts down.
+     */
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
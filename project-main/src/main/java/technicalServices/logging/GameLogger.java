@@ -0,0 +1,296 @@
+/**
+ * Level-gated logging facade used by every class of the game instead of System.out and direct LogManager calls.
+ *
+ * Each class gets its logger with getLogger(Class). A message is kept only when its level is at or above the
+ * threshold of the logger's package, which is resolved once from the most specific configured package and cached on
+ * the logger, so a disabled call costs a single comparison. Messages built from several parts should be passed as a
+ * Supplier so the string is only built when the level is enabled.
+ *
+ * Kept messages go to the info log (TRACE to INFO) or the error log (WARN and ERROR) through the AsyncLogAppender,
+ * and are also printed on the console when they reach the console level.
+ *
+ * Thresholds come from a profile chosen with -Drokue.logProfile=DEVELOPMENT|PRODUCTION and can be overridden per
+ * package with -Drokue.log.level.<package>=LEVEL (for example -Drokue.log.level.domain.threads=TRACE), for all
+ * packages with -Drokue.log.level=LEVEL, and for the console with -Drokue.log.console=LEVEL.
+ */
+package technicalServices.logging;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+public final class GameLogger {
+    public static final String PROFILE_PROPERTY = "rokue.logProfile";
+    public static final String LEVEL_PROPERTY = "rokue.log.level";
+    public static final String CONSOLE_PROPERTY = "rokue.log.console";
+    // the root threshold is stored under the empty package name
+    private static final String ROOT = "";
+
+    public enum Profile {
+        // everything except the per tick chatter is logged, the console still shows problems only unless it is lowered
+        // with -Drokue.log.console
+        DEVELOPMENT,
+        // only game events are logged, monster, behavior and hall chatter is silenced and the console shows problems only
+        PRODUCTION
+    }
+
+    private static final Map<String, LogLevel> thresholds = new ConcurrentHashMap<>();
+    private static final Map<String, GameLogger> loggers = new ConcurrentHashMap<>();
+    private static volatile LogLevel consoleLevel = LogLevel.WARN;
+    private static volatile Profile profile;
+
+    static {
+        applyProfile(readProfile());
+        applySystemProperties(System.getProperties());
+    }
+
+    private final String name;
+    private volatile LogLevel threshold;
+
+    private GameLogger(String name) {
+        this.name = name;
+        this.threshold = resolveThreshold(name);
+    }
+
+    /**
+     * Returns the logger of the given class, creating it the first time.
+     *
+     * @param type the class that logs
+     * @return the logger named after the class
+     */
+    public static GameLogger getLogger(Class<?> type) {
+        return getLogger(type.getName());
+    }
+
+    /**
+     * Returns the logger with the given name, creating it the first time.
+     *
+     * @param name the fully qualified name, its package decides the threshold
+     * @return the logger
+     */
+    public static GameLogger getLogger(String name) {
+        return loggers.computeIfAbsent(name, GameLogger::new);
+    }
+
+    private static Profile readProfile() {
+        String value = System.getProperty(PROFILE_PROPERTY);
+        if (value == null) {
+            return Profile.DEVELOPMENT;
+        }
+        try {
+            return Profile.valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown log profile " + value + ", using DEVELOPMENT.");
+            return Profile.DEVELOPMENT;
+        }
+    }
+
+    /**
+     * Replaces every threshold with the defaults of the given profile.
+     *
+     * @param newProfile the profile to apply
+     */
+    public static synchronized void applyProfile(Profile newProfile) {
+        if (newProfile == null) {
+            throw new IllegalArgumentException("Log profile cannot be null.");
+        }
+        profile = newProfile;
+        thresholds.clear();
+        if (newProfile == Profile.PRODUCTION) {
+            thresholds.put(ROOT, LogLevel.INFO);
+            thresholds.put("domain.threads", LogLevel.WARN);
+            thresholds.put("domain.behaviors", LogLevel.WARN);
+            thresholds.put("domain.gameObjects", LogLevel.WARN);
+            thresholds.put("technicalServices.input", LogLevel.WARN);
+            consoleLevel = LogLevel.WARN;
+        } else {
+            thresholds.put(ROOT, LogLevel.DEBUG);
+            consoleLevel = LogLevel.WARN;
+        }
+        refreshLoggers();
+    }
+
+    private static void applySystemProperties(Properties properties) {
+        for (String key : properties.stringPropertyNames()) {
+            if (key.equals(LEVEL_PROPERTY)) {
+                setLevel(ROOT, parseLevel(key, properties.getProperty(key)));
+            } else if (key.startsWith(LEVEL_PROPERTY + ".")) {
+                setLevel(key.substring(LEVEL_PROPERTY.length() + 1), parseLevel(key, properties.getProperty(key)));
+            } else if (key.equals(CONSOLE_PROPERTY)) {
+                setConsoleLevel(parseLevel(key, properties.getProperty(key)));
+            }
+        }
+    }
+
+    private static LogLevel parseLevel(String key, String value) {
+        LogLevel level = LogLevel.parse(value);
+        if (level == null) {
+            System.err.println("Unknown log level " + value + " for " + key + ", using INFO.");
+            return LogLevel.INFO;
+        }
+        return level;
+    }
+
+    /**
+     * Sets the threshold of a package and all packages below it that have no threshold of their own.
+     *
+     * @param packageName the package, or an empty string for all packages
+     * @param level the lowest level that is still logged
+     */
+    public static synchronized void setLevel(String packageName, LogLevel level) {
+        if (packageName == null || level == null) {
+            throw new IllegalArgumentException("Package name and level cannot be null.");
+        }
+        thresholds.put(packageName, level);
+        refreshLoggers();
+    }
+
+    /**
+     * Sets the lowest level that is also printed on the console.
+     *
+     * @param level the console level, OFF prints nothing
+     */
+    public static void setConsoleLevel(LogLevel level) {
+        if (level == null) {
+            throw new IllegalArgumentException("Console level cannot be null.");
+        }
+        consoleLevel = level;
+    }
+
+    public static Profile getProfile() {
+        return profile;
+    }
+
+    private static void refreshLoggers() {
+        for (GameLogger logger : loggers.values()) {
+            logger.threshold = resolveThreshold(logger.name);
+        }
+    }
+
+    // walks up the package names until one has a threshold, the root always has one
+    private static LogLevel resolveThreshold(String name) {
+        String current = name;
+        while (true) {
+            LogLevel level = thresholds.get(current);
+            if (level != null) {
+                return level;
+            }
+            int dot = current.lastIndexOf('.');
+            if (dot < 0) {
+                level = thresholds.get(ROOT);
+                return level != null ? level : LogLevel.INFO;
+            }
+            current = current.substring(0, dot);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEnabled(LogLevel level) {
+        return level.compareTo(threshold) >= 0 && level != LogLevel.OFF;
+    }
+
+    public boolean isTraceEnabled() {
+        return isEnabled(LogLevel.TRACE);
+    }
+
+    public boolean isDebugEnabled() {
+        return isEnabled(LogLevel.DEBUG);
+    }
+
+    public void trace(String message) {
+        log(LogLevel.TRACE, message);
+    }
+
+    public void trace(Supplier<String> message) {
+        log(LogLevel.TRACE, message);
+    }
+
+    public void debug(String message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    public void debug(Supplier<String> message) {
+        log(LogLevel.DEBUG, message);
+    }
+
+    public void info(String message) {
+        log(LogLevel.INFO, message);
+    }
+
+    public void info(Supplier<String> message) {
+        log(LogLevel.INFO, message);
+    }
+
+    public void warn(String message) {
+        log(LogLevel.WARN, message);
+    }
+
+    public void warn(Supplier<String> message) {
+        log(LogLevel.WARN, message);
+    }
+
+    public void error(String message) {
+        log(LogLevel.ERROR, message);
+    }
+
+    public void error(Supplier<String> message) {
+        log(LogLevel.ERROR, message);
+    }
+
+    /**
+     * Logs an error together with the stack trace of the exception behind it.
+     *
+     * @param message the message
+     * @param thrown the exception behind the error
+     */
+    public void error(String message, Throwable thrown) {
+        if (isEnabled(LogLevel.ERROR)) {
+            StringWriter trace = new StringWriter();
+            thrown.printStackTrace(new PrintWriter(trace));
+            write(LogLevel.ERROR, message + System.lineSeparator() + trace.toString().stripTrailing());
+        }
+    }
+
+    /**
+     * Logs a message built only if the level is enabled.
+     *
+     * @param level the level of the message
+     * @param message builds the message
+     */
+    public void log(LogLevel level, Supplier<String> message) {
+        if (isEnabled(level)) {
+            write(level, message.get());
+        }
+    }
+
+    /**
+     * Logs a message if the level is enabled.
+     *
+     * @param level the level of the message
+     * @param message the message
+     */
+    public void log(LogLevel level, String message) {
+        if (isEnabled(level)) {
+            write(level, message);
+        }
+    }
+
+    private void write(LogLevel level, String message) {
+        boolean problem = level.compareTo(LogLevel.WARN) >= 0;
+        AsyncLogAppender.getInstance().append(problem ? LogManager.ERROR_FILE : LogManager.INFO_FILE,
+                "[" + level + "] " + message);
+        if (level.compareTo(consoleLevel) >= 0 && consoleLevel != LogLevel.OFF) {
+            if (problem) {
+                System.err.println(message);
+            } else {
+                System.out.println(message);
+            }
+        }
+    }
+}
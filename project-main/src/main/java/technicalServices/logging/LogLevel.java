@@ -0,0 +1,37 @@
+/**
+ * Severity levels used by GameLogger, from the most detailed to the most serious.
+ * A logger writes a message only when its level is at or above the threshold configured for the logger's package.
+ */
+package technicalServices.logging;
+
+public enum LogLevel {
+    // per tick chatter such as monster steps and valid move lists
+    TRACE,
+    // details of single game actions that help while developing
+    DEBUG,
+    // game events worth keeping in the info log
+    INFO,
+    // unexpected situations the game recovers from
+    WARN,
+    // failures, written to the error log
+    ERROR,
+    // used as a threshold only, silences everything
+    OFF;
+
+    /**
+     * Parses a level name ignoring case and surrounding spaces.
+     *
+     * @param name the name of the level
+     * @return the level, or null if the name is not a level
+     */
+    public static LogLevel parse(String name) {
+        if (name == null) {
+            return null;
+        }
+        try {
+            return valueOf(name.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
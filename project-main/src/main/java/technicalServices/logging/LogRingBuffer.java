@@ -0,0 +1,98 @@
+/**
+ * A bounded, lock-free queue of log records shared by all game threads and drained by the single log writer thread.
+ *
+ * Each slot carries a sequence number that tells producers when the slot is free and the consumer when it has been
+ * published, so producers only compete on one compare-and-set of the tail and never take a lock. The capacity is
+ * rounded up to a power of two so positions are mapped to slots with a mask.
+ */
+package technicalServices.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+class LogRingBuffer {
+    private final LogRecord[] records;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    // only the writer thread reads from the buffer, so the head needs no synchronization
+    private long head = 0;
+
+    LogRingBuffer(int requestedCapacity) {
+        if (requestedCapacity < 2) {
+            throw new IllegalArgumentException("Log buffer capacity must be at least 2.");
+        }
+        int capacity = Integer.highestOneBit(requestedCapacity - 1) << 1;
+        this.records = new LogRecord[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        this.mask = capacity - 1;
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    int capacity() {
+        return records.length;
+    }
+
+    /**
+     * Adds a record without waiting. Safe to call from any number of threads.
+     *
+     * @param record the record to add
+     * @return false if the buffer is full
+     */
+    boolean offer(LogRecord record) {
+        long position = tail.get();
+        while (true) {
+            int slot = (int) (position & mask);
+            long difference = sequences.get(slot) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    records[slot] = record;
+                    // publishing the sequence makes the record visible to the writer
+                    sequences.set(slot, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest published record. Must only be called by the writer thread.
+     *
+     * @return the record, or null if nothing has been published yet
+     */
+    LogRecord poll() {
+        int slot = (int) (head & mask);
+        if (sequences.get(slot) != head + 1) {
+            return null;
+        }
+        LogRecord record = records[slot];
+        records[slot] = null;
+        // the slot is free again for the producer that wraps around to it
+        sequences.set(slot, head + records.length);
+        head++;
+        return record;
+    }
+
+    boolean isEmpty() {
+        return sequences.get((int) (head & mask)) != head + 1;
+    }
+
+    static class LogRecord {
+        final String filename;
+        final String message;
+        final long timestamp;
+
+        LogRecord(String filename, String message, long timestamp) {
+            this.filename = filename;
+            this.message = message;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * Writes saved games on a single background thread so the game never waits for serialization or the disk.
+ *
+ * The caller hands over a snapshot of the game state in transfer form, which it takes while the hall is locked, and
+ * gets control back at once. The save thread serializes the snapshot and writes it through the adapter, which
+ * replaces the file atomically, and then tells the observer how it went. Saves are written in the order they were
+ * requested. Saves still waiting when the JVM exits are written before it stops.
+ */
+package technicalServices.persistence;
+
+import domain.dto.GameStateDto;
+import domain.observers.SaveObserver;
+import technicalServices.logging.GameLogger;
+import technicalServices.persistence.adapters.SaveGameAdapter;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AsyncSaveWriter {
+    private static final GameLogger LOGGER = GameLogger.getLogger(AsyncSaveWriter.class);
+    // how long the JVM waits at exit for saves that are still being written
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static final AsyncSaveWriter instance = new AsyncSaveWriter();
+
+    private final ExecutorService executor;
+    private final AtomicInteger pendingSaves = new AtomicInteger();
+
+    public static AsyncSaveWriter getInstance() {
+        return instance;
+    }
+
+    private AsyncSaveWriter() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "save-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Runtime.getRuntime().addShutdownHook(new Thread(this::close, "save-writer-shutdown"));
+    }
+
+    /**
+     * Queues a snapshot to be written. Returns without doing any serialization or file I/O.
+     *
+     * @param adapter the adapter the game is saved with
+     * @param gameName the name of the saved game
+     * @param snapshot the game state taken when the save was requested, it must not be changed afterwards
+     * @param observer told on the save thread when the save is written or failed, may be null
+     * @return a future that completes once the save is written or failed
+     */
+    public Future<?> save(SaveGameAdapter adapter, String gameName, GameStateDto snapshot, SaveObserver observer) {
+        if (adapter == null || snapshot == null) {
+            LOGGER.error("Adapter and snapshot cannot be null. [from class: AsyncSaveWriter, method: save]");
+            throw new IllegalArgumentException("Adapter and snapshot cannot be null.");
+        }
+        if (gameName == null || gameName.trim().isEmpty()) {
+            LOGGER.error("Game name cannot be null or empty. [from class: AsyncSaveWriter, method: save]");
+            throw new IllegalArgumentException("Game name cannot be null or empty.");
+        }
+        pendingSaves.incrementAndGet();
+        return executor.submit(() -> write(adapter, gameName, snapshot, observer));
+    }
+
+    /**
+     * Counts the saves that are queued or being written.
+     *
+     * @return the number of unfinished saves
+     */
+    public int getPendingSaves() {
+        return pendingSaves.get();
+    }
+
+    private void write(SaveGameAdapter adapter, String gameName, GameStateDto snapshot, SaveObserver observer) {
+        long start = System.nanoTime();
+        Exception failure = null;
+        try {
+            adapter.writeGameStateDto(gameName, snapshot);
+        } catch (Exception e) {
+            failure = e;
+        } finally {
+            pendingSaves.decrementAndGet();
+        }
+        if (failure == null) {
+            LOGGER.info(() -> "Game saved in the background: " + gameName + " in " + (System.nanoTime() - start) / 1_000_000 + " ms [from class: AsyncSaveWriter, method: write]");
+        } else {
+            LOGGER.error("Error saving game " + gameName + ": " + failure.getMessage() + " [from class: AsyncSaveWriter, method: write]");
+        }
+        if (observer == null) {
+            return;
+        }
+        try {
+            if (failure == null) {
+                observer.onSaveCompleted(gameName);
+            } else {
+                observer.onSaveFailed(gameName, failure);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("Save observer failed: " + e.getMessage() + " [from class: AsyncSaveWriter, method: write]");
+        }
+    }
+
+    /**
+     * Stops accepting saves and waits for the queued ones to be written.
+     * Called automatically when the JVM shuts down.
+     */
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.error(pendingSaves.get() + " saves could not be finished before exit. [from class: AsyncSaveWriter, method: close]");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
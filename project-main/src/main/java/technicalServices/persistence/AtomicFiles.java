@@ -0,0 +1,99 @@
+/**
+ * Writes files so that readers only ever see the old or the new contents.
+ *
+ * The contents are written to a temporary file in the same directory, forced to disk and then renamed over the
+ * target. A crash or a failing writer in the middle leaves the previous file untouched.
+ */
+package technicalServices.persistence;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+public class AtomicFiles {
+    public static final String TEMPORARY_SUFFIX = ".tmp";
+
+    /**
+     * Writes the contents of a file, the way used by every save file of the game.
+     */
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    private AtomicFiles() {
+    }
+
+    /**
+     * Replaces the target file with the contents written by the writer.
+     *
+     * @param target the file to replace
+     * @param writer writes the new contents, the stream it gets must not be closed by it
+     * @throws IOException if writing or renaming fails, the target is unchanged in that case
+     */
+    public static void write(Path target, ContentWriter writer) throws IOException {
+        replace(writeTemporary(target, writer), target);
+    }
+
+    /**
+     * Writes the new contents of the target file to its temporary file and forces them to disk, without touching the
+     * target yet. For callers that must let go of the target before it can be replaced.
+     *
+     * @param target the file the contents are for
+     * @param writer writes the new contents, the stream it gets must not be closed by it
+     * @return the temporary file, to be handed to replace
+     * @throws IOException if writing fails, the temporary file is deleted in that case
+     */
+    public static Path writeTemporary(Path target, ContentWriter writer) throws IOException {
+        Path temporary = target.resolveSibling(target.getFileName() + TEMPORARY_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            writer.write(out);
+            out.flush();
+            // the rename must not reach the disk before the data does
+            channel.force(false);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+        return temporary;
+    }
+
+    /**
+     * Renames a temporary file written by writeTemporary over its target.
+     *
+     * @param temporary the temporary file
+     * @param target the file to replace
+     * @throws IOException if renaming fails, the target is unchanged and the temporary file deleted in that case
+     */
+    public static void replace(Path temporary, Path target) throws IOException {
+        try {
+            try {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temporary);
+            throw e;
+        }
+    }
+
+    /**
+     * Replaces the target file with the given bytes.
+     *
+     * @param target the file to replace
+     * @param bytes the new contents
+     * @throws IOException if writing or renaming fails, the target is unchanged in that case
+     */
+    public static void write(Path target, byte[] bytes) throws IOException {
+        write(target, out -> out.write(bytes));
+    }
+}
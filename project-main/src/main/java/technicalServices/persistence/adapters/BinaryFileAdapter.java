@@ -0,0 +1,200 @@
+/**
+ * Adapter for handling game persistence using the compact binary save format.
+ * Implements the `SaveGameAdapter` interface like `FileAdapter`, but writes each game with `BinaryGameStateCodec`
+ * instead of Jackson, so saves are smaller and faster to write and read.
+ * Binary saves use their own file extension and can live in the same directory as the JSON saves.
+ */
+
+package technicalServices.persistence.adapters;
+
+import domain.controllers.GameController;
+import domain.dto.GameStateDto;
+import domain.dto.SavedGameSummaryDto;
+import domain.gameCore.GameState;
+import domain.serializers.GameStateSerializer;
+import technicalServices.logging.GameLogger;
+import technicalServices.persistence.AtomicFiles;
+import technicalServices.persistence.codecs.BinaryGameStateCodec;
+import technicalServices.persistence.codecs.SaveCompressor;
+import technicalServices.persistence.manifest.SaveGameManifest;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BinaryFileAdapter implements SaveGameAdapter {
+    private static final GameLogger LOGGER = GameLogger.getLogger(BinaryFileAdapter.class);
+    public static final String FILE_EXTENSION = ".rsav";
+    private final GameStateSerializer serializer;
+    private final String saveDirectory;
+    private final SaveGameManifest manifest;
+    private final BinaryGameStateCodec codec = new BinaryGameStateCodec();
+    private final SaveCompressor compressor;
+
+    public BinaryFileAdapter(GameStateSerializer serializer) {
+        this(serializer, FileAdapter.SAVE_GAME_PATH);
+    }
+
+    public BinaryFileAdapter(GameStateSerializer serializer, String saveDirectory) {
+        this(serializer, saveDirectory, SaveCompressor.NONE);
+    }
+
+    public BinaryFileAdapter(GameStateSerializer serializer, String saveDirectory, SaveCompressor compressor) {
+        this.serializer = serializer;
+        this.saveDirectory = saveDirectory;
+        this.compressor = compressor;
+        this.manifest = new SaveGameManifest(saveDirectory, FILE_EXTENSION, saveReader(saveDirectory, codec));
+        Path path = Paths.get(saveDirectory);
+        if (!Files.exists(path)) {
+            try {
+                Files.createDirectories(path);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not create save directory.", e);
+            }
+        }
+    }
+    /**
+     * Saves the given game state to a binary file with the specified name.
+     *
+     * @param gameName  The name of the saved game.
+     * @param gameState The current state of the game to be saved.
+     * @throws RuntimeException If the game name or game state is null or if an I/O error occurs during saving.
+     */
+
+    @Override
+    public void saveGame(String gameName, GameState gameState) {
+        if (gameName == null || gameName.trim().isEmpty()) {
+            throw new RuntimeException("Game name cannot be null or empty.");
+        }
+        if (gameState == null) {
+            throw new RuntimeException("Game state cannot be null.");
+        }
+        GameStateDto gameStateDto = serializer.serializeGameState(gameState);
+        try {
+            writeGameStateDto(gameName, gameStateDto);
+            LOGGER.info(() -> "Game saved successfully: " + gameName);
+        } catch (IOException e) {
+            throw new RuntimeException("Error saving game: " + gameName, e);
+        }
+    }
+    /**
+     * Loads a saved game state from a binary file with the specified name.
+     *
+     * @param gameName The name of the saved game to load.
+     * @return The loaded `GameState` object.
+     * @throws RuntimeException If the file cannot be read or is not a valid binary save.
+     */
+
+    @Override
+    public GameState loadGame(String gameName) {
+        try {
+            GameStateDto gameStateDto = readGameStateDto(gameName);
+            return serializer.deserializeGameState(gameStateDto, new GameController());
+        } catch (IOException e) {
+            throw new RuntimeException("Error loading game: " + gameName, e);
+        }
+    }
+    /**
+     * Lists all binary saved games available in the save directory.
+     *
+     * @return A list of saved game names.
+     */
+
+    @Override
+    public List<String> listSavedGames() {
+        File directory = new File(saveDirectory);
+        File[] files = directory.listFiles((d, name) -> name.endsWith(FILE_EXTENSION));
+        List<String> savedGames = new ArrayList<>();
+        if (files != null) {
+            for (File file : files) {
+                String name = file.getName();
+                savedGames.add(name.substring(0, name.length() - FILE_EXTENSION.length()));
+            }
+        }
+        return savedGames;
+    }
+    /**
+     * Lists the summaries of all saved games from the save manifest, without reading the saves.
+     *
+     * @return A list of saved game summaries, newest first.
+     */
+
+    @Override
+    public List<SavedGameSummaryDto> listSavedGameSummaries() {
+        return manifest.list();
+    }
+    /**
+     * Deletes the binary saved game file with the specified name.
+     *
+     * @param gameName The name of the saved game to delete.
+     * @throws RuntimeException If an I/O error occurs during deletion.
+     */
+
+    @Override
+    public void deleteSavedGame(String gameName) {
+        Path path = Paths.get(fileName(gameName));
+        try {
+            Files.deleteIfExists(path);
+            manifest.remove(gameName);
+            LOGGER.info(() -> "Game deleted successfully: " + gameName);
+        } catch (IOException e) {
+            throw new RuntimeException("Error deleting saved game: " + gameName, e);
+        }
+    }
+
+    /**
+     * Writes a game state that is already in transfer form in the binary format, replacing the file atomically.
+     * The save is compressed on the way if the adapter was given a compression.
+     *
+     * @param gameName the name of the saved game
+     * @param gameStateDto the game state to write
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void writeGameStateDto(String gameName, GameStateDto gameStateDto) throws IOException {
+        AtomicFiles.write(Paths.get(fileName(gameName)), out -> compressor.write(out, binary -> codec.encode(gameStateDto, binary)));
+        manifest.update(gameName, gameStateDto);
+    }
+
+    /**
+     * Reads a saved game without turning it into a running GameState. Compressed and uncompressed saves are both read.
+     *
+     * @param gameName the name of the saved game
+     * @return the saved game state in transfer form
+     * @throws IOException if the file cannot be read or is not a valid binary save
+     */
+    @Override
+    public GameStateDto readGameStateDto(String gameName) throws IOException {
+        return saveReader(saveDirectory, codec).read(gameName);
+    }
+
+    // the manifest gets a reader of its own rather than this, which the constructor has not finished yet
+    private static SaveGameManifest.SaveReader saveReader(String saveDirectory, BinaryGameStateCodec codec) {
+        return gameName -> {
+            try (InputStream in = SaveCompressor.open(Files.newInputStream(Paths.get(fileName(saveDirectory, gameName))))) {
+                return codec.decode(in);
+            }
+        };
+    }
+
+    /**
+     * Checks whether a binary save with the given name exists.
+     *
+     * @param gameName the name of the saved game
+     * @return true if the file exists
+     */
+    public boolean hasSavedGame(String gameName) {
+        return Files.exists(Paths.get(fileName(gameName)));
+    }
+
+    private String fileName(String gameName) {
+        return fileName(saveDirectory, gameName);
+    }
+
+    private static String fileName(String saveDirectory, String gameName) {
+        return saveDirectory + File.separator + gameName + FILE_EXTENSION;
+    }
+}
@@ -0,0 +1,214 @@
+/**
+ * Adapter for handling game persistence in an embedded save database.
+ * Implements the `SaveGameAdapter` interface like `DatabaseAdapter` and writes each game with `BinaryGameStateCodec`,
+ * but keeps all saves as rows of a `SaveDatabase`, next to indexed columns taken from their summary. Listing and
+ * paging through the saves walks the indexes of the database and reads no save at all.
+ */
+
+package technicalServices.persistence.adapters;
+
+import domain.controllers.GameController;
+import domain.dto.GameStateDto;
+import domain.dto.SavedGameSummaryDto;
+import domain.gameCore.GameState;
+import domain.serializers.GameStateSerializer;
+import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
+import technicalServices.persistence.codecs.BinaryGameStateCodec;
+import technicalServices.persistence.codecs.SaveCompressor;
+import technicalServices.persistence.manifest.SaveGameManifest;
+import technicalServices.persistence.database.SaveDatabase;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+public class DatabaseAdapter implements SaveGameAdapter {
+    private static final GameLogger LOGGER = GameLogger.getLogger(DatabaseAdapter.class);
+    public static final String DATABASE_FILE_NAME = "saves.rkdb";
+    private final GameStateSerializer serializer;
+    private final SaveDatabase database;
+    private final BinaryGameStateCodec codec = new BinaryGameStateCodec();
+    private final SaveCompressor compressor;
+
+    public DatabaseAdapter(GameStateSerializer serializer) {
+        this(serializer, FileAdapter.SAVE_GAME_PATH);
+    }
+
+    public DatabaseAdapter(GameStateSerializer serializer, String saveDirectory) {
+        this(serializer, saveDirectory, SaveCompressor.NONE);
+    }
+
+    public DatabaseAdapter(GameStateSerializer serializer, String saveDirectory, SaveCompressor compressor) {
+        this.serializer = serializer;
+        this.compressor = compressor;
+        Path path = Paths.get(saveDirectory);
+        try {
+            if (!Files.exists(path)) {
+                Files.createDirectories(path);
+            }
+            this.database = SaveDatabase.open(path.resolve(DATABASE_FILE_NAME));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not open the save database.", e);
+        }
+    }
+    /**
+     * Saves the given game state to the row with the specified name.
+     *
+     * @param gameName  The name of the saved game.
+     * @param gameState The current state of the game to be saved.
+     * @throws RuntimeException If the game name or game state is null or if an I/O error occurs during saving.
+     */
+
+    @Override
+    public void saveGame(String gameName, GameState gameState) {
+        if (gameName == null || gameName.trim().isEmpty()) {
+            throw new RuntimeException("Game name cannot be null or empty.");
+        }
+        if (gameState == null) {
+            throw new RuntimeException("Game state cannot be null.");
+        }
+        GameStateDto gameStateDto = serializer.serializeGameState(gameState);
+        try {
+            writeGameStateDto(gameName, gameStateDto);
+            LOGGER.info(() -> "Game saved successfully: " + gameName);
+        } catch (IOException e) {
+            throw new RuntimeException("Error saving game: " + gameName, e);
+        }
+    }
+    /**
+     * Loads a saved game state from the row with the specified name.
+     *
+     * @param gameName The name of the saved game to load.
+     * @return The loaded `GameState` object.
+     * @throws RuntimeException If the row does not exist or does not hold a valid binary save.
+     */
+
+    @Override
+    public GameState loadGame(String gameName) {
+        try {
+            GameStateDto gameStateDto = readGameStateDto(gameName);
+            return serializer.deserializeGameState(gameStateDto, new GameController());
+        } catch (IOException e) {
+            throw new RuntimeException("Error loading game: " + gameName, e);
+        }
+    }
+    /**
+     * Lists the names of all saved games in the database.
+     *
+     * @return A list of saved game names.
+     */
+
+    @Override
+    public List<String> listSavedGames() {
+        return database.names();
+    }
+    /**
+     * Lists the summaries of all saved games, read from the indexes of the database.
+     *
+     * @return A list of saved game summaries, newest first.
+     */
+
+    @Override
+    public List<SavedGameSummaryDto> listSavedGameSummaries() {
+        return database.query(null, Constants.SaveSortOrder.NEWEST_FIRST, 0, Integer.MAX_VALUE);
+    }
+    /**
+     * Lists one page of saved game summaries using the indexes of the database.
+     *
+     * @param hallType the hall the saves are in, or null for every hall
+     * @param order the order of the saves
+     * @param offset how many saves to skip
+     * @param limit how many saves to list at most
+     * @return the summaries of the page
+     */
+
+    @Override
+    public List<SavedGameSummaryDto> querySavedGameSummaries(Constants.HallType hallType, Constants.SaveSortOrder order, int offset, int limit) {
+        return database.query(hallType, order, offset, limit);
+    }
+
+    @Override
+    public int countSavedGames(Constants.HallType hallType) {
+        return database.count(hallType);
+    }
+    /**
+     * Deletes the row with the specified name.
+     *
+     * @param gameName The name of the saved game to delete.
+     * @throws RuntimeException If an I/O error occurs during deletion.
+     */
+
+    @Override
+    public void deleteSavedGame(String gameName) {
+        try {
+            database.remove(gameName);
+            LOGGER.info(() -> "Game deleted successfully: " + gameName);
+        } catch (IOException e) {
+            throw new RuntimeException("Error deleting saved game: " + gameName, e);
+        }
+    }
+
+    /**
+     * Writes a game state that is already in transfer form as its row, compressed if the adapter was given a
+     * compression. The columns of the row are taken from the summary of the game state.
+     *
+     * @param gameName the name of the saved game
+     * @param gameStateDto the game state to write
+     * @throws IOException if the database cannot be written
+     */
+    @Override
+    public void writeGameStateDto(String gameName, GameStateDto gameStateDto) throws IOException {
+        ByteArrayOutputStream blob = new ByteArrayOutputStream(512);
+        compressor.write(blob, binary -> codec.encode(gameStateDto, binary));
+        database.put(SaveGameManifest.summarize(gameName, gameStateDto), blob.toByteArray());
+    }
+
+    /**
+     * Reads a saved game without turning it into a running GameState.
+     *
+     * @param gameName the name of the saved game
+     * @return the saved game state in transfer form
+     * @throws IOException if there is no such row or it does not hold a valid binary save
+     */
+    @Override
+    public GameStateDto readGameStateDto(String gameName) throws IOException {
+        byte[] blob = database.get(gameName);
+        if (blob == null) {
+            throw new IOException("There is no saved game named " + gameName + ".");
+        }
+        return codec.decode(SaveCompressor.open(new ByteArrayInputStream(blob)));
+    }
+
+    /**
+     * Copies the saves of another adapter that are not in the database yet. The other adapter's saves are kept.
+     *
+     * @param source the adapter whose saves are copied
+     * @return the number of saves copied
+     */
+    public int importSavedGames(SaveGameAdapter source) {
+        int imported = 0;
+        for (String gameName : source.listSavedGames()) {
+            if (database.contains(gameName)) {
+                continue;
+            }
+            try {
+                writeGameStateDto(gameName, source.readGameStateDto(gameName));
+                imported++;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Saved game " + gameName + " could not be imported: " + e.getMessage() + " [from class: DatabaseAdapter, method: importSavedGames]");
+            }
+        }
+        int count = imported;
+        LOGGER.info(() -> count + " saved games imported into the save database. [from class: DatabaseAdapter, method: importSavedGames]");
+        return imported;
+    }
+
+    public SaveDatabase getDatabase() {
+        return database;
+    }
+}
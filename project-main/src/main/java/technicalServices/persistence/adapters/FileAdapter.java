@@ -1,22 +1,22 @@
 /**
  * Adapter for handling game persistence using file storage.
  * Implements the `SaveGameAdapter` interface to provide methods for saving, loading, listing, and deleting game states.
- * Utilizes the Jackson library for JSON serialization and deserialization.
+ * Utilizes the streaming JSON codec built on the Jackson library for JSON serialization and deserialization.
  */
 
 package technicalServices.persistence.adapters;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.module.SimpleModule;
 import domain.controllers.GameController;
-import domain.dto.CollectedEnchantmentDto;
 import domain.dto.GameStateDto;
+import domain.dto.SavedGameSummaryDto;
 import domain.gameCore.GameState;
-import domain.gameObjects.Rune;
-import domain.serializers.*;
-import technicalServices.logging.LogManager;
+import domain.serializers.GameStateSerializer;
+import technicalServices.logging.GameLogger;
+import technicalServices.persistence.AtomicFiles;
+import technicalServices.persistence.codecs.JsonGameStateCodec;
+import technicalServices.persistence.codecs.SaveCompressor;
+import technicalServices.persistence.manifest.SaveGameManifest;
 
-import java.awt.*;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -25,26 +25,30 @@ import java.util.ArrayList;
 import java.util.List;
 
 public class FileAdapter implements SaveGameAdapter{
-    private static final String SAVE_GAME_PATH = "src/main/technicalServices/persistence/savedGames/";
-    private static final String FILE_EXTENSION = ".json";
+    private static final GameLogger LOGGER = GameLogger.getLogger(FileAdapter.class);
+    public static final String SAVE_GAME_PATH = "src/main/technicalServices/persistence/savedGames/";
+    public static final String FILE_EXTENSION = ".json";
     private final GameStateSerializer serializer;
+    private final String saveDirectory;
+    private final SaveGameManifest manifest;
+    private final SaveCompressor compressor;
 
     //this is from jackson library, installation is needed
-    private final ObjectMapper objectMapper;
+    private final JsonGameStateCodec codec = new JsonGameStateCodec();
     public FileAdapter(GameStateSerializer serializer) {
+        this(serializer, SAVE_GAME_PATH);
+    }
+
+    public FileAdapter(GameStateSerializer serializer, String saveDirectory) {
+        this(serializer, saveDirectory, SaveCompressor.NONE);
+    }
+
+    public FileAdapter(GameStateSerializer serializer, String saveDirectory, SaveCompressor compressor) {
         this.serializer = serializer;
-        this.objectMapper = new ObjectMapper();
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(Point.class, new PointSerializer());
-        module.addDeserializer(Point.class, new PointDeserializer());
-        module.addSerializer(Rune.class, new RuneSerializer());
-        module.addDeserializer(Rune.class, new RuneDeserializer());
-        module.addKeyDeserializer(Point.class, new PointKeyDeserializer());
-        module.addKeyDeserializer(CollectedEnchantmentDto.class, new CollectedEnchantmentDtoKeyDeserializer());
-        module.addDeserializer(CollectedEnchantmentDto.class, new CollectedEnchantmentDtoDeserializer());
-        module.addSerializer(CollectedEnchantmentDto.class, new CollectedEnchantmentDtoSerializer());
-        objectMapper.registerModule(module);
-        Path path = Paths.get(SAVE_GAME_PATH);
+        this.saveDirectory = saveDirectory;
+        this.compressor = compressor;
+        this.manifest = new SaveGameManifest(saveDirectory, FILE_EXTENSION, saveReader(saveDirectory, codec));
+        Path path = Paths.get(saveDirectory);
         if (!Files.exists(path)) {
             try {
                 Files.createDirectories(path);
@@ -70,11 +74,9 @@ public class FileAdapter implements SaveGameAdapter{
             throw new RuntimeException("Game state cannot be null.");
         }
         GameStateDto gameStateDto = serializer.serializeGameState(gameState);
-        String fileName = SAVE_GAME_PATH + File.separator + gameName + FILE_EXTENSION;
         try {
-            objectMapper.writeValue(new File(fileName), gameStateDto);
-            LogManager.logInfo("Game saved successfully: " + gameName);
-            System.out.println("Game saved successfully: " + gameName);
+            writeGameStateDto(gameName, gameStateDto);
+            LOGGER.info(() -> "Game saved successfully: " + gameName);
         } catch (IOException e) {
             throw new RuntimeException("Error saving game: " + gameName, e);
         }
@@ -90,9 +92,8 @@ public class FileAdapter implements SaveGameAdapter{
 
     @Override
     public GameState loadGame(String gameName) {
-        String fileName = SAVE_GAME_PATH + File.separator + gameName + FILE_EXTENSION;
         try {
-            GameStateDto gameStateDto = objectMapper.readValue(new File(fileName), GameStateDto.class);
+            GameStateDto gameStateDto = readGameStateDto(gameName);
             return serializer.deserializeGameState(gameStateDto, new GameController());
         } catch (IOException e) {
             throw new RuntimeException("Error loading game: " + gameName, e);
@@ -106,7 +107,7 @@ public class FileAdapter implements SaveGameAdapter{
 
     @Override
     public List<String> listSavedGames() {
-        File directory = new File(SAVE_GAME_PATH);
+        File directory = new File(saveDirectory);
         File[] files = directory.listFiles((d, name) -> name.endsWith(FILE_EXTENSION));
         List<String> savedGames = new ArrayList<>();
         if (files != null) {
@@ -116,6 +117,16 @@ public class FileAdapter implements SaveGameAdapter{
         }
         return savedGames;
     }
+    /**
+     * Lists the summaries of all saved games from the save manifest, without reading the saves.
+     *
+     * @return A list of saved game summaries, newest first.
+     */
+
+    @Override
+    public List<SavedGameSummaryDto> listSavedGameSummaries() {
+        return manifest.list();
+    }
     /**
      * Deletes the saved game file with the specified name.
      *
@@ -125,14 +136,56 @@ public class FileAdapter implements SaveGameAdapter{
 
     @Override
     public void deleteSavedGame(String gameName) {
-        String fileName = SAVE_GAME_PATH + File.separator + gameName + FILE_EXTENSION;
-        Path path = Paths.get(fileName);
+        Path path = Paths.get(fileName(gameName));
         try {
             Files.deleteIfExists(path);
-            LogManager.logInfo("Game deleted successfully: " + gameName);
-            System.out.println("Game deleted successfully: " + gameName);
+            manifest.remove(gameName);
+            LOGGER.info(() -> "Game deleted successfully: " + gameName);
         } catch (IOException e) {
             throw new RuntimeException("Error deleting saved game: " + gameName, e);
         }
     }
+
+    /**
+     * Writes a game state that is already in transfer form as JSON, replacing the file atomically.
+     * The JSON is compressed on the way if the adapter was given a compression.
+     *
+     * @param gameName the name of the saved game
+     * @param gameStateDto the game state to write
+     * @throws IOException if the file cannot be written
+     */
+    @Override
+    public void writeGameStateDto(String gameName, GameStateDto gameStateDto) throws IOException {
+        AtomicFiles.write(Paths.get(fileName(gameName)), out -> compressor.write(out, json -> codec.encode(gameStateDto, json)));
+        manifest.update(gameName, gameStateDto);
+    }
+
+    /**
+     * Reads a saved game without turning it into a running GameState. Compressed and uncompressed saves are both read.
+     *
+     * @param gameName the name of the saved game
+     * @return the saved game state in transfer form
+     * @throws IOException if the file cannot be read or parsed
+     */
+    @Override
+    public GameStateDto readGameStateDto(String gameName) throws IOException {
+        return saveReader(saveDirectory, codec).read(gameName);
+    }
+
+    // the manifest gets a reader of its own rather than this, which the constructor has not finished yet
+    private static SaveGameManifest.SaveReader saveReader(String saveDirectory, JsonGameStateCodec codec) {
+        return gameName -> {
+            try (InputStream in = SaveCompressor.open(Files.newInputStream(Paths.get(fileName(saveDirectory, gameName))))) {
+                return codec.decode(in);
+            }
+        };
+    }
+
+    private String fileName(String gameName) {
+        return fileName(saveDirectory, gameName);
+    }
+
+    private static String fileName(String saveDirectory, String gameName) {
+        return saveDirectory + File.separator + gameName + FILE_EXTENSION;
+    }
 }
@@ -1,7 +1,13 @@
 package technicalServices.persistence.adapters;
 
+import domain.dto.GameStateDto;
+import domain.dto.SavedGameSummaryDto;
 import domain.gameCore.GameState;
+import domain.utilities.Constants;
 
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 
 public interface SaveGameAdapter {
@@ -10,4 +16,52 @@ public interface SaveGameAdapter {
     List<String> listSavedGames();
 
     void deleteSavedGame(String gameName);
+
+    // work on a snapshot in transfer form, so it can be written away from the thread that took it
+    void writeGameStateDto(String gameName, GameStateDto gameStateDto) throws IOException;
+    GameStateDto readGameStateDto(String gameName) throws IOException;
+
+    // adapters without a save manifest only know the names of their saves
+    default List<SavedGameSummaryDto> listSavedGameSummaries() {
+        List<SavedGameSummaryDto> summaries = new ArrayList<>();
+        for (String gameName : listSavedGames()) {
+            SavedGameSummaryDto summary = new SavedGameSummaryDto();
+            summary.setName(gameName);
+            summaries.add(summary);
+        }
+        return summaries;
+    }
+
+    // adapters without indexes sort and page the whole list, the save database answers this from its indexes
+    default List<SavedGameSummaryDto> querySavedGameSummaries(Constants.HallType hallType, Constants.SaveSortOrder order,
+                                                              int offset, int limit) {
+        if (order == null || offset < 0 || limit < 0) {
+            throw new IllegalArgumentException("Invalid saved game query.");
+        }
+        return listSavedGameSummaries().stream()
+                .filter(summary -> hallType == null || summary.getHallType() == hallType)
+                .sorted(summaryOrder(order))
+                .skip(offset)
+                .limit(limit)
+                .toList();
+    }
+
+    default int countSavedGames(Constants.HallType hallType) {
+        return (int) listSavedGameSummaries().stream()
+                .filter(summary -> hallType == null || summary.getHallType() == hallType)
+                .count();
+    }
+
+    static Comparator<SavedGameSummaryDto> summaryOrder(Constants.SaveSortOrder order) {
+        Comparator<SavedGameSummaryDto> newestFirst = Comparator.comparing(SavedGameSummaryDto::getSaveDate,
+                Comparator.nullsLast(Comparator.reverseOrder()));
+        return switch (order) {
+            case NEWEST_FIRST -> newestFirst.thenComparing(SavedGameSummaryDto::getName);
+            case OLDEST_FIRST -> Comparator.comparing(SavedGameSummaryDto::getSaveDate, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(SavedGameSummaryDto::getName, Comparator.reverseOrder());
+            case NAME -> Comparator.comparing(SavedGameSummaryDto::getName);
+            case MOST_LIVES -> Comparator.comparingInt(SavedGameSummaryDto::getPlayerLifeCount).reversed()
+                    .thenComparing(newestFirst).thenComparing(SavedGameSummaryDto::getName);
+        };
+    }
 }
@@ -0,0 +1,117 @@
+/**
+ * Creates the SaveGameAdapter used by the game for the save format chosen at startup.
+ *
+ * JSON stays the default so existing saves keep working. Every format can be compressed, chosen on its own with
+ * -Drokue.saveCompression=DEFLATE or FAST; saves are read whether they are compressed or not. When the binary format is chosen, JSON saves that have no
+ * binary copy yet are converted once, so they still show up in the saved games list. When the slot file or the save
+ * database is chosen, JSON saves that are not in it yet are copied into it once. The JSON files are kept in every case.
+ */
+
+package technicalServices.persistence.adapters;
+
+import domain.serializers.GameStateSerializer;
+import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
+import technicalServices.persistence.codecs.SaveCompressor;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class SaveGameAdapterFactory {
+    private static final GameLogger LOGGER = GameLogger.getLogger(SaveGameAdapterFactory.class);
+    // the format can be chosen at startup with -Drokue.saveFormat=BINARY
+    public static final String SAVE_FORMAT_PROPERTY = "rokue.saveFormat";
+    // and the compression with -Drokue.saveCompression=DEFLATE
+    public static final String SAVE_COMPRESSION_PROPERTY = "rokue.saveCompression";
+    // a GameState is created for every new or loaded game, the old saves only need converting once
+    private static final AtomicBoolean jsonSavesConverted = new AtomicBoolean(false);
+    private static final AtomicBoolean jsonSavesImported = new AtomicBoolean(false);
+    private static final AtomicBoolean jsonSavesImportedIntoDatabase = new AtomicBoolean(false);
+
+    private SaveGameAdapterFactory() {
+    }
+
+    /**
+     * Creates the adapter for the save format given by the system property.
+     *
+     * @param serializer the serializer used to turn game states into their transfer form
+     * @return the adapter for the chosen format
+     */
+    public static SaveGameAdapter createAdapter(GameStateSerializer serializer) {
+        return createAdapter(readSaveFormat(), readSaveCompression(), serializer);
+    }
+
+    /**
+     * Creates the adapter for the given save format, writing uncompressed saves.
+     *
+     * @param saveFormat the format saves are written in
+     * @param serializer the serializer used to turn game states into their transfer form
+     * @return the adapter for the format
+     */
+    public static SaveGameAdapter createAdapter(Constants.SaveFormat saveFormat, GameStateSerializer serializer) {
+        return createAdapter(saveFormat, Constants.SaveCompression.NONE, serializer);
+    }
+
+    /**
+     * Creates the adapter for the given save format and compression.
+     *
+     * @param saveFormat the format saves are written in
+     * @param saveCompression the compression saves are written with
+     * @param serializer the serializer used to turn game states into their transfer form
+     * @return the adapter for the format
+     */
+    public static SaveGameAdapter createAdapter(Constants.SaveFormat saveFormat, Constants.SaveCompression saveCompression,
+                                                GameStateSerializer serializer) {
+        if (saveFormat == null) {
+            throw new IllegalArgumentException("Save format cannot be null.");
+        }
+        SaveCompressor compressor = new SaveCompressor(saveCompression);
+        switch (saveFormat) {
+            case BINARY:
+                if (jsonSavesConverted.compareAndSet(false, true)) {
+                    new SaveGameConverter().convertAll(false);
+                }
+                return new BinaryFileAdapter(serializer, FileAdapter.SAVE_GAME_PATH, compressor);
+            case SLOTS:
+                SlotStoreAdapter slotStoreAdapter = new SlotStoreAdapter(serializer, FileAdapter.SAVE_GAME_PATH, compressor);
+                if (jsonSavesImported.compareAndSet(false, true)) {
+                    slotStoreAdapter.importSavedGames(new FileAdapter(serializer));
+                }
+                return slotStoreAdapter;
+            case DATABASE:
+                DatabaseAdapter databaseAdapter = new DatabaseAdapter(serializer, FileAdapter.SAVE_GAME_PATH, compressor);
+                if (jsonSavesImportedIntoDatabase.compareAndSet(false, true)) {
+                    databaseAdapter.importSavedGames(new FileAdapter(serializer));
+                }
+                return databaseAdapter;
+            case JSON:
+            default:
+                return new FileAdapter(serializer, FileAdapter.SAVE_GAME_PATH, compressor);
+        }
+    }
+
+    public static Constants.SaveFormat readSaveFormat() {
+        String format = System.getProperty(SAVE_FORMAT_PROPERTY);
+        if (format == null) {
+            return Constants.SaveFormat.JSON;
+        }
+        try {
+            return Constants.SaveFormat.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Unknown save format " + format + ", using JSON. [from class: SaveGameAdapterFactory, method: readSaveFormat]");
+            return Constants.SaveFormat.JSON;
+        }
+    }
+
+    public static Constants.SaveCompression readSaveCompression() {
+        String compression = System.getProperty(SAVE_COMPRESSION_PROPERTY);
+        if (compression == null) {
+            return Constants.SaveCompression.NONE;
+        }
+        try {
+            return Constants.SaveCompression.valueOf(compression.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Unknown save compression " + compression + ", using NONE. [from class: SaveGameAdapterFactory, method: readSaveCompression]");
+            return Constants.SaveCompression.NONE;
+        }
+    }
+}
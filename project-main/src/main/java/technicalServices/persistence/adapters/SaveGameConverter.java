@@ -0,0 +1,87 @@
+/**
+ * Migrates JSON saves written by `FileAdapter` to the binary format of `BinaryFileAdapter`.
+ *
+ * Each save is read into its transfer form and written again with the binary codec, so no running GameState is built
+ * and no monster or timer is started. A save that already has a binary copy is left alone. The JSON files are only
+ * removed when asked to, after their binary copy has been written and read back successfully.
+ * Can be run on its own: java technicalServices.persistence.adapters.SaveGameConverter [--delete-json] [directory]
+ */
+
+package technicalServices.persistence.adapters;
+
+import domain.dto.GameStateDto;
+import domain.serializers.GameStateSerializer;
+import technicalServices.logging.GameLogger;
+
+import java.io.IOException;
+
+public class SaveGameConverter {
+    private static final GameLogger LOGGER = GameLogger.getLogger(SaveGameConverter.class);
+    private final FileAdapter jsonAdapter;
+    private final BinaryFileAdapter binaryAdapter;
+
+    public SaveGameConverter() {
+        this(FileAdapter.SAVE_GAME_PATH);
+    }
+
+    public SaveGameConverter(String saveDirectory) {
+        GameStateSerializer serializer = new GameStateSerializer();
+        this.jsonAdapter = new FileAdapter(serializer, saveDirectory);
+        this.binaryAdapter = new BinaryFileAdapter(serializer, saveDirectory);
+    }
+
+    /**
+     * Converts one JSON save to the binary format.
+     *
+     * @param gameName the name of the saved game
+     * @param deleteJson whether the JSON file is removed after a successful conversion
+     * @throws IOException if the JSON save cannot be read or the binary save cannot be written
+     */
+    public void convert(String gameName, boolean deleteJson) throws IOException {
+        GameStateDto gameStateDto = jsonAdapter.readGameStateDto(gameName);
+        binaryAdapter.writeGameStateDto(gameName, gameStateDto);
+        // read back before the original is given up, a corrupt copy throws here
+        binaryAdapter.readGameStateDto(gameName);
+        if (deleteJson) {
+            jsonAdapter.deleteSavedGame(gameName);
+        }
+    }
+
+    /**
+     * Converts every JSON save that has no binary copy yet. A save that fails to convert is logged and skipped.
+     *
+     * @param deleteJson whether each JSON file is removed after its successful conversion
+     * @return the number of saves converted
+     */
+    public int convertAll(boolean deleteJson) {
+        int converted = 0;
+        for (String gameName : jsonAdapter.listSavedGames()) {
+            if (binaryAdapter.hasSavedGame(gameName)) {
+                continue;
+            }
+            try {
+                convert(gameName, deleteJson);
+                converted++;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Could not convert saved game " + gameName + ": " + e.getMessage() + " [from class: SaveGameConverter, method: convertAll]");
+            }
+        }
+        int total = converted;
+        LOGGER.info(() -> total + " saved games converted to the binary format. [from class: SaveGameConverter, method: convertAll]");
+        return converted;
+    }
+
+    public static void main(String[] args) {
+        boolean deleteJson = false;
+        String saveDirectory = FileAdapter.SAVE_GAME_PATH;
+        for (String arg : args) {
+            if (arg.equals("--delete-json")) {
+                deleteJson = true;
+            } else {
+                saveDirectory = arg;
+            }
+        }
+        int converted = new SaveGameConverter(saveDirectory).convertAll(deleteJson);
+        System.out.println(converted + " saved games converted in " + saveDirectory);
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ * Adapter for handling game persistence in a single save slot file.
+ * Implements the `SaveGameAdapter` interface like `BinaryFileAdapter` and writes each game with `BinaryGameStateCodec`,
+ * but keeps all saves in one file managed by `SaveSlotStore` instead of one file per save. Listing, loading and
+ * deleting a save work on the memory-mapped file and never open another file.
+ */
+
+package technicalServices.persistence.adapters;
+
+import domain.controllers.GameController;
+import domain.dto.GameStateDto;
+import domain.dto.SavedGameSummaryDto;
+import domain.gameCore.GameState;
+import domain.serializers.GameStateSerializer;
+import technicalServices.logging.GameLogger;
+import technicalServices.persistence.codecs.BinaryGameStateCodec;
+import technicalServices.persistence.codecs.SaveCompressor;
+import technicalServices.persistence.manifest.SaveGameManifest;
+import technicalServices.persistence.slots.SaveSlotStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+public class SlotStoreAdapter implements SaveGameAdapter {
+    private static final GameLogger LOGGER = GameLogger.getLogger(SlotStoreAdapter.class);
+    public static final String SLOT_FILE_NAME = "saves.rslot";
+    private final GameStateSerializer serializer;
+    private final SaveSlotStore store;
+    private final BinaryGameStateCodec codec = new BinaryGameStateCodec();
+    private final SaveCompressor compressor;
+
+    public SlotStoreAdapter(GameStateSerializer serializer) {
+        this(serializer, FileAdapter.SAVE_GAME_PATH);
+    }
+
+    public SlotStoreAdapter(GameStateSerializer serializer, String saveDirectory) {
+        this(serializer, saveDirectory, SaveCompressor.NONE);
+    }
+
+    public SlotStoreAdapter(GameStateSerializer serializer, String saveDirectory, SaveCompressor compressor) {
+        this.serializer = serializer;
+        this.compressor = compressor;
+        Path path = Paths.get(saveDirectory);
+        try {
+            if (!Files.exists(path)) {
+                Files.createDirectories(path);
+            }
+            this.store = SaveSlotStore.open(path.resolve(SLOT_FILE_NAME));
+        } catch (IOException e) {
+            throw new RuntimeException("Could not open the save slot file.", e);
+        }
+    }
+    /**
+     * Saves the given game state to the slot with the specified name.
+     *
+     * @param gameName  The name of the saved game.
+     * @param gameState The current state of the game to be saved.
+     * @throws RuntimeException If the game name or game state is null or if an I/O error occurs during saving.
+     */
+
+    @Override
+    public void saveGame(String gameName, GameState gameState) {
+        if (gameName == null || gameName.trim().isEmpty()) {
+            throw new RuntimeException("Game name cannot be null or empty.");
+        }
+        if (gameState == null) {
+            throw new RuntimeException("Game state cannot be null.");
+        }
+        GameStateDto gameStateDto = serializer.serializeGameState(gameState);
+        try {
+            writeGameStateDto(gameName, gameStateDto);
+            LOGGER.info(() -> "Game saved successfully: " + gameName);
+        } catch (IOException e) {
+            throw new RuntimeException("Error saving game: " + gameName, e);
+        }
+    }
+    /**
+     * Loads a saved game state from the slot with the specified name.
+     *
+     * @param gameName The name of the saved game to load.
+     * @return The loaded `GameState` object.
+     * @throws RuntimeException If the slot does not exist or does not hold a valid binary save.
+     */
+
+    @Override
+    public GameState loadGame(String gameName) {
+        try {
+            GameStateDto gameStateDto = readGameStateDto(gameName);
+            return serializer.deserializeGameState(gameStateDto, new GameController());
+        } catch (IOException e) {
+            throw new RuntimeException("Error loading game: " + gameName, e);
+        }
+    }
+    /**
+     * Lists the names of all saved games in the slot file.
+     *
+     * @return A list of saved game names.
+     */
+
+    @Override
+    public List<String> listSavedGames() {
+        return store.names();
+    }
+    /**
+     * Lists the summaries of all saved games, read from the mapped slot file.
+     *
+     * @return A list of saved game summaries, newest first.
+     */
+
+    @Override
+    public List<SavedGameSummaryDto> listSavedGameSummaries() {
+        List<SavedGameSummaryDto> summaries = new ArrayList<>();
+        for (String gameName : store.names()) {
+            try {
+                GameStateDto gameStateDto = readGameStateDto(gameName);
+                SavedGameSummaryDto summary = SaveGameManifest.summarize(gameName, gameStateDto);
+                summary.setFileSize(store.recordLength(gameName));
+                summary.setLastModified(gameStateDto.getSaveDate() != null ? gameStateDto.getSaveDate().getTime() : 0);
+                summaries.add(summary);
+            } catch (IOException e) {
+                LOGGER.error("Saved game " + gameName + " could not be read: " + e.getMessage() + " [from class: SlotStoreAdapter, method: listSavedGameSummaries]");
+            }
+        }
+        summaries.sort(Comparator.comparing(SavedGameSummaryDto::getSaveDate, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(SavedGameSummaryDto::getName));
+        return summaries;
+    }
+    /**
+     * Frees the slot with the specified name.
+     *
+     * @param gameName The name of the saved game to delete.
+     * @throws RuntimeException If an I/O error occurs during deletion.
+     */
+
+    @Override
+    public void deleteSavedGame(String gameName) {
+        try {
+            store.remove(gameName);
+            LOGGER.info(() -> "Game deleted successfully: " + gameName);
+        } catch (IOException e) {
+            throw new RuntimeException("Error deleting saved game: " + gameName, e);
+        }
+    }
+
+    /**
+     * Writes a game state that is already in transfer form into its slot, compressed if the adapter was given a
+     * compression.
+     *
+     * @param gameName the name of the saved game
+     * @param gameStateDto the game state to write
+     * @throws IOException if the slot file cannot be written or every slot is in use
+     */
+    @Override
+    public void writeGameStateDto(String gameName, GameStateDto gameStateDto) throws IOException {
+        ByteArrayOutputStream record = new ByteArrayOutputStream(512);
+        compressor.write(record, binary -> codec.encode(gameStateDto, binary));
+        store.put(gameName, record.toByteArray());
+    }
+
+    /**
+     * Reads a saved game without turning it into a running GameState.
+     *
+     * @param gameName the name of the saved game
+     * @return the saved game state in transfer form
+     * @throws IOException if there is no such slot or it does not hold a valid binary save
+     */
+    @Override
+    public GameStateDto readGameStateDto(String gameName) throws IOException {
+        byte[] record = store.get(gameName);
+        if (record == null) {
+            throw new IOException("There is no saved game named " + gameName + ".");
+        }
+        return codec.decode(SaveCompressor.open(new ByteArrayInputStream(record)));
+    }
+
+    /**
+     * Copies the saves of another adapter that are not in the slot file yet. The other adapter's saves are kept.
+     * If they do not all fit into the free slots, none of them is copied.
+     *
+     * @param source the adapter whose saves are copied
+     * @return the number of saves copied
+     */
+    public int importSavedGames(SaveGameAdapter source) {
+        List<String> missing = new ArrayList<>();
+        for (String gameName : source.listSavedGames()) {
+            if (!store.contains(gameName)) {
+                missing.add(gameName);
+            }
+        }
+        int freeSlots = store.getFreeSlotCount();
+        if (missing.size() > freeSlots) {
+            LOGGER.error(missing.size() + " saved games cannot be imported into the " + freeSlots
+                    + " free save slots, none was imported. [from class: SlotStoreAdapter, method: importSavedGames]");
+            return 0;
+        }
+        int imported = 0;
+        for (String gameName : missing) {
+            try {
+                writeGameStateDto(gameName, source.readGameStateDto(gameName));
+                imported++;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Saved game " + gameName + " could not be imported: " + e.getMessage() + " [from class: SlotStoreAdapter, method: importSavedGames]");
+            }
+        }
+        int count = imported;
+        LOGGER.info(() -> count + " saved games imported into the save slot file. [from class: SlotStoreAdapter, method: importSavedGames]");
+        return imported;
+    }
+
+    public SaveSlotStore getStore() {
+        return store;
+    }
+}
@@ -0,0 +1,267 @@
+/**
+ * Encodes a GameStateDto into the compact binary save format and decodes it back.
+ *
+ * Layout of version 1, all numbers big-endian:
+ *   magic "RKSV", version byte, hall width and height bytes
+ *   hall type, save date (epoch millis, -1 when absent), player x, y and life count, time remaining
+ *   type table: count byte, then each GameObjectsInHall name as UTF
+ *   hall objects: count short (-1 when absent), then per object its cell index short and type table index byte
+ *   player enchantments: count byte (-1 when absent), then per entry type table index byte and count short
+ *   runes: count short (-1 when absent), then per rune its cell index short and hall type byte
+ *   CRC32 of everything before it
+ * Objects are stored by cell index (row * width + col) instead of point strings. Object types are stored by name in
+ * the type table, so adding or reordering them does not break old saves; hall types are stored by ordinal.
+ * Any change to the layout must bump the version.
+ */
+package technicalServices.persistence.codecs;
+
+import domain.dto.GameObjectDto;
+import domain.dto.GameStateDto;
+import domain.gameObjects.Rune;
+import domain.utilities.Constants;
+
+import java.awt.*;
+import java.io.*;
+import java.util.*;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+public class BinaryGameStateCodec {
+    public static final int MAGIC = 0x524B5356; // "RKSV"
+    public static final int VERSION = 1;
+    public static final int HALL_SIZE = 16;
+    private static final int ABSENT = -1;
+    private static final int NO_TYPE = 0xFF;
+    private static final Constants.HallType[] HALL_TYPES = Constants.HallType.values();
+
+    /**
+     * Writes the game state in the binary format.
+     *
+     * @param dto the game state to write
+     * @param out the stream to write to, it is not closed
+     * @throws IOException if writing fails
+     */
+    public void encode(GameStateDto dto, OutputStream out) throws IOException {
+        CheckedOutputStream checked = new CheckedOutputStream(out, new CRC32());
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(checked));
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeByte(HALL_SIZE);
+        data.writeByte(HALL_SIZE);
+
+        writeHallType(data, dto.getHallType());
+        data.writeLong(dto.getSaveDate() != null ? dto.getSaveDate().getTime() : ABSENT);
+        data.writeInt(dto.getPlayerPositionx());
+        data.writeInt(dto.getPlayerPositiony());
+        data.writeInt(dto.getPlayerLifeCount());
+        data.writeInt(dto.getHallTimeRemaining());
+
+        // every object type used by the save is written once, objects refer to it by index
+        List<Constants.GameObjectsInHall> typeTable = new ArrayList<>();
+        Map<Constants.GameObjectsInHall, Integer> typeIndexes = new EnumMap<>(Constants.GameObjectsInHall.class);
+        if (dto.getHallGameObjects() != null) {
+            for (GameObjectDto object : dto.getHallGameObjects().values()) {
+                addType(object.getType(), typeTable, typeIndexes);
+            }
+        }
+        if (dto.getPlayerEnchantments() != null) {
+            for (Constants.GameObjectsInHall type : dto.getPlayerEnchantments().keySet()) {
+                addType(type, typeTable, typeIndexes);
+            }
+        }
+        data.writeByte(typeTable.size());
+        for (Constants.GameObjectsInHall type : typeTable) {
+            data.writeUTF(type.name());
+        }
+
+        Map<Point, GameObjectDto> objects = dto.getHallGameObjects();
+        if (objects == null) {
+            data.writeShort(ABSENT);
+        } else {
+            data.writeShort(objects.size());
+            for (Map.Entry<Point, GameObjectDto> entry : objects.entrySet()) {
+                data.writeShort(cellIndex(entry.getKey()));
+                Constants.GameObjectsInHall type = entry.getValue().getType();
+                data.writeByte(type == null ? NO_TYPE : typeIndexes.get(type));
+            }
+        }
+
+        Map<Constants.GameObjectsInHall, Integer> enchantments = dto.getPlayerEnchantments();
+        if (enchantments == null) {
+            data.writeByte(ABSENT);
+        } else {
+            data.writeByte(enchantments.size());
+            for (Map.Entry<Constants.GameObjectsInHall, Integer> entry : enchantments.entrySet()) {
+                data.writeByte(entry.getKey() == null ? NO_TYPE : typeIndexes.get(entry.getKey()));
+                // a missing count means the player holds none of the enchantment
+                data.writeShort(entry.getValue() == null ? 0 : entry.getValue());
+            }
+        }
+
+        Map<Point, Rune> runes = dto.getHallRunes();
+        if (runes == null) {
+            data.writeShort(ABSENT);
+        } else {
+            data.writeShort(runes.size());
+            for (Map.Entry<Point, Rune> entry : runes.entrySet()) {
+                data.writeShort(cellIndex(entry.getKey()));
+                writeHallType(data, entry.getValue().getRuneType());
+            }
+        }
+
+        data.flush();
+        // the checksum covers everything written so far and is not part of itself
+        new DataOutputStream(out).writeInt((int) checked.getChecksum().getValue());
+        out.flush();
+    }
+
+    /**
+     * Reads a game state written by encode.
+     *
+     * @param in the stream to read from, it is not closed
+     * @return the game state
+     * @throws IOException if the data is not a valid save of a supported version
+     */
+    public GameStateDto decode(InputStream in) throws IOException {
+        CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(in), new CRC32());
+        DataInputStream data = new DataInputStream(checked);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a binary save file.");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported binary save version " + version + ".");
+        }
+        int width = data.readUnsignedByte();
+        int height = data.readUnsignedByte();
+
+        GameStateDto dto = new GameStateDto();
+        dto.setHallType(readHallType(data));
+        long saveDate = data.readLong();
+        dto.setSaveDate(saveDate == ABSENT ? null : new Date(saveDate));
+        dto.setPlayerPositionx(data.readInt());
+        dto.setPlayerPositiony(data.readInt());
+        dto.setPlayerLifeCount(data.readInt());
+        dto.setHallTimeRemaining(data.readInt());
+
+        int typeCount = data.readUnsignedByte();
+        Constants.GameObjectsInHall[] typeTable = new Constants.GameObjectsInHall[typeCount];
+        for (int i = 0; i < typeCount; i++) {
+            String name = data.readUTF();
+            try {
+                typeTable[i] = Constants.GameObjectsInHall.valueOf(name);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Unknown object type " + name + " in binary save file.");
+            }
+        }
+
+        int objectCount = data.readShort();
+        checkCount(objectCount);
+        if (objectCount != ABSENT) {
+            HashMap<Point, GameObjectDto> objects = new HashMap<>(objectCount * 2);
+            for (int i = 0; i < objectCount; i++) {
+                Point point = pointOf(data.readUnsignedShort(), width, height);
+                int typeIndex = data.readUnsignedByte();
+                GameObjectDto object = new GameObjectDto();
+                object.setX(point.x);
+                object.setY(point.y);
+                object.setType(typeOf(typeTable, typeIndex));
+                objects.put(point, object);
+            }
+            dto.setHallGameObjects(objects);
+        }
+
+        int enchantmentCount = data.readByte();
+        checkCount(enchantmentCount);
+        if (enchantmentCount != ABSENT) {
+            HashMap<Constants.GameObjectsInHall, Integer> enchantments = new HashMap<>();
+            for (int i = 0; i < enchantmentCount; i++) {
+                int typeIndex = data.readUnsignedByte();
+                enchantments.put(typeOf(typeTable, typeIndex), (int) data.readShort());
+            }
+            dto.setPlayerEnchantments(enchantments);
+        }
+
+        int runeCount = data.readShort();
+        checkCount(runeCount);
+        if (runeCount != ABSENT) {
+            Map<Point, Rune> runes = new HashMap<>();
+            for (int i = 0; i < runeCount; i++) {
+                Point point = pointOf(data.readUnsignedShort(), width, height);
+                runes.put(point, new Rune(point.x, point.y, readHallType(data)));
+            }
+            dto.setHallRunes(runes);
+        }
+
+        int expected = (int) checked.getChecksum().getValue();
+        if (new DataInputStream(checked).readInt() != expected) {
+            throw new IOException("Binary save file is corrupted.");
+        }
+        return dto;
+    }
+
+    public byte[] encode(GameStateDto dto) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        encode(dto, bytes);
+        return bytes.toByteArray();
+    }
+
+    public GameStateDto decode(byte[] bytes) throws IOException {
+        return decode(new ByteArrayInputStream(bytes));
+    }
+
+    private static void addType(Constants.GameObjectsInHall type, List<Constants.GameObjectsInHall> typeTable,
+                                Map<Constants.GameObjectsInHall, Integer> typeIndexes) {
+        if (type != null && !typeIndexes.containsKey(type)) {
+            typeIndexes.put(type, typeTable.size());
+            typeTable.add(type);
+        }
+    }
+
+    private static void checkCount(int count) throws IOException {
+        if (count < ABSENT) {
+            throw new IOException("Negative count " + count + " in binary save file.");
+        }
+    }
+
+    private static Constants.GameObjectsInHall typeOf(Constants.GameObjectsInHall[] typeTable, int typeIndex) throws IOException {
+        if (typeIndex == NO_TYPE) {
+            return null;
+        }
+        if (typeIndex >= typeTable.length) {
+            throw new IOException("Type index " + typeIndex + " is outside the type table of the binary save file.");
+        }
+        return typeTable[typeIndex];
+    }
+
+    private static void writeHallType(DataOutputStream data, Constants.HallType hallType) throws IOException {
+        data.writeByte(hallType == null ? NO_TYPE : hallType.ordinal());
+    }
+
+    private static Constants.HallType readHallType(DataInputStream data) throws IOException {
+        int ordinal = data.readUnsignedByte();
+        if (ordinal == NO_TYPE) {
+            return null;
+        }
+        if (ordinal >= HALL_TYPES.length) {
+            throw new IOException("Unknown hall type " + ordinal + " in binary save file.");
+        }
+        return HALL_TYPES[ordinal];
+    }
+
+    private static int cellIndex(Point point) {
+        if (point.x < 0 || point.y < 0 || point.x >= HALL_SIZE || point.y >= HALL_SIZE) {
+            throw new IllegalArgumentException("Position " + point + " is outside the hall.");
+        }
+        return point.y * HALL_SIZE + point.x;
+    }
+
+    private static Point pointOf(int cell, int width, int height) throws IOException {
+        if (cell >= width * height) {
+            throw new IOException("Cell " + cell + " is outside the saved hall.");
+        }
+        return new Point(cell % width, cell / width);
+    }
+}
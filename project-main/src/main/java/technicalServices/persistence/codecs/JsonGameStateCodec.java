@@ -0,0 +1,298 @@
+/**
+ * Writes and reads a GameStateDto as JSON with Jackson's streaming generator and parser.
+ *
+ * The output is the same document FileAdapter wrote through the ObjectMapper: the same field names in the same order,
+ * hall positions as "java.awt.Point[x=..,y=..]" keys, enums by name and the save date as epoch millis. Saves written
+ * by either one can be read by the other.
+ * Reading walks the tokens once and fills the DTO directly, without building a JsonNode tree for every point and
+ * rune and without the reflection the ObjectMapper uses to bind beans. Unknown fields are skipped.
+ */
+package technicalServices.persistence.codecs;
+
+import com.fasterxml.jackson.core.*;
+import domain.dto.GameObjectDto;
+import domain.dto.GameStateDto;
+import domain.gameObjects.Rune;
+import domain.utilities.Constants;
+
+import java.awt.*;
+import java.io.*;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+public class JsonGameStateCodec {
+    private static final String POINT_KEY_PREFIX = "java.awt.Point[x=";
+    private static final String POINT_KEY_SEPARATOR = ",y=";
+
+    // the factory is thread safe and caches the symbol tables and buffers reused by every parser
+    private final JsonFactory factory = JsonFactory.builder()
+            .disable(StreamWriteFeature.AUTO_CLOSE_TARGET)
+            .disable(StreamReadFeature.AUTO_CLOSE_SOURCE)
+            .build();
+
+    /**
+     * Writes the game state as JSON.
+     *
+     * @param dto the game state to write
+     * @param out the stream to write to, it is not closed
+     * @throws IOException if writing fails
+     */
+    public void encode(GameStateDto dto, OutputStream out) throws IOException {
+        try (JsonGenerator generator = factory.createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeNumberField("playerPositionx", dto.getPlayerPositionx());
+            generator.writeNumberField("playerPositiony", dto.getPlayerPositiony());
+            generator.writeNumberField("playerLifeCount", dto.getPlayerLifeCount());
+
+            generator.writeFieldName("hallGameObjects");
+            if (dto.getHallGameObjects() == null) {
+                generator.writeNull();
+            } else {
+                generator.writeStartObject();
+                for (Map.Entry<Point, GameObjectDto> entry : dto.getHallGameObjects().entrySet()) {
+                    generator.writeFieldName(pointKey(entry.getKey()));
+                    GameObjectDto object = entry.getValue();
+                    if (object == null) {
+                        generator.writeNull();
+                        continue;
+                    }
+                    generator.writeStartObject();
+                    generator.writeNumberField("x", object.getX());
+                    generator.writeNumberField("y", object.getY());
+                    writeEnumField(generator, "type", object.getType());
+                    generator.writeEndObject();
+                }
+                generator.writeEndObject();
+            }
+
+            generator.writeNumberField("hallTimeRemaining", dto.getHallTimeRemaining());
+
+            generator.writeFieldName("hallRunes");
+            if (dto.getHallRunes() == null) {
+                generator.writeNull();
+            } else {
+                generator.writeStartObject();
+                for (Map.Entry<Point, Rune> entry : dto.getHallRunes().entrySet()) {
+                    generator.writeFieldName(pointKey(entry.getKey()));
+                    Rune rune = entry.getValue();
+                    if (rune == null) {
+                        generator.writeNull();
+                        continue;
+                    }
+                    generator.writeStartObject();
+                    generator.writeStringField("hallType", rune.getRuneType().name());
+                    generator.writeNumberField("x", rune.getX());
+                    generator.writeNumberField("y", rune.getY());
+                    generator.writeEndObject();
+                }
+                generator.writeEndObject();
+            }
+
+            generator.writeFieldName("playerEnchantments");
+            if (dto.getPlayerEnchantments() == null) {
+                generator.writeNull();
+            } else {
+                generator.writeStartObject();
+                for (Map.Entry<Constants.GameObjectsInHall, Integer> entry : dto.getPlayerEnchantments().entrySet()) {
+                    generator.writeFieldName(String.valueOf(entry.getKey()));
+                    if (entry.getValue() == null) {
+                        generator.writeNull();
+                    } else {
+                        generator.writeNumber(entry.getValue());
+                    }
+                }
+                generator.writeEndObject();
+            }
+
+            generator.writeFieldName("saveDate");
+            if (dto.getSaveDate() == null) {
+                generator.writeNull();
+            } else {
+                generator.writeNumber(dto.getSaveDate().getTime());
+            }
+            writeEnumField(generator, "hallType", dto.getHallType());
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Reads a game state from JSON written by encode or by the ObjectMapper based FileAdapter.
+     *
+     * @param in the stream to read from, it is not closed
+     * @return the game state
+     * @throws IOException if the data is not a valid saved game
+     */
+    public GameStateDto decode(InputStream in) throws IOException {
+        try (JsonParser parser = factory.createParser(in)) {
+            GameStateDto dto = new GameStateDto();
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                    case "playerPositionx" -> dto.setPlayerPositionx(readInt(parser, value));
+                    case "playerPositiony" -> dto.setPlayerPositiony(readInt(parser, value));
+                    case "playerLifeCount" -> dto.setPlayerLifeCount(readInt(parser, value));
+                    case "hallTimeRemaining" -> dto.setHallTimeRemaining(readInt(parser, value));
+                    case "hallGameObjects" -> dto.setHallGameObjects(readGameObjects(parser, value));
+                    case "hallRunes" -> dto.setHallRunes(readRunes(parser, value));
+                    case "playerEnchantments" -> dto.setPlayerEnchantments(readEnchantments(parser, value));
+                    case "saveDate" -> dto.setSaveDate(value == JsonToken.VALUE_NULL ? null : new Date(readLong(parser, value)));
+                    case "hallType" -> dto.setHallType(readEnum(parser, value, Constants.HallType.class));
+                    default -> parser.skipChildren();
+                }
+            }
+            expect(parser, parser.currentToken(), JsonToken.END_OBJECT);
+            return dto;
+        }
+    }
+
+    public byte[] encode(GameStateDto dto) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(4096);
+        encode(dto, bytes);
+        return bytes.toByteArray();
+    }
+
+    public GameStateDto decode(byte[] bytes) throws IOException {
+        return decode(new ByteArrayInputStream(bytes));
+    }
+
+    private static HashMap<Point, GameObjectDto> readGameObjects(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, token, JsonToken.START_OBJECT);
+        HashMap<Point, GameObjectDto> objects = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Point point = parsePointKey(parser, parser.currentName());
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                objects.put(point, null);
+                continue;
+            }
+            expect(parser, value, JsonToken.START_OBJECT);
+            GameObjectDto object = new GameObjectDto();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken fieldValue = parser.nextToken();
+                switch (field) {
+                    case "x" -> object.setX(readInt(parser, fieldValue));
+                    case "y" -> object.setY(readInt(parser, fieldValue));
+                    case "type" -> object.setType(readEnum(parser, fieldValue, Constants.GameObjectsInHall.class));
+                    default -> parser.skipChildren();
+                }
+            }
+            objects.put(point, object);
+        }
+        return objects;
+    }
+
+    private static Map<Point, Rune> readRunes(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, token, JsonToken.START_OBJECT);
+        Map<Point, Rune> runes = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Point point = parsePointKey(parser, parser.currentName());
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                runes.put(point, null);
+                continue;
+            }
+            expect(parser, value, JsonToken.START_OBJECT);
+            Constants.HallType hallType = null;
+            int x = 0;
+            int y = 0;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                JsonToken fieldValue = parser.nextToken();
+                switch (field) {
+                    case "hallType" -> hallType = readEnum(parser, fieldValue, Constants.HallType.class);
+                    case "x" -> x = readInt(parser, fieldValue);
+                    case "y" -> y = readInt(parser, fieldValue);
+                    default -> parser.skipChildren();
+                }
+            }
+            if (hallType == null) {
+                throw new JsonParseException(parser, "Rune at " + point + " has no hall type.");
+            }
+            runes.put(point, new Rune(x, y, hallType));
+        }
+        return runes;
+    }
+
+    private static HashMap<Constants.GameObjectsInHall, Integer> readEnchantments(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, token, JsonToken.START_OBJECT);
+        HashMap<Constants.GameObjectsInHall, Integer> enchantments = new HashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            Constants.GameObjectsInHall type = parseEnum(parser, parser.currentName(), Constants.GameObjectsInHall.class);
+            JsonToken value = parser.nextToken();
+            enchantments.put(type, value == JsonToken.VALUE_NULL ? null : readInt(parser, value));
+        }
+        return enchantments;
+    }
+
+    // the key is Point.toString(), read in place instead of with replace and split
+    private static Point parsePointKey(JsonParser parser, String key) throws IOException {
+        int separator = key.indexOf(POINT_KEY_SEPARATOR, POINT_KEY_PREFIX.length());
+        if (!key.startsWith(POINT_KEY_PREFIX) || separator < 0 || !key.endsWith("]")) {
+            throw new JsonParseException(parser, "Invalid position key " + key + ".");
+        }
+        try {
+            int x = Integer.parseInt(key, POINT_KEY_PREFIX.length(), separator, 10);
+            int y = Integer.parseInt(key, separator + POINT_KEY_SEPARATOR.length(), key.length() - 1, 10);
+            return new Point(x, y);
+        } catch (NumberFormatException e) {
+            throw new JsonParseException(parser, "Invalid position key " + key + ".", e);
+        }
+    }
+
+    private static String pointKey(Point point) {
+        return POINT_KEY_PREFIX + point.x + POINT_KEY_SEPARATOR + point.y + "]";
+    }
+
+    private static void writeEnumField(JsonGenerator generator, String field, Enum<?> value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeStringField(field, value.name());
+        }
+    }
+
+    private static int readInt(JsonParser parser, JsonToken token) throws IOException {
+        expect(parser, token, JsonToken.VALUE_NUMBER_INT);
+        return parser.getIntValue();
+    }
+
+    private static long readLong(JsonParser parser, JsonToken token) throws IOException {
+        expect(parser, token, JsonToken.VALUE_NUMBER_INT);
+        return parser.getLongValue();
+    }
+
+    private static <E extends Enum<E>> E readEnum(JsonParser parser, JsonToken token, Class<E> type) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, token, JsonToken.VALUE_STRING);
+        return parseEnum(parser, parser.getText(), type);
+    }
+
+    private static <E extends Enum<E>> E parseEnum(JsonParser parser, String name, Class<E> type) throws IOException {
+        try {
+            return Enum.valueOf(type, name);
+        } catch (IllegalArgumentException e) {
+            throw new JsonParseException(parser, "Invalid " + type.getSimpleName() + " value " + name + ".", e);
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws IOException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual + ".");
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/**
+ * Compresses save files on their way to disk and decompresses them on their way back.
+ *
+ * A compressed save starts with the magic "RKCZ" and a byte naming the method, followed by the compressed save. A
+ * save without the magic is read as it is, so saves written before compression was turned on, or with it turned off,
+ * still load. Both methods produce a deflate stream: DEFLATE uses the default level for small files, FAST the fastest
+ * level for quick writes. Compression and decompression are streamed, the whole uncompressed save is never in memory.
+ */
+package technicalServices.persistence.codecs;
+
+import domain.utilities.Constants;
+import technicalServices.persistence.AtomicFiles;
+
+import java.io.*;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+public class SaveCompressor {
+    public static final int MAGIC = 0x524B435A; // "RKCZ"
+    public static final SaveCompressor NONE = new SaveCompressor(Constants.SaveCompression.NONE);
+    private static final int HEADER_SIZE = 5;
+    private static final int BUFFER_SIZE = 8192;
+    private static final Constants.SaveCompression[] METHODS = Constants.SaveCompression.values();
+
+    private final Constants.SaveCompression compression;
+
+    public SaveCompressor(Constants.SaveCompression compression) {
+        if (compression == null) {
+            throw new IllegalArgumentException("Save compression cannot be null.");
+        }
+        this.compression = compression;
+    }
+
+    public Constants.SaveCompression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Writes a save through the compression, the header first.
+     *
+     * @param out the stream to write to, it is not closed
+     * @param writer writes the uncompressed save, the stream it gets must not be closed by it
+     * @throws IOException if writing fails
+     */
+    public void write(OutputStream out, AtomicFiles.ContentWriter writer) throws IOException {
+        if (compression == Constants.SaveCompression.NONE) {
+            writer.write(out);
+            return;
+        }
+        DataOutputStream header = new DataOutputStream(out);
+        header.writeInt(MAGIC);
+        header.writeByte(compression.ordinal());
+        Deflater deflater = new Deflater(compression == Constants.SaveCompression.FAST ? Deflater.BEST_SPEED : Deflater.DEFAULT_COMPRESSION);
+        try {
+            DeflaterOutputStream compressed = new DeflaterOutputStream(out, deflater, BUFFER_SIZE);
+            writer.write(compressed);
+            compressed.finish();
+            out.flush();
+        } finally {
+            // the deflater holds native memory, it is released here instead of waiting for the garbage collector
+            deflater.end();
+        }
+    }
+
+    /**
+     * Opens a save for reading, decompressing it if it starts with the magic.
+     * Closing the returned stream closes the given one.
+     *
+     * @param in the stream of the save file
+     * @return the stream of the uncompressed save
+     * @throws IOException if the save names an unknown method
+     */
+    public static InputStream open(InputStream in) throws IOException {
+        BufferedInputStream buffered = new BufferedInputStream(in, BUFFER_SIZE);
+        buffered.mark(HEADER_SIZE);
+        byte[] header = buffered.readNBytes(HEADER_SIZE);
+        if (header.length < HEADER_SIZE || readInt(header) != MAGIC) {
+            buffered.reset();
+            return buffered;
+        }
+        int method = header[4] & 0xFF;
+        if (method == Constants.SaveCompression.NONE.ordinal() || method >= METHODS.length) {
+            throw new IOException("Unknown save compression method " + method + ".");
+        }
+        return new InflaterInputStream(buffered, new Inflater(), BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                try {
+                    super.close();
+                } finally {
+                    inf.end();
+                }
+            }
+        };
+    }
+
+    /**
+     * Compresses a whole save held in memory.
+     *
+     * @param save the uncompressed save
+     * @return the save as it is stored
+     * @throws IOException if compressing fails
+     */
+    public byte[] compress(byte[] save) throws IOException {
+        if (compression == Constants.SaveCompression.NONE) {
+            return save;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(save.length / 2 + HEADER_SIZE);
+        write(bytes, out -> out.write(save));
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Decompresses a whole save held in memory.
+     *
+     * @param stored the save as it is stored
+     * @return the uncompressed save
+     * @throws IOException if the save is compressed and cannot be decompressed
+     */
+    public static byte[] decompress(byte[] stored) throws IOException {
+        if (stored.length < HEADER_SIZE || readInt(stored) != MAGIC) {
+            return stored;
+        }
+        try (InputStream in = open(new ByteArrayInputStream(stored))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private static int readInt(byte[] bytes) {
+        return (bytes[0] & 0xFF) << 24 | (bytes[1] & 0xFF) << 16 | (bytes[2] & 0xFF) << 8 | (bytes[3] & 0xFF);
+    }
+}
@@ -0,0 +1,512 @@
+/**
+ * An embedded, file-based table of saved games with indexed metadata columns.
+ *
+ * It runs inside the game, there is no server. Every save is a row with the columns the saved games screen sorts and
+ * filters on (name, hall, save date, lives), the rest of its summary and the save itself as a blob. The file is a log
+ * of rows: saving appends a row, deleting appends a tombstone, and the newest row of a name wins. On opening, the log
+ * is read once to build the indexes in memory; after that a query walks an index and never touches the file, and a
+ * blob is read with one positional read.
+ *
+ * Layout of version 1, all numbers big-endian:
+ *   header (HEADER_SIZE bytes): magic "RKDB", version byte, padding
+ *   rows: payload length int, payload, CRC32 of the payload int
+ *   payload of a save: op byte, name, hall byte (-1 for none), save date long, lives int, time remaining int,
+ *                      monster count int, collected enchantment count int, thumbnail, blob length int, blob
+ *   payload of a delete: op byte, name
+ *   names and thumbnails are an unsigned short length followed by UTF-8
+ *
+ * A row is forced to disk before the indexes see it. A row cut short by a crash fails its length or CRC check and the
+ * file is truncated to the last whole row when it is opened again. Replaced and deleted rows stay in the file as
+ * garbage until it is compacted, which happens on its own once the garbage is larger than the live rows.
+ */
+package technicalServices.persistence.database;
+
+import domain.dto.SavedGameSummaryDto;
+import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
+import technicalServices.persistence.AtomicFiles;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32;
+
+public class SaveDatabase {
+    private static final GameLogger LOGGER = GameLogger.getLogger(SaveDatabase.class);
+    public static final int MAGIC = 0x524B4442; // "RKDB"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 8;
+    public static final int MAX_NAME_BYTES = 255;
+
+    private static final byte OP_PUT = 1;
+    private static final byte OP_DELETE = 2;
+    private static final int NO_HALL = -1;
+    private static final long NO_DATE = Long.MIN_VALUE;
+    // a row larger than this cannot be a save, its length was torn
+    private static final int MAX_ROW_SIZE = 64 * 1024 * 1024;
+    // garbage below this is never worth a rewrite of the file
+    private static final long COMPACT_MIN_GARBAGE = 64 * 1024;
+    private static final Constants.HallType[] HALL_TYPES = Constants.HallType.values();
+
+    // newest first, rows without a date last, the name breaks ties so every row has one place
+    private static final Comparator<Row> NEWEST_FIRST = Comparator.comparingLong((Row row) -> row.saveDate).reversed()
+            .thenComparing(row -> row.name);
+
+    // every adapter of the same file must share its indexes, so databases are opened once per file
+    private static final Map<Path, SaveDatabase> openDatabases = new HashMap<>();
+
+    private final Path file;
+    private FileChannel channel;
+    private long end;
+    private long liveBytes;
+
+    // the indexes, one per column the saved games screen sorts or filters on
+    private final TreeMap<String, Row> byName = new TreeMap<>();
+    private final TreeSet<Row> bySaveDate = new TreeSet<>(NEWEST_FIRST);
+    private final EnumMap<Constants.HallType, TreeSet<Row>> byHallType = new EnumMap<>(Constants.HallType.class);
+    private final TreeMap<Integer, TreeSet<Row>> byLives = new TreeMap<>();
+
+    /**
+     * Opens the database file at the given path, creating it if it does not exist.
+     * Opening the same file again returns the database that is already open.
+     *
+     * @param file the database file
+     * @return the database of the file
+     * @throws IOException if the file cannot be opened or is not a save database
+     */
+    public static synchronized SaveDatabase open(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        SaveDatabase database = openDatabases.get(key);
+        if (database == null) {
+            database = new SaveDatabase(key);
+            openDatabases.put(key, database);
+        }
+        return database;
+    }
+
+    private SaveDatabase(Path file) throws IOException {
+        this.file = file;
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            AtomicFiles.write(file, out -> writeHeader(new DataOutputStream(out)));
+        }
+        load();
+    }
+
+    /**
+     * Writes a save as the row of its name, replacing the row it had.
+     *
+     * @param summary the columns of the row, its name is the name of the save
+     * @param blob the save itself
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized void put(SavedGameSummaryDto summary, byte[] blob) throws IOException {
+        if (summary == null || blob == null) {
+            LOGGER.error("Summary and save cannot be null. [from class: SaveDatabase, method: put]");
+            throw new IllegalArgumentException("Summary and save cannot be null.");
+        }
+        byte[] nameBytes = encodeName(summary.getName());
+        byte[] thumbnailBytes = encodeText(summary.getThumbnail() == null ? "" : summary.getThumbnail());
+        int payloadLength = 1 + 2 + nameBytes.length + 1 + 8 + 4 * 4 + 2 + thumbnailBytes.length + 4 + blob.length;
+        ByteBuffer row = ByteBuffer.allocate(4 + payloadLength + 4);
+        row.putInt(payloadLength);
+        row.put(OP_PUT);
+        putText(row, nameBytes);
+        row.put((byte) (summary.getHallType() == null ? NO_HALL : summary.getHallType().ordinal()));
+        row.putLong(summary.getSaveDate() == null ? NO_DATE : summary.getSaveDate().getTime());
+        row.putInt(summary.getPlayerLifeCount());
+        row.putInt(summary.getHallTimeRemaining());
+        row.putInt(summary.getMonsterCount());
+        row.putInt(summary.getCollectedEnchantmentCount());
+        putText(row, thumbnailBytes);
+        row.putInt(blob.length);
+        row.put(blob);
+        row.putInt(crc(row.array(), 4, payloadLength));
+
+        long offset = append(row);
+        apply(parseRow(ByteBuffer.wrap(row.array(), 4, payloadLength).slice(), offset, row.capacity()));
+        compactIfWorthIt();
+    }
+
+    /**
+     * Reads the save stored in the row with the given name.
+     *
+     * @param name the name of the save
+     * @return the save, or null if there is no row with the name
+     * @throws IOException if the file cannot be read
+     */
+    public synchronized byte[] get(String name) throws IOException {
+        Row row = byName.get(name);
+        if (row == null) {
+            return null;
+        }
+        ByteBuffer blob = ByteBuffer.allocate(row.blobLength);
+        readFully(blob, row.blobOffset);
+        return blob.array();
+    }
+
+    /**
+     * Deletes the row with the given name. Its bytes stay in the file until it is compacted.
+     *
+     * @param name the name of the save
+     * @return true if there was a row with the name
+     * @throws IOException if the file cannot be written
+     */
+    public synchronized boolean remove(String name) throws IOException {
+        if (!byName.containsKey(name)) {
+            return false;
+        }
+        byte[] nameBytes = encodeName(name);
+        int payloadLength = 1 + 2 + nameBytes.length;
+        ByteBuffer row = ByteBuffer.allocate(4 + payloadLength + 4);
+        row.putInt(payloadLength);
+        row.put(OP_DELETE);
+        putText(row, nameBytes);
+        row.putInt(crc(row.array(), 4, payloadLength));
+        append(row);
+        unindex(byName.remove(name));
+        compactIfWorthIt();
+        return true;
+    }
+
+    /**
+     * Lists the summaries of the newest saves, optionally only of one hall.
+     *
+     * @param hallType the hall the saves are in, or null for every hall
+     * @param limit how many saves to list at most
+     * @return the summaries, newest first
+     */
+    public List<SavedGameSummaryDto> latestSaves(Constants.HallType hallType, int limit) {
+        return query(hallType, Constants.SaveSortOrder.NEWEST_FIRST, 0, limit);
+    }
+
+    /**
+     * Lists one page of saves in the given order, optionally only of one hall. Only the rows of the page and the ones
+     * before it are visited, and no save is read from the file.
+     *
+     * @param hallType the hall the saves are in, or null for every hall
+     * @param order the order of the saves
+     * @param offset how many saves to skip
+     * @param limit how many saves to list at most
+     * @return the summaries of the page
+     */
+    public synchronized List<SavedGameSummaryDto> query(Constants.HallType hallType, Constants.SaveSortOrder order, int offset, int limit) {
+        if (order == null || offset < 0 || limit < 0) {
+            LOGGER.error("Invalid saved game query: order " + order + ", offset " + offset + ", limit " + limit + ". [from class: SaveDatabase, method: query]");
+            throw new IllegalArgumentException("Invalid saved game query.");
+        }
+        List<SavedGameSummaryDto> page = new ArrayList<>(Math.min(limit, byName.size()));
+        int skipped = 0;
+        for (Row row : rows(hallType, order)) {
+            if (page.size() == limit) {
+                break;
+            }
+            if (hallType != null && row.hallType != hallType.ordinal()) {
+                continue;
+            }
+            if (skipped < offset) {
+                skipped++;
+                continue;
+            }
+            page.add(row.toSummary());
+        }
+        return page;
+    }
+
+    /**
+     * Counts the saves, optionally only of one hall.
+     *
+     * @param hallType the hall the saves are in, or null for every hall
+     * @return the number of saves
+     */
+    public synchronized int count(Constants.HallType hallType) {
+        if (hallType == null) {
+            return byName.size();
+        }
+        TreeSet<Row> rows = byHallType.get(hallType);
+        return rows == null ? 0 : rows.size();
+    }
+
+    public synchronized boolean contains(String name) {
+        return byName.containsKey(name);
+    }
+
+    public synchronized List<String> names() {
+        return new ArrayList<>(byName.keySet());
+    }
+
+    public synchronized long getLiveBytes() {
+        return liveBytes;
+    }
+
+    public synchronized long getGarbageBytes() {
+        return end - HEADER_SIZE - liveBytes;
+    }
+
+    public synchronized long getFileSize() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Rewrites the file with only the live rows, dropping replaced and deleted ones.
+     *
+     * @throws IOException if the file cannot be rewritten, the old file is kept in that case
+     */
+    public synchronized void compact() throws IOException {
+        long garbage = getGarbageBytes();
+        AtomicFiles.write(file, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            writeHeader(data);
+            for (Row row : byName.values()) {
+                ByteBuffer bytes = ByteBuffer.allocate(row.rowLength);
+                readFully(bytes, row.rowOffset);
+                data.write(bytes.array());
+            }
+            data.flush();
+        });
+        channel.close();
+        load();
+        LOGGER.info(() -> "Save database compacted, " + garbage + " bytes freed. [from class: SaveDatabase, method: compact]");
+    }
+
+    /**
+     * Closes the file. The database cannot be used afterwards, open the file again instead.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    public void close() throws IOException {
+        synchronized (SaveDatabase.class) {
+            openDatabases.remove(file);
+        }
+        synchronized (this) {
+            channel.close();
+        }
+    }
+
+    private Iterable<Row> rows(Constants.HallType hallType, Constants.SaveSortOrder order) {
+        TreeSet<Row> byDate = hallType == null ? bySaveDate : byHallType.getOrDefault(hallType, new TreeSet<>(NEWEST_FIRST));
+        return switch (order) {
+            case NEWEST_FIRST -> byDate;
+            case OLDEST_FIRST -> byDate.descendingSet();
+            case NAME -> byName.values();
+            case MOST_LIVES -> () -> byLives.descendingMap().values().stream().flatMap(TreeSet::stream).iterator();
+        };
+    }
+
+    // reads the whole log into the indexes, cutting off a row torn by a crash
+    private void load() throws IOException {
+        byName.clear();
+        bySaveDate.clear();
+        byHallType.clear();
+        byLives.clear();
+        liveBytes = 0;
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (size < HEADER_SIZE) {
+            channel.close();
+            throw new IOException(file + " is not a save database.");
+        }
+        readFully(header, 0);
+        if (header.getInt(0) != MAGIC || header.get(4) != VERSION) {
+            channel.close();
+            throw new IOException(file + " is not a save database of version " + VERSION + ".");
+        }
+
+        long position = HEADER_SIZE;
+        ByteBuffer length = ByteBuffer.allocate(4);
+        while (position + 4 <= size) {
+            length.clear();
+            readFully(length, position);
+            int payloadLength = length.getInt(0);
+            if (payloadLength <= 0 || payloadLength > MAX_ROW_SIZE || position + 4 + payloadLength + 4 > size) {
+                break;
+            }
+            ByteBuffer payload = ByteBuffer.allocate(payloadLength + 4);
+            readFully(payload, position + 4);
+            if (crc(payload.array(), 0, payloadLength) != payload.getInt(payloadLength)) {
+                break;
+            }
+            Row row;
+            try {
+                row = parseRow(payload.limit(payloadLength), position, payloadLength + 8);
+            } catch (RuntimeException e) {
+                break;
+            }
+            if (row.blobLength < 0) {
+                unindex(byName.remove(row.name));
+            } else {
+                apply(row);
+            }
+            position += payloadLength + 8;
+        }
+        if (position < size) {
+            long torn = size - position;
+            LOGGER.warn("Save database " + file + " ends in " + torn + " bytes of a torn row, they are cut off. [from class: SaveDatabase, method: load]");
+            channel.truncate(position);
+            channel.force(true);
+        }
+        end = position;
+    }
+
+    // parses a payload; a delete comes back with a negative blob length
+    private static Row parseRow(ByteBuffer payload, long rowOffset, int rowLength) {
+        Row row = new Row();
+        row.rowOffset = rowOffset;
+        row.rowLength = rowLength;
+        byte op = payload.get();
+        row.name = getText(payload);
+        if (op == OP_DELETE) {
+            row.blobLength = -1;
+            return row;
+        }
+        if (op != OP_PUT) {
+            throw new IllegalStateException("Unknown row operation " + op + ".");
+        }
+        row.hallType = payload.get();
+        row.saveDate = payload.getLong();
+        row.playerLifeCount = payload.getInt();
+        row.hallTimeRemaining = payload.getInt();
+        row.monsterCount = payload.getInt();
+        row.collectedEnchantmentCount = payload.getInt();
+        row.thumbnail = getText(payload);
+        row.blobLength = payload.getInt();
+        // the payload starts after the row length
+        row.blobOffset = rowOffset + 4 + payload.position();
+        if (row.blobLength < 0 || row.blobLength != payload.remaining()) {
+            throw new IllegalStateException("Row " + row.name + " has a blob of the wrong length.");
+        }
+        return row;
+    }
+
+    private void apply(Row row) {
+        unindex(byName.put(row.name, row));
+        bySaveDate.add(row);
+        if (row.hallType >= 0 && row.hallType < HALL_TYPES.length) {
+            byHallType.computeIfAbsent(HALL_TYPES[row.hallType], hall -> new TreeSet<>(NEWEST_FIRST)).add(row);
+        }
+        byLives.computeIfAbsent(row.playerLifeCount, lives -> new TreeSet<>(NEWEST_FIRST)).add(row);
+        liveBytes += row.rowLength;
+    }
+
+    private void unindex(Row row) {
+        if (row == null) {
+            return;
+        }
+        bySaveDate.remove(row);
+        if (row.hallType >= 0 && row.hallType < HALL_TYPES.length) {
+            byHallType.get(HALL_TYPES[row.hallType]).remove(row);
+        }
+        TreeSet<Row> sameLives = byLives.get(row.playerLifeCount);
+        sameLives.remove(row);
+        if (sameLives.isEmpty()) {
+            byLives.remove(row.playerLifeCount);
+        }
+        liveBytes -= row.rowLength;
+    }
+
+    private long append(ByteBuffer row) throws IOException {
+        long offset = end;
+        row.flip();
+        while (row.hasRemaining()) {
+            channel.write(row, end + row.position());
+        }
+        channel.force(false);
+        end = offset + row.limit();
+        return offset;
+    }
+
+    private void readFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Save database " + file + " ends in the middle of a row.");
+            }
+        }
+        buffer.flip();
+    }
+
+    private void compactIfWorthIt() throws IOException {
+        long garbage = getGarbageBytes();
+        if (garbage > COMPACT_MIN_GARBAGE && garbage > liveBytes) {
+            compact();
+        }
+    }
+
+    private static byte[] encodeName(String name) {
+        if (name == null || name.isEmpty()) {
+            throw new IllegalArgumentException("Save name cannot be null or empty.");
+        }
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_NAME_BYTES) {
+            throw new IllegalArgumentException("Save name " + name + " is longer than " + MAX_NAME_BYTES + " bytes.");
+        }
+        return bytes;
+    }
+
+    private static byte[] encodeText(String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFFFF) {
+            throw new IllegalArgumentException("Text is too long to be stored.");
+        }
+        return bytes;
+    }
+
+    private static void putText(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getText(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int crc(byte[] bytes, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, offset, length);
+        return (int) crc.getValue();
+    }
+
+    private static void writeHeader(DataOutputStream data) throws IOException {
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.write(new byte[HEADER_SIZE - 5]);
+    }
+
+    // one row of the table, the indexes hold these
+    private static final class Row {
+        private String name;
+        private int hallType = NO_HALL;
+        private long saveDate = NO_DATE;
+        private int playerLifeCount;
+        private int hallTimeRemaining;
+        private int monsterCount;
+        private int collectedEnchantmentCount;
+        private String thumbnail;
+        private long rowOffset;
+        private int rowLength;
+        private long blobOffset;
+        private int blobLength;
+
+        private SavedGameSummaryDto toSummary() {
+            SavedGameSummaryDto summary = new SavedGameSummaryDto();
+            summary.setName(name);
+            summary.setSaveDate(saveDate == NO_DATE ? null : new Date(saveDate));
+            summary.setHallType(hallType >= 0 && hallType < HALL_TYPES.length ? HALL_TYPES[hallType] : null);
+            summary.setPlayerLifeCount(playerLifeCount);
+            summary.setHallTimeRemaining(hallTimeRemaining);
+            summary.setMonsterCount(monsterCount);
+            summary.setCollectedEnchantmentCount(collectedEnchantmentCount);
+            summary.setThumbnail(thumbnail.isEmpty() ? null : thumbnail);
+            summary.setFileSize(blobLength);
+            summary.setLastModified(saveDate == NO_DATE ? 0 : saveDate);
+            return summary;
+        }
+    }
+}
@@ -0,0 +1,653 @@
+/**
+ * Keeps the game that is being played recoverable after a crash by journaling every change of the hall.
+ *
+ * While a game is attached, every change of the hall, the player's lives and inventory is appended to an in-memory
+ * buffer as a record of a few bytes. Once in a while the writer thread moves the buffer to the journal file as one
+ * group, protected by a CRC, and forces it to disk. When the journal grows too large it is compacted: a snapshot of
+ * the game is written in the binary save format and the journal starts again empty. Snapshot and journal carry a
+ * generation number, so a journal is only replayed over the snapshot it was started after.
+ *
+ * Every record sets a value instead of describing a step, e.g. "cell 37 holds a chest" or "the player is in cell 20".
+ * A snapshot may therefore already contain some records of the journal that follows it, and replaying those records
+ * again changes nothing. A torn group at the end of the journal, left by a crash during a write, is ignored.
+ *
+ * When the game ends normally the journal is deleted. If it is still there at startup, the game crashed, and the
+ * snapshot with the replayed journal is stored as an ordinary save so the player can load it.
+ * The journal can be turned off with -Drokue.journal=false.
+ */
+package technicalServices.persistence.journal;
+
+import domain.dto.GameObjectDto;
+import domain.dto.GameStateDto;
+import domain.gameCore.GameState;
+import domain.gameObjects.Enchantment;
+import domain.gameObjects.Hall;
+import domain.gameObjects.Player;
+import domain.gameObjects.Rune;
+import domain.observers.HallMutationObserver;
+import domain.observers.HealthObserver;
+import domain.observers.InventoryObserver;
+import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
+import technicalServices.persistence.AtomicFiles;
+import technicalServices.persistence.adapters.FileAdapter;
+import technicalServices.persistence.adapters.SaveGameAdapter;
+import technicalServices.persistence.codecs.BinaryGameStateCodec;
+
+import java.awt.*;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.*;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.zip.CRC32;
+
+public class HallJournal implements HallMutationObserver, HealthObserver, InventoryObserver {
+    private static final GameLogger LOGGER = GameLogger.getLogger(HallJournal.class);
+    // the journal can be turned off at startup with -Drokue.journal=false
+    public static final String JOURNAL_PROPERTY = "rokue.journal";
+    public static final String JOURNAL_DIRECTORY = FileAdapter.SAVE_GAME_PATH + "journal";
+    public static final String SNAPSHOT_FILE = "snapshot.rsav";
+    public static final String JOURNAL_FILE = "hall.journal";
+    public static final String RECOVERED_GAME_PREFIX = "recovered-";
+
+    public static final int MAGIC = 0x524B4A4C; // "RKJL"
+    public static final int VERSION = 1;
+    // header: magic, version, generation
+    private static final int HEADER_SIZE = 4 + 1 + 8;
+    // every group of records is preceded by its length and CRC
+    private static final int GROUP_HEADER_SIZE = 4 + 4;
+    // how often the writer moves the buffered records to disk
+    private static final long FLUSH_INTERVAL_NANOS = 200_000_000L;
+    // the journal is compacted into a new snapshot once it is larger than this
+    private static final long COMPACT_THRESHOLD_BYTES = 64 * 1024;
+
+    // record types, every record sets a value so replaying it twice is harmless
+    private static final byte PLACE_OBJECT = 1;
+    private static final byte REMOVE_OBJECT = 2;
+    private static final byte MOVE_PLAYER = 3;
+    private static final byte PLACE_RUNE = 4;
+    private static final byte REMOVE_RUNE = 5;
+    private static final byte CLEAR_HALL = 6;
+    private static final byte SET_LIFE_COUNT = 7;
+    private static final byte SET_INVENTORY = 8;
+    private static final byte SET_TIME_REMAINING = 9;
+
+    private static final Constants.GameObjectsInHall[] OBJECT_TYPES = Constants.GameObjectsInHall.values();
+    private static final Constants.HallType[] HALL_TYPES = Constants.HallType.values();
+
+    private static HallJournal instance;
+
+    private final Path directory;
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final BinaryGameStateCodec codec = new BinaryGameStateCodec();
+
+    // records appended since the last flush, guarded by this
+    private byte[] pending = new byte[4096];
+    private int pendingLength = 0;
+    private byte[] spare = new byte[4096];
+
+    // the fields below are guarded by fileLock
+    private final Object fileLock = new Object();
+    private FileChannel channel;
+    // started by the first attach, so the constructor does not hand this to a running thread
+    private Thread writerThread;
+    private long generation;
+    private Hall hall;
+    private Player player;
+    private Supplier<GameStateDto> snapshotSource;
+    private IntSupplier timeSource;
+    private int lastTimeRemaining = Integer.MIN_VALUE;
+    private boolean compactRequested;
+
+    // read without locking by the observer methods
+    private volatile boolean attached = false;
+    private volatile boolean closed = false;
+
+    /**
+     * Retrieves the journal of the running game, or null when journaling is turned off.
+     *
+     * @return the singleton journal, or null if it is turned off
+     */
+    public static synchronized HallJournal getInstance() {
+        if (instance == null && readEnabled()) {
+            instance = new HallJournal(JOURNAL_DIRECTORY);
+            Runtime.getRuntime().addShutdownHook(new Thread(instance::close, "journal-writer-shutdown"));
+        }
+        return instance;
+    }
+
+    private static boolean readEnabled() {
+        String enabled = System.getProperty(JOURNAL_PROPERTY);
+        if (enabled == null || enabled.trim().equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (!enabled.trim().equalsIgnoreCase("false")) {
+            LOGGER.error("Unknown journal setting " + enabled + ", journaling stays on. [from class: HallJournal, method: readEnabled]");
+            return true;
+        }
+        return false;
+    }
+
+    public HallJournal(String directory) {
+        this.directory = Paths.get(directory);
+        this.snapshotFile = this.directory.resolve(SNAPSHOT_FILE);
+        this.journalFile = this.directory.resolve(JOURNAL_FILE);
+    }
+
+    /**
+     * Starts journaling the given game. A game journaled before is forgotten.
+     *
+     * @param gameState the game being played
+     */
+    public void attach(GameState gameState) {
+        attach(gameState.getHall(), gameState.getPlayer(), gameState::createSnapshot,
+                () -> gameState.getTimer() != null ? gameState.getTimer().getTimeRemaining() : 0);
+    }
+
+    /**
+     * Starts journaling the given hall and player. A game journaled before is forgotten.
+     *
+     * @param hall the hall whose changes are journaled
+     * @param player the player whose lives and inventory are journaled
+     * @param snapshotSource takes a consistent snapshot of the whole game, used when the journal is compacted
+     * @param timeSource gives the remaining time, which is journaled when it changed at a flush
+     */
+    public void attach(Hall hall, Player player, Supplier<GameStateDto> snapshotSource, IntSupplier timeSource) {
+        Thread writer;
+        synchronized (fileLock) {
+            detachObservers();
+            synchronized (this) {
+                pendingLength = 0;
+            }
+            this.hall = hall;
+            this.player = player;
+            this.snapshotSource = snapshotSource;
+            this.timeSource = timeSource;
+            this.lastTimeRemaining = Integer.MIN_VALUE;
+            // the first snapshot is written by the writer thread so the caller does not wait for the disk
+            this.compactRequested = true;
+            attached = true;
+            hall.addMutationObserver(this);
+            player.addObserver(this);
+            player.addInventoryObserver(this);
+            if (writerThread == null && !closed) {
+                writerThread = new Thread(this::runWriter, "journal-writer");
+                writerThread.setDaemon(true);
+                writerThread.start();
+            }
+            writer = writerThread;
+        }
+        LockSupport.unpark(writer);
+        LOGGER.info("Journal attached to the hall. [from class: HallJournal, method: attach]");
+    }
+
+    /**
+     * Stops journaling and deletes the journal, used when the game ends normally.
+     */
+    public void detach() {
+        synchronized (fileLock) {
+            if (!attached && channel == null) {
+                return;
+            }
+            detachObservers();
+            synchronized (this) {
+                pendingLength = 0;
+            }
+            closeChannel();
+            try {
+                Files.deleteIfExists(journalFile);
+                Files.deleteIfExists(snapshotFile);
+            } catch (IOException e) {
+                LOGGER.error("Journal could not be deleted: " + e.getMessage() + " [from class: HallJournal, method: detach]");
+            }
+        }
+        LOGGER.info("Journal detached and deleted. [from class: HallJournal, method: detach]");
+    }
+
+    /**
+     * Turns a journal left behind by a crash into an ordinary save and deletes the journal.
+     *
+     * @param adapter the adapter the recovered game is saved with
+     * @return the name of the recovered save, or null if there was nothing to recover
+     */
+    public String recoverCrashedGame(SaveGameAdapter adapter) {
+        synchronized (fileLock) {
+            if (attached || !Files.exists(snapshotFile)) {
+                return null;
+            }
+            String gameName = null;
+            try {
+                GameStateDto recovered = recover(directory);
+                gameName = RECOVERED_GAME_PREFIX + new SimpleDateFormat("yyyyMMdd-HHmmss").format(recovered.getSaveDate());
+                adapter.writeGameStateDto(gameName, recovered);
+                String savedName = gameName;
+                LOGGER.info(() -> "Crashed game recovered from the journal as " + savedName + " [from class: HallJournal, method: recoverCrashedGame]");
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Crashed game could not be recovered from the journal: " + e.getMessage() + " [from class: HallJournal, method: recoverCrashedGame]");
+                gameName = null;
+            }
+            try {
+                Files.deleteIfExists(journalFile);
+                Files.deleteIfExists(snapshotFile);
+            } catch (IOException e) {
+                LOGGER.error("Journal could not be deleted: " + e.getMessage() + " [from class: HallJournal, method: recoverCrashedGame]");
+            }
+            return gameName;
+        }
+    }
+
+    /**
+     * Writes everything buffered so far to the journal and waits until it is on disk. The writer thread does this on
+     * its own every few hundred milliseconds.
+     */
+    public void flush() {
+        synchronized (fileLock) {
+            if (!attached) {
+                return;
+            }
+            try {
+                if (compactRequested || (channel != null && channel.size() > COMPACT_THRESHOLD_BYTES)) {
+                    compact();
+                }
+            } catch (IOException | RuntimeException e) {
+                LOGGER.error("Journal could not be compacted: " + e.getMessage() + " [from class: HallJournal, method: flush]");
+            }
+            writePending();
+        }
+    }
+
+    /**
+     * Writes what is buffered and stops the writer thread. The journal stays on disk, so a game that was still being
+     * played when the JVM exited can be recovered at the next start. Called automatically when the JVM shuts down.
+     */
+    public void close() {
+        closed = true;
+        Thread writer;
+        synchronized (fileLock) {
+            writer = writerThread;
+        }
+        if (writer != null) {
+            LockSupport.unpark(writer);
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (fileLock) {
+            writePending();
+            closeChannel();
+        }
+    }
+
+    /**
+     * Reads the snapshot in a journal directory and replays the journal written after it.
+     *
+     * @param directory the journal directory
+     * @return the recovered game state
+     * @throws IOException if there is no readable snapshot
+     */
+    public static GameStateDto recover(Path directory) throws IOException {
+        Path journal = directory.resolve(JOURNAL_FILE);
+        long generation;
+        GameStateDto snapshot;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(directory.resolve(SNAPSHOT_FILE))))) {
+            generation = in.readLong();
+            snapshot = new BinaryGameStateCodec().decode(in);
+        }
+        Replay replay = new Replay(snapshot);
+        if (Files.exists(journal)) {
+            replay.apply(journal, generation);
+            snapshot.setSaveDate(new Date(Files.getLastModifiedTime(journal).toMillis()));
+        } else if (snapshot.getSaveDate() == null) {
+            snapshot.setSaveDate(new Date());
+        }
+        return replay.toDto();
+    }
+
+    // -------- observers, called by game threads --------
+
+    @Override
+    public void onObjectPlaced(int cell, Constants.GameObjectsInHall type) {
+        if (attached && cell >= 0 && type != null) {
+            append(PLACE_OBJECT, cell, type.ordinal());
+        }
+    }
+
+    @Override
+    public void onObjectRemoved(int cell) {
+        if (attached && cell >= 0) {
+            append(REMOVE_OBJECT, cell, 0);
+        }
+    }
+
+    @Override
+    public void onPlayerMoved(int cell) {
+        if (attached && cell >= 0) {
+            append(MOVE_PLAYER, cell, 0);
+        }
+    }
+
+    @Override
+    public void onRunePlaced(int cell, Constants.HallType hallType) {
+        if (attached && cell >= 0 && hallType != null) {
+            append(PLACE_RUNE, cell, hallType.ordinal());
+        }
+    }
+
+    @Override
+    public void onRuneRemoved(int cell) {
+        if (attached && cell >= 0) {
+            append(REMOVE_RUNE, cell, 0);
+        }
+    }
+
+    @Override
+    public void onHallCleared() {
+        if (attached) {
+            append(CLEAR_HALL, 0, 0);
+        }
+    }
+
+    @Override
+    public void onHealthChanged(int newHealth, int oldHealth) {
+        if (attached) {
+            append(SET_LIFE_COUNT, newHealth, 0);
+        }
+    }
+
+    @Override
+    public void isPlayerDead() {
+    }
+
+    @Override
+    public void onInventoryChanged(Map<Enchantment, Integer> newInventory) {
+        if (!attached) {
+            return;
+        }
+        // the player keeps one entry per enchantment object, the journal keeps one count per type
+        int[] counts = new int[OBJECT_TYPES.length];
+        for (Map.Entry<Enchantment, Integer> entry : newInventory.entrySet()) {
+            Constants.GameObjectsInHall type = entry.getKey().getType();
+            if (type != null) {
+                counts[type.ordinal()] += entry.getValue() != null ? entry.getValue() : 0;
+            }
+        }
+        for (Constants.GameObjectsInHall type : OBJECT_TYPES) {
+            if (type.name().endsWith("ENCHANTMENT")) {
+                append(SET_INVENTORY, type.ordinal(), counts[type.ordinal()]);
+            }
+        }
+    }
+
+    // records are at most 5 bytes: the type, then a short and a byte, a byte and a short, or an int
+    private synchronized void append(byte type, int first, int second) {
+        if (pendingLength + 5 > pending.length) {
+            pending = Arrays.copyOf(pending, pending.length * 2);
+        }
+        byte[] buffer = pending;
+        int at = pendingLength;
+        buffer[at++] = type;
+        switch (type) {
+            case PLACE_OBJECT, PLACE_RUNE -> {
+                buffer[at++] = (byte) (first >> 8);
+                buffer[at++] = (byte) first;
+                buffer[at++] = (byte) second;
+            }
+            case REMOVE_OBJECT, MOVE_PLAYER, REMOVE_RUNE -> {
+                buffer[at++] = (byte) (first >> 8);
+                buffer[at++] = (byte) first;
+            }
+            case SET_INVENTORY -> {
+                buffer[at++] = (byte) first;
+                buffer[at++] = (byte) (second >> 8);
+                buffer[at++] = (byte) second;
+            }
+            case SET_LIFE_COUNT, SET_TIME_REMAINING -> {
+                buffer[at++] = (byte) (first >> 24);
+                buffer[at++] = (byte) (first >> 16);
+                buffer[at++] = (byte) (first >> 8);
+                buffer[at++] = (byte) first;
+            }
+            default -> {
+            }
+        }
+        pendingLength = at;
+    }
+
+    // -------- writer thread --------
+
+    private void runWriter() {
+        while (!closed) {
+            LockSupport.parkNanos(FLUSH_INTERVAL_NANOS);
+            flush();
+        }
+    }
+
+    // records buffered now are not written to the old journal: the snapshot taken afterwards already contains them,
+    // and they are written to the new journal by the next flush, where replaying them again changes nothing
+    private void compact() throws IOException {
+        GameStateDto snapshot = snapshotSource.get();
+        long nextGeneration = Math.max(generation + 1, System.currentTimeMillis());
+        byte[] encoded = codec.encode(snapshot);
+        Files.createDirectories(directory);
+        AtomicFiles.write(snapshotFile, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            data.writeLong(nextGeneration);
+            data.write(encoded);
+            data.flush();
+        });
+        closeChannel();
+        channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(MAGIC).put((byte) VERSION).putLong(nextGeneration).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        channel.force(false);
+        generation = nextGeneration;
+        compactRequested = false;
+        lastTimeRemaining = snapshot.getHallTimeRemaining();
+        LOGGER.debug(() -> "Journal compacted into generation " + nextGeneration + " [from class: HallJournal, method: compact]");
+    }
+
+    private void writePending() {
+        if (!attached || channel == null) {
+            return;
+        }
+        int time = timeSource.getAsInt();
+        if (time != lastTimeRemaining) {
+            append(SET_TIME_REMAINING, time, 0);
+            lastTimeRemaining = time;
+        }
+        byte[] group;
+        int length;
+        synchronized (this) {
+            if (pendingLength == 0) {
+                return;
+            }
+            // the buffers are swapped so game threads can keep appending while the group is written
+            group = pending;
+            length = pendingLength;
+            pending = spare.length >= group.length ? spare : new byte[group.length];
+            pendingLength = 0;
+            spare = group;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(group, 0, length);
+        ByteBuffer buffer = ByteBuffer.allocate(GROUP_HEADER_SIZE + length);
+        buffer.putInt(length).putInt((int) crc.getValue()).put(group, 0, length).flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            LOGGER.error("Journal could not be written: " + e.getMessage() + " [from class: HallJournal, method: writePending]");
+        }
+    }
+
+    private void detachObservers() {
+        attached = false;
+        if (hall != null) {
+            hall.removeMutationObserver(this);
+        }
+        if (player != null) {
+            player.removeObserver(this);
+            player.removeInventoryObserver(this);
+        }
+        hall = null;
+        player = null;
+        snapshotSource = null;
+        timeSource = null;
+    }
+
+    private void closeChannel() {
+        if (channel == null) {
+            return;
+        }
+        try {
+            channel.close();
+        } catch (IOException e) {
+            LOGGER.error("Journal could not be closed: " + e.getMessage() + " [from class: HallJournal, method: closeChannel]");
+        }
+        channel = null;
+    }
+
+    /**
+     * Applies journal records to a snapshot. The hall is kept as an array of cells while replaying.
+     */
+    private static class Replay {
+        private final GameStateDto dto;
+        private final Constants.GameObjectsInHall[] cells = new Constants.GameObjectsInHall[BinaryGameStateCodec.HALL_SIZE * BinaryGameStateCodec.HALL_SIZE];
+        private final Map<Integer, Constants.HallType> runes = new HashMap<>();
+        private final HashMap<Constants.GameObjectsInHall, Integer> inventory = new HashMap<>();
+
+        private Replay(GameStateDto dto) {
+            this.dto = dto;
+            if (dto.getHallGameObjects() != null) {
+                for (Map.Entry<Point, GameObjectDto> entry : dto.getHallGameObjects().entrySet()) {
+                    cells[cellOf(entry.getKey())] = entry.getValue().getType();
+                }
+            }
+            if (dto.getHallRunes() != null) {
+                for (Map.Entry<Point, Rune> entry : dto.getHallRunes().entrySet()) {
+                    runes.put(cellOf(entry.getKey()), entry.getValue().getRuneType());
+                }
+            }
+            if (dto.getPlayerEnchantments() != null) {
+                inventory.putAll(dto.getPlayerEnchantments());
+            }
+        }
+
+        private void apply(Path journal, long generation) throws IOException {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(journal)))) {
+                if (in.readInt() != MAGIC || in.readUnsignedByte() != VERSION || in.readLong() != generation) {
+                    LOGGER.warn("Journal does not belong to the snapshot and is ignored. [from class: HallJournal, method: apply]");
+                    return;
+                }
+                while (true) {
+                    byte[] group;
+                    try {
+                        int length = in.readInt();
+                        int expected = in.readInt();
+                        if (length < 0 || length > COMPACT_THRESHOLD_BYTES * 16) {
+                            return;
+                        }
+                        group = new byte[length];
+                        in.readFully(group);
+                        CRC32 crc = new CRC32();
+                        crc.update(group);
+                        if ((int) crc.getValue() != expected) {
+                            LOGGER.warn("Torn group at the end of the journal is ignored. [from class: HallJournal, method: apply]");
+                            return;
+                        }
+                    } catch (EOFException e) {
+                        return;
+                    }
+                    applyGroup(ByteBuffer.wrap(group));
+                }
+            } catch (EOFException e) {
+                LOGGER.warn("Journal has no complete header and is ignored. [from class: HallJournal, method: apply]");
+            }
+        }
+
+        private void applyGroup(ByteBuffer group) throws IOException {
+            while (group.hasRemaining()) {
+                byte type = group.get();
+                switch (type) {
+                    case PLACE_OBJECT -> cells[cell(group)] = OBJECT_TYPES[group.get() & 0xFF];
+                    case REMOVE_OBJECT -> cells[cell(group)] = null;
+                    case MOVE_PLAYER -> {
+                        int cell = cell(group);
+                        dto.setPlayerPositionx(cell % BinaryGameStateCodec.HALL_SIZE);
+                        dto.setPlayerPositiony(cell / BinaryGameStateCodec.HALL_SIZE);
+                    }
+                    case PLACE_RUNE -> {
+                        int cell = cell(group);
+                        runes.put(cell, HALL_TYPES[group.get() & 0xFF]);
+                    }
+                    case REMOVE_RUNE -> runes.remove(cell(group));
+                    case CLEAR_HALL -> Arrays.fill(cells, null);
+                    case SET_LIFE_COUNT -> dto.setPlayerLifeCount(group.getInt());
+                    case SET_INVENTORY -> {
+                        Constants.GameObjectsInHall enchantment = OBJECT_TYPES[group.get() & 0xFF];
+                        int count = group.getShort();
+                        if (count > 0) {
+                            inventory.put(enchantment, count);
+                        } else {
+                            inventory.remove(enchantment);
+                        }
+                    }
+                    case SET_TIME_REMAINING -> dto.setHallTimeRemaining(group.getInt());
+                    default -> throw new IOException("Unknown journal record type " + type + ".");
+                }
+            }
+        }
+
+        private static int cell(ByteBuffer group) throws IOException {
+            int cell = group.getShort() & 0xFFFF;
+            if (cell >= BinaryGameStateCodec.HALL_SIZE * BinaryGameStateCodec.HALL_SIZE) {
+                throw new IOException("Cell " + cell + " in the journal is outside the hall.");
+            }
+            return cell;
+        }
+
+        private static int cellOf(Point point) {
+            return point.y * BinaryGameStateCodec.HALL_SIZE + point.x;
+        }
+
+        private GameStateDto toDto() {
+            HashMap<Point, GameObjectDto> objects = new HashMap<>();
+            for (int cell = 0; cell < cells.length; cell++) {
+                if (cells[cell] != null) {
+                    GameObjectDto object = new GameObjectDto();
+                    object.setX(cell % BinaryGameStateCodec.HALL_SIZE);
+                    object.setY(cell / BinaryGameStateCodec.HALL_SIZE);
+                    object.setType(cells[cell]);
+                    objects.put(new Point(object.getX(), object.getY()), object);
+                }
+            }
+            dto.setHallGameObjects(objects);
+            Map<Point, Rune> runeObjects = new HashMap<>();
+            for (Map.Entry<Integer, Constants.HallType> entry : runes.entrySet()) {
+                int x = entry.getKey() % BinaryGameStateCodec.HALL_SIZE;
+                int y = entry.getKey() / BinaryGameStateCodec.HALL_SIZE;
+                runeObjects.put(new Point(x, y), new Rune(x, y, entry.getValue()));
+            }
+            dto.setHallRunes(runeObjects);
+            dto.setPlayerEnchantments(inventory);
+            return dto;
+        }
+    }
+}
@@ -0,0 +1,326 @@
+/**
+ * Keeps a small index file next to the saves with a summary of every saved game, so the saved games screen can be
+ * filled without reading any save, deserializing a hall or starting a monster thread.
+ *
+ * The adapters update the index whenever they write or delete a save. Listing compares it with the save directory,
+ * which only costs a directory listing: an entry whose file is gone is dropped, and a save that is missing from the
+ * index or whose size or modification time changed since it was indexed is read once and indexed again. A missing or
+ * unreadable index is therefore rebuilt from the saves instead of failing.
+ * The index is a JSON document written with AtomicFiles, so a crash never leaves half of it.
+ *
+ * The thumbnail is one character per hall cell, row by row:
+ *   '.' empty, 'P' player, 'W' wall, 'D' different wall, 'C' chest, 'B' block,
+ *   'A' archer, 'F' fighter, 'Z' wizard, 'E' enchantment
+ */
+package technicalServices.persistence.manifest;
+
+import com.fasterxml.jackson.core.*;
+import domain.dto.GameObjectDto;
+import domain.dto.GameStateDto;
+import domain.dto.SavedGameSummaryDto;
+import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
+import technicalServices.persistence.AtomicFiles;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+public class SaveGameManifest {
+    private static final GameLogger LOGGER = GameLogger.getLogger(SaveGameManifest.class);
+    public static final String MANIFEST_PREFIX = "saves";
+    public static final String MANIFEST_SUFFIX = ".manifest";
+    public static final int HALL_SIZE = 16;
+    private static final int VERSION = 1;
+
+    public static final char EMPTY_CELL = '.';
+    public static final char PLAYER_CELL = 'P';
+    public static final char WALL_CELL = 'W';
+    public static final char WALL_DIFFERENT_CELL = 'D';
+    public static final char CHEST_CELL = 'C';
+    public static final char BLOCK_CELL = 'B';
+    public static final char ARCHER_CELL = 'A';
+    public static final char FIGHTER_CELL = 'F';
+    public static final char WIZARD_CELL = 'Z';
+    public static final char ENCHANTMENT_CELL = 'E';
+
+    /**
+     * Reads one save in transfer form, used when a save has to be indexed again.
+     */
+    public interface SaveReader {
+        GameStateDto read(String gameName) throws IOException;
+    }
+
+    private final Path directory;
+    private final String saveExtension;
+    private final Path manifestFile;
+    private final SaveReader reader;
+    private final JsonFactory factory = JsonFactory.builder().disable(StreamWriteFeature.AUTO_CLOSE_TARGET).build();
+    // loaded from the index file the first time it is needed
+    private Map<String, SavedGameSummaryDto> entries;
+
+    /**
+     * Creates the index of the saves with the given extension in a directory.
+     *
+     * @param saveDirectory the directory the saves are stored in
+     * @param saveExtension the file extension of the saves, e.g. ".json"
+     * @param reader reads a save when it has to be indexed again
+     */
+    public SaveGameManifest(String saveDirectory, String saveExtension, SaveReader reader) {
+        this.directory = Paths.get(saveDirectory);
+        this.saveExtension = saveExtension;
+        this.manifestFile = directory.resolve(MANIFEST_PREFIX + saveExtension + MANIFEST_SUFFIX);
+        this.reader = reader;
+    }
+
+    /**
+     * Records a save that was just written.
+     *
+     * @param gameName the name of the saved game
+     * @param gameStateDto the game state that was written
+     */
+    public synchronized void update(String gameName, GameStateDto gameStateDto) {
+        SavedGameSummaryDto summary = summarize(gameName, gameStateDto);
+        readFileStats(summary);
+        getEntries().put(gameName, summary);
+        write();
+    }
+
+    /**
+     * Forgets a save that was deleted.
+     *
+     * @param gameName the name of the deleted game
+     */
+    public synchronized void remove(String gameName) {
+        if (getEntries().remove(gameName) != null) {
+            write();
+        }
+    }
+
+    /**
+     * Lists the summaries of every save in the directory, newest first.
+     * Only saves that changed outside of the adapter are read.
+     *
+     * @return the summaries of the saved games
+     */
+    public synchronized List<SavedGameSummaryDto> list() {
+        Map<String, SavedGameSummaryDto> indexed = getEntries();
+        Map<String, SavedGameSummaryDto> current = new HashMap<>();
+        boolean changed = false;
+        File[] files = directory.toFile().listFiles((d, name) -> name.endsWith(saveExtension));
+        if (files != null) {
+            for (File file : files) {
+                String gameName = file.getName().substring(0, file.getName().length() - saveExtension.length());
+                SavedGameSummaryDto summary = indexed.get(gameName);
+                if (summary == null || summary.getFileSize() != file.length() || summary.getLastModified() != file.lastModified()) {
+                    summary = index(gameName);
+                    changed = true;
+                }
+                current.put(gameName, summary);
+            }
+        }
+        if (changed || current.size() != indexed.size()) {
+            indexed.clear();
+            indexed.putAll(current);
+            write();
+        }
+        List<SavedGameSummaryDto> summaries = new ArrayList<>(current.values());
+        summaries.sort(Comparator.comparing(SavedGameSummaryDto::getSaveDate, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(SavedGameSummaryDto::getName));
+        return summaries;
+    }
+
+    /**
+     * Builds the summary of a game state.
+     *
+     * @param gameName the name of the saved game
+     * @param gameStateDto the saved game state
+     * @return the summary, without file size and modification time
+     */
+    public static SavedGameSummaryDto summarize(String gameName, GameStateDto gameStateDto) {
+        SavedGameSummaryDto summary = new SavedGameSummaryDto();
+        summary.setName(gameName);
+        summary.setSaveDate(gameStateDto.getSaveDate());
+        summary.setHallType(gameStateDto.getHallType());
+        summary.setPlayerLifeCount(gameStateDto.getPlayerLifeCount());
+        summary.setHallTimeRemaining(gameStateDto.getHallTimeRemaining());
+
+        char[] cells = new char[HALL_SIZE * HALL_SIZE];
+        Arrays.fill(cells, EMPTY_CELL);
+        int monsters = 0;
+        if (gameStateDto.getHallGameObjects() != null) {
+            for (GameObjectDto object : gameStateDto.getHallGameObjects().values()) {
+                if (object == null || object.getType() == null) {
+                    continue;
+                }
+                char code = cellCode(object.getType());
+                if (code == ARCHER_CELL || code == FIGHTER_CELL || code == WIZARD_CELL) {
+                    monsters++;
+                }
+                setCell(cells, object.getX(), object.getY(), code);
+            }
+        }
+        setCell(cells, gameStateDto.getPlayerPositionx(), gameStateDto.getPlayerPositiony(), PLAYER_CELL);
+        summary.setMonsterCount(monsters);
+        summary.setThumbnail(new String(cells));
+
+        int enchantments = 0;
+        if (gameStateDto.getPlayerEnchantments() != null) {
+            for (Integer count : gameStateDto.getPlayerEnchantments().values()) {
+                enchantments += count != null ? count : 0;
+            }
+        }
+        summary.setCollectedEnchantmentCount(enchantments);
+        return summary;
+    }
+
+    /**
+     * Gives the thumbnail character of an object type.
+     *
+     * @param type the type of the object
+     * @return the character drawn for the type
+     */
+    public static char cellCode(Constants.GameObjectsInHall type) {
+        return switch (type) {
+            case WALL -> WALL_CELL;
+            case WALLDIFFERENT -> WALL_DIFFERENT_CELL;
+            case CHEST -> CHEST_CELL;
+            case BLOCK -> BLOCK_CELL;
+            case ARCHER -> ARCHER_CELL;
+            case FIGHTER -> FIGHTER_CELL;
+            case WIZARD -> WIZARD_CELL;
+            case LIFEENCHANTMENT, REVEALENCHANTMENT, LURINGENCHANTMENT, CLOAKENCHANTMENT, TIMEENCHANTMENT -> ENCHANTMENT_CELL;
+            default -> EMPTY_CELL;
+        };
+    }
+
+    private static void setCell(char[] cells, int x, int y, char code) {
+        if (x >= 0 && y >= 0 && x < HALL_SIZE && y < HALL_SIZE) {
+            cells[y * HALL_SIZE + x] = code;
+        }
+    }
+
+    // a save that cannot be read is still listed by name, so it can be deleted from the screen
+    private SavedGameSummaryDto index(String gameName) {
+        SavedGameSummaryDto summary;
+        try {
+            summary = summarize(gameName, reader.read(gameName));
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Saved game " + gameName + " could not be indexed: " + e.getMessage() + " [from class: SaveGameManifest, method: index]");
+            summary = new SavedGameSummaryDto();
+            summary.setName(gameName);
+        }
+        readFileStats(summary);
+        return summary;
+    }
+
+    private void readFileStats(SavedGameSummaryDto summary) {
+        File file = directory.resolve(summary.getName() + saveExtension).toFile();
+        summary.setFileSize(file.length());
+        summary.setLastModified(file.lastModified());
+    }
+
+    private Map<String, SavedGameSummaryDto> getEntries() {
+        if (entries == null) {
+            entries = new HashMap<>();
+            if (Files.exists(manifestFile)) {
+                try (InputStream in = Files.newInputStream(manifestFile)) {
+                    read(in, entries);
+                } catch (IOException | RuntimeException e) {
+                    entries.clear();
+                    LOGGER.warn("Save manifest " + manifestFile + " could not be read and will be rebuilt: " + e.getMessage() + " [from class: SaveGameManifest, method: getEntries]");
+                }
+            }
+        }
+        return entries;
+    }
+
+    private void write() {
+        try {
+            AtomicFiles.write(manifestFile, out -> {
+                try (JsonGenerator generator = factory.createGenerator(out, JsonEncoding.UTF8)) {
+                    generator.writeStartObject();
+                    generator.writeNumberField("version", VERSION);
+                    generator.writeArrayFieldStart("saves");
+                    for (SavedGameSummaryDto summary : entries.values()) {
+                        writeSummary(generator, summary);
+                    }
+                    generator.writeEndArray();
+                    generator.writeEndObject();
+                }
+            });
+        } catch (IOException e) {
+            // the saves themselves are fine, the index is rebuilt from them the next time it is read
+            LOGGER.error("Save manifest " + manifestFile + " could not be written: " + e.getMessage() + " [from class: SaveGameManifest, method: write]");
+        }
+    }
+
+    private static void writeSummary(JsonGenerator generator, SavedGameSummaryDto summary) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", summary.getName());
+        if (summary.getSaveDate() != null) {
+            generator.writeNumberField("saveDate", summary.getSaveDate().getTime());
+        }
+        if (summary.getHallType() != null) {
+            generator.writeStringField("hallType", summary.getHallType().name());
+        }
+        generator.writeNumberField("playerLifeCount", summary.getPlayerLifeCount());
+        generator.writeNumberField("hallTimeRemaining", summary.getHallTimeRemaining());
+        generator.writeNumberField("monsterCount", summary.getMonsterCount());
+        generator.writeNumberField("collectedEnchantmentCount", summary.getCollectedEnchantmentCount());
+        if (summary.getThumbnail() != null) {
+            generator.writeStringField("thumbnail", summary.getThumbnail());
+        }
+        generator.writeNumberField("fileSize", summary.getFileSize());
+        generator.writeNumberField("lastModified", summary.getLastModified());
+        generator.writeEndObject();
+    }
+
+    private void read(InputStream in, Map<String, SavedGameSummaryDto> target) throws IOException {
+        try (JsonParser parser = factory.createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Save manifest is not a JSON object.");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if (field.equals("version")) {
+                    if (parser.getIntValue() != VERSION) {
+                        throw new JsonParseException(parser, "Unsupported save manifest version " + parser.getText() + ".");
+                    }
+                } else if (field.equals("saves") && parser.currentToken() == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        SavedGameSummaryDto summary = readSummary(parser);
+                        if (summary.getName() != null) {
+                            target.put(summary.getName(), summary);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+    }
+
+    private static SavedGameSummaryDto readSummary(JsonParser parser) throws IOException {
+        SavedGameSummaryDto summary = new SavedGameSummaryDto();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "name" -> summary.setName(parser.getText());
+                case "saveDate" -> summary.setSaveDate(new Date(parser.getLongValue()));
+                case "hallType" -> summary.setHallType(Constants.HallType.valueOf(parser.getText()));
+                case "playerLifeCount" -> summary.setPlayerLifeCount(parser.getIntValue());
+                case "hallTimeRemaining" -> summary.setHallTimeRemaining(parser.getIntValue());
+                case "monsterCount" -> summary.setMonsterCount(parser.getIntValue());
+                case "collectedEnchantmentCount" -> summary.setCollectedEnchantmentCount(parser.getIntValue());
+                case "thumbnail" -> summary.setThumbnail(parser.getText());
+                case "fileSize" -> summary.setFileSize(parser.getLongValue());
+                case "lastModified" -> summary.setLastModified(parser.getLongValue());
+                default -> parser.skipChildren();
+            }
+        }
+        return summary;
+    }
+}
@@ -0,0 +1,405 @@
+/**
+ * Keeps every saved game in one slot file instead of one file per save.
+ *
+ * The file starts with a fixed-size header and an index of MAX_SLOTS entries, followed by the records. An entry holds
+ * the name of a save and where its record is. The whole file is mapped into memory, so listing the saves needs no
+ * disk access at all and reading a save is a bounds-checked copy out of the mapped region.
+ *
+ * Layout of version 1, all numbers big-endian:
+ *   header (HEADER_SIZE bytes): magic "RKSL", version byte, slot count short, end of the records long
+ *   index: per slot its used flag byte, name length byte, name in UTF-8 (MAX_NAME_BYTES bytes), record offset long,
+ *          record length int and the CRC32 of the entry before it
+ *   records: the saves, one after the other
+ *
+ * A save is written by appending its record, moving the end of the records and only then pointing its entry at it,
+ * each step forced to disk. A crash in between leaves the entry pointing at the previous record. Overwritten and
+ * deleted records stay in the file as garbage until it is compacted, which rewrites the file with only the live
+ * records; that happens on its own once the garbage is larger than the live records. The compacted file is written
+ * next to the slot file, and the slot file is unmapped and closed before it is replaced, since Windows does not allow
+ * replacing a file that is still mapped.
+ */
+package technicalServices.persistence.slots;
+
+import technicalServices.logging.GameLogger;
+import technicalServices.persistence.AtomicFiles;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.zip.CRC32;
+
+public class SaveSlotStore {
+    private static final GameLogger LOGGER = GameLogger.getLogger(SaveSlotStore.class);
+    public static final int MAGIC = 0x524B534C; // "RKSL"
+    public static final int VERSION = 1;
+    public static final int MAX_SLOTS = 128;
+    public static final int MAX_NAME_BYTES = 62;
+
+    private static final int HEADER_SIZE = 32;
+    private static final int DATA_END_OFFSET = 8;
+    private static final int ENTRY_SIZE = 80;
+    private static final int ENTRY_NAME_OFFSET = 2;
+    private static final int ENTRY_RECORD_OFFSET = 64;
+    private static final int ENTRY_LENGTH_OFFSET = 72;
+    private static final int ENTRY_CRC_OFFSET = 76;
+    public static final int DATA_START = HEADER_SIZE + MAX_SLOTS * ENTRY_SIZE;
+    // garbage below this is never worth a rewrite of the file
+    private static final long COMPACT_MIN_GARBAGE = 64 * 1024;
+
+    // every adapter of the same file must share its index, so stores are opened once per file
+    private static final Map<Path, SaveSlotStore> openStores = new HashMap<>();
+
+    private final Path file;
+    private FileChannel channel;
+    private MappedByteBuffer mapped;
+    private long dataEnd;
+    private final String[] names = new String[MAX_SLOTS];
+    private final long[] offsets = new long[MAX_SLOTS];
+    private final int[] lengths = new int[MAX_SLOTS];
+    private final Map<String, Integer> slotsByName = new LinkedHashMap<>();
+
+    /**
+     * Opens the slot file at the given path, creating it if it does not exist.
+     * Opening the same file again returns the store that is already open.
+     *
+     * @param file the slot file
+     * @return the store of the file
+     * @throws IOException if the file cannot be opened or is not a slot file
+     */
+    public static synchronized SaveSlotStore open(Path file) throws IOException {
+        Path key = file.toAbsolutePath().normalize();
+        SaveSlotStore store = openStores.get(key);
+        if (store == null) {
+            store = new SaveSlotStore(key);
+            openStores.put(key, store);
+        }
+        return store;
+    }
+
+    private SaveSlotStore(Path file) throws IOException {
+        this.file = file;
+        if (!Files.exists(file) || Files.size(file) == 0) {
+            AtomicFiles.write(file, out -> writeEmptyFile(new DataOutputStream(out)));
+        }
+        map();
+    }
+
+    /**
+     * Writes a record into the slot with the given name, replacing the record it had.
+     *
+     * @param name the name of the save
+     * @param record the record to write
+     * @throws IOException if every slot is in use or the file cannot be written
+     */
+    public synchronized void put(String name, byte[] record) throws IOException {
+        byte[] nameBytes = encodeName(name);
+        Integer slot = slotsByName.get(name);
+        if (slot == null) {
+            slot = freeSlot();
+        }
+        long offset = dataEnd;
+        ensureCapacity(offset + record.length);
+        mapped.put((int) offset, record);
+        mapped.force((int) offset, record.length);
+        dataEnd = offset + record.length;
+        mapped.putLong(DATA_END_OFFSET, dataEnd);
+        mapped.force(0, HEADER_SIZE);
+        writeEntry(slot, nameBytes, offset, record.length);
+
+        names[slot] = name;
+        offsets[slot] = offset;
+        lengths[slot] = record.length;
+        slotsByName.put(name, slot);
+        compactIfWorthIt();
+    }
+
+    /**
+     * Reads the record in the slot with the given name.
+     *
+     * @param name the name of the save
+     * @return the record, or null if there is no slot with the name
+     * @throws IOException if the slot points outside the records
+     */
+    public synchronized byte[] get(String name) throws IOException {
+        Integer slot = slotsByName.get(name);
+        if (slot == null) {
+            return null;
+        }
+        long offset = offsets[slot];
+        int length = lengths[slot];
+        if (offset < DATA_START || length < 0 || offset + length > dataEnd || offset + length > mapped.capacity()) {
+            throw new IOException("Save slot " + name + " points outside the slot file.");
+        }
+        byte[] record = new byte[length];
+        mapped.get((int) offset, record);
+        return record;
+    }
+
+    /**
+     * Frees the slot with the given name. Its record stays in the file until it is compacted.
+     *
+     * @param name the name of the save
+     * @return true if there was a slot with the name
+     * @throws IOException if the index cannot be written
+     */
+    public synchronized boolean remove(String name) throws IOException {
+        Integer slot = slotsByName.remove(name);
+        if (slot == null) {
+            return false;
+        }
+        clearEntry(slot);
+        names[slot] = null;
+        compactIfWorthIt();
+        return true;
+    }
+
+    public synchronized int getFreeSlotCount() {
+        return MAX_SLOTS - slotsByName.size();
+    }
+
+    public synchronized boolean contains(String name) {
+        return slotsByName.containsKey(name);
+    }
+
+    public synchronized List<String> names() {
+        return new ArrayList<>(slotsByName.keySet());
+    }
+
+    public synchronized int recordLength(String name) {
+        Integer slot = slotsByName.get(name);
+        return slot == null ? -1 : lengths[slot];
+    }
+
+    public synchronized long getLiveBytes() {
+        long live = 0;
+        for (int slot : slotsByName.values()) {
+            live += lengths[slot];
+        }
+        return live;
+    }
+
+    public synchronized long getGarbageBytes() {
+        return dataEnd - DATA_START - getLiveBytes();
+    }
+
+    public synchronized long getFileSize() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Rewrites the file with only the live records, dropping overwritten and deleted ones.
+     *
+     * @throws IOException if the file cannot be rewritten, the old file is kept in that case
+     */
+    public synchronized void compact() throws IOException {
+        long garbage = getGarbageBytes();
+        Path compacted = AtomicFiles.writeTemporary(file, out -> {
+            DataOutputStream data = new DataOutputStream(out);
+            long end = DATA_START;
+            long[] newOffsets = new long[MAX_SLOTS];
+            for (int slot : slotsByName.values()) {
+                newOffsets[slot] = end;
+                end += lengths[slot];
+            }
+            writeHeader(data, end);
+            for (int slot = 0; slot < MAX_SLOTS; slot++) {
+                if (names[slot] == null) {
+                    data.write(new byte[ENTRY_SIZE]);
+                } else {
+                    data.write(entryBytes(encodeName(names[slot]), newOffsets[slot], lengths[slot]));
+                }
+            }
+            for (int slot : slotsByName.values()) {
+                byte[] record = new byte[lengths[slot]];
+                mapped.get((int) offsets[slot], record);
+                data.write(record);
+            }
+            data.flush();
+        });
+        unmap();
+        try {
+            AtomicFiles.replace(compacted, file);
+        } finally {
+            // the compacted file if it replaced the old one, the old one again otherwise
+            map();
+        }
+        LOGGER.info(() -> "Save slot file compacted, " + garbage + " bytes freed. [from class: SaveSlotStore, method: compact]");
+    }
+
+    /**
+     * Closes the file. The store cannot be used afterwards, open the file again instead.
+     *
+     * @throws IOException if the file cannot be closed
+     */
+    public void close() throws IOException {
+        synchronized (SaveSlotStore.class) {
+            openStores.remove(file);
+        }
+        synchronized (this) {
+            unmap();
+        }
+    }
+
+    private void map() throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = channel.size();
+        if (size < DATA_START || size > Integer.MAX_VALUE) {
+            channel.close();
+            throw new IOException("Save slot file " + file + " has an invalid size of " + size + " bytes.");
+        }
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (mapped.getInt(0) != MAGIC) {
+            channel.close();
+            throw new IOException("Not a save slot file: " + file);
+        }
+        int version = mapped.get(4) & 0xFF;
+        if (version != VERSION || (mapped.getShort(5) & 0xFFFF) != MAX_SLOTS) {
+            channel.close();
+            throw new IOException("Unsupported save slot file version " + version + ".");
+        }
+        dataEnd = mapped.getLong(DATA_END_OFFSET);
+        if (dataEnd < DATA_START || dataEnd > size) {
+            channel.close();
+            throw new IOException("Save slot file " + file + " is corrupted.");
+        }
+        readIndex();
+    }
+
+    private void unmap() throws IOException {
+        MappedByteBuffer released = mapped;
+        mapped = null;
+        channel.close();
+        if (released == null) {
+            return;
+        }
+        // a mapping is otherwise only released once the buffer is garbage collected
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field unsafe = unsafeClass.getDeclaredField("theUnsafe");
+            unsafe.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(unsafe.get(null), released);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.warn(() -> "Save slot file could not be unmapped, it stays mapped until it is collected: " + e
+                    + " [from class: SaveSlotStore, method: unmap]");
+        }
+    }
+
+    private void readIndex() {
+        slotsByName.clear();
+        Arrays.fill(names, null);
+        for (int slot = 0; slot < MAX_SLOTS; slot++) {
+            int at = HEADER_SIZE + slot * ENTRY_SIZE;
+            if (mapped.get(at) == 0) {
+                continue;
+            }
+            byte[] entry = new byte[ENTRY_SIZE];
+            mapped.get(at, entry);
+            ByteBuffer buffer = ByteBuffer.wrap(entry);
+            CRC32 crc = new CRC32();
+            crc.update(entry, 0, ENTRY_CRC_OFFSET);
+            int nameLength = entry[1] & 0xFF;
+            if ((int) crc.getValue() != buffer.getInt(ENTRY_CRC_OFFSET) || nameLength > MAX_NAME_BYTES) {
+                int brokenSlot = slot;
+                LOGGER.warn(() -> "Save slot " + brokenSlot + " is corrupted and is ignored. [from class: SaveSlotStore, method: readIndex]");
+                continue;
+            }
+            String name = new String(entry, ENTRY_NAME_OFFSET, nameLength, StandardCharsets.UTF_8);
+            names[slot] = name;
+            offsets[slot] = buffer.getLong(ENTRY_RECORD_OFFSET);
+            lengths[slot] = buffer.getInt(ENTRY_LENGTH_OFFSET);
+            slotsByName.put(name, slot);
+        }
+    }
+
+    private int freeSlot() throws IOException {
+        for (int slot = 0; slot < MAX_SLOTS; slot++) {
+            if (names[slot] == null) {
+                return slot;
+            }
+        }
+        throw new IOException("All " + MAX_SLOTS + " save slots are in use.");
+    }
+
+    private void ensureCapacity(long needed) throws IOException {
+        if (needed <= mapped.capacity()) {
+            return;
+        }
+        long size = Math.max(needed, mapped.capacity() + mapped.capacity() / 2L);
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Save slot file cannot grow beyond " + Integer.MAX_VALUE + " bytes.");
+        }
+        channel.write(ByteBuffer.wrap(new byte[1]), size - 1);
+        mapped = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+
+    private void writeEntry(int slot, byte[] nameBytes, long offset, int length) {
+        int at = HEADER_SIZE + slot * ENTRY_SIZE;
+        mapped.put(at, entryBytes(nameBytes, offset, length));
+        mapped.force(at, ENTRY_SIZE);
+    }
+
+    private void clearEntry(int slot) {
+        int at = HEADER_SIZE + slot * ENTRY_SIZE;
+        mapped.put(at, new byte[ENTRY_SIZE]);
+        mapped.force(at, ENTRY_SIZE);
+    }
+
+    // the save or delete that triggered it is already on disk, so a failed compaction is only logged
+    private void compactIfWorthIt() {
+        long garbage = getGarbageBytes();
+        if (garbage > COMPACT_MIN_GARBAGE && garbage > getLiveBytes()) {
+            try {
+                compact();
+            } catch (IOException e) {
+                LOGGER.error("Save slot file could not be compacted, it is tried again on the next save: " + e.getMessage()
+                        + " [from class: SaveSlotStore, method: compactIfWorthIt]");
+            }
+        }
+    }
+
+    private static byte[] entryBytes(byte[] nameBytes, long offset, int length) {
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE);
+        entry.put((byte) 1).put((byte) nameBytes.length).put(nameBytes);
+        entry.putLong(ENTRY_RECORD_OFFSET, offset).putInt(ENTRY_LENGTH_OFFSET, length);
+        CRC32 crc = new CRC32();
+        crc.update(entry.array(), 0, ENTRY_CRC_OFFSET);
+        entry.putInt(ENTRY_CRC_OFFSET, (int) crc.getValue());
+        return entry.array();
+    }
+
+    private static byte[] encodeName(String name) {
+        if (name == null || name.trim().isEmpty()) {
+            LOGGER.error("Save name cannot be null or empty. [from class: SaveSlotStore, method: encodeName]");
+            throw new IllegalArgumentException("Save name cannot be null or empty.");
+        }
+        byte[] nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        if (nameBytes.length > MAX_NAME_BYTES) {
+            LOGGER.error("Save name " + name + " is longer than " + MAX_NAME_BYTES + " bytes. [from class: SaveSlotStore, method: encodeName]");
+            throw new IllegalArgumentException("Save name is longer than " + MAX_NAME_BYTES + " bytes.");
+        }
+        return nameBytes;
+    }
+
+    private static void writeHeader(DataOutputStream data, long dataEnd) throws IOException {
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeShort(MAX_SLOTS);
+        data.writeByte(0);
+        data.writeLong(dataEnd);
+        data.write(new byte[HEADER_SIZE - 16]);
+    }
+
+    private static void writeEmptyFile(DataOutputStream data) throws IOException {
+        writeHeader(data, DATA_START);
+        data.write(new byte[MAX_SLOTS * ENTRY_SIZE]);
+        data.flush();
+    }
+}
@@ -6,19 +6,21 @@
 package ui.gameObjectImage;
 
 import domain.gameObjects.Arrow;
+import technicalServices.logging.GameLogger;
 
 import javax.imageio.ImageIO;
 import java.awt.*;
 import java.io.IOException;
 
 public class ArrowImage {
+    private static final GameLogger LOGGER = GameLogger.getLogger(ArrowImage.class);
     private Image arrowImage;
 
     public ArrowImage() {
         try {
             arrowImage = ImageIO.read(getClass().getResource("../../assets/images/Arrow.png"));
         } catch (IOException e) {
-            e.printStackTrace();
+            LOGGER.error("Arrow image could not be loaded. [from class: ArrowImage, method: ArrowImage]", e);
         }
     }
 
@@ -7,28 +7,25 @@ package ui.gameObjectImage;
 
 import domain.gameObjects.Block;
 
-import javax.swing.*;
 import java.awt.*;
-import java.util.HashMap;
-import java.util.Objects;
 
-public class BlockImage extends GameEntityImage{
-    private static final HashMap<Class<? extends Block>, Image> blockImages = new HashMap<>();
-    static {
-        blockImages.put(Block.class, loadImage("../../assets/images/block.png"));
+public class BlockImage extends GameEntityImage {
+    private static final BlockImage instance = new BlockImage();
+    private static final Sprite blockSprite = SpriteAtlas.getInstance().getSprite("/assets/images/block.png");
+
+    private BlockImage() {
     }
-    private static Image loadImage(String path) {
-        return new ImageIcon(Objects.requireNonNull(BlockImage.class.getResource(path))).getImage();
+
+    public static BlockImage getInstance() {
+        return instance;
     }
+
     public static Image getImageForBlock(Block block) {
-        // Default image handling
-        return blockImages.getOrDefault(block.getClass(), loadImage("../../assets/images/block.png"));
+        return blockSprite.getImage();
     }
+
     @Override
-    public ImageIcon getImageForEntity(Object entity) {
-        if (entity instanceof Block) {
-            return new ImageIcon(getImageForBlock((Block) entity));
-        }
-        return new ImageIcon(loadImage("../../assets/images/block.png"));
+    public Sprite getSprite(Object entity) {
+        return blockSprite;
     }
 }
@@ -7,28 +7,25 @@ package ui.gameObjectImage;
 
 import domain.gameObjects.Chest;
 
-import javax.swing.*;
 import java.awt.*;
-import java.util.HashMap;
 
 public class ChestImage extends GameEntityImage {
-    private static final HashMap<Class<? extends Chest>, Image> chestImages = new HashMap<>();
-    static {
-        chestImages.put(Chest.class, loadImage("../../assets/images/chest.png"));
+    private static final ChestImage instance = new ChestImage();
+    private static final Sprite chestSprite = SpriteAtlas.getInstance().getSprite("/assets/images/chest.png", "/assets/images/default_chest.png");
+
+    private ChestImage() {
     }
-    private static Image loadImage(String path) {
-        return new ImageIcon(ChestImage.class.getResource(path)).getImage();
+
+    public static ChestImage getInstance() {
+        return instance;
     }
+
     public static Image getImageForChest(Chest chest) {
-        // Default image handling
-        return chestImages.getOrDefault(chest.getClass(), loadImage("../../assets/images/default_chest.png"));
+        return chestSprite.getImage();
     }
+
     @Override
-    public ImageIcon getImageForEntity(Object entity) {
-        if (entity instanceof Chest) {
-            return new ImageIcon(getImageForChest((Chest) entity));
-        }
-        return new ImageIcon(loadImage("../../assets/images/default_chest.png"));
+    public Sprite getSprite(Object entity) {
+        return chestSprite;
     }
 }
-
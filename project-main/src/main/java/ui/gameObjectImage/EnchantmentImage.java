@@ -7,7 +7,6 @@ package ui.gameObjectImage;
 
 import domain.gameObjects.*;
 
-import javax.swing.ImageIcon;
 import java.awt.Image;
 import java.util.HashMap;
 
@@ -21,25 +20,36 @@ public class EnchantmentImage extends GameEntityImage {
         REVEAL
     }
 
-    // HashMap to store images for different enchantment types
-    private static final HashMap<Class<? extends Enchantment>, Image> enchantmentImages = new HashMap<>();
-    // here the images are not here yet pls add to assets/images
+    private static final EnchantmentImage instance = new EnchantmentImage();
+    // HashMap to store sprites for different enchantment types
+    private static final HashMap<Class<? extends Enchantment>, Sprite> enchantmentSprites = new HashMap<>();
+    // there is no default enchantment image, the cloak is used instead
+    private static final Sprite defaultSprite = SpriteAtlas.getInstance().getSprite("/assets/images/protectioncloak.png");
+
     static {
-        // Preload images for each enchantment class
-        enchantmentImages.put(CloakEnchantment.class, loadImage("../../assets/images/protectioncloak.png"));
-        enchantmentImages.put(LuringGemEnchantment.class, loadImage("../../assets/images/luringGem.png"));
-        enchantmentImages.put(LifeEnchantment.class, loadImage("../../assets/images/heart4x.png"));
-        enchantmentImages.put(RevealEnchantment.class, loadImage("../../assets/images/reveal.png"));
-        enchantmentImages.put(TimeEnchantment.class, loadImage("../../assets/images/clock.png"));
+        // Preload sprites for each enchantment class
+        enchantmentSprites.put(CloakEnchantment.class, defaultSprite);
+        enchantmentSprites.put(LuringGemEnchantment.class, SpriteAtlas.getInstance().getSprite("/assets/images/luringGem.png"));
+        enchantmentSprites.put(LifeEnchantment.class, SpriteAtlas.getInstance().getSprite("/assets/images/heart4x.png"));
+        enchantmentSprites.put(RevealEnchantment.class, SpriteAtlas.getInstance().getSprite("/assets/images/reveal.png"));
+        enchantmentSprites.put(TimeEnchantment.class, SpriteAtlas.getInstance().getSprite("/assets/images/clock.png"));
+    }
+
+    private EnchantmentImage() {
+    }
+
+    public static EnchantmentImage getInstance() {
+        return instance;
     }
 
     /**
-     * Load image from the given path
-     * @param path Path to the image asset
-     * @return Loaded Image
+     * Retrieve the sprite corresponding to the enchantment type
+     * @param enchantment Enchantment object
+     * @return Sprite for the given enchantment type
      */
-    private static Image loadImage(String path) {
-        return new ImageIcon(EnchantmentImage.class.getResource(path)).getImage();
+    public static Sprite getSpriteForEnchantment(Enchantment enchantment) {
+        Sprite sprite = enchantmentSprites.get(enchantment.getClass());
+        return sprite != null ? sprite : defaultSprite;
     }
 
     /**
@@ -48,16 +58,14 @@ public class EnchantmentImage extends GameEntityImage {
      * @return Image for the given enchantment type
      */
     public static Image getImageForEnchantment(Enchantment enchantment) {
-        //here there is no default image for the enchantment pls add them to assets/images
-        return enchantmentImages.getOrDefault(enchantment.getClass(), loadImage("../../assets/images/protectioncloak.png"));
-
-
+        return getSpriteForEnchantment(enchantment).getImage();
     }
+
     @Override
-    public ImageIcon getImageForEntity(Object entity) {
+    public Sprite getSprite(Object entity) {
         if (entity instanceof Enchantment) {
-            return new ImageIcon(getImageForEnchantment((Enchantment) entity));
+            return getSpriteForEnchantment((Enchantment) entity);
         }
-        return new ImageIcon(loadImage("../../assets/images/clock.png"));
+        return defaultSprite;
     }
-}
\ No newline at end of file
+}
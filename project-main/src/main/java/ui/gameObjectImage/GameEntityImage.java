@@ -9,12 +9,18 @@ import javax.swing.*;
 import java.awt.*;
 
 public abstract class GameEntityImage {
-    // Abstract method to get the ImageIcon for rendering
-    public abstract ImageIcon getImageForEntity(Object entity);
+    public static final int CELL_SIZE = 32;
 
-    // Common rendering method
+    // Abstract method to get the cached sprite for rendering
+    public abstract Sprite getSprite(Object entity);
+
+    // Wraps the sprite in an icon for the components that need one, painting uses render instead
+    public ImageIcon getImageForEntity(Object entity) {
+        return new ImageIcon(getSprite(entity).getImage());
+    }
+
+    // Common rendering method, the sprite is scaled to the cell once and reused on every paint
     public void render(Graphics g, Object entity, int x, int y) {
-        ImageIcon icon = getImageForEntity(entity);
-        g.drawImage(icon.getImage(), x * 32, y * 32, 32, 32, null); // Scale to 32x32 cells
+        g.drawImage(getSprite(entity).getScaled(CELL_SIZE, CELL_SIZE), x * CELL_SIZE, y * CELL_SIZE, null);
     }
 }
@@ -5,7 +5,6 @@
 
 package ui.gameObjectImage;
 
-import javax.swing.ImageIcon;
 import java.awt.Image;
 import java.util.HashMap;
 import domain.gameObjects.Monster;
@@ -14,29 +13,40 @@ import domain.gameObjects.FighterMonster;
 import domain.gameObjects.WizardMonster;
 
 public class MonsterImage extends GameEntityImage {
-    private static final HashMap<Class<? extends Monster>, Image> monsterImages = new HashMap<>();
+    private static final MonsterImage instance = new MonsterImage();
+    private static final HashMap<Class<? extends Monster>, Sprite> monsterSprites = new HashMap<>();
+    private static final Sprite defaultSprite = SpriteAtlas.getInstance().getSprite("/assets/images/default_monster.png");
 
     static {
-        // Preload images
-        monsterImages.put(ArcherMonster.class, loadImage("../../assets/images/archerWithBow.png"));
-        monsterImages.put(FighterMonster.class, loadImage("../../assets/images/fighter.png"));
-        monsterImages.put(WizardMonster.class, loadImage("../../assets/images/wizard.png"));
+        // Preload sprites
+        monsterSprites.put(ArcherMonster.class, SpriteAtlas.getInstance().getSprite("/assets/images/archerWithBow.png"));
+        monsterSprites.put(FighterMonster.class, SpriteAtlas.getInstance().getSprite("/assets/images/fighter.png"));
+        monsterSprites.put(WizardMonster.class, SpriteAtlas.getInstance().getSprite("/assets/images/wizard.png"));
     }
 
-    private static Image loadImage(String path) {
-        return new ImageIcon(MonsterImage.class.getResource(path)).getImage();
+    private MonsterImage() {
+    }
+
+    public static MonsterImage getInstance() {
+        return instance;
+    }
+
+    // Get the sprite corresponding to a monster type
+    public static Sprite getSpriteForMonster(Monster monster) {
+        Sprite sprite = monsterSprites.get(monster.getClass());
+        return sprite != null ? sprite : defaultSprite;
     }
 
     // Get the image corresponding to a monster type
     public static Image getImageForMonster(Monster monster) {
-        return monsterImages.getOrDefault(monster.getClass(), loadImage("../../assets/images/default_monster.png"));
+        return getSpriteForMonster(monster).getImage();
     }
 
     @Override
-    public ImageIcon getImageForEntity(Object entity) {
+    public Sprite getSprite(Object entity) {
         if (entity instanceof Monster) {
-            return new ImageIcon(getImageForMonster((Monster) entity));
+            return getSpriteForMonster((Monster) entity);
         }
-        return new ImageIcon(loadImage("../../assets/images/default_monster.png"));
+        return defaultSprite;
     }
-}
\ No newline at end of file
+}
@@ -7,35 +7,25 @@ package ui.gameObjectImage;
 
 import domain.gameObjects.Player;
 
-import javax.swing.*;
 import java.awt.*;
-import java.util.HashMap;
 
 public class PlayerImage extends GameEntityImage {
-    private static final HashMap<Class<? extends Player>, Image> playerImages = new HashMap<>();
+    private static final PlayerImage instance = new PlayerImage();
+    private static final Sprite playerSprite = SpriteAtlas.getInstance().getSprite("/assets/images/player.png", "/assets/images/default_player.png");
 
-    static {
-        playerImages.put(Player.class, loadImage("/assets/images/player.png"));
+    private PlayerImage() {
     }
 
-    private static Image loadImage(String path) {
-        try {
-            return new ImageIcon(PlayerImage.class.getResource(path)).getImage();
-        } catch (Exception e) {
-            System.err.println("Failed to load image at path: " + path);
-            return new ImageIcon(PlayerImage.class.getResource("/assets/images/default_player.png")).getImage();
-        }
+    public static PlayerImage getInstance() {
+        return instance;
     }
 
     public static Image getImageForPlayer(Player player) {
-        return playerImages.getOrDefault(player.getClass(), loadImage("/assets/images/default_player.png"));
+        return playerSprite.getImage();
     }
 
     @Override
-    public ImageIcon getImageForEntity(Object entity) {
-        if (entity instanceof Player) {
-            return new ImageIcon(getImageForPlayer((Player) entity));
-        }
-        return new ImageIcon(loadImage("/assets/images/default_player.png"));
+    public Sprite getSprite(Object entity) {
+        return playerSprite;
     }
 }
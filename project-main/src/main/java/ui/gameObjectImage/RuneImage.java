@@ -6,47 +6,47 @@
 package ui.gameObjectImage;
 
 import domain.gameObjects.Rune;
+import domain.utilities.Constants;
 
-import javax.swing.*;
 import java.awt.*;
-import java.util.HashMap;
-import java.util.Objects;
+import java.util.EnumMap;
 
 public class RuneImage extends GameEntityImage {
-    private static final HashMap<Class<? extends Rune>, Image> runeImages = new HashMap<>();
+    private static final RuneImage instance = new RuneImage();
+    // rune sprites are keyed by hall type, every rune shares the Rune class
+    private static final EnumMap<Constants.HallType, Sprite> runeSprites = new EnumMap<>(Constants.HallType.class);
+    private static final Sprite defaultSprite = SpriteAtlas.getInstance().getSprite("/assets/images/rune.png");
 
     static {
-        // Load the default rune image
-        runeImages.put(Rune.class, loadImage("../../assets/images/rune.png"));
+        runeSprites.put(Constants.HallType.FIRE, SpriteAtlas.getInstance().getSprite("/assets/images/fireRune.png"));
+        runeSprites.put(Constants.HallType.WATER, SpriteAtlas.getInstance().getSprite("/assets/images/waterRune.png"));
+        runeSprites.put(Constants.HallType.EARTH, SpriteAtlas.getInstance().getSprite("/assets/images/earthRune.png"));
+        runeSprites.put(Constants.HallType.AIR, SpriteAtlas.getInstance().getSprite("/assets/images/airRune.png"));
     }
 
-    // Method to load the image from the given path
-    private static Image loadImage(String path) {
-        return new ImageIcon(Objects.requireNonNull(RuneImage.class.getResource(path))).getImage();
+    private RuneImage() {
+    }
+
+    public static RuneImage getInstance() {
+        return instance;
+    }
+
+    // Get the sprite for the given rune
+    public static Sprite getSpriteForRune(Rune rune) {
+        Sprite sprite = rune.getRuneType() != null ? runeSprites.get(rune.getRuneType()) : null;
+        return sprite != null ? sprite : defaultSprite;
     }
 
     // Get the image for the given rune
     public static Image getImageForRune(Rune rune) {
-        // Default image handling based on the class of the rune
-        switch (rune.getRuneType()) {
-            case FIRE:
-                return runeImages.computeIfAbsent(rune.getClass(), k -> loadImage("../../assets/images/fireRune.png"));
-            case WATER:
-                return runeImages.computeIfAbsent(rune.getClass(), k -> loadImage("../../assets/images/waterRune.png"));
-            case EARTH:
-                return runeImages.computeIfAbsent(rune.getClass(), k -> loadImage("../../assets/images/earthRune.png"));
-            case AIR:
-                return runeImages.computeIfAbsent(rune.getClass(), k -> loadImage("../../assets/images/airRune.png"));
-        }
-        return runeImages.getOrDefault(rune.getClass(), loadImage("../../assets/images/rune.png"));
+        return getSpriteForRune(rune).getImage();
     }
 
-    // Overridden method to get the image for an entity (e.g., rune)
     @Override
-    public ImageIcon getImageForEntity(Object entity) {
+    public Sprite getSprite(Object entity) {
         if (entity instanceof Rune) {
-            return new ImageIcon(getImageForRune((Rune) entity));  // Correct class usage
+            return getSpriteForRune((Rune) entity);
         }
-        return new ImageIcon(loadImage("../../assets/images/rune.png")); // Fallback image
+        return defaultSprite;
     }
 }
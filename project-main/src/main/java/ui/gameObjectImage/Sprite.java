@@ -0,0 +1,87 @@
+/**
+ * A sprite loaded once by the SpriteAtlas, together with its pre-scaled variants.
+ *
+ * Each variant is scaled the first time a size is asked for and kept as a display-compatible image, so drawing it
+ * needs no scaling. Cells of a resized hall differ by a pixel, so a few sizes are asked for in turn; the variants are
+ * kept in a small array that is searched by size, which answers any of them without allocating. Only the most
+ * recently scaled MAX_VARIANTS sizes are kept, so resizing the window does not pile up variants.
+ */
+package ui.gameObjectImage;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+public class Sprite {
+    static final int MAX_VARIANTS = 8;
+    private final String path;
+    private final BufferedImage image;
+    // replaced as a whole when a size is added, so readers search it without locking
+    private volatile ScaledVariant[] scaledVariants = new ScaledVariant[0];
+
+    Sprite(String path, BufferedImage image) {
+        this.path = path;
+        this.image = image;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns the sprite at its original size.
+     *
+     * @return the unscaled image
+     */
+    public BufferedImage getImage() {
+        return image;
+    }
+
+    /**
+     * Returns the sprite scaled to the given size, scaling it only the first time the size is asked for.
+     *
+     * @param width the width in pixels
+     * @param height the height in pixels
+     * @return the scaled image
+     */
+    public BufferedImage getScaled(int width, int height) {
+        BufferedImage scaled = findScaled(scaledVariants, width, height);
+        return scaled != null ? scaled : addScaled(width, height);
+    }
+
+    private synchronized BufferedImage addScaled(int width, int height) {
+        ScaledVariant[] variants = scaledVariants;
+        // another thread may have scaled it in the meantime
+        BufferedImage scaled = findScaled(variants, width, height);
+        if (scaled != null) {
+            return scaled;
+        }
+        scaled = SpriteAtlas.scale(image, width, height);
+        // the oldest size makes room once the array is full
+        int dropped = variants.length < MAX_VARIANTS ? 0 : 1;
+        ScaledVariant[] grown = Arrays.copyOfRange(variants, dropped, variants.length + 1);
+        grown[grown.length - 1] = new ScaledVariant(width, height, scaled);
+        scaledVariants = grown;
+        return scaled;
+    }
+
+    private static BufferedImage findScaled(ScaledVariant[] variants, int width, int height) {
+        for (ScaledVariant variant : variants) {
+            if (variant.width == width && variant.height == height) {
+                return variant.image;
+            }
+        }
+        return null;
+    }
+
+    private static class ScaledVariant {
+        private final int width;
+        private final int height;
+        private final BufferedImage image;
+
+        private ScaledVariant(int width, int height, BufferedImage image) {
+            this.width = width;
+            this.height = height;
+            this.image = image;
+        }
+    }
+}
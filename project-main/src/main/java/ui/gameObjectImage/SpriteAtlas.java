@@ -0,0 +1,119 @@
+/**
+ * Loads every sprite of the game once and hands out the cached copy.
+ *
+ * Sprites are read from the classpath, converted to an image compatible with the display so drawing them does not
+ * need a format conversion, and kept for the rest of the game. Scaled variants are cached on each Sprite.
+ */
+package ui.gameObjectImage;
+
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import technicalServices.logging.GameLogger;
+
+public class SpriteAtlas {
+    private static final GameLogger LOGGER = GameLogger.getLogger(SpriteAtlas.class);
+    private static final SpriteAtlas instance = new SpriteAtlas();
+
+    private final Map<String, Sprite> sprites = new ConcurrentHashMap<>();
+
+    private SpriteAtlas() {
+    }
+
+    public static SpriteAtlas getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the sprite stored at the given classpath location, loading it the first time.
+     *
+     * @param path the absolute classpath location of the image, e.g. /assets/images/wall.png
+     * @return the sprite, or null if the image could not be loaded
+     */
+    public Sprite getSprite(String path) {
+        Sprite sprite = sprites.get(path);
+        if (sprite != null) {
+            return sprite;
+        }
+        BufferedImage image = load(path);
+        if (image == null) {
+            return null;
+        }
+        return sprites.computeIfAbsent(path, p -> new Sprite(p, image));
+    }
+
+    /**
+     * Returns the sprite at the given location, or the fallback sprite if the first one cannot be loaded.
+     *
+     * @param path the absolute classpath location of the image
+     * @param fallbackPath the location to use when the first image is missing
+     * @return the sprite
+     */
+    public Sprite getSprite(String path, String fallbackPath) {
+        Sprite sprite = getSprite(path);
+        return sprite != null ? sprite : getSprite(fallbackPath);
+    }
+
+    private BufferedImage load(String path) {
+        URL url = SpriteAtlas.class.getResource(path);
+        if (url == null) {
+            LOGGER.error("Sprite not found: " + path + " [from class: SpriteAtlas, method: load]");
+            return null;
+        }
+        try {
+            BufferedImage loaded = ImageIO.read(url);
+            if (loaded == null) {
+                LOGGER.error("Sprite could not be decoded: " + path + " [from class: SpriteAtlas, method: load]");
+                return null;
+            }
+            BufferedImage compatible = createCompatibleImage(loaded.getWidth(), loaded.getHeight());
+            Graphics2D g = compatible.createGraphics();
+            g.drawImage(loaded, 0, 0, null);
+            g.dispose();
+            return compatible;
+        } catch (IOException e) {
+            LOGGER.error("Sprite could not be read: " + path + " " + e.getMessage() + " [from class: SpriteAtlas, method: load]");
+            return null;
+        }
+    }
+
+    /**
+     * Scales an image to the given size with the quality of Image.SCALE_SMOOTH.
+     * Large reductions are done in halving steps so detail is averaged instead of skipped.
+     *
+     * @param source the image to scale
+     * @param width the target width
+     * @param height the target height
+     * @return a new display-compatible image of the given size
+     */
+    static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            currentWidth = currentWidth / 2 >= width ? currentWidth / 2 : width;
+            currentHeight = currentHeight / 2 >= height ? currentHeight / 2 : height;
+            BufferedImage step = createCompatibleImage(Math.max(1, currentWidth), Math.max(1, currentHeight));
+            Graphics2D g = step.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BICUBIC);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(current, 0, 0, step.getWidth(), step.getHeight(), null);
+            g.dispose();
+            current = step;
+        } while (currentWidth != width || currentHeight != height);
+        return current;
+    }
+
+    private static BufferedImage createCompatibleImage(int width, int height) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        }
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration()
+                .createCompatibleImage(width, height, Transparency.TRANSLUCENT);
+    }
+}
@@ -4,30 +4,28 @@
  */
 
 package ui.gameObjectImage;
+
 import domain.gameObjects.WallDifferent;
 
-import javax.swing.*;
 import java.awt.*;
-import java.util.HashMap;
-import java.util.Objects;
 
-public class WallDifferentImage extends GameEntityImage{
-    private static final HashMap<Class<? extends WallDifferentImage>, Image> wallDifferentImages = new HashMap<>();
-    static {
-        wallDifferentImages.put(WallDifferentImage.class, loadImage("../../assets/images/wallDiff.png"));
+public class WallDifferentImage extends GameEntityImage {
+    private static final WallDifferentImage instance = new WallDifferentImage();
+    private static final Sprite wallDifferentSprite = SpriteAtlas.getInstance().getSprite("/assets/images/wallDiff.png");
+
+    private WallDifferentImage() {
     }
-    private static Image loadImage(String path) {
-        return new ImageIcon(Objects.requireNonNull(WallDifferentImage.class.getResource(path))).getImage();
+
+    public static WallDifferentImage getInstance() {
+        return instance;
     }
+
     public static Image getImageForWallDifferent(WallDifferent wallDifferent) {
-        // Default image handling
-        return wallDifferentImages.getOrDefault(wallDifferent.getClass(), loadImage("../../assets/images/wallDiff.png"));
+        return wallDifferentSprite.getImage();
     }
+
     @Override
-    public ImageIcon getImageForEntity(Object entity) {
-        if (entity instanceof WallDifferent) {
-            return new ImageIcon(getImageForWallDifferent((WallDifferent) entity));
-        }
-        return new ImageIcon(loadImage("../../assets/images/wallDiff.png"));
+    public Sprite getSprite(Object entity) {
+        return wallDifferentSprite;
     }
 }
@@ -7,27 +7,25 @@ package ui.gameObjectImage;
 
 import domain.gameObjects.Wall;
 
-import javax.swing.*;
 import java.awt.*;
-import java.util.HashMap;
 
 public class WallImage extends GameEntityImage {
-    private static final HashMap<Class<? extends Wall>, Image> wallImages = new HashMap<>();
-    static {
-        wallImages.put(Wall.class, loadImage("../../assets/images/wall.png"));
+    private static final WallImage instance = new WallImage();
+    private static final Sprite wallSprite = SpriteAtlas.getInstance().getSprite("/assets/images/wall.png", "/assets/images/default_wall.png");
+
+    private WallImage() {
     }
-    private static Image loadImage(String path) {
-        return new ImageIcon(WallImage.class.getResource(path)).getImage();
+
+    public static WallImage getInstance() {
+        return instance;
     }
+
     public static Image getImageForWall(Wall wall) {
-        // Default image handling
-        return wallImages.getOrDefault(wall.getClass(), loadImage("../../assets/images/default_wall.png"));
+        return wallSprite.getImage();
     }
+
     @Override
-    public ImageIcon getImageForEntity(Object entity) {
-        if (entity instanceof Wall) {
-            return new ImageIcon(getImageForWall((Wall) entity));
-        }
-        return new ImageIcon(loadImage("../../assets/images/default_wall.png"));
+    public Sprite getSprite(Object entity) {
+        return wallSprite;
     }
 }
@@ -10,8 +10,10 @@ import java.awt.*;
 import java.io.IOException;
 import java.net.URL;
 import javax.imageio.ImageIO;
+import technicalServices.logging.GameLogger;
 
 class BackgroundPanel extends JPanel {
+    private static final GameLogger LOGGER = GameLogger.getLogger(BackgroundPanel.class);
     private Image backgroundImage;
 
     // Constructor to load background image
@@ -21,10 +23,10 @@ class BackgroundPanel extends JPanel {
             if (imgURL != null) {
                 backgroundImage = ImageIO.read(imgURL);
             } else {
-                System.err.println("Background image not found: " + imagePath);
+                LOGGER.warn("Background image not found: " + imagePath);
             }
         } catch (IOException e) {
-            e.printStackTrace();
+            LOGGER.error("Background image could not be loaded: " + imagePath + " [from class: BackgroundPanel, method: BackgroundPanel]", e);
         }
     }
 
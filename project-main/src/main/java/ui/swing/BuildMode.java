@@ -14,15 +14,16 @@ import java.util.Objects;
 
 import domain.behaviors.HallStrategy;
 import domain.gameObjects.*;
-import technicalServices.logging.LogManager;
 import technicalServices.placement.ObjectPlacementManager;
 import ui.gameObjectImage.BlockImage;
 import ui.gameObjectImage.ChestImage;
 import ui.gameObjectImage.WallDifferentImage;
 import ui.gameObjectImage.WallImage;
 import domain.utilities.Constants;
+import technicalServices.logging.GameLogger;
 
 public class BuildMode implements GameView {
+    private static final GameLogger LOGGER = GameLogger.getLogger(BuildMode.class);
     private JPanel buildPanel;
     private Object selectedObject = null;
     private JPanel[][] gridPanels;
@@ -245,7 +246,7 @@ public class BuildMode implements GameView {
 
     public void selectObject(Object object) {
         selectedObject = object;
-        System.out.println("Object selected: " + selectedObject);
+        LOGGER.debug(() -> "Object selected: " + selectedObject);
     }
     /**
      * Adds a button to the object panel for selecting and placing objects in the grid.
@@ -262,7 +263,7 @@ public class BuildMode implements GameView {
         try {
             ImageIcon icon = getIconForObject(object);
             if (icon == null) {
-                System.err.println("Icon not found for object: " + objectName);
+                LOGGER.warn("Icon not found for object: " + objectName);
                 return;
             }
             JButton objectButton = new JButton(objectName, icon);
@@ -275,8 +276,7 @@ public class BuildMode implements GameView {
             gbc.insets = new Insets(verticalSpacingBefore, 0, verticalSpacingAfter, 0);
             objectPanel.add(objectButton, gbc);
         } catch (Exception e) {
-            e.printStackTrace();
-            LogManager.logError(e.getMessage());
+            LOGGER.error("Object button could not be created: " + e.getMessage() + " [from class: BuildMode, method: addObjectButton]", e);
         }
     }
 
@@ -323,7 +323,7 @@ public class BuildMode implements GameView {
      */
 
     private void placeObject(int row, int col) {
-        System.out.println("Attempting to place object at " + row + "," + col + " with selectedObject=" + selectedObject);
+        LOGGER.debug(() -> "Attempting to place object at " + row + "," + col + " with selectedObject=" + selectedObject);
         if (selectedObject != null) {
             Point point = new Point(row, col);
 
@@ -334,7 +334,7 @@ public class BuildMode implements GameView {
                     placedObjects[row][col] = null;
                     gridPanels[row][col].revalidate();
                     gridPanels[row][col].repaint();
-                    System.out.println("Deleted object at " + row + "," + col);
+                    LOGGER.debug(() -> "Deleted object at " + row + "," + col);
                 } else {
                     JOptionPane.showMessageDialog(null, "No object to delete here!");
                 }
@@ -365,13 +365,13 @@ public class BuildMode implements GameView {
                     gridPanels[row][col].repaint();
 
                     placedObjects[row][col] = selectedObject.toString();
-                    System.out.println("Placed " + selectedObject + " at " + row + "," + col);
+                    LOGGER.debug(() -> "Placed " + selectedObject + " at " + row + "," + col);
                 } else {
                     JOptionPane.showMessageDialog(null, "Cannot place object here!");
                 }
             } else {
                 if (selectedObject instanceof Rune){
-                    System.out.println("Placing Rune at " + row + "," + col);
+                    LOGGER.debug(() -> "Placing Rune at " + row + "," + col);
                 }
                 else {
                     JOptionPane.showMessageDialog(null, "Cell already occupied by: " + placedObjects[row][col]);
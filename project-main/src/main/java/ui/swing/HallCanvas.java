@@ -0,0 +1,120 @@
+/**
+ * Draws the whole hall grid onto a single component instead of one JPanel per cell.
+ *
+ * Each cell is painted by a CellPainter with the graphics translated to the cell's corner, so the same painting code
+ * serves both this canvas and the panel grid. Repainting a cell only invalidates that cell's rectangle, and mouse
+ * clicks are mapped to cells arithmetically.
+ */
+package ui.swing;
+
+import javax.swing.*;
+import java.awt.*;
+
+public final class HallCanvas extends JComponent {
+    private static final long serialVersionUID = 1L;
+
+    public interface CellPainter {
+        /**
+         * Paints one cell. The graphics origin is the top-left corner of the cell.
+         *
+         * @param g the graphics to paint with
+         * @param col the column of the cell
+         * @param row the row of the cell
+         * @param width the width of the cell in pixels
+         * @param height the height of the cell in pixels
+         */
+        void paintCell(Graphics g, int col, int row, int width, int height);
+    }
+
+    private final int columns;
+    private final int rows;
+    // the canvas is drawn for the running game only, so its painter and counter are not serialized
+    private final transient CellPainter painter;
+    private final transient RepaintCounter repaintCounter;
+
+    public HallCanvas(int columns, int rows, int cellSize, CellPainter painter, RepaintCounter repaintCounter) {
+        this.columns = columns;
+        this.rows = rows;
+        this.painter = painter;
+        this.repaintCounter = repaintCounter;
+        setPreferredSize(new Dimension(columns * cellSize, rows * cellSize));
+        setOpaque(true);
+        setBackground(UIManager.getColor("Panel.background"));
+    }
+
+    // cell boundaries are computed from the full size so the cells tile the component without gaps
+    private int cellX(int col) {
+        return col * getWidth() / columns;
+    }
+
+    private int cellY(int row) {
+        return row * getHeight() / rows;
+    }
+
+    /**
+     * Paints the cells that intersect the clip, which is a single cell when repaintCell was used.
+     */
+    @Override
+    protected void paintComponent(Graphics g) {
+        long start = System.nanoTime();
+        Rectangle clip = g.getClipBounds();
+        if (clip == null) {
+            clip = new Rectangle(0, 0, getWidth(), getHeight());
+        }
+        int firstCol = Math.max(0, clip.x * columns / Math.max(1, getWidth()));
+        int lastCol = Math.min(columns - 1, (clip.x + clip.width - 1) * columns / Math.max(1, getWidth()));
+        int firstRow = Math.max(0, clip.y * rows / Math.max(1, getHeight()));
+        int lastRow = Math.min(rows - 1, (clip.y + clip.height - 1) * rows / Math.max(1, getHeight()));
+        // the divisions above can land one cell early because cell boundaries are rounded down
+        if (firstCol < lastCol && cellX(firstCol + 1) <= clip.x) {
+            firstCol++;
+        }
+        if (firstRow < lastRow && cellY(firstRow + 1) <= clip.y) {
+            firstRow++;
+        }
+
+        int painted = 0;
+        for (int row = firstRow; row <= lastRow; row++) {
+            int y = cellY(row);
+            int height = cellY(row + 1) - y;
+            for (int col = firstCol; col <= lastCol; col++) {
+                int x = cellX(col);
+                int width = cellX(col + 1) - x;
+                g.translate(x, y);
+                g.setColor(getBackground());
+                g.fillRect(0, 0, width, height);
+                painter.paintCell(g, col, row, width, height);
+                g.translate(-x, -y);
+                painted++;
+            }
+        }
+        repaintCounter.recordPaint(painted, System.nanoTime() - start);
+    }
+
+    /**
+     * Schedules a repaint of a single cell.
+     *
+     * @param cell the cell index (row * columns + col)
+     */
+    public void repaintCell(int cell) {
+        int col = cell % columns;
+        int row = cell / columns;
+        int x = cellX(col);
+        int y = cellY(row);
+        repaint(x, y, cellX(col + 1) - x, cellY(row + 1) - y);
+    }
+
+    /**
+     * Maps a point of the component to the cell under it.
+     *
+     * @param x the x coordinate in the component
+     * @param y the y coordinate in the component
+     * @return the column and row of the cell, or null if the point is outside the grid
+     */
+    public Point cellAt(int x, int y) {
+        if (x < 0 || y < 0 || x >= getWidth() || y >= getHeight()) {
+            return null;
+        }
+        return new Point(x * columns / getWidth(), y * rows / getHeight());
+    }
+}
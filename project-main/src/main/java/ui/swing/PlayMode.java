@@ -12,35 +12,43 @@ import domain.controllers.PlayerController;
 import domain.gameObjects.Arrow;
 import domain.gameObjects.Enchantment;
 import domain.gameObjects.GameObject;
+import domain.gameObjects.Hall;
 import domain.gameObjects.Player;
 import domain.observers.HallObserver;
 import domain.observers.HealthObserver;
+import domain.utilities.Constants;
 import technicalServices.input.InputHandler;
 import ui.gameObjectImage.ArrowImage;
 import ui.gameObjectImage.GameEntityImage;
+import ui.gameObjectImage.Sprite;
+import ui.gameObjectImage.SpriteAtlas;
+import technicalServices.logging.GameLogger;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyAdapter;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
-import java.net.URL;
 import java.util.Date;
-import java.util.Map;
 
 public class PlayMode implements GameView, HallObserver {
+    private static final GameLogger LOGGER = GameLogger.getLogger(PlayMode.class);
+    // start with -Drokue.fullRepaint=true to repaint the whole board on every hall change, as before dirty cells
+    private static final boolean FULL_REPAINT = Boolean.getBoolean("rokue.fullRepaint");
+    // start with -Drokue.hallRenderer=SINGLE_CANVAS to draw the hall on one component instead of 256 panels
+    private static final Constants.HallRenderMode RENDER_MODE = readRenderMode();
     private JLabel saveDateLabel;
     private JPanel playPanel;
     private JPanel[][] gridPanels;
+    private HallCanvas hallCanvas;
     private GameEntityImage gameEntityImage;
     private GameController controller;  
     private PlayerController playerController;
     private EnchantmentController enchantmentController;
     private InputHandler inputHandler;
-    private Image gridImage;
+    // floor tile drawn under every cell, scaled once per cell size
+    private final Sprite floorSprite = SpriteAtlas.getInstance().getSprite("/assets/images/grid.png");
     private Rectangle highlightRectangle;
     private Player player;
     private HealthHeartDisplay healthHeartDisplay;
@@ -54,6 +62,21 @@ public class PlayMode implements GameView, HallObserver {
     private InventoryPanel inventoryPanel;
 
     private KeyAdapter temporaryKeyListener;
+    private final RepaintCounter repaintCounter = new RepaintCounter("Play mode (" + RENDER_MODE
+            + (FULL_REPAINT ? ", full repaint)" : ", dirty cells)"));
+
+    private static Constants.HallRenderMode readRenderMode() {
+        String mode = System.getProperty("rokue.hallRenderer");
+        if (mode == null) {
+            return Constants.HallRenderMode.PANEL_GRID;
+        }
+        try {
+            return Constants.HallRenderMode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            LOGGER.error("Unknown hall renderer " + mode + ", using PANEL_GRID. [from class: PlayMode, method: readRenderMode]");
+            return Constants.HallRenderMode.PANEL_GRID;
+        }
+    }
 
     public void addTemporaryKeyListener(KeyAdapter keyAdapter) {
         if (temporaryKeyListener != null) {
@@ -96,16 +119,6 @@ public class PlayMode implements GameView, HallObserver {
             }
         });
 
-        try {
-            URL gridImgURL = getClass().getClassLoader().getResource("assets/images/grid.png");
-            if (gridImgURL != null) {
-                gridImage = ImageIO.read(gridImgURL);
-            } else {
-                System.err.println("Grid image not found.");
-            }
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
         this.saveDateLabel = new JLabel();
     }
     public void setSaveDate(Date saveDate) {
@@ -134,6 +147,7 @@ public class PlayMode implements GameView, HallObserver {
         playPanel.addKeyListener(inputHandler);
         playPanel.setFocusable(true);
         playPanel.requestFocusInWindow();
+        repaintCounter.start();
     }
 
     private void initializeHealthHeartDisplay() {
@@ -156,6 +170,23 @@ public class PlayMode implements GameView, HallObserver {
         playPanel.add(new TimerDisplay(30, controller.getGameState()).getPanel(), BorderLayout.SOUTH);
 
 
+        JComponent gridPanel;
+        if (RENDER_MODE == Constants.HallRenderMode.SINGLE_CANVAS) {
+            gridPanel = createHallCanvas();
+        } else {
+            gridPanel = createPanelGrid();
+        }
+
+        gridPanelWithPadding.add(gridPanel, BorderLayout.CENTER);
+        playPanel.add(gridPanelWithPadding, BorderLayout.CENTER);
+    }
+
+    /**
+     * Builds the grid as 256 panels, each painting its own cell.
+     *
+     * @return the panel holding the grid
+     */
+    private JPanel createPanelGrid() {
         JPanel gridPanel = new JPanel(new GridLayout(16, 16));
         gridPanels = new JPanel[16][16];
 
@@ -168,44 +199,9 @@ public class PlayMode implements GameView, HallObserver {
                     @Override
                     protected void paintComponent(Graphics g) {
                         super.paintComponent(g);
-
-                        Map<Point, GameObject> gameObjects = controller.getGameState().getHall().getGameObjects();
-                        Point point = new Point(finalCol, finalRow);
-
-//                        // Log all game objects in the current hall
-//                        gameObjects.forEach((pos, obj) -> {
-//                            System.out.println("Object at " + pos + ": " + obj.getClass().getSimpleName());
-//                        });
-
-                        if (gridImage != null) {
-                            Image scaledImage = gridImage.getScaledInstance(getWidth(), getHeight(), Image.SCALE_SMOOTH);
-                            g.drawImage(scaledImage, 0, 0, this);
-                        }
-                        GameObject playerObject = controller.getPlayerObject();
-                        if (playerObject != null) {
-                            Point playerPosition = playerObject.getPosition();
-
-                            if (finalRow == playerPosition.y && finalCol == playerPosition.x) {
-                                GameEntityImage renderer = controller.getGameEntityRenderer(playerObject);
-                                if (renderer != null) {
-                                    renderer.render(g, playerObject, 0, 0);
-                                } else {
-                                    System.err.println("No renderer found for player object.");
-                                }
-                            } else {
-                                if (gameObjects.containsKey(point)) {
-                                    GameObject obj = gameObjects.get(point);
-                                    if (obj != null) {
-                                        GameEntityImage renderer = controller.getGameEntityRenderer(obj);
-                                        if (renderer != null) {
-                                            renderer.render(g, obj, 0, 0);
-                                        } else {
-                                            System.err.println("No renderer found for: " + obj.getClass().getSimpleName());
-                                        }
-                                    }
-                                }
-                            }
-                        }
+                        long start = System.nanoTime();
+                        paintCell(g, finalCol, finalRow, getWidth(), getHeight());
+                        repaintCounter.recordPaint(1, System.nanoTime() - start);
                     }
 
                 };
@@ -224,13 +220,79 @@ public class PlayMode implements GameView, HallObserver {
                 gridPanel.add(panel);
             }
         }
+        return gridPanel;
+    }
 
-        gridPanelWithPadding.add(gridPanel, BorderLayout.CENTER);
-        playPanel.add(gridPanelWithPadding, BorderLayout.CENTER);
+    /**
+     * Builds the grid as a single component that paints every cell itself.
+     *
+     * @return the canvas holding the grid
+     */
+    private HallCanvas createHallCanvas() {
+        hallCanvas = new HallCanvas(16, 16, 40, this::paintCell, repaintCounter);
+        hallCanvas.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                Point clickedPoint = hallCanvas.cellAt(e.getX(), e.getY());
+                if (clickedPoint != null) {
+                    inputHandler.cellClicked(clickedPoint);
+                }
+            }
+        });
+        return hallCanvas;
+    }
+
+    /**
+     * Paints a single cell of the hall: the floor, then the player or the object standing in it.
+     *
+     * @param g the graphics to paint with, with its origin at the top-left corner of the cell
+     * @param col the column of the cell
+     * @param row the row of the cell
+     * @param width the width of the cell in pixels
+     * @param height the height of the cell in pixels
+     */
+    private void paintCell(Graphics g, int col, int row, int width, int height) {
+        Hall hall = controller.getGameState().getHall();
+
+        if (floorSprite != null) {
+            g.drawImage(floorSprite.getScaled(width, height), 0, 0, null);
+        }
+        GameObject playerObject = controller.getPlayerObject();
+        if (playerObject != null) {
+            Point playerPosition = playerObject.getPosition();
+
+            if (row == playerPosition.y && col == playerPosition.x) {
+                GameEntityImage renderer = controller.getGameEntityRenderer(playerObject);
+                if (renderer != null) {
+                    renderer.render(g, playerObject, 0, 0);
+                } else {
+                    LOGGER.warn("No renderer found for player object.");
+                }
+            } else {
+                GameObject obj = hall.getObjectAt(col, row);
+                if (obj != null) {
+                    GameEntityImage renderer = controller.getGameEntityRenderer(obj);
+                    if (renderer != null) {
+                        renderer.render(g, obj, 0, 0);
+                    } else {
+                        LOGGER.warn("No renderer found for: " + obj.getClass().getSimpleName());
+                    }
+                }
+            }
+        }
     }
 
+    /**
+     * Returns the panels of the grid, or null when the hall is drawn on a single canvas.
+     *
+     * @return the grid panels indexed by row and column
+     */
     public JPanel[][] getGridPanels() {
         return gridPanels;
+    }
+
+    public HallCanvas getHallCanvas() {
+        return hallCanvas;
     }    
 
     private JPanel createPaddingPanel(int width, int height) {
@@ -297,12 +359,39 @@ public class PlayMode implements GameView, HallObserver {
 
     @Override
     public void render() {
-        for (int row = 0; row < 16; row++) {
-            for (int col = 0; col < 16; col++) {
-                gridPanels[row][col].repaint();
+        if (hallCanvas != null) {
+            hallCanvas.repaint();
+        } else {
+            for (int row = 0; row < 16; row++) {
+                for (int col = 0; col < 16; col++) {
+                    gridPanels[row][col].repaint();
+                }
+            }
+        }
+        renderOverlays();
+    }
+
+    /**
+     * Repaints only the given cells of the grid, along with the inventory and the highlight.
+     *
+     * @param dirtyCells the indexes (row * 16 + col) of the cells to repaint
+     */
+    public void renderCells(int[] dirtyCells) {
+        if (hallCanvas != null) {
+            for (int cell : dirtyCells) {
+                hallCanvas.repaintCell(cell);
+            }
+        } else if (gridPanels != null) {
+            for (int cell : dirtyCells) {
+                gridPanels[cell / 16][cell % 16].repaint();
             }
+        } else {
+            return;
         }
+        renderOverlays();
+    }
 
+    private void renderOverlays() {
         if (inventoryPanel != null) {
             inventoryPanel.repaint();
         }
@@ -353,6 +442,7 @@ public class PlayMode implements GameView, HallObserver {
 
     @Override
     public void teardown() {
+        repaintCounter.stop();
         if (playPanel != null) {
             playPanel.removeAll();
             playPanel.revalidate();
@@ -366,13 +456,16 @@ public class PlayMode implements GameView, HallObserver {
     }
 
     @Override
-    public void onObjectAdded() {
-        render();
+    public void onCellsChanged(int[] dirtyCells) {
+        if (FULL_REPAINT) {
+            render();
+        } else {
+            renderCells(dirtyCells);
+        }
     }
 
-    @Override
-    public void onObjectReplaced(){
-        render();
+    public RepaintCounter getRepaintCounter() {
+        return repaintCounter;
     }
 
     public InventoryPanel getInventoryPanel() {
@@ -0,0 +1,77 @@
+/**
+ * Counts how many hall cells are painted and reports the rate as repaints per second.
+ *
+ * PlayMode records every cell paint here, together with the time spent painting. The rate of the last full second
+ * can be read at any time, and the averages over each reporting window are written to the info log along with the
+ * heap in use, so full-board and dirty-cell repainting, or the panel grid and the single canvas, can be compared.
+ */
+package ui.swing;
+
+
+import java.util.concurrent.atomic.AtomicLong;
+import technicalServices.logging.GameLogger;
+
+public class RepaintCounter {
+    private static final GameLogger LOGGER = GameLogger.getLogger(RepaintCounter.class);
+    private static final int SAMPLE_INTERVAL = 1000;
+    private static final int REPORT_EVERY_SAMPLES = 10;
+
+    private final String name;
+    private final AtomicLong repaints = new AtomicLong();
+    private final AtomicLong paintNanos = new AtomicLong();
+    private final javax.swing.Timer timer;
+    private volatile long repaintsPerSecond = 0;
+    private long windowRepaints = 0;
+    private long windowPaintNanos = 0;
+    private int windowSamples = 0;
+
+    public RepaintCounter(String name) {
+        this.name = name;
+        this.timer = new javax.swing.Timer(SAMPLE_INTERVAL, e -> sample());
+    }
+
+    public void start() {
+        timer.start();
+    }
+
+    public void stop() {
+        timer.stop();
+    }
+
+    /**
+     * Records one paint pass.
+     *
+     * @param cells the number of cells painted in the pass
+     * @param nanos the time the pass took in nanoseconds
+     */
+    public void recordPaint(int cells, long nanos) {
+        repaints.addAndGet(cells);
+        paintNanos.addAndGet(nanos);
+    }
+
+    /**
+     * Returns the number of repaints counted during the last full second.
+     *
+     * @return the repaints per second
+     */
+    public long getRepaintsPerSecond() {
+        return repaintsPerSecond;
+    }
+
+    private void sample() {
+        repaintsPerSecond = repaints.getAndSet(0);
+        windowRepaints += repaintsPerSecond;
+        windowPaintNanos += paintNanos.getAndSet(0);
+        windowSamples++;
+        if (windowSamples == REPORT_EVERY_SAMPLES) {
+            Runtime runtime = Runtime.getRuntime();
+            long usedHeap = (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+            LOGGER.info(() -> name + " repaints per second: " + (windowRepaints / windowSamples)
+                    + ", paint time per second: " + (windowPaintNanos / windowSamples / 1_000_000) + " ms"
+                    + ", heap used: " + usedHeap + " MB [from class: RepaintCounter, method: sample]");
+            windowRepaints = 0;
+            windowPaintNanos = 0;
+            windowSamples = 0;
+        }
+    }
+}
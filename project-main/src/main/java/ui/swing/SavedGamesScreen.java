@@ -1,25 +1,43 @@
 /**
  * Represents the Saved Games Screen UI in the game.
  * Displays a list of saved games, and provides options to load, delete, or cancel.
+ * Each entry shows a thumbnail of the hall, the save date, the hall, the lives and the time left, all taken from the
+ * save manifest so no save has to be loaded to draw the list.
+ * The list shows one page of saves at a time; a hall filter, a sort order and the page buttons ask for another page.
  * Implements `GameView` for easy integration with the overall game architecture.
  */
 
 package ui.swing;
 
+import domain.dto.SavedGameSummaryDto;
+import domain.utilities.Constants;
+import technicalServices.persistence.manifest.SaveGameManifest;
+
 import javax.swing.*;
 import java.awt.*;
-import java.util.ArrayList;
+import java.awt.image.BufferedImage;
+import java.text.SimpleDateFormat;
+import java.util.HashMap;
 import java.util.List;
 
 public class SavedGamesScreen implements GameView {
     private JPanel mainPanel;
-    private JList<String> savedGamesList;
+    private static final int THUMBNAIL_SCALE = 4;
+    public static final int PAGE_SIZE = 8;
+    private static final String ALL_HALLS = "All Halls";
+    private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("dd MMM yyyy HH:mm");
+    private JList<SavedGameSummaryDto> savedGamesList;
     private JButton loadButton;
     private JButton cancelButton;
     private JButton deleteSelectedButton;
+    private JComboBox<Object> hallFilter;
+    private JComboBox<Constants.SaveSortOrder> sortOrder;
+    private JButton previousPageButton;
+    private JButton nextPageButton;
+    private JLabel pageLabel;
     private Image backgroundImage;
 
-    public SavedGamesScreen(ArrayList<String> savedGames) {
+    public SavedGamesScreen(List<SavedGameSummaryDto> savedGames) {
 
         mainPanel = new JPanel() {
             @Override
@@ -48,22 +66,45 @@ public class SavedGamesScreen implements GameView {
 
         backgroundImage = Toolkit.getDefaultToolkit().getImage(getClass().getResource("../../assets/images/background2.jpg"));
 
-        savedGamesList = new JList<>(savedGames.toArray(new String[0]));
+        savedGamesList = new JList<>(savedGames.toArray(new SavedGameSummaryDto[0]));
         savedGamesList.setCellRenderer(new CustomListCellRenderer());
         savedGamesList.setOpaque(false);
         savedGamesList.setSelectionBackground(new Color(0, 0, 0, 100));
-        savedGamesList.setPreferredSize(new Dimension(200, 120));
 
         JPanel listPanel = new JPanel();
         listPanel.setLayout(new BorderLayout());
         listPanel.add(new JScrollPane(savedGamesList), BorderLayout.CENTER);
         listPanel.setOpaque(false);
-        listPanel.setPreferredSize(new Dimension(250, 150));
+        listPanel.setPreferredSize(new Dimension(560, 320));
 
         gbc.gridy = 1;
-        gbc.insets = new Insets(50, 20, 20, 20);
+        gbc.insets = new Insets(50, 20, 10, 20);
         mainPanel.add(listPanel, gbc);
 
+        JPanel pagePanel = new JPanel();
+        pagePanel.setLayout(new FlowLayout(FlowLayout.CENTER, 10, 0));
+        pagePanel.setOpaque(false);
+
+        Object[] hallChoices = new Object[Constants.HallType.values().length + 1];
+        hallChoices[0] = ALL_HALLS;
+        System.arraycopy(Constants.HallType.values(), 0, hallChoices, 1, Constants.HallType.values().length);
+        hallFilter = new JComboBox<>(hallChoices);
+        sortOrder = new JComboBox<>(Constants.SaveSortOrder.values());
+        previousPageButton = createStyledButton("<");
+        nextPageButton = createStyledButton(">");
+        pageLabel = new JLabel();
+        pageLabel.setFont(new Font("SansSerif", Font.BOLD, 18));
+        pageLabel.setForeground(Color.WHITE);
+
+        pagePanel.add(hallFilter);
+        pagePanel.add(sortOrder);
+        pagePanel.add(previousPageButton);
+        pagePanel.add(pageLabel);
+        pagePanel.add(nextPageButton);
+        gbc.gridy = 2;
+        gbc.insets = new Insets(0, 20, 0, 20);
+        mainPanel.add(pagePanel, gbc);
+
         JPanel buttonPanel = new JPanel();
         buttonPanel.setLayout(new FlowLayout(FlowLayout.CENTER, 10, 10));
         buttonPanel.setOpaque(false);
@@ -75,7 +116,7 @@ public class SavedGamesScreen implements GameView {
         buttonPanel.add(loadButton);
         buttonPanel.add(cancelButton);
         buttonPanel.add(deleteSelectedButton);
-        gbc.gridy = 2;
+        gbc.gridy = 3;
         gbc.insets = new Insets(30, 20, 50, 20);
         mainPanel.add(buttonPanel, gbc);
     }
@@ -111,18 +152,67 @@ public class SavedGamesScreen implements GameView {
         return deleteSelectedButton;
     }
 
-    public void setSavedGames(List<String> savedGames) {
-        savedGamesList.setListData(savedGames.toArray(new String[0]));
+    public JComboBox<Object> getHallFilter() {
+        return hallFilter;
+    }
+
+    public JComboBox<Constants.SaveSortOrder> getSortOrder() {
+        return sortOrder;
+    }
+
+    public JButton getPreviousPageButton() {
+        return previousPageButton;
+    }
+
+    public JButton getNextPageButton() {
+        return nextPageButton;
+    }
+
+    public void setSavedGames(List<SavedGameSummaryDto> savedGames) {
+        savedGamesList.setListData(savedGames.toArray(new SavedGameSummaryDto[0]));
+    }
+
+    /**
+     * Shows a page of saved games and which page it is.
+     *
+     * @param savedGames the saves on the page
+     * @param page the number of the page, starting at 0
+     * @param pageCount the number of pages
+     */
+    public void setPage(List<SavedGameSummaryDto> savedGames, int page, int pageCount) {
+        setSavedGames(savedGames);
+        pageLabel.setText((page + 1) + " / " + Math.max(pageCount, 1));
+        previousPageButton.setEnabled(page > 0);
+        nextPageButton.setEnabled(page + 1 < pageCount);
+    }
+
+    // null when every hall is shown
+    public Constants.HallType getSelectedHallType() {
+        return hallFilter.getSelectedItem() instanceof Constants.HallType hallType ? hallType : null;
+    }
+
+    public Constants.SaveSortOrder getSelectedSortOrder() {
+        return (Constants.SaveSortOrder) sortOrder.getSelectedItem();
     }
 
     public String getSelectedGame() {
-        return savedGamesList.getSelectedValue();
+        SavedGameSummaryDto selected = savedGamesList.getSelectedValue();
+        return selected != null ? selected.getName() : null;
     }
 
     private class CustomListCellRenderer extends DefaultListCellRenderer {
+        // thumbnails are drawn once per save instead of on every repaint
+        private final HashMap<String, ImageIcon> thumbnails = new HashMap<>();
+
         @Override
         public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected, boolean cellHasFocus) {
             Component c = super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+            if (value instanceof SavedGameSummaryDto summary) {
+                setText(describe(summary));
+                setIcon(getThumbnail(summary));
+                setIconTextGap(12);
+                setBorder(BorderFactory.createEmptyBorder(4, 6, 4, 6));
+            }
 
             if (isSelected) {
                 c.setBackground(new Color(0, 0, 0, 100));
@@ -134,6 +224,60 @@ public class SavedGamesScreen implements GameView {
 
             return c;
         }
+
+        private String describe(SavedGameSummaryDto summary) {
+            StringBuilder text = new StringBuilder("<html><b>").append(escape(summary.getName())).append("</b>");
+            if (summary.getSaveDate() == null && summary.getHallType() == null) {
+                return text.append("</html>").toString();
+            }
+            text.append("<br>");
+            if (summary.getHallType() != null) {
+                text.append(summary.getHallType().name().charAt(0))
+                        .append(summary.getHallType().name().substring(1).toLowerCase()).append(" hall &middot; ");
+            }
+            text.append(summary.getPlayerLifeCount()).append(" lives &middot; ")
+                    .append(summary.getHallTimeRemaining()).append("s left &middot; ")
+                    .append(summary.getMonsterCount()).append(" monsters");
+            if (summary.getSaveDate() != null) {
+                text.append("<br>Saved ").append(DATE_FORMAT.format(summary.getSaveDate()));
+            }
+            return text.append("</html>").toString();
+        }
+
+        private ImageIcon getThumbnail(SavedGameSummaryDto summary) {
+            String thumbnail = summary.getThumbnail();
+            int cells = SaveGameManifest.HALL_SIZE * SaveGameManifest.HALL_SIZE;
+            if (thumbnail == null || thumbnail.length() != cells) {
+                return null;
+            }
+            return thumbnails.computeIfAbsent(summary.getName() + "@" + summary.getLastModified(), key -> {
+                int size = SaveGameManifest.HALL_SIZE * THUMBNAIL_SCALE;
+                BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+                Graphics2D g = image.createGraphics();
+                for (int i = 0; i < cells; i++) {
+                    g.setColor(cellColor(thumbnail.charAt(i)));
+                    g.fillRect((i % SaveGameManifest.HALL_SIZE) * THUMBNAIL_SCALE, (i / SaveGameManifest.HALL_SIZE) * THUMBNAIL_SCALE,
+                            THUMBNAIL_SCALE, THUMBNAIL_SCALE);
+                }
+                g.dispose();
+                return new ImageIcon(image);
+            });
+        }
+
+        private Color cellColor(char code) {
+            return switch (code) {
+                case SaveGameManifest.PLAYER_CELL -> new Color(60, 200, 90);
+                case SaveGameManifest.WALL_CELL, SaveGameManifest.WALL_DIFFERENT_CELL -> new Color(90, 80, 70);
+                case SaveGameManifest.CHEST_CELL, SaveGameManifest.BLOCK_CELL -> new Color(160, 120, 60);
+                case SaveGameManifest.ARCHER_CELL, SaveGameManifest.FIGHTER_CELL, SaveGameManifest.WIZARD_CELL -> new Color(200, 50, 50);
+                case SaveGameManifest.ENCHANTMENT_CELL -> new Color(70, 130, 230);
+                default -> new Color(30, 30, 30, 160);
+            };
+        }
+
+        private String escape(String text) {
+            return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+        }
     }
 
     private JButton createStyledButton(String text) {
@@ -10,11 +10,14 @@ import domain.gameCore.GameSession;
 import domain.gameCore.GameState;
 import domain.gameObjects.Hall;
 import domain.threads.CustomTimer;
+import domain.threads.MonsterEventBus;
+import technicalServices.logging.GameLogger;
 
 import javax.swing.*;
 import java.awt.*;
 
 public class TimerDisplay {
+    private static final GameLogger LOGGER = GameLogger.getLogger(TimerDisplay.class);
     private JPanel timerPanel;
     private int remainingTime;  // Remaining time for the game (in seconds)
     private Hall hall;
@@ -56,7 +59,7 @@ public class TimerDisplay {
     }
 
     public void stopTimer() {
-        System.out.println("Stopping timer...");
+        LOGGER.debug("Stopping timer...");
         timer.stop();
     }
 
@@ -73,13 +76,15 @@ public class TimerDisplay {
         if (timer.getTimeRemaining() > 0) {
             remainingTime--;
             hall.setTimeRemaining(remainingTime);
+            // the wizard is idle until the time left crosses one of its thresholds
+            MonsterEventBus.forHall(hall).timeRemainingChanged(remainingTime, gameState.getTotalTime());
             timerLabel.setText(formatTime(remainingTime));  // Update label with the formatted time
         } else {
             stopTimer();  // Stop the timer when time runs out
             if (listener != null) {
                 listener.onTimeUp();  // Notify the listener that the time is up
             }
-            System.out.println("Time's up!");
+            LOGGER.debug("Time's up!");
         }
     }
 